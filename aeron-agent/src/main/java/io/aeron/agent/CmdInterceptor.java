@@ -57,10 +57,12 @@ public class CmdInterceptor
                 break;
 
             case ADD_DESTINATION:
+            case ADD_RCV_DESTINATION:
                 LOGGER.log(CMD_IN_ADD_DESTINATION, buffer, index, length);
                 break;
 
             case REMOVE_DESTINATION:
+            case REMOVE_RCV_DESTINATION:
                 LOGGER.log(CMD_IN_REMOVE_DESTINATION, buffer, index, length);
                 break;
 
@@ -170,6 +170,12 @@ public class Archive implements AutoCloseable
         public static final String FILE_SYNC_LEVEL_PROP_NAME = "aeron.archive.file.sync.level";
         public static final int FILE_SYNC_LEVEL_DEFAULT = 0;
 
+        /**
+         * Should recordings be written into memory-mapped segment files, with syncing to disk when
+         * {@link #FILE_SYNC_LEVEL_PROP_NAME} is greater than 0 performed by a separate agent.
+         */
+        public static final String MAPPED_RECORDING_WRITES_PROP_NAME = "aeron.archive.mapped.recording.writes";
+
         public static final String THREADING_MODE_PROP_NAME = "aeron.archive.threading.mode";
         public static final String ARCHIVER_IDLE_STRATEGY_PROP_NAME = "aeron.archive.idle.strategy";
         public static final String DEFAULT_IDLE_STRATEGY = "org.agrona.concurrent.BackoffIdleStrategy";
@@ -180,9 +186,42 @@ public class Archive implements AutoCloseable
         public static final String MAX_CONCURRENT_REPLAYS_PROP_NAME = "aeron.archive.max.concurrent.replays";
         public static final int MAX_CONCURRENT_REPLAYS_DEFAULT = 128;
 
+        /**
+         * Number of recorder agents, each with its own thread, in {@link ArchiveThreadingMode#DEDICATED} mode.
+         */
+        public static final String RECORDER_COUNT_PROP_NAME = "aeron.archive.recorder.count";
+        public static final int RECORDER_COUNT_DEFAULT = 1;
+
+        /**
+         * Number of replayer agents, each with its own thread, in {@link ArchiveThreadingMode#DEDICATED} mode.
+         */
+        public static final String REPLAYER_COUNT_PROP_NAME = "aeron.archive.replayer.count";
+        public static final int REPLAYER_COUNT_DEFAULT = 1;
+
         public static final String REPLAY_FRAGMENT_LIMIT_PROP_NAME = "aeron.archive.replay.fragment.limit";
         public static final int REPLAY_FRAGMENT_LIMIT_DEFAULT = 16;
 
+        /**
+         * Maximum length of a block of recorded frames which is copied into a replay publication in one operation,
+         * bounded by the remaining space in a term. Set to 0 to replay fragment by fragment.
+         */
+        public static final String REPLAY_BLOCK_LENGTH_PROP_NAME = "aeron.archive.replay.block.length";
+        public static final int REPLAY_BLOCK_LENGTH_DEFAULT = 64 * 1024;
+
+        /**
+         * Channel on which this archive receives control responses and replayed data from a source archive when
+         * replicating a recording. The endpoint must be reachable by the source archive.
+         */
+        public static final String REPLICATION_CHANNEL_PROP_NAME = "aeron.archive.replication.channel";
+        public static final String REPLICATION_CHANNEL_DEFAULT = "aeron:udp?endpoint=localhost:8040";
+
+        /**
+         * Stream id on which control responses from a source archive are received when replicating a recording.
+         */
+        public static final String REPLICATION_RESPONSE_STREAM_ID_PROP_NAME =
+            "aeron.archive.replication.response.stream.id";
+        public static final int REPLICATION_RESPONSE_STREAM_ID_DEFAULT = 40;
+
         static final String CATALOG_FILE_NAME = "archive.catalog";
         static final String RECORDING_SEGMENT_POSTFIX = ".rec";
 
@@ -223,6 +262,17 @@ public class Archive implements AutoCloseable
             return Integer.getInteger(FILE_SYNC_LEVEL_PROP_NAME, FILE_SYNC_LEVEL_DEFAULT);
         }
 
+        /**
+         * Should recordings be written into memory-mapped segment files rather than with file channel writes.
+         *
+         * @return true if recordings should be written into memory-mapped segment files.
+         * @see #MAPPED_RECORDING_WRITES_PROP_NAME
+         */
+        public static boolean mappedRecordingWrites()
+        {
+            return "true".equalsIgnoreCase(System.getProperty(MAPPED_RECORDING_WRITES_PROP_NAME, "false"));
+        }
+
         /**
          * The threading mode to be employed by the archive.
          *
@@ -269,6 +319,28 @@ public class Archive implements AutoCloseable
             return Integer.getInteger(MAX_CONCURRENT_REPLAYS_PROP_NAME, MAX_CONCURRENT_REPLAYS_DEFAULT);
         }
 
+        /**
+         * The number of recorder agents to run in {@link ArchiveThreadingMode#DEDICATED} mode.
+         *
+         * @return the number of recorder agents to run in {@link ArchiveThreadingMode#DEDICATED} mode.
+         * @see #RECORDER_COUNT_PROP_NAME
+         */
+        public static int recorderCount()
+        {
+            return Integer.getInteger(RECORDER_COUNT_PROP_NAME, RECORDER_COUNT_DEFAULT);
+        }
+
+        /**
+         * The number of replayer agents to run in {@link ArchiveThreadingMode#DEDICATED} mode.
+         *
+         * @return the number of replayer agents to run in {@link ArchiveThreadingMode#DEDICATED} mode.
+         * @see #REPLAYER_COUNT_PROP_NAME
+         */
+        public static int replayerCount()
+        {
+            return Integer.getInteger(REPLAYER_COUNT_PROP_NAME, REPLAYER_COUNT_DEFAULT);
+        }
+
         /**
          * Limit for the number of fragments to be replayed per duty cycle on a replay.
          *
@@ -278,6 +350,42 @@ public class Archive implements AutoCloseable
         {
             return Integer.getInteger(REPLAY_FRAGMENT_LIMIT_PROP_NAME, REPLAY_FRAGMENT_LIMIT_DEFAULT);
         }
+
+        /**
+         * Maximum length of a block of recorded frames to be copied into a replay publication in one operation.
+         *
+         * @return the maximum length of a block of recorded frames to be copied in one operation, or 0 for none.
+         * @see #REPLAY_BLOCK_LENGTH_PROP_NAME
+         */
+        public static int replayBlockLength()
+        {
+            return getSizeAsInt(REPLAY_BLOCK_LENGTH_PROP_NAME, REPLAY_BLOCK_LENGTH_DEFAULT);
+        }
+
+        /**
+         * The value {@link #REPLICATION_CHANNEL_DEFAULT} or system property
+         * {@link #REPLICATION_CHANNEL_PROP_NAME} if set.
+         *
+         * @return {@link #REPLICATION_CHANNEL_DEFAULT} or system property
+         * {@link #REPLICATION_CHANNEL_PROP_NAME} if set.
+         */
+        public static String replicationChannel()
+        {
+            return System.getProperty(REPLICATION_CHANNEL_PROP_NAME, REPLICATION_CHANNEL_DEFAULT);
+        }
+
+        /**
+         * The value {@link #REPLICATION_RESPONSE_STREAM_ID_DEFAULT} or system property
+         * {@link #REPLICATION_RESPONSE_STREAM_ID_PROP_NAME} if set.
+         *
+         * @return {@link #REPLICATION_RESPONSE_STREAM_ID_DEFAULT} or system property
+         * {@link #REPLICATION_RESPONSE_STREAM_ID_PROP_NAME} if set.
+         */
+        public static int replicationResponseStreamId()
+        {
+            return Integer.getInteger(
+                REPLICATION_RESPONSE_STREAM_ID_PROP_NAME, REPLICATION_RESPONSE_STREAM_ID_DEFAULT);
+        }
     }
 
     /**
@@ -299,8 +407,12 @@ public class Archive implements AutoCloseable
         private String recordingEventsChannel = AeronArchive.Configuration.recordingEventsChannel();
         private int recordingEventsStreamId = AeronArchive.Configuration.recordingEventsStreamId();
 
+        private String replicationChannel = Configuration.replicationChannel();
+        private int replicationResponseStreamId = Configuration.replicationResponseStreamId();
+
         private int segmentFileLength = Configuration.segmentFileLength();
         private int fileSyncLevel = Configuration.fileSyncLevel();
+        private boolean mappedRecordingWrites = Configuration.mappedRecordingWrites();
 
         private ArchiveThreadingMode threadingMode = Configuration.threadingMode();
         private ThreadFactory threadFactory;
@@ -316,6 +428,9 @@ public class Archive implements AutoCloseable
         private AgentInvoker mediaDriverAgentInvoker;
         private int maxConcurrentRecordings = Configuration.maxConcurrentRecordings();
         private int maxConcurrentReplays = Configuration.maxConcurrentReplays();
+        private int recorderCount = Configuration.recorderCount();
+        private int replayerCount = Configuration.replayerCount();
+        private int replayBlockLength = Configuration.replayBlockLength();
 
         /**
          * Conclude the configuration parameters by resolving dependencies and null values to use defaults.
@@ -380,6 +495,12 @@ public class Archive implements AutoCloseable
                 idleStrategySupplier = Configuration.idleStrategySupplier(null);
             }
 
+            if (recorderCount < 1 || replayerCount < 1)
+            {
+                throw new IllegalStateException(
+                    "recorderCount and replayerCount must be at least 1: " + recorderCount + ", " + replayerCount);
+            }
+
             if (deleteArchiveOnStart)
             {
                 if (null != archiveDir)
@@ -605,6 +726,58 @@ public class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the channel URI on which control responses and replayed data are received when replicating a recording
+         * from a source archive.
+         *
+         * @return the channel URI on which replication traffic is received.
+         * @see Configuration#REPLICATION_CHANNEL_PROP_NAME
+         */
+        public String replicationChannel()
+        {
+            return replicationChannel;
+        }
+
+        /**
+         * Set the channel URI on which control responses and replayed data are received when replicating a recording
+         * from a source archive.
+         *
+         * @param replicationChannel channel URI on which replication traffic is received.
+         * @return this for a fluent API.
+         * @see Configuration#REPLICATION_CHANNEL_PROP_NAME
+         */
+        public Context replicationChannel(final String replicationChannel)
+        {
+            this.replicationChannel = replicationChannel;
+            return this;
+        }
+
+        /**
+         * Get the stream id on which control responses are received when replicating a recording from a source
+         * archive.
+         *
+         * @return the stream id on which control responses are received.
+         * @see Configuration#REPLICATION_RESPONSE_STREAM_ID_PROP_NAME
+         */
+        public int replicationResponseStreamId()
+        {
+            return replicationResponseStreamId;
+        }
+
+        /**
+         * Set the stream id on which control responses are received when replicating a recording from a source
+         * archive.
+         *
+         * @param replicationResponseStreamId stream id on which control responses are received.
+         * @return this for a fluent API.
+         * @see Configuration#REPLICATION_RESPONSE_STREAM_ID_PROP_NAME
+         */
+        public Context replicationResponseStreamId(final int replicationResponseStreamId)
+        {
+            this.replicationResponseStreamId = replicationResponseStreamId;
+            return this;
+        }
+
         /**
          * Provides an {@link IdleStrategy} supplier for the thread responsible for publication/subscription backoff.
          *
@@ -726,6 +899,34 @@ public class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Should recordings be written into memory-mapped segment files. When {@link #fileSyncLevel()} is greater
+         * than 0 the mapped segments are synced to disk by a separate agent, which coalesces the blocks written since
+         * its last sync, and the durable position of a recording is tracked in a
+         * {@link io.aeron.archive.status.RecordingPos#DURABLE_RECORDING_POSITION_TYPE_ID} counter.
+         *
+         * @return true if recordings should be written into memory-mapped segment files.
+         * @see Configuration#MAPPED_RECORDING_WRITES_PROP_NAME
+         */
+        public boolean mappedRecordingWrites()
+        {
+            return mappedRecordingWrites;
+        }
+
+        /**
+         * Should recordings be written into memory-mapped segment files. When {@link #fileSyncLevel()} is greater
+         * than 0 the mapped segments are synced to disk by a separate agent.
+         *
+         * @param mappedRecordingWrites true if recordings should be written into memory-mapped segment files.
+         * @return this for a fluent API.
+         * @see Configuration#MAPPED_RECORDING_WRITES_PROP_NAME
+         */
+        public Context mappedRecordingWrites(final boolean mappedRecordingWrites)
+        {
+            this.mappedRecordingWrites = mappedRecordingWrites;
+            return this;
+        }
+
         /**
          * Get the {@link AgentInvoker} that should be used for the Media Driver if running in a lightweight mode.
          *
@@ -904,6 +1105,84 @@ public class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the number of recorder agents, each with its own thread, when in {@link ArchiveThreadingMode#DEDICATED}
+         * mode. New recordings are assigned to the recorder with the fewest active sessions.
+         *
+         * @return the number of recorder agents in {@link ArchiveThreadingMode#DEDICATED} mode.
+         * @see Configuration#RECORDER_COUNT_PROP_NAME
+         */
+        public int recorderCount()
+        {
+            return recorderCount;
+        }
+
+        /**
+         * Set the number of recorder agents, each with its own thread, when in {@link ArchiveThreadingMode#DEDICATED}
+         * mode.
+         *
+         * @param recorderCount the number of recorder agents in {@link ArchiveThreadingMode#DEDICATED} mode.
+         * @return this for a fluent API.
+         * @see Configuration#RECORDER_COUNT_PROP_NAME
+         */
+        public Context recorderCount(final int recorderCount)
+        {
+            this.recorderCount = recorderCount;
+            return this;
+        }
+
+        /**
+         * Get the number of replayer agents, each with its own thread, when in {@link ArchiveThreadingMode#DEDICATED}
+         * mode. New replays are assigned to the replayer with the fewest active sessions.
+         *
+         * @return the number of replayer agents in {@link ArchiveThreadingMode#DEDICATED} mode.
+         * @see Configuration#REPLAYER_COUNT_PROP_NAME
+         */
+        public int replayerCount()
+        {
+            return replayerCount;
+        }
+
+        /**
+         * Set the number of replayer agents, each with its own thread, when in {@link ArchiveThreadingMode#DEDICATED}
+         * mode.
+         *
+         * @param replayerCount the number of replayer agents in {@link ArchiveThreadingMode#DEDICATED} mode.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAYER_COUNT_PROP_NAME
+         */
+        public Context replayerCount(final int replayerCount)
+        {
+            this.replayerCount = replayerCount;
+            return this;
+        }
+
+        /**
+         * Get the maximum length of a block of recorded frames which is copied into a replay publication in one
+         * operation. A value of 0 means replays are performed fragment by fragment.
+         *
+         * @return the maximum length of a block of recorded frames copied in one operation.
+         * @see Configuration#REPLAY_BLOCK_LENGTH_PROP_NAME
+         */
+        public int replayBlockLength()
+        {
+            return replayBlockLength;
+        }
+
+        /**
+         * Set the maximum length of a block of recorded frames which is copied into a replay publication in one
+         * operation. A value of 0 means replays are performed fragment by fragment.
+         *
+         * @param replayBlockLength maximum length of a block of recorded frames copied in one operation.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAY_BLOCK_LENGTH_PROP_NAME
+         */
+        public Context replayBlockLength(final int replayBlockLength)
+        {
+            this.replayBlockLength = replayBlockLength;
+            return this;
+        }
+
         /**
          * Delete the archive directory if the {@link #archiveDir()} value is not null.
          */
@@ -50,6 +50,8 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
     private final ChannelUriStringBuilder channelBuilder = new ChannelUriStringBuilder();
     private final Long2ObjectHashMap<ReplaySession> replaySessionByIdMap = new Long2ObjectHashMap<>();
     private final Long2ObjectHashMap<RecordingSession> recordingSessionByIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<ReplicationSession> replicationSessionByRecordingIdMap =
+        new Long2ObjectHashMap<>();
     private final Map<String, Subscription> recordingSubscriptionMap = new HashMap<>();
     private final UnsafeBuffer descriptorBuffer = new UnsafeBuffer();
     private final RecordingDescriptorDecoder recordingDescriptorDecoder = new RecordingDescriptorDecoder();
@@ -73,10 +75,11 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
 
     protected final Archive.Context ctx;
     protected final ControlResponseProxy controlResponseProxy;
-    protected SessionWorker<ReplaySession> replayer;
-    protected SessionWorker<RecordingSession> recorder;
+    protected final RecordingSyncAgent recordingSyncAgent;
 
     private long nextControlSessionId = ThreadLocalRandom.current().nextInt();
+    private long nextReplicationId = 0;
+    private int pendingReplicationCount = 0;
     private long clockUpdateDeadlineNs;
 
     ArchiveConductor(final Aeron aeron, final Archive.Context ctx)
@@ -95,6 +98,7 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
         controlResponseProxy = new ControlResponseProxy();
         maxConcurrentRecordings = ctx.maxConcurrentRecordings();
         maxConcurrentReplays = ctx.maxConcurrentReplays();
+        recordingSyncAgent = ctx.mappedRecordingWrites() && ctx.fileSyncLevel() > 0 ? new RecordingSyncAgent() : null;
 
         controlSubscription = aeron.addSubscription(
             ctx.controlChannel(), ctx.controlStreamId(), this, null);
@@ -109,20 +113,14 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
         catalog = new Catalog(archiveDir, archiveDirChannel, ctx.fileSyncLevel(), epochClock);
     }
 
-    public void onStart()
-    {
-        replayer = newReplayer();
-        recorder = newRecorder();
-    }
-
     public void onAvailableImage(final Image image)
     {
         addSession(new ControlSessionDemuxer(image, this));
     }
 
-    protected abstract SessionWorker<RecordingSession> newRecorder();
+    protected abstract void addRecordingSession(RecordingSession session);
 
-    protected abstract SessionWorker<ReplaySession> newReplayer();
+    protected abstract void addReplaySession(ReplaySession session);
 
     protected final void preSessionsClose()
     {
@@ -284,6 +282,28 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
             recordingDescriptorDecoder);
     }
 
+    void findLastMatchingRecording(
+        final long correlationId,
+        final ControlSession controlSession,
+        final long minRecordingId,
+        final int streamId,
+        final String channel,
+        final String sourceIdentity)
+    {
+        try
+        {
+            final long recordingId = catalog.findLast(
+                minRecordingId, streamId, strippedChannelBuilder(channel).build(), sourceIdentity);
+
+            controlSession.sendOkResponse(correlationId, recordingId, controlResponseProxy);
+        }
+        catch (final Exception ex)
+        {
+            errorHandler.onError(ex);
+            controlSession.sendResponse(correlationId, ERROR, ex.getMessage(), controlResponseProxy);
+        }
+    }
+
     public void listRecording(final long correlationId, final ControlSession controlSession, final long recordingId)
     {
         if (catalog.wrapAndValidateDescriptor(recordingId, descriptorBuffer))
@@ -352,10 +372,11 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
             epochClock,
             replayPublication,
             recordingSummary,
-            null == recordingSession ? null : recordingSession.recordingPosition());
+            null == recordingSession ? null : recordingSession.recordingPosition(),
+            ctx.replayBlockLength());
 
         replaySessionByIdMap.put(replaySession.sessionId(), replaySession);
-        replayer.addSession(replaySession);
+        addReplaySession(replaySession);
     }
 
     private boolean validateReplayPosition(
@@ -507,6 +528,51 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
         }
     }
 
+    void replicate(
+        final long correlationId,
+        final ControlSession controlSession,
+        final long srcRecordingId,
+        final int srcControlStreamId,
+        final String srcControlChannel)
+    {
+        if (recordingSessionByIdMap.size() + pendingReplicationCount >= maxConcurrentRecordings)
+        {
+            controlSession.sendResponse(
+                correlationId,
+                ERROR,
+                "Max concurrent recordings reached: " + maxConcurrentRecordings,
+                controlResponseProxy);
+
+            return;
+        }
+
+        try
+        {
+            final ReplicationSession replicationSession = new ReplicationSession(
+                nextReplicationId++,
+                correlationId,
+                srcRecordingId,
+                srcControlStreamId,
+                srcControlChannel,
+                ctx.replicationChannel(),
+                ctx.replicationResponseStreamId(),
+                aeron,
+                this,
+                controlSession,
+                controlResponseProxy,
+                epochClock,
+                errorHandler);
+
+            addSession(replicationSession);
+            pendingReplicationCount++;
+        }
+        catch (final Exception ex)
+        {
+            errorHandler.onError(ex);
+            controlSession.sendResponse(correlationId, ERROR, ex.getMessage(), controlResponseProxy);
+        }
+    }
+
     ControlSession newControlSession(
         final long correlationId,
         final int streamId,
@@ -566,6 +632,12 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
         recordingSessionByIdMap.remove(sessionId);
         catalog.recordingStopped(sessionId, session.recordingPosition().get(), epochClock.time());
 
+        final ReplicationSession replicationSession = replicationSessionByRecordingIdMap.remove(sessionId);
+        if (null != replicationSession)
+        {
+            replicationSession.onRecordingStopped();
+        }
+
         closeSession(session);
     }
 
@@ -610,6 +682,9 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
             aeron, tempBuffer, recordingId, controlSessionId, correlationId, sessionId, streamId, strippedChannel);
         position.setOrdered(startPosition);
 
+        final Counter durablePosition = newDurablePosition(
+            recordingId, controlSessionId, correlationId, sessionId, streamId, strippedChannel, startPosition);
+
         final RecordingSession session = new RecordingSession(
             recordingId,
             startPosition,
@@ -617,11 +692,87 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
             recordingEventsProxy,
             image,
             position,
+            durablePosition,
             archiveDirChannel,
+            recordingSyncAgent,
             ctx);
 
         recordingSessionByIdMap.put(recordingId, session);
-        recorder.addSession(session);
+        addRecordingSession(session);
+    }
+
+    /**
+     * Called by a {@link ReplicationSession} once it has either started recording or has been closed before doing so.
+     */
+    void onPendingReplicationEnd()
+    {
+        pendingReplicationCount--;
+    }
+
+    void startReplicatedRecordingSession(final ReplicationSession replicationSession, final Image image)
+    {
+        final ControlSession controlSession = replicationSession.controlSession();
+        final long correlationId = replicationSession.correlationId();
+        final String originalChannel = replicationSession.srcOriginalChannel();
+        final String strippedChannel = replicationSession.srcStrippedChannel();
+
+        validateMaxConcurrentRecordings(controlSession, correlationId, originalChannel, image);
+        validateImageForReplication(replicationSession, image);
+
+        final int sessionId = image.sessionId();
+        final int streamId = image.subscription().streamId();
+        final long startPosition = image.joinPosition();
+
+        final long recordingId = catalog.addNewRecording(
+            startPosition,
+            epochClock.time(),
+            replicationSession.srcInitialTermId(),
+            ctx.segmentFileLength(),
+            replicationSession.srcTermBufferLength(),
+            replicationSession.srcMtuLength(),
+            sessionId,
+            streamId,
+            strippedChannel,
+            originalChannel,
+            replicationSession.srcSourceIdentity());
+
+        final Counter position = RecordingPos.allocate(
+            aeron,
+            tempBuffer,
+            recordingId,
+            controlSession.sessionId(),
+            correlationId,
+            sessionId,
+            streamId,
+            strippedChannel);
+        position.setOrdered(startPosition);
+
+        final Counter durablePosition = newDurablePosition(
+            recordingId,
+            controlSession.sessionId(),
+            correlationId,
+            sessionId,
+            streamId,
+            strippedChannel,
+            startPosition);
+
+        final RecordingSession session = new RecordingSession(
+            recordingId,
+            startPosition,
+            originalChannel,
+            recordingEventsProxy,
+            image,
+            position,
+            durablePosition,
+            archiveDirChannel,
+            recordingSyncAgent,
+            ctx);
+
+        recordingSessionByIdMap.put(recordingId, session);
+        replicationSessionByRecordingIdMap.put(recordingId, replicationSession);
+        addRecordingSession(session);
+
+        controlSession.sendOkResponse(correlationId, recordingId, controlResponseProxy);
     }
 
     private void extendRecordingSession(
@@ -645,6 +796,9 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
             aeron, tempBuffer, recordingId, controlSessionId, correlationId, sessionId, streamId, strippedChannel);
         position.setOrdered(newStartPosition);
 
+        final Counter durablePosition = newDurablePosition(
+            recordingId, controlSessionId, correlationId, sessionId, streamId, strippedChannel, newStartPosition);
+
         final RecordingSession session = new RecordingSession(
             recordingId,
             originalRecordingSummary.startPosition,
@@ -652,13 +806,36 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
             recordingEventsProxy,
             image,
             position,
+            durablePosition,
             archiveDirChannel,
+            recordingSyncAgent,
             ctx);
 
         catalog.extendRecording(recordingId);
 
         recordingSessionByIdMap.put(recordingId, session);
-        recorder.addSession(session);
+        addRecordingSession(session);
+    }
+
+    private Counter newDurablePosition(
+        final long recordingId,
+        final long controlSessionId,
+        final long correlationId,
+        final int sessionId,
+        final int streamId,
+        final String strippedChannel,
+        final long startPosition)
+    {
+        if (null == recordingSyncAgent)
+        {
+            return null;
+        }
+
+        final Counter durablePosition = RecordingPos.allocateDurable(
+            aeron, tempBuffer, recordingId, controlSessionId, correlationId, sessionId, streamId, strippedChannel);
+        durablePosition.setOrdered(startPosition);
+
+        return durablePosition;
     }
 
     private ExclusivePublication newReplayPublication(
@@ -749,6 +926,39 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
         }
     }
 
+    private void validateImageForReplication(final ReplicationSession replicationSession, final Image image)
+    {
+        final String msg;
+        if (image.joinPosition() != replicationSession.srcStartPosition())
+        {
+            msg = "Can't replicate recording: image joinPosition=" + image.joinPosition() +
+                " not equal to source startPosition=" + replicationSession.srcStartPosition();
+        }
+        else if (image.initialTermId() != replicationSession.srcInitialTermId())
+        {
+            msg = "Can't replicate recording: image initialTermId=" + image.initialTermId() +
+                " not equal to source initialTermId=" + replicationSession.srcInitialTermId();
+        }
+        else if (image.termBufferLength() != replicationSession.srcTermBufferLength())
+        {
+            msg = "Can't replicate recording: image termBufferLength=" + image.termBufferLength() +
+                " not equal to source termBufferLength=" + replicationSession.srcTermBufferLength();
+        }
+        else if (image.mtuLength() != replicationSession.srcMtuLength())
+        {
+            msg = "Can't replicate recording: image mtuLength=" + image.mtuLength() +
+                " not equal to source mtuLength=" + replicationSession.srcMtuLength();
+        }
+        else
+        {
+            return;
+        }
+
+        replicationSession.controlSession().attemptErrorResponse(
+            replicationSession.correlationId(), msg, controlResponseProxy);
+        throw new IllegalStateException(msg);
+    }
+
     private static FileChannel channelForDirectorySync(final File directory, final int fileSyncLevel)
     {
         if (fileSyncLevel > 0)
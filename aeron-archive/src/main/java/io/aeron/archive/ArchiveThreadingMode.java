@@ -33,7 +33,9 @@ public enum ArchiveThreadingMode
     SHARED,
 
     /**
-     * 3 Threads, one dedicated to each of the {@link org.agrona.concurrent.Agent}s.
+     * Threads dedicated to each of the {@link org.agrona.concurrent.Agent}s. The conductor has one thread and there
+     * is a thread for each of the pool of recorders and the pool of replayers, sized by
+     * {@link Archive.Context#recorderCount()} and {@link Archive.Context#replayerCount()}.
      */
     DEDICATED
 }
@@ -20,6 +20,8 @@ import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.CncFile;
 import org.agrona.IoUtil;
 import org.agrona.LangUtil;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -28,6 +30,12 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.aeron.archive.Archive.segmentFileName;
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
@@ -46,6 +54,12 @@ import static org.agrona.BufferUtil.allocateDirectAligned;
  * The format is simple, allocating a fixed 1KB record for each record descriptor. This allows offset
  * based look up of a descriptor in the file.
  * <p>
+ * Recording ids are also indexed in memory by stream id and stripped channel, and by source identity, so recordings
+ * can be found by attributes without scanning the file. The index is rebuilt when the catalog is loaded.
+ * <p>
+ * Recordings which were not stopped are recovered from their segment files on load. When there are several they are
+ * scanned in parallel on a pool of threads dedicated to the load.
+ * <p>
  * @see RecordingDescriptorHeaderDecoder
  * @see RecordingDescriptorDecoder
  * Catalog file format:
@@ -116,6 +130,8 @@ class Catalog implements AutoCloseable
     private final File archiveDir;
     private final int fileSyncLevel;
     private final EpochClock epochClock;
+    private final Long2ObjectHashMap<LongArrayList> recordingIdsByStreamAndChannelMap = new Long2ObjectHashMap<>();
+    private final HashMap<String, LongArrayList> recordingIdsBySourceIdentityMap = new HashMap<>();
     private long nextRecordingId = 0;
 
     Catalog(
@@ -268,6 +284,7 @@ class Catalog implements AutoCloseable
             .valid(VALID);
 
         nextRecordingId++;
+        indexRecording(newRecordingId, streamId, strippedChannel, sourceIdentity);
 
         if (fileSyncLevel > 0)
         {
@@ -301,6 +318,76 @@ class Catalog implements AutoCloseable
         return descriptorLength(buffer) > 0 && isValidDescriptor(buffer);
     }
 
+    long nextRecordingId()
+    {
+        return nextRecordingId;
+    }
+
+    /**
+     * Recording ids, in ascending order, of recordings which may match a stream id and stripped channel. Ids are
+     * indexed by a hash of the channel so the descriptors must still be checked for an exact match.
+     *
+     * @param streamId        of the recordings.
+     * @param strippedChannel of the recordings.
+     * @return the candidate recording ids or null if there are none.
+     */
+    LongArrayList recordingIdsForStreamAndChannel(final int streamId, final String strippedChannel)
+    {
+        return recordingIdsByStreamAndChannelMap.get(streamAndChannelKey(streamId, strippedChannel));
+    }
+
+    /**
+     * Find the last valid recording with a recording id of at least minRecordingId which matches a stream id and
+     * stripped channel, and a source identity if one is provided.
+     *
+     * @param minRecordingId  to consider.
+     * @param streamId        to match.
+     * @param strippedChannel to match.
+     * @param sourceIdentity  to match or empty to match any source.
+     * @return the recording id of the last match or {@link #NULL_RECORD_ID} if not found.
+     */
+    long findLast(
+        final long minRecordingId, final int streamId, final String strippedChannel, final String sourceIdentity)
+    {
+        final boolean matchSourceIdentity = null != sourceIdentity && !sourceIdentity.isEmpty();
+        LongArrayList recordingIds = recordingIdsForStreamAndChannel(streamId, strippedChannel);
+
+        if (matchSourceIdentity && null != recordingIds)
+        {
+            final LongArrayList sourceRecordingIds = recordingIdsBySourceIdentityMap.get(sourceIdentity);
+            if (null == sourceRecordingIds || sourceRecordingIds.size() < recordingIds.size())
+            {
+                recordingIds = sourceRecordingIds;
+            }
+        }
+
+        if (null != recordingIds)
+        {
+            for (int i = recordingIds.size() - 1; i >= 0; i--)
+            {
+                final long recordingId = recordingIds.getLong(i);
+                if (recordingId < minRecordingId)
+                {
+                    break;
+                }
+
+                if (wrapAndValidateDescriptor(recordingId, indexUBuffer))
+                {
+                    wrapDescriptorDecoder(descriptorDecoder, indexUBuffer);
+
+                    if (descriptorDecoder.streamId() == streamId &&
+                        descriptorDecoder.strippedChannel().equals(strippedChannel) &&
+                        (!matchSourceIdentity || sourceIdentity(descriptorDecoder).equals(sourceIdentity)))
+                    {
+                        return recordingId;
+                    }
+                }
+            }
+        }
+
+        return NULL_RECORD_ID;
+    }
+
     boolean hasRecording(final long recordingId)
     {
         return recordingId >= 0 && recordingId < nextRecordingId &&
@@ -444,64 +531,149 @@ class Catalog implements AutoCloseable
         return (int)(recordingId * recordLength) + recordLength;
     }
 
+    private static long streamAndChannelKey(final int streamId, final String strippedChannel)
+    {
+        return ((long)streamId << 32) | (strippedChannel.hashCode() & 0xFFFF_FFFFL);
+    }
+
+    private static String sourceIdentity(final RecordingDescriptorDecoder decoder)
+    {
+        decoder.originalChannel();
+
+        return decoder.sourceIdentity();
+    }
+
+    private void indexRecording(
+        final long recordingId, final int streamId, final String strippedChannel, final String sourceIdentity)
+    {
+        final long key = streamAndChannelKey(streamId, strippedChannel);
+        LongArrayList recordingIds = recordingIdsByStreamAndChannelMap.get(key);
+        if (null == recordingIds)
+        {
+            recordingIds = new LongArrayList();
+            recordingIdsByStreamAndChannelMap.put(key, recordingIds);
+        }
+        recordingIds.addLong(recordingId);
+
+        LongArrayList sourceRecordingIds = recordingIdsBySourceIdentityMap.get(sourceIdentity);
+        if (null == sourceRecordingIds)
+        {
+            sourceRecordingIds = new LongArrayList();
+            recordingIdsBySourceIdentityMap.put(sourceIdentity, sourceRecordingIds);
+        }
+        sourceRecordingIds.addLong(recordingId);
+    }
+
+    private void indexDescriptor(final RecordingDescriptorDecoder decoder)
+    {
+        final long recordingId = decoder.recordingId();
+        final int streamId = decoder.streamId();
+        final String strippedChannel = decoder.strippedChannel();
+
+        indexRecording(recordingId, streamId, strippedChannel, sourceIdentity(decoder));
+    }
+
     /**
      * On catalog load we verify entries are in coherent state and attempt to recover entries data where untimely
-     * termination of recording has resulted in an unaccounted for stopPosition/stopTimestamp. This operation may be
-     * expensive for large catalogs.
+     * termination of recording has resulted in an unaccounted for stopPosition/stopTimestamp. Entries to be recovered
+     * are gathered in a single pass of the catalog and then their segment files are scanned, in parallel when there
+     * are several.
      */
     private void refreshCatalog(final boolean fixOnRefresh)
     {
         if (fixOnRefresh)
         {
-            forEach(this::refreshAndFixDescriptor);
+            final ArrayList<RecordingRecovery> recoveries = new ArrayList<>();
+
+            forEach(
+                (headerEncoder, headerDecoder, descriptorEncoder, descriptorDecoder) ->
+                {
+                    if (headerDecoder.valid() == VALID && descriptorDecoder.stopTimestamp() == NULL_TIMESTAMP)
+                    {
+                        recoveries.add(new RecordingRecovery(archiveDir, descriptorDecoder));
+                    }
+
+                    nextRecordingId = descriptorDecoder.recordingId() + 1;
+                    indexDescriptor(descriptorDecoder);
+                });
+
+            if (!recoveries.isEmpty())
+            {
+                recover(recoveries);
+
+                final long nowMs = epochClock.time();
+                for (final RecordingRecovery recovery : recoveries)
+                {
+                    final int offset = recordingDescriptorOffset(recovery.recordingId) +
+                        RecordingDescriptorHeaderDecoder.BLOCK_LENGTH;
+
+                    fieldAccessBuffer.putLong(offset + stopPositionEncodingOffset(), recovery.stopPosition, BYTE_ORDER);
+                    fieldAccessBuffer.putLong(offset + stopTimestampEncodingOffset(), nowMs, BYTE_ORDER);
+                }
+            }
         }
         else
         {
-            forEach(((headerEncoder, headerDecoder, descriptorEncoder, descriptorDecoder) -> nextRecordingId++));
+            forEach(
+                (headerEncoder, headerDecoder, descriptorEncoder, descriptorDecoder) ->
+                {
+                    nextRecordingId++;
+                    indexDescriptor(descriptorDecoder);
+                });
         }
     }
 
-    private void refreshAndFixDescriptor(
-        @SuppressWarnings("unused") final RecordingDescriptorHeaderEncoder unused,
-        final RecordingDescriptorHeaderDecoder headerDecoder,
-        final RecordingDescriptorEncoder encoder,
-        final RecordingDescriptorDecoder decoder)
+    private static void recover(final ArrayList<RecordingRecovery> recoveries)
     {
-        final long recordingId = decoder.recordingId();
-        if (headerDecoder.valid() == VALID && decoder.stopTimestamp() == NULL_TIMESTAMP)
+        final int threadCount = Math.min(recoveries.size(), Runtime.getRuntime().availableProcessors());
+        if (threadCount <= 1)
         {
-            int segmentIndex = 0;
-            File segmentFile = new File(archiveDir, segmentFileName(recordingId, segmentIndex));
-            final long startPosition = decoder.startPosition();
-
-            if (!segmentFile.exists())
+            for (final RecordingRecovery recovery : recoveries)
             {
-                encoder.stopPosition(startPosition);
+                recovery.recover();
             }
-            else
+
+            return;
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            threadCount,
+            (runnable) ->
             {
-                File nextSegmentFile = new File(archiveDir, segmentFileName(recordingId, segmentIndex + 1));
-                while (nextSegmentFile.exists())
-                {
-                    segmentIndex++;
-                    segmentFile = nextSegmentFile;
-                    nextSegmentFile = new File(archiveDir, segmentFileName(recordingId, segmentIndex + 1));
-                }
-                final int segmentFileLength = decoder.segmentFileLength();
-                final long stopOffset = recoverStopOffset(segmentFile, segmentFileLength);
-                final int termBufferLength = decoder.termBufferLength();
-                final long recordingLength =
-                    (startPosition % termBufferLength) + (segmentIndex * segmentFileLength) + stopOffset;
-                encoder.stopPosition(startPosition + recordingLength);
+                final Thread thread = new Thread(runnable, "catalog-recovery");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        try
+        {
+            final ArrayList<Future<?>> futures = new ArrayList<>(recoveries.size());
+            for (final RecordingRecovery recovery : recoveries)
+            {
+                futures.add(executor.submit(recovery::recover));
             }
 
-            encoder.stopTimestamp(epochClock.time());
+            for (final Future<?> future : futures)
+            {
+                future.get();
+            }
+        }
+        catch (final ExecutionException ex)
+        {
+            LangUtil.rethrowUnchecked(ex.getCause());
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            LangUtil.rethrowUnchecked(ex);
+        }
+        finally
+        {
+            executor.shutdownNow();
         }
-
-        nextRecordingId = recordingId + 1;
     }
 
-    private long recoverStopOffset(final File segmentFile, final int segmentFileLength)
+    private static long recoverStopOffset(final File segmentFile, final int segmentFileLength)
     {
         long lastFragmentSegmentOffset = 0;
         try (FileChannel segment = FileChannel.open(segmentFile.toPath(), READ))
@@ -541,4 +713,49 @@ class Catalog implements AutoCloseable
 
         return lastFragmentSegmentOffset;
     }
+
+    private static final class RecordingRecovery
+    {
+        final File archiveDir;
+        final long recordingId;
+        final long startPosition;
+        final int segmentFileLength;
+        final int termBufferLength;
+        long stopPosition;
+
+        RecordingRecovery(final File archiveDir, final RecordingDescriptorDecoder decoder)
+        {
+            this.archiveDir = archiveDir;
+            this.recordingId = decoder.recordingId();
+            this.startPosition = decoder.startPosition();
+            this.segmentFileLength = decoder.segmentFileLength();
+            this.termBufferLength = decoder.termBufferLength();
+        }
+
+        void recover()
+        {
+            int segmentIndex = 0;
+            File segmentFile = new File(archiveDir, segmentFileName(recordingId, segmentIndex));
+
+            if (!segmentFile.exists())
+            {
+                stopPosition = startPosition;
+            }
+            else
+            {
+                File nextSegmentFile = new File(archiveDir, segmentFileName(recordingId, segmentIndex + 1));
+                while (nextSegmentFile.exists())
+                {
+                    segmentIndex++;
+                    segmentFile = nextSegmentFile;
+                    nextSegmentFile = new File(archiveDir, segmentFileName(recordingId, segmentIndex + 1));
+                }
+
+                final long stopOffset = recoverStopOffset(segmentFile, segmentFileLength);
+                final long recordingLength =
+                    (startPosition % termBufferLength) + (segmentIndex * segmentFileLength) + stopOffset;
+                stopPosition = startPosition + recordingLength;
+            }
+        }
+    }
 }
@@ -34,6 +34,9 @@ class ControlRequestAdapter implements FragmentHandler
         new ListRecordingsForUriRequestDecoder();
     private final ListRecordingRequestDecoder listRecordingRequestDecoder = new ListRecordingRequestDecoder();
     private final ExtendRecordingRequestDecoder extendRecordingRequestDecoder = new ExtendRecordingRequestDecoder();
+    private final ReplicateRequestDecoder replicateRequestDecoder = new ReplicateRequestDecoder();
+    private final FindLastMatchingRecordingRequestDecoder findLastMatchingRecordingRequestDecoder =
+        new FindLastMatchingRecordingRequestDecoder();
 
     ControlRequestAdapter(final ControlRequestListener listener)
     {
@@ -189,6 +192,37 @@ class ControlRequestAdapter implements FragmentHandler
                     extendRecordingRequestDecoder.sourceLocation());
                 break;
 
+            case ReplicateRequestDecoder.TEMPLATE_ID:
+                replicateRequestDecoder.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    headerDecoder.blockLength(),
+                    headerDecoder.version());
+
+                listener.onReplicate(
+                    replicateRequestDecoder.controlSessionId(),
+                    replicateRequestDecoder.correlationId(),
+                    replicateRequestDecoder.srcRecordingId(),
+                    replicateRequestDecoder.srcControlStreamId(),
+                    replicateRequestDecoder.srcControlChannel());
+                break;
+
+            case FindLastMatchingRecordingRequestDecoder.TEMPLATE_ID:
+                findLastMatchingRecordingRequestDecoder.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    headerDecoder.blockLength(),
+                    headerDecoder.version());
+
+                listener.onFindLastMatchingRecording(
+                    findLastMatchingRecordingRequestDecoder.controlSessionId(),
+                    findLastMatchingRecordingRequestDecoder.correlationId(),
+                    findLastMatchingRecordingRequestDecoder.minRecordingId(),
+                    findLastMatchingRecordingRequestDecoder.streamId(),
+                    findLastMatchingRecordingRequestDecoder.channel(),
+                    findLastMatchingRecordingRequestDecoder.sourceIdentity());
+                break;
+
             default:
                 throw new IllegalArgumentException("Unexpected template id:" + templateId);
         }
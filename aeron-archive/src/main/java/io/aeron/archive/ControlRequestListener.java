@@ -65,4 +65,19 @@ interface ControlRequestListener
         int streamId,
         String channel,
         SourceLocation sourceLocation);
+
+    void onReplicate(
+        long controlSessionId,
+        long correlationId,
+        long srcRecordingId,
+        int srcControlStreamId,
+        String srcControlChannel);
+
+    void onFindLastMatchingRecording(
+        long controlSessionId,
+        long correlationId,
+        long minRecordingId,
+        int streamId,
+        String channel,
+        String sourceIdentity);
 }
@@ -204,6 +204,25 @@ class ControlSession implements Session
         conductor.extendRecording(correlationId, this, recordingId, streamId, channel, sourceLocation);
     }
 
+    public void onReplicate(
+        final long correlationId,
+        final long srcRecordingId,
+        final int srcControlStreamId,
+        final String srcControlChannel)
+    {
+        conductor.replicate(correlationId, this, srcRecordingId, srcControlStreamId, srcControlChannel);
+    }
+
+    public void onFindLastMatchingRecording(
+        final long correlationId,
+        final long minRecordingId,
+        final int streamId,
+        final String channel,
+        final String sourceIdentity)
+    {
+        conductor.findLastMatchingRecording(correlationId, this, minRecordingId, streamId, channel, sourceIdentity);
+    }
+
     void onListRecordingSessionClosed(final AbstractListRecordingsSession listRecordingsSession)
     {
         if (listRecordingsSession != listRecordingsSessions.poll())
@@ -221,6 +221,39 @@ class ControlSessionDemuxer implements Session, ControlRequestListener
         controlSession.onExtendRecording(correlationId, recordingId, channel, streamId, sourceLocation);
     }
 
+    public void onReplicate(
+        final long controlSessionId,
+        final long correlationId,
+        final long srcRecordingId,
+        final int srcControlStreamId,
+        final String srcControlChannel)
+    {
+        final ControlSession controlSession = controlSessionByIdMap.get(controlSessionId);
+        if (controlSession == null)
+        {
+            throw new IllegalArgumentException("Unknown controlSessionId: " + controlSessionId);
+        }
+
+        controlSession.onReplicate(correlationId, srcRecordingId, srcControlStreamId, srcControlChannel);
+    }
+
+    public void onFindLastMatchingRecording(
+        final long controlSessionId,
+        final long correlationId,
+        final long minRecordingId,
+        final int streamId,
+        final String channel,
+        final String sourceIdentity)
+    {
+        final ControlSession controlSession = controlSessionByIdMap.get(controlSessionId);
+        if (controlSession == null)
+        {
+            throw new IllegalArgumentException("Unknown controlSessionId: " + controlSessionId);
+        }
+
+        controlSession.onFindLastMatchingRecording(correlationId, minRecordingId, streamId, channel, sourceIdentity);
+    }
+
     void removeControlSession(final ControlSession controlSession)
     {
         controlSessionByIdMap.remove(controlSession.sessionId());
@@ -23,6 +23,7 @@ import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 import org.agrona.concurrent.status.AtomicCounter;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 final class DedicatedModeArchiveConductor extends ArchiveConductor
@@ -30,8 +31,11 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
     private static final int COMMAND_LIMIT = 10;
 
     private final ManyToOneConcurrentArrayQueue<Session> closeQueue;
-    private AgentRunner replayerAgentRunner;
-    private AgentRunner recorderAgentRunner;
+    private DedicatedModeRecorder[] recorders;
+    private DedicatedModeReplayer[] replayers;
+    private AgentRunner[] replayerAgentRunners;
+    private AgentRunner[] recorderAgentRunners;
+    private AgentRunner recordingSyncAgentRunner;
 
     DedicatedModeArchiveConductor(final Aeron aeron, final Archive.Context ctx)
     {
@@ -42,28 +46,91 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
 
     public void onStart()
     {
-        super.onStart();
+        final int replayerCount = ctx.replayerCount();
+        replayers = new DedicatedModeReplayer[replayerCount];
+        replayerAgentRunners = new AgentRunner[replayerCount];
+        for (int i = 0; i < replayerCount; i++)
+        {
+            replayers[i] = new DedicatedModeReplayer(
+                0 == i ? "archive-replayer" : "archive-replayer-" + i,
+                errorHandler,
+                ctx.errorCounter(),
+                closeQueue,
+                new ControlResponseProxy(),
+                ctx.maxConcurrentReplays());
+            replayerAgentRunners[i] = new AgentRunner(
+                ctx.idleStrategy(), errorHandler, ctx.errorCounter(), replayers[i]);
+        }
+
+        final int recorderCount = ctx.recorderCount();
+        recorders = new DedicatedModeRecorder[recorderCount];
+        recorderAgentRunners = new AgentRunner[recorderCount];
+        for (int i = 0; i < recorderCount; i++)
+        {
+            recorders[i] = new DedicatedModeRecorder(
+                0 == i ? "archive-recorder" : "archive-recorder-" + i,
+                errorHandler,
+                ctx.errorCounter(),
+                closeQueue,
+                ctx.maxConcurrentRecordings());
+            recorderAgentRunners[i] = new AgentRunner(
+                ctx.idleStrategy(), errorHandler, ctx.errorCounter(), recorders[i]);
+        }
+
+        for (final AgentRunner runner : replayerAgentRunners)
+        {
+            AgentRunner.startOnThread(runner, ctx.threadFactory());
+        }
+
+        for (final AgentRunner runner : recorderAgentRunners)
+        {
+            AgentRunner.startOnThread(runner, ctx.threadFactory());
+        }
+
+        if (null != recordingSyncAgent)
+        {
+            recordingSyncAgentRunner = new AgentRunner(
+                ctx.idleStrategy(), errorHandler, ctx.errorCounter(), recordingSyncAgent);
+            AgentRunner.startOnThread(recordingSyncAgentRunner, ctx.threadFactory());
+        }
+    }
 
-        recorderAgentRunner = new AgentRunner(ctx.idleStrategy(), errorHandler, ctx.errorCounter(), recorder);
-        replayerAgentRunner = new AgentRunner(ctx.idleStrategy(), errorHandler, ctx.errorCounter(), replayer);
+    protected void addRecordingSession(final RecordingSession session)
+    {
+        leastLoadedRecorder(recorders).addSession(session);
+    }
 
-        AgentRunner.startOnThread(replayerAgentRunner, ctx.threadFactory());
-        AgentRunner.startOnThread(recorderAgentRunner, ctx.threadFactory());
+    protected void addReplaySession(final ReplaySession session)
+    {
+        leastLoadedReplayer(replayers).addSession(session);
     }
 
-    protected SessionWorker<RecordingSession> newRecorder()
+    static DedicatedModeRecorder leastLoadedRecorder(final DedicatedModeRecorder[] recorders)
     {
-        return new DedicatedModeRecorder(errorHandler, ctx.errorCounter(), closeQueue, ctx.maxConcurrentRecordings());
+        DedicatedModeRecorder recorder = recorders[0];
+        for (int i = 1; i < recorders.length; i++)
+        {
+            if (recorders[i].sessionCount() < recorder.sessionCount())
+            {
+                recorder = recorders[i];
+            }
+        }
+
+        return recorder;
     }
 
-    protected SessionWorker<ReplaySession> newReplayer()
+    static DedicatedModeReplayer leastLoadedReplayer(final DedicatedModeReplayer[] replayers)
     {
-        return new DedicatedModeReplayer(
-            errorHandler,
-            ctx.errorCounter(),
-            closeQueue,
-            new ControlResponseProxy(),
-            ctx.maxConcurrentReplays());
+        DedicatedModeReplayer replayer = replayers[0];
+        for (int i = 1; i < replayers.length; i++)
+        {
+            if (replayers[i].sessionCount() < replayer.sessionCount())
+            {
+                replayer = replayers[i];
+            }
+        }
+
+        return replayer;
     }
 
     protected int preWork()
@@ -74,27 +141,39 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
     @SuppressWarnings("StatementWithEmptyBody")
     protected void closeSessionWorkers()
     {
-        try
-        {
-            CloseHelper.close(recorderAgentRunner);
-        }
-        catch (final Exception ex)
+        closeAgentRunners(recorderAgentRunners);
+        closeAgentRunners(replayerAgentRunners);
+
+        while (processCloseQueue() > 0 || !closeQueue.isEmpty())
         {
-            errorHandler.onError(ex);
+            // drain the command queue
         }
 
         try
         {
-            CloseHelper.close(replayerAgentRunner);
+            CloseHelper.close(recordingSyncAgentRunner);
         }
         catch (final Exception ex)
         {
             errorHandler.onError(ex);
         }
+    }
 
-        while (processCloseQueue() > 0 || !closeQueue.isEmpty())
+    private void closeAgentRunners(final AgentRunner[] agentRunners)
+    {
+        if (null != agentRunners)
         {
-            // drain the command queue
+            for (final AgentRunner agentRunner : agentRunners)
+            {
+                try
+                {
+                    CloseHelper.close(agentRunner);
+                }
+                catch (final Exception ex)
+                {
+                    errorHandler.onError(ex);
+                }
+            }
         }
     }
 
@@ -128,14 +207,16 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
         private final OneToOneConcurrentArrayQueue<RecordingSession> sessionsQueue;
         private final ManyToOneConcurrentArrayQueue<Session> closeQueue;
         private final AtomicCounter errorCounter;
+        private final AtomicInteger sessionCount = new AtomicInteger();
 
         DedicatedModeRecorder(
+            final String roleName,
             final ErrorHandler errorHandler,
             final AtomicCounter errorCounter,
             final ManyToOneConcurrentArrayQueue<Session> closeQueue,
             final int maxConcurrentSessions)
         {
-            super("archive-recorder", errorHandler);
+            super(roleName, errorHandler);
 
             this.closeQueue = closeQueue;
             this.errorCounter = errorCounter;
@@ -164,11 +245,18 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
 
         protected void closeSession(final RecordingSession session)
         {
+            sessionCount.decrementAndGet();
             closeQueue.offer(session);
         }
 
+        int sessionCount()
+        {
+            return sessionCount.get();
+        }
+
         private void send(final RecordingSession session)
         {
+            sessionCount.incrementAndGet();
             while (!sessionsQueue.offer(session))
             {
                 errorCounter.increment();
@@ -183,15 +271,17 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
         private final ManyToOneConcurrentArrayQueue<Session> closeQueue;
         private final ControlResponseProxy proxy;
         private final AtomicCounter errorCounter;
+        private final AtomicInteger sessionCount = new AtomicInteger();
 
         DedicatedModeReplayer(
+            final String roleName,
             final ErrorHandler errorHandler,
             final AtomicCounter errorCounter,
             final ManyToOneConcurrentArrayQueue<Session> closeQueue,
             final ControlResponseProxy proxy,
             final int maxConcurrentSessions)
         {
-            super("archive-replayer", errorHandler);
+            super(roleName, errorHandler);
 
             this.closeQueue = closeQueue;
             this.proxy = proxy;
@@ -222,11 +312,18 @@ final class DedicatedModeArchiveConductor extends ArchiveConductor
 
         protected void closeSession(final ReplaySession session)
         {
+            sessionCount.decrementAndGet();
             closeQueue.offer(session);
         }
 
+        int sessionCount()
+        {
+            return sessionCount.get();
+        }
+
         private void send(final ReplaySession session)
         {
+            sessionCount.incrementAndGet();
             while (!sessionsQueue.offer(session))
             {
                 errorCounter.increment();
@@ -16,6 +16,7 @@
 package io.aeron.archive;
 
 import io.aeron.archive.codecs.RecordingDescriptorDecoder;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import static io.aeron.archive.Catalog.wrapDescriptorDecoder;
@@ -28,8 +29,9 @@ class ListRecordingsForUriSession extends AbstractListRecordingsSession
     private final int count;
     private final String channel;
     private final int streamId;
+    private final long fromRecordingId;
     private int sent = 0;
-    private long recordingId;
+    private int index = -1;
 
     ListRecordingsForUriSession(
         final long correlationId,
@@ -45,7 +47,7 @@ class ListRecordingsForUriSession extends AbstractListRecordingsSession
     {
         super(correlationId, catalog, proxy, controlSession, descriptorBuffer);
 
-        this.recordingId = fromRecordingId;
+        this.fromRecordingId = fromRecordingId;
         this.count = count;
         this.channel = channel;
         this.streamId = streamId;
@@ -56,19 +58,28 @@ class ListRecordingsForUriSession extends AbstractListRecordingsSession
     {
         int totalBytesSent = 0;
         int recordsScanned = 0;
+        final LongArrayList recordingIds = catalog.recordingIdsForStreamAndChannel(streamId, channel);
+
+        if (-1 == index)
+        {
+            index = null == recordingIds ? 0 : firstIndexFrom(recordingIds, fromRecordingId);
+        }
 
         while (sent < count &&
                totalBytesSent < controlSession.maxPayloadLength() &&
                recordsScanned < MAX_SCANS_PER_WORK_CYCLE)
         {
-            if (!catalog.wrapDescriptor(recordingId, descriptorBuffer))
+            if (null == recordingIds || index >= recordingIds.size())
             {
+                final long recordingId = Math.max(fromRecordingId, catalog.nextRecordingId());
                 controlSession.sendRecordingUnknown(correlationId, recordingId, proxy);
 
                 isDone = true;
                 break;
             }
 
+            final long recordingId = recordingIds.getLong(index);
+            catalog.wrapDescriptor(recordingId, descriptorBuffer);
             wrapDescriptorDecoder(decoder, descriptorBuffer);
 
             if (decoder.streamId() == streamId &&
@@ -85,7 +96,7 @@ class ListRecordingsForUriSession extends AbstractListRecordingsSession
 
                 ++sent;
             }
-            recordingId++;
+            index++;
             recordsScanned++;
         }
 
@@ -96,4 +107,25 @@ class ListRecordingsForUriSession extends AbstractListRecordingsSession
 
         return totalBytesSent;
     }
+
+    private static int firstIndexFrom(final LongArrayList recordingIds, final long fromRecordingId)
+    {
+        int low = 0;
+        int high = recordingIds.size();
+
+        while (low < high)
+        {
+            final int mid = (low + high) >>> 1;
+            if (recordingIds.getLong(mid) < fromRecordingId)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
 }
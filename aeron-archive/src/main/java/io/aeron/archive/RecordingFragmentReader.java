@@ -173,6 +173,57 @@ class RecordingFragmentReader
         return polled;
     }
 
+    int controlledBlockPoll(final SimpleBlockHandler blockHandler, final int blockLengthLimit)
+        throws IOException
+    {
+        if (isDone() || noAvailableData() || (stopPosition - replayPosition) <= 0)
+        {
+            return 0;
+        }
+
+        if (termOffset == termLength)
+        {
+            termOffset = 0;
+            nextTerm();
+        }
+
+        final int blockOffset = termOffset;
+        long position = replayPosition;
+        int blockLength = 0;
+        int frameCount = 0;
+
+        while (position < stopPosition && position < replayLimit && (blockOffset + blockLength) < termLength)
+        {
+            final int frameLength = FrameDescriptor.frameLength(termBuffer, blockOffset + blockLength);
+            final int alignedLength = BitUtil.align(frameLength, FRAME_ALIGNMENT);
+
+            if (frameLength <= 0 || (blockLength > 0 && (blockLength + alignedLength) > blockLengthLimit))
+            {
+                break;
+            }
+
+            blockLength += alignedLength;
+            position += alignedLength;
+            frameCount++;
+        }
+
+        if (0 == blockLength || !blockHandler.onBlock(termBuffer, blockOffset, blockLength))
+        {
+            return 0;
+        }
+
+        replayPosition = position;
+        termOffset += blockLength;
+
+        if (replayLimit <= replayPosition)
+        {
+            isDone = true;
+            closeRecordingSegment();
+        }
+
+        return frameCount;
+    }
+
     private boolean noAvailableData()
     {
         return recordingPosition != null &&
@@ -50,7 +50,9 @@ class RecordingSession implements Session
         final RecordingEventsProxy recordingEventsProxy,
         final Image image,
         final Counter position,
+        final Counter durablePosition,
         final FileChannel archiveDirChannel,
+        final RecordingSyncAgent recordingSyncAgent,
         final Archive.Context context)
     {
         this.recordingId = recordingId;
@@ -63,7 +65,15 @@ class RecordingSession implements Session
         blockLengthLimit = Math.min(termBufferLength, MAX_BLOCK_LENGTH);
 
         recordingWriter = new RecordingWriter(
-            recordingId, startPosition, image.joinPosition(), termBufferLength, context, archiveDirChannel, position);
+            recordingId,
+            startPosition,
+            image.joinPosition(),
+            termBufferLength,
+            context,
+            archiveDirChannel,
+            position,
+            durablePosition,
+            recordingSyncAgent);
     }
 
     public long sessionId()
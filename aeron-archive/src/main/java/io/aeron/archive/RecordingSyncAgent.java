@@ -0,0 +1,142 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.agrona.CloseHelper;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.ManyToOneConcurrentLinkedQueue;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * Syncs memory-mapped recording segments to disk off the recorder thread when
+ * {@link Archive.Context#mappedRecordingWrites()} is set and {@link Archive.Context#fileSyncLevel()} is greater than 0.
+ * <p>
+ * A {@link RecordingWriter} has at most one {@link SyncRequest} outstanding for the segment it is writing, so all
+ * blocks written while a sync is in progress are coalesced into the next one. Segments which are no longer being
+ * written are handed over with a final request after which they are unmapped by this agent.
+ */
+class RecordingSyncAgent implements Agent
+{
+    private static final int SYNC_LIMIT = 16;
+
+    private final ManyToOneConcurrentLinkedQueue<SyncRequest> requestQueue = new ManyToOneConcurrentLinkedQueue<>();
+
+    public String roleName()
+    {
+        return "archive-recording-sync";
+    }
+
+    public int doWork()
+    {
+        int workCount = 0;
+
+        SyncRequest request;
+        while (workCount < SYNC_LIMIT && null != (request = requestQueue.poll()))
+        {
+            request.sync();
+            workCount++;
+        }
+
+        return workCount;
+    }
+
+    public void onClose()
+    {
+        SyncRequest request;
+        while (null != (request = requestQueue.poll()))
+        {
+            request.sync();
+        }
+    }
+
+    void offer(final SyncRequest request)
+    {
+        request.isDone = false;
+        requestQueue.offer(request);
+    }
+
+    /**
+     * Request to sync a mapped segment up to a recording position and then advance the durable position counter.
+     */
+    static final class SyncRequest
+    {
+        private MappedByteBuffer segment;
+        private long position;
+        private boolean isLastForSegment;
+        private boolean isLastForRecording;
+        private final Counter durablePosition;
+
+        volatile boolean isDone = true;
+
+        SyncRequest(final Counter durablePosition)
+        {
+            this.durablePosition = durablePosition;
+        }
+
+        SyncRequest set(
+            final MappedByteBuffer segment,
+            final long position,
+            final boolean isLastForSegment,
+            final boolean isLastForRecording)
+        {
+            this.segment = segment;
+            this.position = position;
+            this.isLastForSegment = isLastForSegment;
+            this.isLastForRecording = isLastForRecording;
+
+            return this;
+        }
+
+        Counter durablePosition()
+        {
+            return durablePosition;
+        }
+
+        void sync()
+        {
+            try
+            {
+                if (null != segment)
+                {
+                    segment.force();
+                }
+
+                if (position > durablePosition.get())
+                {
+                    durablePosition.setOrdered(position);
+                }
+            }
+            finally
+            {
+                if (isLastForSegment && null != segment)
+                {
+                    IoUtil.unmap(segment);
+                }
+
+                if (isLastForRecording)
+                {
+                    CloseHelper.close(durablePosition);
+                }
+
+                segment = null;
+                isDone = true;
+            }
+        }
+    }
+}
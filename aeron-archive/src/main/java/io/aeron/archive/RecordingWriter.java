@@ -23,6 +23,7 @@ import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.BitUtil;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
 import org.agrona.LangUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -30,6 +31,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.FileChannel;
 
@@ -49,6 +51,10 @@ import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
  * <li> While a {@link RecordingWriter} is part of a {@link RecordingSession}, a session may transition without actually
  * creating a {@link RecordingWriter}.</li>
  * </ul>
+ * <p>
+ * When {@link Archive.Context#mappedRecordingWrites()} is set blocks are copied into memory-mapped segment files rather
+ * than transferred with file channel writes. Syncing of the mapped segments to disk is then left to a
+ * {@link RecordingSyncAgent} which advances a separate durable position counter.
  */
 class RecordingWriter implements RawBlockHandler
 {
@@ -58,9 +64,13 @@ class RecordingWriter implements RawBlockHandler
     private final int segmentFileLength;
     private final boolean forceWrites;
     private final boolean forceMetadata;
+    private final boolean isMapped;
     private final Counter recordedPosition;
     private final FileChannel archiveDirChannel;
     private final File archiveDir;
+    private final RecordingSyncAgent recordingSyncAgent;
+    private final RecordingSyncAgent.SyncRequest syncRequest;
+    private final UnsafeBuffer mappedSegmentBuffer = new UnsafeBuffer(0, 0);
 
     /**
      * Index is in the range 0:segmentFileLength, except before the first block for this image is received indicated
@@ -68,7 +78,9 @@ class RecordingWriter implements RawBlockHandler
      */
     private int segmentPosition = NULL_SEGMENT_POSITION;
     private int segmentIndex;
+    private long writtenPosition = NULL_POSITION;
     private FileChannel recordingFileChannel;
+    private MappedByteBuffer mappedSegment;
 
     private boolean isClosed = false;
 
@@ -79,7 +91,9 @@ class RecordingWriter implements RawBlockHandler
         final int termBufferLength,
         final Archive.Context context,
         final FileChannel archiveDirChannel,
-        final Counter recordedPosition)
+        final Counter recordedPosition,
+        final Counter durablePosition,
+        final RecordingSyncAgent recordingSyncAgent)
     {
         this.recordingId = recordingId;
         this.recordedPosition = recordedPosition;
@@ -89,6 +103,19 @@ class RecordingWriter implements RawBlockHandler
         segmentFileLength = Math.max(context.segmentFileLength(), termBufferLength);
         forceWrites = context.fileSyncLevel() > 0;
         forceMetadata = context.fileSyncLevel() > 1;
+        isMapped = context.mappedRecordingWrites();
+
+        if (isMapped && forceWrites && null != recordingSyncAgent && null != durablePosition)
+        {
+            this.recordingSyncAgent = recordingSyncAgent;
+            syncRequest = new RecordingSyncAgent.SyncRequest(durablePosition);
+        }
+        else
+        {
+            this.recordingSyncAgent = null;
+            syncRequest = null;
+            CloseHelper.close(durablePosition);
+        }
 
         segmentIndex = segmentFileIndex(startPosition, joinPosition, segmentFileLength);
     }
@@ -114,17 +141,24 @@ class RecordingWriter implements RawBlockHandler
                 onFileRollOver();
             }
 
-            long bytesWritten = 0;
-            do
+            if (isMapped)
             {
-                bytesWritten += fileChannel.transferTo(
-                    fileOffset + bytesWritten, blockLength - bytesWritten, recordingFileChannel);
+                mappedSegmentBuffer.putBytes(segmentPosition, termBuffer, termOffset, blockLength);
             }
-            while (bytesWritten < blockLength);
-
-            if (forceWrites)
+            else
             {
-                recordingFileChannel.force(forceMetadata);
+                long bytesWritten = 0;
+                do
+                {
+                    bytesWritten += fileChannel.transferTo(
+                        fileOffset + bytesWritten, blockLength - bytesWritten, recordingFileChannel);
+                }
+                while (bytesWritten < blockLength);
+
+                if (forceWrites)
+                {
+                    recordingFileChannel.force(forceMetadata);
+                }
             }
 
             afterWrite(blockLength);
@@ -156,6 +190,19 @@ class RecordingWriter implements RawBlockHandler
 
         isClosed = true;
         CloseHelper.close(recordingFileChannel);
+
+        if (null != recordingSyncAgent)
+        {
+            final MappedByteBuffer segment = mappedSegment;
+            mappedSegment = null;
+            final RecordingSyncAgent.SyncRequest request =
+                new RecordingSyncAgent.SyncRequest(syncRequest.durablePosition());
+            recordingSyncAgent.offer(request.set(segment, writtenPosition, true, true));
+        }
+        else
+        {
+            unmapSegment();
+        }
     }
 
     boolean isClosed()
@@ -184,20 +231,27 @@ class RecordingWriter implements RawBlockHandler
                 onFileRollOver();
             }
 
-            final ByteBuffer src = buffer.byteBuffer().duplicate();
-            src.position(termOffset).limit(termOffset + frameLength);
-
-            final int written = recordingFileChannel.write(src, segmentPosition);
-            recordingFileChannel.position(segmentPosition + alignedLength);
-
-            if (written != frameLength)
+            if (isMapped)
             {
-                throw new IllegalStateException();
+                mappedSegmentBuffer.putBytes(segmentPosition, buffer, termOffset, frameLength);
             }
-
-            if (forceWrites)
+            else
             {
-                recordingFileChannel.force(forceMetadata);
+                final ByteBuffer src = buffer.byteBuffer().duplicate();
+                src.position(termOffset).limit(termOffset + frameLength);
+
+                final int written = recordingFileChannel.write(src, segmentPosition);
+                recordingFileChannel.position(segmentPosition + alignedLength);
+
+                if (written != frameLength)
+                {
+                    throw new IllegalStateException();
+                }
+
+                if (forceWrites)
+                {
+                    recordingFileChannel.force(forceMetadata);
+                }
             }
 
             afterWrite(alignedLength);
@@ -219,6 +273,15 @@ class RecordingWriter implements RawBlockHandler
             recordingFile = new RandomAccessFile(file, "rw");
             recordingFile.setLength(segmentFileLength + DataHeaderFlyweight.HEADER_LENGTH);
             recordingFileChannel = recordingFile.getChannel();
+
+            if (isMapped)
+            {
+                mappedSegment = recordingFileChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentFileLength);
+                mappedSegmentBuffer.wrap(mappedSegment);
+                CloseHelper.close(recordingFileChannel);
+                recordingFileChannel = null;
+            }
+
             if (forceWrites && null != archiveDirChannel)
             {
                 archiveDirChannel.force(forceMetadata);
@@ -235,6 +298,20 @@ class RecordingWriter implements RawBlockHandler
     private void onFileRollOver()
     {
         CloseHelper.close(recordingFileChannel);
+
+        if (null != recordingSyncAgent)
+        {
+            final MappedByteBuffer segment = mappedSegment;
+            mappedSegment = null;
+            final RecordingSyncAgent.SyncRequest request =
+                new RecordingSyncAgent.SyncRequest(syncRequest.durablePosition());
+            recordingSyncAgent.offer(request.set(segment, writtenPosition, true, false));
+        }
+        else
+        {
+            unmapSegment();
+        }
+
         segmentPosition = 0;
         segmentIndex++;
 
@@ -246,15 +323,32 @@ class RecordingWriter implements RawBlockHandler
         segmentPosition = termOffset;
         newRecordingSegmentFile();
 
-        if (segmentPosition != 0)
+        if (segmentPosition != 0 && !isMapped)
         {
             recordingFileChannel.position(segmentPosition);
         }
+
+        writtenPosition = recordedPosition.get();
     }
 
     private void afterWrite(final int blockLength)
     {
         segmentPosition += blockLength;
+        writtenPosition += blockLength;
         recordedPosition.getAndAddOrdered(blockLength);
+
+        if (null != recordingSyncAgent && syncRequest.isDone)
+        {
+            recordingSyncAgent.offer(syncRequest.set(mappedSegment, writtenPosition, false, false));
+        }
+    }
+
+    private void unmapSegment()
+    {
+        if (null != mappedSegment)
+        {
+            IoUtil.unmap(mappedSegment);
+            mappedSegment = null;
+        }
     }
 }
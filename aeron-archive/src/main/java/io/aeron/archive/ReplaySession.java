@@ -43,11 +43,13 @@ import static java.nio.ByteOrder.LITTLE_ENDIAN;
  * <li>Wait for replay subscription to connect to the requested replay publication. If no subscription appears within
  * {@link #CONNECT_TIMEOUT_MS} the session will terminate and respond will error.</li>
  * <li>Once the replay publication is connected send an OK response to control client</li>
- * <li>Stream recorded data into the replayPublication {@link ExclusivePublication}</li>
+ * <li>Stream recorded data into the replayPublication {@link ExclusivePublication}, either in blocks of whole frames
+ * copied with {@link ExclusivePublication#offerBlock(org.agrona.DirectBuffer, int, int)} or fragment by fragment
+ * when the replay block length is 0</li>
  * <li>If the replay is aborted part way through, send a ReplayAborted message and terminate.</li>
  * </ul>
  */
-class ReplaySession implements Session, SimpleFragmentHandler
+class ReplaySession implements Session, SimpleFragmentHandler, SimpleBlockHandler
 {
     enum State
     {
@@ -62,6 +64,7 @@ class ReplaySession implements Session, SimpleFragmentHandler
     private static final int REPLAY_FRAGMENT_LIMIT = Archive.Configuration.replayFragmentLimit();
 
     private long connectDeadlineMs;
+    private final int replayBlockLength;
     private final long correlationId;
     private final ExclusiveBufferClaim bufferClaim = new ExclusiveBufferClaim();
     private final ExclusivePublication replayPublication;
@@ -83,9 +86,11 @@ class ReplaySession implements Session, SimpleFragmentHandler
         final EpochClock epochClock,
         final ExclusivePublication replayPublication,
         final RecordingSummary recordingSummary,
-        final Counter recordingPosition)
+        final Counter recordingPosition,
+        final int replayBlockLength)
     {
         this.controlSession = controlSession;
+        this.replayBlockLength = replayBlockLength;
         this.threadLocalControlResponseProxy = threadLocalControlResponseProxy;
         this.correlationId = correlationId;
         this.epochClock = epochClock;
@@ -185,6 +190,26 @@ class ReplaySession implements Session, SimpleFragmentHandler
         return false;
     }
 
+    public boolean onBlock(final UnsafeBuffer buffer, final int offset, final int length)
+    {
+        if (state != State.REPLAY)
+        {
+            return false;
+        }
+
+        final long result = replayPublication.offerBlock(buffer, offset, length);
+        if (result > 0)
+        {
+            return true;
+        }
+        else if (result == Publication.CLOSED || result == Publication.NOT_CONNECTED)
+        {
+            closeOnError(null, "replay stream has been shutdown mid-replay");
+        }
+
+        return false;
+    }
+
     State state()
     {
         return state;
@@ -200,7 +225,9 @@ class ReplaySession implements Session, SimpleFragmentHandler
         int workDone = 0;
         try
         {
-            workDone = cursor.controlledPoll(this, REPLAY_FRAGMENT_LIMIT);
+            workDone = replayBlockLength > 0 ?
+                cursor.controlledBlockPoll(this, replayBlockLength) :
+                cursor.controlledPoll(this, REPLAY_FRAGMENT_LIMIT);
             if (cursor.isDone())
             {
                 state = State.INACTIVE;
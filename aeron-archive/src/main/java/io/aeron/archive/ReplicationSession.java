@@ -0,0 +1,507 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.*;
+import io.aeron.archive.client.ArchiveProxy;
+import io.aeron.archive.client.ControlResponsePoller;
+import io.aeron.archive.client.RecordingDescriptorConsumer;
+import io.aeron.archive.client.RecordingDescriptorPoller;
+import io.aeron.archive.codecs.ControlResponseCode;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.EpochClock;
+import org.agrona.concurrent.NoOpIdleStrategy;
+
+/**
+ * A replication session which copies a recording from a source archive into this archive. The {@link ArchiveConductor}
+ * will initiate a session on receiving a ReplicateRequest (see {@link io.aeron.archive.codecs.ReplicateRequestDecoder}).
+ * The session acts as a client of the source archive and will:
+ * <ul>
+ * <li>Connect to the control channel of the source archive with responses directed to the replication channel.</li>
+ * <li>Request the descriptor of the source recording.</li>
+ * <li>Request a replay of the source recording from its start position and without a length limit so an active
+ * recording is followed live.</li>
+ * <li>Once the replay image is available, have the {@link ArchiveConductor} record it as a new recording which
+ * carries the source descriptor metadata. The sessionId is that of the replay as it is stamped in the recorded
+ * frames. The conductor responds OK with the new recording id.</li>
+ * <li>Remain until the replica recording stops then close its session with the source archive.</li>
+ * </ul>
+ * Any step which does not complete within {@link #TIMEOUT_MS}, or which fails, will terminate the session with an
+ * error response. The error is reported to the {@link ErrorHandler} and the session is left DONE for the worker to
+ * close so other sessions are not disturbed.
+ * <p>
+ * Requests to the source archive are offered once per duty cycle so a back pressured source does not stall the
+ * conductor. The session only moves on to await a response once its request has been sent.
+ */
+class ReplicationSession implements Session, RecordingDescriptorConsumer
+{
+    enum State
+    {
+        CONNECT,
+        AWAIT_CONNECT,
+        REQUEST_DESCRIPTOR,
+        AWAIT_DESCRIPTOR,
+        REQUEST_REPLAY,
+        AWAIT_REPLAY,
+        AWAIT_IMAGE,
+        RECORDING,
+        DONE
+    }
+
+    /**
+     * Timeout within which each step of the replication handshake with the source archive must complete.
+     */
+    static final long TIMEOUT_MS = 5000;
+
+    private static final long NULL_VALUE = -1;
+    private static final long NO_RETRY_TIMEOUT_NS = 0;
+    private static final int NO_RETRY_ATTEMPTS = 1;
+    private static final int FRAGMENT_LIMIT = 10;
+
+    private final long replicationId;
+    private final long correlationId;
+    private final long srcRecordingId;
+    private final String replicationChannel;
+    private final Aeron aeron;
+    private final ArchiveConductor conductor;
+    private final ControlSession controlSession;
+    private final ControlResponseProxy controlResponseProxy;
+    private final EpochClock epochClock;
+    private final ErrorHandler errorHandler;
+    private final ExclusivePublication srcControlPublication;
+    private final Subscription srcResponseSubscription;
+    private final ArchiveProxy srcArchiveProxy;
+    private final ControlResponsePoller controlResponsePoller;
+    private RecordingDescriptorPoller recordingDescriptorPoller;
+    private Subscription replaySubscription;
+
+    private long activeCorrelationId = NULL_VALUE;
+    private long srcControlSessionId = NULL_VALUE;
+    private int replaySessionId;
+    private long deadlineMs;
+    private State state = State.CONNECT;
+    private boolean isPendingRecording = true;
+
+    private long srcStartPosition;
+    private int srcInitialTermId;
+    private int srcTermBufferLength;
+    private int srcMtuLength;
+    private int srcStreamId;
+    private String srcStrippedChannel;
+    private String srcOriginalChannel;
+    private String srcSourceIdentity;
+    private boolean hasDescriptor;
+
+    ReplicationSession(
+        final long replicationId,
+        final long correlationId,
+        final long srcRecordingId,
+        final int srcControlStreamId,
+        final String srcControlChannel,
+        final String replicationChannel,
+        final int replicationResponseStreamId,
+        final Aeron aeron,
+        final ArchiveConductor conductor,
+        final ControlSession controlSession,
+        final ControlResponseProxy controlResponseProxy,
+        final EpochClock epochClock,
+        final ErrorHandler errorHandler)
+    {
+        this.replicationId = replicationId;
+        this.correlationId = correlationId;
+        this.srcRecordingId = srcRecordingId;
+        this.replicationChannel = replicationChannel;
+        this.aeron = aeron;
+        this.conductor = conductor;
+        this.controlSession = controlSession;
+        this.controlResponseProxy = controlResponseProxy;
+        this.epochClock = epochClock;
+        this.errorHandler = errorHandler;
+
+        ExclusivePublication publication = null;
+        Subscription subscription = null;
+        try
+        {
+            publication = aeron.addExclusivePublication(srcControlChannel, srcControlStreamId);
+            subscription = aeron.addSubscription(replicationChannel, replicationResponseStreamId);
+        }
+        catch (final Exception ex)
+        {
+            CloseHelper.quietClose(publication);
+            throw ex;
+        }
+
+        srcControlPublication = publication;
+        srcResponseSubscription = subscription;
+        srcArchiveProxy = new ArchiveProxy(
+            publication, new NoOpIdleStrategy(), aeron.context().nanoClock(), NO_RETRY_TIMEOUT_NS, NO_RETRY_ATTEMPTS);
+        controlResponsePoller = new ControlResponsePoller(subscription);
+        deadlineMs = epochClock.time() + TIMEOUT_MS;
+    }
+
+    public void close()
+    {
+        endPendingRecording();
+
+        if (NULL_VALUE != srcControlSessionId && srcControlPublication.isConnected())
+        {
+            try
+            {
+                srcArchiveProxy.closeSession(srcControlSessionId);
+            }
+            catch (final Exception ignore)
+            {
+            }
+        }
+
+        CloseHelper.quietClose(replaySubscription);
+        CloseHelper.quietClose(srcResponseSubscription);
+        CloseHelper.quietClose(srcControlPublication);
+    }
+
+    public void abort()
+    {
+        state = State.DONE;
+    }
+
+    public boolean isDone()
+    {
+        return state == State.DONE;
+    }
+
+    public long sessionId()
+    {
+        return replicationId;
+    }
+
+    public int doWork()
+    {
+        int workCount = 0;
+
+        try
+        {
+            switch (state)
+            {
+                case CONNECT:
+                    workCount += connect();
+                    break;
+
+                case AWAIT_CONNECT:
+                    workCount += awaitConnect();
+                    break;
+
+                case REQUEST_DESCRIPTOR:
+                    workCount += requestDescriptor();
+                    break;
+
+                case AWAIT_DESCRIPTOR:
+                    workCount += awaitDescriptor();
+                    break;
+
+                case REQUEST_REPLAY:
+                    workCount += requestReplay();
+                    break;
+
+                case AWAIT_REPLAY:
+                    workCount += awaitReplay();
+                    break;
+
+                case AWAIT_IMAGE:
+                    workCount += awaitImage();
+                    break;
+            }
+        }
+        catch (final Exception ex)
+        {
+            errorHandler.onError(ex);
+            onError(ex.getMessage());
+        }
+
+        return workCount;
+    }
+
+    public void onRecordingDescriptor(
+        final long controlSessionId,
+        final long correlationId,
+        final long recordingId,
+        final long startTimestamp,
+        final long stopTimestamp,
+        final long startPosition,
+        final long stopPosition,
+        final int initialTermId,
+        final int segmentFileLength,
+        final int termBufferLength,
+        final int mtuLength,
+        final int sessionId,
+        final int streamId,
+        final String strippedChannel,
+        final String originalChannel,
+        final String sourceIdentity)
+    {
+        srcStartPosition = startPosition;
+        srcInitialTermId = initialTermId;
+        srcTermBufferLength = termBufferLength;
+        srcMtuLength = mtuLength;
+        srcStreamId = streamId;
+        srcStrippedChannel = strippedChannel;
+        srcOriginalChannel = originalChannel;
+        srcSourceIdentity = sourceIdentity;
+        hasDescriptor = true;
+    }
+
+    State state()
+    {
+        return state;
+    }
+
+    long correlationId()
+    {
+        return correlationId;
+    }
+
+    long srcStartPosition()
+    {
+        return srcStartPosition;
+    }
+
+    int srcInitialTermId()
+    {
+        return srcInitialTermId;
+    }
+
+    int srcTermBufferLength()
+    {
+        return srcTermBufferLength;
+    }
+
+    int srcMtuLength()
+    {
+        return srcMtuLength;
+    }
+
+    int srcStreamId()
+    {
+        return srcStreamId;
+    }
+
+    String srcStrippedChannel()
+    {
+        return srcStrippedChannel;
+    }
+
+    String srcOriginalChannel()
+    {
+        return srcOriginalChannel;
+    }
+
+    String srcSourceIdentity()
+    {
+        return srcSourceIdentity;
+    }
+
+    ControlSession controlSession()
+    {
+        return controlSession;
+    }
+
+    /**
+     * Called by the {@link ArchiveConductor} when the replica recording has stopped so the session can complete.
+     */
+    void onRecordingStopped()
+    {
+        state = State.DONE;
+    }
+
+    private int connect()
+    {
+        if (!srcControlPublication.isConnected())
+        {
+            checkDeadline("no connection established to source archive control channel");
+            return 0;
+        }
+
+        final long connectCorrelationId = aeron.nextCorrelationId();
+        if (!srcArchiveProxy.connect(replicationChannel, srcResponseSubscription.streamId(), connectCorrelationId))
+        {
+            checkDeadline("failed to send connect request to source archive");
+            return 0;
+        }
+
+        transitionTo(State.AWAIT_CONNECT, connectCorrelationId);
+
+        return 1;
+    }
+
+    private int awaitConnect()
+    {
+        final int fragments = controlResponsePoller.poll();
+        if (controlResponsePoller.isPollComplete() &&
+            controlResponsePoller.correlationId() == activeCorrelationId)
+        {
+            checkResponseCode();
+            srcControlSessionId = controlResponsePoller.controlSessionId();
+            recordingDescriptorPoller = new RecordingDescriptorPoller(
+                srcResponseSubscription, FRAGMENT_LIMIT, srcControlSessionId);
+            transitionTo(State.REQUEST_DESCRIPTOR, NULL_VALUE);
+        }
+        else
+        {
+            checkDeadline("no connect response from source archive");
+        }
+
+        return fragments;
+    }
+
+    private int requestDescriptor()
+    {
+        final long listCorrelationId = aeron.nextCorrelationId();
+        if (!srcArchiveProxy.listRecording(srcRecordingId, listCorrelationId, srcControlSessionId))
+        {
+            checkDeadline("failed to send list recording request to source archive");
+            return 0;
+        }
+
+        recordingDescriptorPoller.reset(listCorrelationId, 1, this);
+        transitionTo(State.AWAIT_DESCRIPTOR, listCorrelationId);
+
+        return 1;
+    }
+
+    private int awaitDescriptor()
+    {
+        final int fragments = recordingDescriptorPoller.poll();
+        if (recordingDescriptorPoller.isDispatchComplete())
+        {
+            if (!hasDescriptor)
+            {
+                throw new IllegalStateException("unknown recording in source archive: " + srcRecordingId);
+            }
+
+            transitionTo(State.REQUEST_REPLAY, NULL_VALUE);
+        }
+        else
+        {
+            checkDeadline("no recording descriptor from source archive");
+        }
+
+        return fragments;
+    }
+
+    private int requestReplay()
+    {
+        final long replayCorrelationId = aeron.nextCorrelationId();
+        if (!srcArchiveProxy.replay(
+            srcRecordingId,
+            srcStartPosition,
+            Long.MAX_VALUE,
+            replicationChannel,
+            srcStreamId,
+            replayCorrelationId,
+            srcControlSessionId))
+        {
+            checkDeadline("failed to send replay request to source archive");
+            return 0;
+        }
+
+        transitionTo(State.AWAIT_REPLAY, replayCorrelationId);
+
+        return 1;
+    }
+
+    private int awaitReplay()
+    {
+        final int fragments = controlResponsePoller.poll();
+        if (controlResponsePoller.isPollComplete() &&
+            controlResponsePoller.controlSessionId() == srcControlSessionId &&
+            controlResponsePoller.correlationId() == activeCorrelationId)
+        {
+            checkResponseCode();
+            replaySessionId = (int)controlResponsePoller.relevantId();
+
+            final ChannelUri channelUri = ChannelUri.parse(replicationChannel);
+            channelUri.put(CommonContext.SESSION_ID_PARAM_NAME, Integer.toString(replaySessionId));
+            replaySubscription = aeron.addSubscription(channelUri.toString(), srcStreamId);
+            transitionTo(State.AWAIT_IMAGE, NULL_VALUE);
+        }
+        else
+        {
+            checkDeadline("no replay response from source archive");
+        }
+
+        return fragments;
+    }
+
+    private int awaitImage()
+    {
+        final Image image = replaySubscription.imageBySessionId(replaySessionId);
+        if (null == image)
+        {
+            checkDeadline("no replay image from source archive");
+            return 0;
+        }
+
+        state = State.RECORDING;
+        endPendingRecording();
+        conductor.startReplicatedRecordingSession(this, image);
+
+        return 1;
+    }
+
+    private void endPendingRecording()
+    {
+        if (isPendingRecording)
+        {
+            isPendingRecording = false;
+            conductor.onPendingReplicationEnd();
+        }
+    }
+
+    private void transitionTo(final State newState, final long newCorrelationId)
+    {
+        state = newState;
+        activeCorrelationId = newCorrelationId;
+        deadlineMs = epochClock.time() + TIMEOUT_MS;
+    }
+
+    private void checkResponseCode()
+    {
+        if (controlResponsePoller.code() != ControlResponseCode.OK)
+        {
+            throw new IllegalStateException("source archive error: " + controlResponsePoller.errorMessage());
+        }
+    }
+
+    private void checkDeadline(final String errorMessage)
+    {
+        if (epochClock.time() > deadlineMs)
+        {
+            throw new IllegalStateException(errorMessage);
+        }
+    }
+
+    private void onError(final String errorMessage)
+    {
+        final State previousState = state;
+        state = State.DONE;
+
+        if (previousState != State.RECORDING && !controlSession.isDone())
+        {
+            controlSession.attemptErrorResponse(
+                correlationId, "replication failed: " + errorMessage, controlResponseProxy);
+        }
+    }
+}
@@ -22,8 +22,11 @@ import org.agrona.concurrent.AgentInvoker;
 
 final class SharedModeArchiveConductor extends ArchiveConductor
 {
+    private SharedModeRecorder recorder;
+    private SharedModeReplayer replayer;
     private AgentInvoker replayerAgentInvoker;
     private AgentInvoker recorderAgentInvoker;
+    private AgentInvoker recordingSyncAgentInvoker;
 
     SharedModeArchiveConductor(final Aeron aeron, final Archive.Context ctx)
     {
@@ -32,34 +35,49 @@ final class SharedModeArchiveConductor extends ArchiveConductor
 
     public void onStart()
     {
-        super.onStart();
+        replayer = new SharedModeReplayer(errorHandler);
+        recorder = new SharedModeRecorder(errorHandler);
 
         replayerAgentInvoker = new AgentInvoker(errorHandler, ctx.errorCounter(), replayer);
         recorderAgentInvoker = new AgentInvoker(errorHandler, ctx.errorCounter(), recorder);
 
         replayerAgentInvoker.start();
         recorderAgentInvoker.start();
+
+        if (null != recordingSyncAgent)
+        {
+            recordingSyncAgentInvoker = new AgentInvoker(errorHandler, ctx.errorCounter(), recordingSyncAgent);
+            recordingSyncAgentInvoker.start();
+        }
     }
 
-    protected SessionWorker<RecordingSession> newRecorder()
+    protected void addRecordingSession(final RecordingSession session)
     {
-        return new SharedModeRecorder(errorHandler);
+        recorder.addSession(session);
     }
 
-    protected SessionWorker<ReplaySession> newReplayer()
+    protected void addReplaySession(final ReplaySession session)
     {
-        return new SharedModeReplayer(errorHandler);
+        replayer.addSession(session);
     }
 
     protected int preWork()
     {
-        return super.preWork() + replayerAgentInvoker.invoke() + recorderAgentInvoker.invoke();
+        int workCount = super.preWork() + replayerAgentInvoker.invoke() + recorderAgentInvoker.invoke();
+
+        if (null != recordingSyncAgentInvoker)
+        {
+            workCount += recordingSyncAgentInvoker.invoke();
+        }
+
+        return workCount;
     }
 
     protected void closeSessionWorkers()
     {
         CloseHelper.quietClose(recorderAgentInvoker);
         CloseHelper.quietClose(replayerAgentInvoker);
+        CloseHelper.quietClose(recordingSyncAgentInvoker);
     }
 
     private class SharedModeRecorder extends SessionWorker<RecordingSession>
@@ -372,6 +372,39 @@ public class AeronArchive implements AutoCloseable
         }
     }
 
+    /**
+     * Replicate a recording from a source archive into the archive this client is connected to.
+     * <p>
+     * The connected archive acts as a client of the source archive on its control channel, requests a replay of the
+     * recording, and records the replayed stream as a new local recording with the same descriptor metadata. If the
+     * source recording is still active then the replica continues to follow it live until the source stops.
+     *
+     * @param srcRecordingId     of the recording in the source archive to be replicated.
+     * @param srcControlStreamId on which the source archive receives control requests.
+     * @param srcControlChannel  on which the source archive receives control requests.
+     * @return the recordingId of the replica in the connected archive.
+     */
+    public long replicate(final long srcRecordingId, final int srcControlStreamId, final String srcControlChannel)
+    {
+        lock.lock();
+        try
+        {
+            final long correlationId = aeron.nextCorrelationId();
+
+            if (!archiveProxy.replicate(
+                srcRecordingId, srcControlStreamId, srcControlChannel, correlationId, controlSessionId))
+            {
+                throw new IllegalStateException("Failed to send replicate request");
+            }
+
+            return pollForResponse(correlationId);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
     /**
      * Stop recording for a channel and stream pairing.
      * <p>
@@ -656,6 +689,39 @@ public class AeronArchive implements AutoCloseable
         }
     }
 
+    /**
+     * Find the last recording which matches a channel and stream id, and a source identity if not empty. The archive
+     * looks up recordings in an index of its catalog so does not need to scan descriptors.
+     *
+     * @param minRecordingId which is the lowest recording id to be considered.
+     * @param channel        to match.
+     * @param streamId       to match.
+     * @param sourceIdentity to match or empty to match any source.
+     * @return the recording id of the last match or {@link io.aeron.archive.status.RecordingPos#NULL_RECORDING_ID}
+     * if there is no match.
+     */
+    public long findLastMatchingRecording(
+        final long minRecordingId, final String channel, final int streamId, final String sourceIdentity)
+    {
+        lock.lock();
+        try
+        {
+            final long correlationId = aeron.nextCorrelationId();
+
+            if (!archiveProxy.findLastMatchingRecording(
+                minRecordingId, channel, streamId, sourceIdentity, correlationId, controlSessionId))
+            {
+                throw new IllegalStateException("Failed to send find last matching recording request");
+            }
+
+            return pollForResponse(correlationId);
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
     /**
      * List all recording descriptors from a recording id with a limit of record count.
      * <p>
@@ -51,6 +51,9 @@ public class ArchiveProxy
         new ListRecordingsForUriRequestEncoder();
     private final ListRecordingRequestEncoder listRecordingRequestEncoder = new ListRecordingRequestEncoder();
     private final ExtendRecordingRequestEncoder extendRecordingRequestEncoder = new ExtendRecordingRequestEncoder();
+    private final ReplicateRequestEncoder replicateRequestEncoder = new ReplicateRequestEncoder();
+    private final FindLastMatchingRecordingRequestEncoder findLastMatchingRecordingRequestEncoder =
+        new FindLastMatchingRecordingRequestEncoder();
 
     /**
      * Create a proxy with a {@link Publication} for sending control message requests.
@@ -377,6 +380,65 @@ public class ArchiveProxy
         return offer(extendRecordingRequestEncoder.encodedLength());
     }
 
+    /**
+     * Replicate a recording from a source archive into the archive this proxy is connected to.
+     *
+     * @param srcRecordingId     of the recording in the source archive to be replicated.
+     * @param srcControlStreamId on which the source archive receives control requests.
+     * @param srcControlChannel  on which the source archive receives control requests.
+     * @param correlationId      for this request.
+     * @param controlSessionId   for this request.
+     * @return true if successfully offered otherwise false.
+     */
+    public boolean replicate(
+        final long srcRecordingId,
+        final int srcControlStreamId,
+        final String srcControlChannel,
+        final long correlationId,
+        final long controlSessionId)
+    {
+        replicateRequestEncoder
+            .wrapAndApplyHeader(buffer, 0, messageHeaderEncoder)
+            .controlSessionId(controlSessionId)
+            .correlationId(correlationId)
+            .srcRecordingId(srcRecordingId)
+            .srcControlStreamId(srcControlStreamId)
+            .srcControlChannel(srcControlChannel);
+
+        return offer(replicateRequestEncoder.encodedLength());
+    }
+
+    /**
+     * Find the last recording which matches a channel and stream id, and a source identity if not empty.
+     *
+     * @param minRecordingId   which is the lowest recording id to be considered.
+     * @param channel          to match recordings on.
+     * @param streamId         to match recordings on.
+     * @param sourceIdentity   to match recordings on or empty to match any source.
+     * @param correlationId    for this request.
+     * @param controlSessionId for this request.
+     * @return true if successfully offered otherwise false.
+     */
+    public boolean findLastMatchingRecording(
+        final long minRecordingId,
+        final String channel,
+        final int streamId,
+        final String sourceIdentity,
+        final long correlationId,
+        final long controlSessionId)
+    {
+        findLastMatchingRecordingRequestEncoder
+            .wrapAndApplyHeader(buffer, 0, messageHeaderEncoder)
+            .controlSessionId(controlSessionId)
+            .correlationId(correlationId)
+            .minRecordingId(minRecordingId)
+            .streamId(streamId)
+            .channel(channel)
+            .sourceIdentity(sourceIdentity);
+
+        return offer(findLastMatchingRecordingRequestEncoder.encodedLength());
+    }
+
     private boolean offer(final int length)
     {
         retryIdleStrategy.reset();
@@ -442,7 +504,7 @@ public class ArchiveProxy
                 throw new IllegalStateException("Publication failed due to max position being reached");
             }
 
-            if (nanoClock.nanoTime() > deadlineNs)
+            if (nanoClock.nanoTime() >= deadlineNs)
             {
                 return false;
             }
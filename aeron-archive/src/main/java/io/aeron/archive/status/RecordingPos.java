@@ -26,7 +26,8 @@ import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.agrona.concurrent.status.CountersReader.*;
 
 /**
- * The position a recording has reached when being archived.
+ * The position a recording has reached when being archived, and when recording to memory-mapped segments the
+ * position up to which it is durable on disk.
  * <p>
  * Key has the following layout:
  * <pre>
@@ -55,6 +56,12 @@ public class RecordingPos
      */
     public static final int RECORDING_POSITION_TYPE_ID = 100;
 
+    /**
+     * Type id of a durable recording position counter which tracks the position up to which a recording has been
+     * synced to disk when recording with {@link io.aeron.archive.Archive.Context#mappedRecordingWrites()}.
+     */
+    public static final int DURABLE_RECORDING_POSITION_TYPE_ID = 101;
+
     /**
      * Represents a null recording id when not found.
      */
@@ -65,6 +72,11 @@ public class RecordingPos
      */
     public static final String NAME = "rec-pos";
 
+    /**
+     * Human readable name for the durable position counter.
+     */
+    public static final String DURABLE_NAME = "rec-durable-pos";
+
     public static final int RECORDING_ID_OFFSET = 0;
     public static final int CONTROL_SESSION_ID_OFFSET = RECORDING_ID_OFFSET + SIZE_OF_LONG;
     public static final int CORRELATION_ID_OFFSET = CONTROL_SESSION_ID_OFFSET + SIZE_OF_LONG;
@@ -81,6 +93,68 @@ public class RecordingPos
         final int sessionId,
         final int streamId,
         final String strippedChannel)
+    {
+        return allocate(
+            aeron,
+            tempBuffer,
+            RECORDING_POSITION_TYPE_ID,
+            NAME,
+            recordingId,
+            controlSessionId,
+            correlationId,
+            sessionId,
+            streamId,
+            strippedChannel);
+    }
+
+    /**
+     * Allocate a counter for the position up to which a recording has been synced to disk. It has the same key
+     * layout as the recording position counter.
+     *
+     * @param aeron            to allocate the counter.
+     * @param tempBuffer       to build the key and label.
+     * @param recordingId      for the recording.
+     * @param controlSessionId which requested the recording.
+     * @param correlationId    of the request.
+     * @param sessionId        of the recorded stream.
+     * @param streamId         of the recorded stream.
+     * @param strippedChannel  of the recorded stream.
+     * @return the allocated counter.
+     */
+    public static Counter allocateDurable(
+        final Aeron aeron,
+        final UnsafeBuffer tempBuffer,
+        final long recordingId,
+        final long controlSessionId,
+        final long correlationId,
+        final int sessionId,
+        final int streamId,
+        final String strippedChannel)
+    {
+        return allocate(
+            aeron,
+            tempBuffer,
+            DURABLE_RECORDING_POSITION_TYPE_ID,
+            DURABLE_NAME,
+            recordingId,
+            controlSessionId,
+            correlationId,
+            sessionId,
+            streamId,
+            strippedChannel);
+    }
+
+    private static Counter allocate(
+        final Aeron aeron,
+        final UnsafeBuffer tempBuffer,
+        final int typeId,
+        final String name,
+        final long recordingId,
+        final long controlSessionId,
+        final long correlationId,
+        final int sessionId,
+        final int streamId,
+        final String strippedChannel)
     {
         tempBuffer.putLong(RECORDING_ID_OFFSET, recordingId);
         tempBuffer.putLong(CONTROL_SESSION_ID_OFFSET, controlSessionId);
@@ -89,7 +163,7 @@ public class RecordingPos
         tempBuffer.putInt(STREAM_ID_OFFSET, streamId);
 
         int labelLength = 0;
-        labelLength += tempBuffer.putStringWithoutLengthAscii(KEY_LENGTH, NAME + ": ");
+        labelLength += tempBuffer.putStringWithoutLengthAscii(KEY_LENGTH, name + ": ");
         labelLength += tempBuffer.putLongAscii(KEY_LENGTH + labelLength, recordingId);
         labelLength += tempBuffer.putStringWithoutLengthAscii(KEY_LENGTH + labelLength, " ");
         labelLength += tempBuffer.putIntAscii(KEY_LENGTH + labelLength, sessionId);
@@ -100,7 +174,7 @@ public class RecordingPos
             KEY_LENGTH + labelLength, strippedChannel, 0, MAX_LABEL_LENGTH - labelLength);
 
         return aeron.addCounter(
-            RECORDING_POSITION_TYPE_ID,
+            typeId,
             tempBuffer,
             0,
             KEY_LENGTH,
@@ -117,6 +191,24 @@ public class RecordingPos
      * @return the counter id if found otherwise {@link CountersReader#NULL_COUNTER_ID}.
      */
     public static int findCounterIdByRecording(final CountersReader countersReader, final long recordingId)
+    {
+        return findCounterIdByRecording(countersReader, RECORDING_POSITION_TYPE_ID, recordingId);
+    }
+
+    /**
+     * Find the active durable position counter id for a stream based on the recording id.
+     *
+     * @param countersReader to search within.
+     * @param recordingId    for the active recording.
+     * @return the counter id if found otherwise {@link CountersReader#NULL_COUNTER_ID}.
+     */
+    public static int findDurableCounterIdByRecording(final CountersReader countersReader, final long recordingId)
+    {
+        return findCounterIdByRecording(countersReader, DURABLE_RECORDING_POSITION_TYPE_ID, recordingId);
+    }
+
+    private static int findCounterIdByRecording(
+        final CountersReader countersReader, final int typeId, final long recordingId)
     {
         final DirectBuffer buffer = countersReader.metaDataBuffer();
 
@@ -126,7 +218,7 @@ public class RecordingPos
             {
                 final int recordOffset = CountersReader.metaDataOffset(i);
 
-                if (buffer.getInt(recordOffset + TYPE_ID_OFFSET) == RECORDING_POSITION_TYPE_ID &&
+                if (buffer.getInt(recordOffset + TYPE_ID_OFFSET) == typeId &&
                     buffer.getLong(recordOffset + KEY_OFFSET + RECORDING_ID_OFFSET) == recordingId)
                 {
                     return i;
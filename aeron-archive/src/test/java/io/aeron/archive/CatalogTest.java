@@ -121,6 +121,26 @@ public class CatalogTest
         }
     }
 
+    @Test
+    public void shouldFindLastMatchingRecordingFromIndexRebuiltOnLoad()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, clock))
+        {
+            assertThat(catalog.findLast(0, 2, "channelH", ""), is(recordingTwoId));
+            assertThat(catalog.findLast(0, 2, "channelH", "sourceV"), is(recordingTwoId));
+            assertThat(catalog.findLast(0, 2, "channelH", "sourceA"), is((long)NULL_RECORD_ID));
+            assertThat(catalog.findLast(0, 1, "channelH", ""), is((long)NULL_RECORD_ID));
+            assertThat(catalog.findLast(recordingTwoId + 1, 2, "channelH", ""), is((long)NULL_RECORD_ID));
+
+            final long newRecordingId = catalog.addNewRecording(
+                0L, 0L, 0, SEGMENT_FILE_SIZE, TERM_BUFFER_LENGTH, 1024, 9, 2, "channelH", "channelH?tag=f", "sourceN");
+
+            assertThat(catalog.findLast(0, 2, "channelH", ""), is(newRecordingId));
+            assertThat(catalog.findLast(0, 2, "channelH", "sourceV"), is(recordingTwoId));
+            assertThat(catalog.findLast(0, 2, "channelH", "sourceN"), is(newRecordingId));
+        }
+    }
+
     @Test
     public void shouldAllowMultipleInstancesForSameStream()
     {
@@ -244,6 +264,78 @@ public class CatalogTest
         }
     }
 
+    @Test
+    public void shouldRecoverStoppedRecordingWithNullStopTimestamp()
+    {
+        final long newRecordingId;
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, clock))
+        {
+            newRecordingId = catalog.addNewRecording(
+                0L, 0L, 0, SEGMENT_FILE_SIZE, TERM_BUFFER_LENGTH, 1024, 6, 1, "channelG", "channelG?tag=f", "sourceA");
+            catalog.recordingStopped(newRecordingId, 0L, 7L);
+        }
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, clock, false))
+        {
+            catalog.forEntry((he, hd, e, decoder) -> e.stopTimestamp(NULL_TIMESTAMP), newRecordingId);
+        }
+
+        when(clock.time()).thenReturn(42L);
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, clock))
+        {
+            catalog.forEntry((he, hd, e, decoder) -> assertThat(decoder.stopTimestamp(), is(42L)), newRecordingId);
+        }
+    }
+
+    @Test
+    public void shouldRecoverManyRecordingsAfterFailure() throws Exception
+    {
+        final int recordingCount = 50;
+        final long[] recordingIds = new long[recordingCount];
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, clock))
+        {
+            for (int i = 0; i < recordingCount; i++)
+            {
+                recordingIds[i] = catalog.addNewRecording(
+                    0L, 0L, 0, SEGMENT_FILE_SIZE, TERM_BUFFER_LENGTH, 1024, i, 1, "channelG", "channelG?tag=f", "src");
+            }
+        }
+
+        final ByteBuffer bb = allocateDirectAligned(HEADER_LENGTH, FRAME_ALIGNMENT);
+        final DataHeaderFlyweight flyweight = new DataHeaderFlyweight(bb);
+        for (int i = 0; i < recordingCount; i++)
+        {
+            final File segmentFile = new File(archiveDir, segmentFileName(recordingIds[i], 0));
+            try (FileChannel log = FileChannel.open(segmentFile.toPath(), READ, WRITE, CREATE))
+            {
+                bb.clear();
+                flyweight.frameLength(64 * (i + 1));
+                log.write(bb);
+                bb.clear();
+                flyweight.frameLength(0);
+                log.write(bb, 64 * (i + 1));
+            }
+        }
+
+        when(clock.time()).thenReturn(42L);
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, clock))
+        {
+            for (int i = 0; i < recordingCount; i++)
+            {
+                final long expectedStopPosition = 64L * (i + 1);
+                assertTrue(catalog.forEntry(
+                    (he, hd, e, decoder) ->
+                    {
+                        assertThat(decoder.stopTimestamp(), is(42L));
+                        assertThat(decoder.stopPosition(), is(expectedStopPosition));
+                    },
+                    recordingIds[i]));
+            }
+        }
+    }
+
     private long newRecording()
     {
         final long newRecordingId;
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.archive.DedicatedModeArchiveConductor.DedicatedModeRecorder;
+import io.aeron.archive.DedicatedModeArchiveConductor.DedicatedModeReplayer;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.Test;
+
+import static io.aeron.archive.DedicatedModeArchiveConductor.leastLoadedRecorder;
+import static io.aeron.archive.DedicatedModeArchiveConductor.leastLoadedReplayer;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class DedicatedModeArchiveConductorTest
+{
+    private static final int MAX_CONCURRENT_SESSIONS = 8;
+
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+    private final AtomicCounter errorCounter = mock(AtomicCounter.class);
+    private final ManyToOneConcurrentArrayQueue<Session> closeQueue =
+        new ManyToOneConcurrentArrayQueue<>(MAX_CONCURRENT_SESSIONS);
+
+    @Test
+    public void shouldAssignRecordingSessionsToLeastLoadedRecorder()
+    {
+        final DedicatedModeRecorder[] recorders = { newRecorder(0), newRecorder(1), newRecorder(2) };
+
+        for (int i = 0; i < 4; i++)
+        {
+            leastLoadedRecorder(recorders).addSession(mock(RecordingSession.class));
+        }
+
+        assertThat(recorders[0].sessionCount(), is(2));
+        assertThat(recorders[1].sessionCount(), is(1));
+        assertThat(recorders[2].sessionCount(), is(1));
+        assertThat(leastLoadedRecorder(recorders), sameInstance(recorders[1]));
+    }
+
+    @Test
+    public void shouldReleaseRecordingSessionBackToItsRecorderWhenDone()
+    {
+        final DedicatedModeRecorder[] recorders = { newRecorder(0), newRecorder(1) };
+        final RecordingSession sessionOne = mock(RecordingSession.class);
+        final RecordingSession sessionTwo = mock(RecordingSession.class);
+        final RecordingSession sessionThree = mock(RecordingSession.class);
+
+        leastLoadedRecorder(recorders).addSession(sessionOne);
+        leastLoadedRecorder(recorders).addSession(sessionTwo);
+        leastLoadedRecorder(recorders).addSession(sessionThree);
+        assertThat(recorders[0].sessionCount(), is(2));
+        assertThat(recorders[1].sessionCount(), is(1));
+
+        recorders[0].doWork();
+        when(sessionOne.isDone()).thenReturn(true);
+        when(sessionThree.isDone()).thenReturn(true);
+        recorders[0].doWork();
+
+        assertThat(recorders[0].sessionCount(), is(0));
+        assertThat(closeQueue.size(), is(2));
+        assertThat(leastLoadedRecorder(recorders), sameInstance(recorders[0]));
+    }
+
+    @Test
+    public void shouldAssignReplaySessionsToLeastLoadedReplayer()
+    {
+        final DedicatedModeReplayer[] replayers = { newReplayer(0), newReplayer(1) };
+
+        for (int i = 0; i < 3; i++)
+        {
+            leastLoadedReplayer(replayers).addSession(mock(ReplaySession.class));
+        }
+
+        assertThat(replayers[0].sessionCount(), is(2));
+        assertThat(replayers[1].sessionCount(), is(1));
+        assertThat(leastLoadedReplayer(replayers), sameInstance(replayers[1]));
+    }
+
+    @Test
+    public void shouldReleaseReplaySessionBackToItsReplayerWhenDone()
+    {
+        final DedicatedModeReplayer[] replayers = { newReplayer(0), newReplayer(1) };
+        final ReplaySession sessionOne = mock(ReplaySession.class);
+        final ReplaySession sessionTwo = mock(ReplaySession.class);
+
+        leastLoadedReplayer(replayers).addSession(sessionOne);
+        leastLoadedReplayer(replayers).addSession(sessionTwo);
+        assertThat(leastLoadedReplayer(replayers), sameInstance(replayers[0]));
+
+        replayers[1].doWork();
+        when(sessionTwo.isDone()).thenReturn(true);
+        replayers[1].doWork();
+
+        assertThat(replayers[0].sessionCount(), is(1));
+        assertThat(replayers[1].sessionCount(), is(0));
+        assertThat(closeQueue.poll(), sameInstance(sessionTwo));
+        assertThat(leastLoadedReplayer(replayers), sameInstance(replayers[1]));
+    }
+
+    private DedicatedModeRecorder newRecorder(final int index)
+    {
+        return new DedicatedModeRecorder(
+            "archive-recorder-" + index, errorHandler, errorCounter, closeQueue, MAX_CONCURRENT_SESSIONS);
+    }
+
+    private DedicatedModeReplayer newReplayer(final int index)
+    {
+        return new DedicatedModeReplayer(
+            "archive-replayer-" + index,
+            errorHandler,
+            errorCounter,
+            closeQueue,
+            new ControlResponseProxy(),
+            MAX_CONCURRENT_SESSIONS);
+    }
+}
@@ -238,6 +238,42 @@ public class ListRecordingsForUriSessionTest
         verify(controlSession).sendRecordingUnknown(eq(correlationId), eq(5L), eq(controlResponseProxy));
     }
 
+    @Test
+    public void shouldSendDescriptorsForRecordingsAddedAfterSessionCreated()
+    {
+        final ListRecordingsForUriSession session = new ListRecordingsForUriSession(
+            correlationId,
+            5,
+            3,
+            "channel",
+            1,
+            catalog,
+            controlResponseProxy,
+            controlSession,
+            descriptorBuffer,
+            recordingDescriptorDecoder);
+
+        final long recordingId = catalog.addNewRecording(
+            0L, 0L, 0, SEGMENT_FILE_SIZE, 4096, 1024, 9, 1, "channel", "channel?tag=f", "sourceC");
+        catalog.addNewRecording(
+            0L, 0L, 0, SEGMENT_FILE_SIZE, 4096, 1024, 9, 2, "channel", "channel?tag=f", "sourceC");
+
+        when(controlSession.maxPayloadLength()).thenReturn(8096);
+        when(controlSession.sendDescriptor(eq(correlationId), any(), eq(controlResponseProxy))).then(
+            (invocation) ->
+            {
+                final UnsafeBuffer b = invocation.getArgument(1);
+                wrapDescriptorDecoder(recordingDescriptorDecoder, b);
+                assertThat(recordingDescriptorDecoder.recordingId(), is(recordingId));
+                return b.getInt(0);
+            });
+
+        session.doWork();
+        verify(controlSession, times(1)).sendDescriptor(eq(correlationId), any(), eq(controlResponseProxy));
+        verify(controlSession).sendRecordingUnknown(eq(correlationId), eq(7L), eq(controlResponseProxy));
+        assertThat(session.isDone(), is(true));
+    }
+
     private Answer<Object> verifySendDescriptor(final MutableLong counter)
     {
         return (invocation) ->
@@ -31,6 +31,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.channels.FileChannel;
 
 import static io.aeron.archive.Archive.segmentFileName;
@@ -117,7 +118,16 @@ public class RecordingSessionTest
     public void shouldRecordFragmentsFromImage() throws Exception
     {
         final RecordingSession session = new RecordingSession(
-            RECORDING_ID, START_POSITION, CHANNEL, recordingEventsProxy, image, position, ARCHIVE_CHANNEL, context);
+            RECORDING_ID,
+            START_POSITION,
+            CHANNEL,
+            recordingEventsProxy,
+            image,
+            position,
+            null,
+            ARCHIVE_CHANNEL,
+            null,
+            context);
 
         assertEquals(RECORDING_ID, session.sessionId());
 
@@ -192,6 +202,87 @@ public class RecordingSessionTest
         session.close();
     }
 
+    @Test
+    public void shouldRecordIntoMappedSegmentAndAdvanceDurablePositionOnSync() throws IOException
+    {
+        final Counter durablePosition = mock(Counter.class);
+        final RecordingSyncAgent recordingSyncAgent = new RecordingSyncAgent();
+        context.mappedRecordingWrites(true).fileSyncLevel(1);
+
+        final RecordingSession session = new RecordingSession(
+            RECORDING_ID,
+            START_POSITION,
+            CHANNEL,
+            recordingEventsProxy,
+            image,
+            position,
+            durablePosition,
+            ARCHIVE_CHANNEL,
+            recordingSyncAgent,
+            context);
+
+        session.doWork();
+
+        when(image.rawPoll(any(), anyInt())).thenAnswer(
+            (invocation) ->
+            {
+                final RawBlockHandler handle = invocation.getArgument(0);
+                handle.onBlock(
+                    mockLogBufferChannel,
+                    TERM_OFFSET,
+                    mockLogBufferMapped,
+                    TERM_OFFSET,
+                    RECORDED_BLOCK_LENGTH,
+                    SESSION_ID,
+                    0);
+
+                return RECORDED_BLOCK_LENGTH;
+            });
+
+        positionLong = START_POSITION;
+        assertNotEquals("Expect some work", 0, session.doWork());
+        verify(durablePosition, never()).setOrdered(anyLong());
+
+        assertEquals(1, recordingSyncAgent.doWork());
+        verify(durablePosition).setOrdered(START_POSITION + RECORDED_BLOCK_LENGTH);
+
+        final RecordingSummary recordingSummary = new RecordingSummary();
+        recordingSummary.recordingId = RECORDING_ID;
+        recordingSummary.startPosition = START_POSITION;
+        recordingSummary.segmentFileLength = context.segmentFileLength();
+        recordingSummary.initialTermId = INITIAL_TERM_ID;
+        recordingSummary.termBufferLength = TERM_BUFFER_LENGTH;
+        recordingSummary.streamId = STREAM_ID;
+        recordingSummary.sessionId = SESSION_ID;
+        recordingSummary.stopPosition = START_POSITION + RECORDED_BLOCK_LENGTH;
+
+        final RecordingFragmentReader reader = new RecordingFragmentReader(
+            mockCatalog,
+            recordingSummary,
+            tempDirForTest,
+            NULL_POSITION,
+            RecordingFragmentReader.NULL_LENGTH,
+            null);
+
+        final int polled = reader.controlledPoll(
+            (buffer, offset, length) ->
+            {
+                assertEquals(TERM_OFFSET, offset - DataHeaderFlyweight.HEADER_LENGTH);
+                assertEquals(RECORDED_BLOCK_LENGTH - DataHeaderFlyweight.HEADER_LENGTH, length);
+                return true;
+            },
+            1);
+
+        assertEquals(1, polled);
+        reader.close();
+
+        session.close();
+        verify(durablePosition, never()).close();
+
+        recordingSyncAgent.doWork();
+        verify(durablePosition).close();
+    }
+
     private Subscription mockSubscription(final String channel, final int streamId)
     {
         final Subscription subscription = mock(Subscription.class);
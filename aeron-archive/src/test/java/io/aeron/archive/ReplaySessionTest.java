@@ -111,7 +111,8 @@ public class ReplaySessionTest
         recordingSummary.sessionId = SESSION_ID;
 
         final RecordingWriter writer = new RecordingWriter(
-            RECORDING_ID, START_POSITION, JOIN_POSITION, TERM_BUFFER_LENGTH, context, ARCHIVE_DIR_CHANNEL, position);
+            RECORDING_ID, START_POSITION, JOIN_POSITION, TERM_BUFFER_LENGTH, context, ARCHIVE_DIR_CHANNEL, position,
+            null, null);
 
         final UnsafeBuffer buffer = new UnsafeBuffer(allocateDirectAligned(TERM_BUFFER_LENGTH, 64));
 
@@ -208,6 +209,53 @@ public class ReplaySessionTest
         reader.close();
     }
 
+    @Test
+    public void shouldReplayDataInBlocksOfWholeFrames()
+    {
+        final long correlationId = 1L;
+        final int blockLength = 2 * FRAME_LENGTH;
+
+        final ReplaySession replaySession = replaySession(
+            RECORDING_POSITION,
+            4 * FRAME_LENGTH,
+            correlationId,
+            mockReplayPub,
+            mockControlSession,
+            blockLength);
+
+        when(mockReplayPub.isClosed()).thenReturn(false);
+        when(mockReplayPub.isConnected()).thenReturn(true);
+
+        replaySession.doWork();
+        assertEquals(replaySession.state(), ReplaySession.State.REPLAY);
+
+        final UnsafeBuffer termBuffer = new UnsafeBuffer(allocateDirectAligned(TERM_BUFFER_LENGTH, 64));
+        when(mockReplayPub.offerBlock(any(), anyInt(), anyInt())).then(
+            (invocation) ->
+            {
+                final UnsafeBuffer buffer = invocation.getArgument(0);
+                final int offset = invocation.getArgument(1);
+                final int length = invocation.getArgument(2);
+                termBuffer.putBytes(offset - INITIAL_TERM_OFFSET, buffer, offset, length);
+
+                return (long)(offset + length);
+            });
+
+        assertThat(replaySession.doWork(), is(2));
+        verify(mockReplayPub).offerBlock(any(), eq(INITIAL_TERM_OFFSET), eq(blockLength));
+
+        assertThat(replaySession.doWork(), is(2));
+        verify(mockReplayPub).offerBlock(any(), eq(INITIAL_TERM_OFFSET + blockLength), eq(blockLength));
+        assertTrue(replaySession.isDone());
+
+        validateFrame(termBuffer, 0, FrameDescriptor.UNFRAGMENTED);
+        validateFrame(termBuffer, 1, FrameDescriptor.BEGIN_FRAG_FLAG);
+        validateFrame(termBuffer, 2, FrameDescriptor.END_FRAG_FLAG);
+        verify(mockReplayPub, never()).tryClaim(anyInt(), any(ExclusiveBufferClaim.class));
+
+        replaySession.close();
+    }
+
     @Test
     public void shouldReplayPartialDataFromFile()
     {
@@ -260,7 +308,8 @@ public class ReplaySessionTest
             epochClock,
             mockReplayPub,
             recordingSummary,
-            position);
+            position,
+            0);
     }
 
     @Test
@@ -341,7 +390,8 @@ public class ReplaySessionTest
         position.setOrdered(START_POSITION);
 
         final RecordingWriter writer = new RecordingWriter(
-            recordingId, START_POSITION, JOIN_POSITION, TERM_BUFFER_LENGTH, context, ARCHIVE_DIR_CHANNEL, position);
+            recordingId, START_POSITION, JOIN_POSITION, TERM_BUFFER_LENGTH, context, ARCHIVE_DIR_CHANNEL, position,
+            null, null);
 
         when(epochClock.time()).thenReturn(TIME);
 
@@ -464,6 +514,17 @@ public class ReplaySessionTest
         final long correlationId,
         final ExclusivePublication replay,
         final ControlSession control)
+    {
+        return replaySession(recordingPosition, length, correlationId, replay, control, 0);
+    }
+
+    private ReplaySession replaySession(
+        final long recordingPosition,
+        final long length,
+        final long correlationId,
+        final ExclusivePublication replay,
+        final ControlSession control,
+        final int replayBlockLength)
     {
         return new ReplaySession(
             recordingPosition,
@@ -476,7 +537,8 @@ public class ReplaySessionTest
             epochClock,
             replay,
             recordingSummary,
-            position);
+            position,
+            replayBlockLength);
     }
 
     private void validateFrame(final UnsafeBuffer buffer, final int message, final byte flags)
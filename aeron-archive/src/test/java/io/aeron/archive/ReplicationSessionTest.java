@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Aeron;
+import io.aeron.ExclusivePublication;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import org.agrona.DirectBuffer;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.EpochClock;
+import org.agrona.concurrent.NanoClock;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ReplicationSessionTest
+{
+    private static final long REPLICATION_ID = 1;
+    private static final long CORRELATION_ID = 2;
+    private static final long SRC_RECORDING_ID = 3;
+    private static final int SRC_CONTROL_STREAM_ID = 10;
+    private static final String SRC_CONTROL_CHANNEL = "aeron:udp?endpoint=localhost:8090";
+    private static final String REPLICATION_CHANNEL = "aeron:udp?endpoint=localhost:8091";
+    private static final int REPLICATION_RESPONSE_STREAM_ID = 20;
+
+    private final Aeron aeron = mock(Aeron.class);
+    private final Aeron.Context aeronContext = mock(Aeron.Context.class);
+    private final ExclusivePublication srcControlPublication = mock(ExclusivePublication.class);
+    private final Subscription srcResponseSubscription = mock(Subscription.class);
+    private final ArchiveConductor conductor = mock(ArchiveConductor.class);
+    private final ControlSession controlSession = mock(ControlSession.class);
+    private final ControlResponseProxy controlResponseProxy = mock(ControlResponseProxy.class);
+    private final EpochClock epochClock = mock(EpochClock.class);
+    private final NanoClock nanoClock = mock(NanoClock.class);
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+
+    private ReplicationSession session;
+
+    @Before
+    public void before()
+    {
+        when(aeron.context()).thenReturn(aeronContext);
+        when(aeronContext.nanoClock()).thenReturn(nanoClock);
+        when(aeron.addExclusivePublication(SRC_CONTROL_CHANNEL, SRC_CONTROL_STREAM_ID))
+            .thenReturn(srcControlPublication);
+        when(aeron.addSubscription(REPLICATION_CHANNEL, REPLICATION_RESPONSE_STREAM_ID))
+            .thenReturn(srcResponseSubscription);
+        when(srcResponseSubscription.streamId()).thenReturn(REPLICATION_RESPONSE_STREAM_ID);
+        when(srcControlPublication.isConnected()).thenReturn(true);
+
+        session = new ReplicationSession(
+            REPLICATION_ID,
+            CORRELATION_ID,
+            SRC_RECORDING_ID,
+            SRC_CONTROL_STREAM_ID,
+            SRC_CONTROL_CHANNEL,
+            REPLICATION_CHANNEL,
+            REPLICATION_RESPONSE_STREAM_ID,
+            aeron,
+            conductor,
+            controlSession,
+            controlResponseProxy,
+            epochClock,
+            errorHandler);
+    }
+
+    @Test
+    public void shouldOfferConnectRequestOncePerDutyCycleUntilSent()
+    {
+        when(srcControlPublication.offer(any(DirectBuffer.class), anyInt(), anyInt(), any()))
+            .thenReturn(Publication.BACK_PRESSURED);
+
+        assertThat(session.doWork(), is(0));
+        verify(srcControlPublication, times(1)).offer(any(DirectBuffer.class), anyInt(), anyInt(), any());
+        assertThat(session.state(), is(ReplicationSession.State.CONNECT));
+
+        assertThat(session.doWork(), is(0));
+        verify(srcControlPublication, times(2)).offer(any(DirectBuffer.class), anyInt(), anyInt(), any());
+        assertThat(session.state(), is(ReplicationSession.State.CONNECT));
+
+        when(srcControlPublication.offer(any(DirectBuffer.class), anyInt(), anyInt(), any())).thenReturn(64L);
+
+        assertThat(session.doWork(), is(1));
+        verify(srcControlPublication, times(3)).offer(any(DirectBuffer.class), anyInt(), anyInt(), any());
+        assertThat(session.state(), is(ReplicationSession.State.AWAIT_CONNECT));
+    }
+
+    @Test
+    public void shouldFailWithErrorResponseWhenConnectRequestNotSentBeforeTimeout()
+    {
+        when(srcControlPublication.offer(any(DirectBuffer.class), anyInt(), anyInt(), any()))
+            .thenReturn(Publication.BACK_PRESSURED);
+
+        session.doWork();
+        when(epochClock.time()).thenReturn(ReplicationSession.TIMEOUT_MS + 1);
+
+        session.doWork();
+
+        assertThat(session.isDone(), is(true));
+        verify(errorHandler).onError(any(IllegalStateException.class));
+        verify(controlSession).attemptErrorResponse(eq(CORRELATION_ID), anyString(), eq(controlResponseProxy));
+    }
+
+    @Test
+    public void shouldEndPendingReplicationOnceWhenClosedBeforeRecording()
+    {
+        session.abort();
+        session.close();
+        session.close();
+
+        verify(conductor, times(1)).onPendingReplicationEnd();
+    }
+}
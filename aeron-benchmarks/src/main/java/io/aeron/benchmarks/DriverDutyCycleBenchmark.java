@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.Aeron;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.AgentInvoker;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a message making the full trip through the {@link io.aeron.driver.Sender} and
+ * {@link io.aeron.driver.Receiver} duty cycles over loopback UDP.
+ * <p>
+ * The driver runs in {@link ThreadingMode#INVOKER} mode so all agents are driven from the benchmark thread and
+ * each operation is an offer followed by invoking the driver until the message is polled from the subscription.
+ */
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class DriverDutyCycleBenchmark
+{
+    private static final String CHANNEL = "aeron:udp?endpoint=localhost:54325";
+    private static final int STREAM_ID = 1001;
+
+    @Param({"32", "224", "1376"})
+    private int messageLength;
+
+    private MediaDriver driver;
+    private Aeron aeron;
+    private Publication publication;
+    private Subscription subscription;
+    private AgentInvoker driverInvoker;
+    private AgentInvoker clientInvoker;
+    private UnsafeBuffer srcBuffer;
+    private int fragmentsReceived;
+    private final FragmentHandler fragmentHandler = (buffer, offset, length, header) -> fragmentsReceived++;
+
+    @Setup
+    public void setup()
+    {
+        driver = MediaDriver.launchEmbedded(new MediaDriver.Context()
+            .threadingMode(ThreadingMode.INVOKER)
+            .dirDeleteOnStart(true));
+        driverInvoker = driver.sharedAgentInvoker();
+
+        aeron = Aeron.connect(new Aeron.Context()
+            .aeronDirectoryName(driver.aeronDirectoryName())
+            .driverAgentInvoker(driverInvoker)
+            .useConductorAgentInvoker(true));
+        clientInvoker = aeron.conductorAgentInvoker();
+
+        subscription = aeron.addSubscription(CHANNEL, STREAM_ID);
+        publication = aeron.addPublication(CHANNEL, STREAM_ID);
+
+        while (!publication.isConnected() || !subscription.isConnected())
+        {
+            driverInvoker.invoke();
+            clientInvoker.invoke();
+        }
+
+        srcBuffer = new UnsafeBuffer(BufferUtil.allocateDirectAligned(messageLength, BitUtil.CACHE_LINE_LENGTH));
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        CloseHelper.close(aeron);
+        CloseHelper.close(driver);
+        driver.context().deleteAeronDirectory();
+    }
+
+    @Benchmark
+    public int sendAndReceive()
+    {
+        while (publication.offer(srcBuffer, 0, messageLength) < 0)
+        {
+            driverInvoker.invoke();
+            clientInvoker.invoke();
+        }
+
+        final int expected = fragmentsReceived + 1;
+        do
+        {
+            driverInvoker.invoke();
+            subscription.poll(fragmentHandler, 10);
+        }
+        while (fragmentsReceived < expected);
+
+        return fragmentsReceived;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.driver.LossDetector;
+import io.aeron.driver.StaticDelayGenerator;
+import io.aeron.logbuffer.ExclusiveTermAppender;
+import io.aeron.logbuffer.HeaderWriter;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+
+/**
+ * Cost of the receiver scanning a term for loss between the rebuild position and the high-water-mark.
+ * <p>
+ * The term is filled except for a single message sized hole at the given offset so each scan walks the
+ * contiguous frames before finding the already active gap.
+ */
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class LossDetectorBenchmark
+{
+    private static final int TERM_ID = 7;
+    private static final int MESSAGE_LENGTH = 224;
+
+    @Param({"0", "4096", "32768"})
+    private int gapOffset;
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(TERM_MIN_LENGTH, BitUtil.CACHE_LINE_LENGTH));
+    private final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(LOG_META_DATA_LENGTH, BitUtil.CACHE_LINE_LENGTH));
+    private final int positionBitsToShift = positionBitsToShift(TERM_MIN_LENGTH);
+    private final LossDetector lossDetector = new LossDetector(
+        new StaticDelayGenerator(TimeUnit.MILLISECONDS.toNanos(20), false), (termId, termOffset, length) -> {});
+
+    private long hwmPosition;
+    private long nowNs;
+
+    @Setup
+    public void setup()
+    {
+        final HeaderWriter headerWriter = HeaderWriter.newInstance(
+            DataHeaderFlyweight.createDefaultHeader(1, 1001, TERM_ID));
+        final ExclusiveTermAppender appender = new ExclusiveTermAppender(termBuffer, metaDataBuffer, 0);
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+
+        int termOffset = 0;
+        int gapLength = 0;
+        while (termOffset >= 0)
+        {
+            final int frameOffset = termOffset;
+            termOffset = appender.appendUnfragmentedMessage(
+                TERM_ID, termOffset, headerWriter, srcBuffer, 0, MESSAGE_LENGTH, null);
+
+            if (frameOffset == gapOffset && termOffset > 0)
+            {
+                gapLength = termOffset - frameOffset;
+            }
+        }
+
+        termBuffer.setMemory(gapOffset, gapLength, (byte)0);
+        hwmPosition = termBuffer.capacity() - DataHeaderFlyweight.HEADER_LENGTH;
+        nowNs = 0;
+    }
+
+    @Benchmark
+    public long scan()
+    {
+        return lossDetector.scan(
+            termBuffer, 0, hwmPosition, ++nowNs, termBuffer.capacity() - 1, positionBitsToShift, TERM_ID);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.logbuffer.ExclusiveTermAppender;
+import io.aeron.logbuffer.HeaderWriter;
+import io.aeron.logbuffer.TermAppender;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+
+/**
+ * Cost of appending unfragmented messages to a term with the concurrent and exclusive appenders.
+ */
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class TermAppenderBenchmark
+{
+    private static final int TERM_ID = 7;
+    private static final int SESSION_ID = 1;
+    private static final int STREAM_ID = 1001;
+
+    @Param({"32", "224", "1376"})
+    private int messageLength;
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(TERM_MIN_LENGTH, BitUtil.CACHE_LINE_LENGTH));
+    private final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(LOG_META_DATA_LENGTH, BitUtil.CACHE_LINE_LENGTH));
+    private final HeaderWriter headerWriter = HeaderWriter.newInstance(
+        DataHeaderFlyweight.createDefaultHeader(SESSION_ID, STREAM_ID, TERM_ID));
+    private final TermAppender termAppender = new TermAppender(termBuffer, metaDataBuffer, 0);
+    private final ExclusiveTermAppender exclusiveTermAppender = new ExclusiveTermAppender(
+        termBuffer, metaDataBuffer, 0);
+
+    private UnsafeBuffer srcBuffer;
+    private int exclusiveTermOffset;
+
+    @Setup
+    public void setup()
+    {
+        srcBuffer = new UnsafeBuffer(BufferUtil.allocateDirectAligned(messageLength, BitUtil.CACHE_LINE_LENGTH));
+        srcBuffer.setMemory(0, messageLength, (byte)'x');
+        initialiseTailWithTermId(metaDataBuffer, 0, TERM_ID);
+        exclusiveTermOffset = 0;
+    }
+
+    @Benchmark
+    public int appendUnfragmentedMessage()
+    {
+        final int resultingOffset = termAppender.appendUnfragmentedMessage(
+            headerWriter, srcBuffer, 0, messageLength, null, TERM_ID);
+
+        if (resultingOffset < 0)
+        {
+            initialiseTailWithTermId(metaDataBuffer, 0, TERM_ID);
+        }
+
+        return resultingOffset;
+    }
+
+    @Benchmark
+    public int exclusiveAppendUnfragmentedMessage()
+    {
+        int resultingOffset = exclusiveTermAppender.appendUnfragmentedMessage(
+            TERM_ID, exclusiveTermOffset, headerWriter, srcBuffer, 0, messageLength, null);
+
+        if (resultingOffset < 0)
+        {
+            initialiseTailWithTermId(metaDataBuffer, 0, TERM_ID);
+            resultingOffset = 0;
+        }
+
+        exclusiveTermOffset = resultingOffset;
+
+        return resultingOffset;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.logbuffer.*;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+
+/**
+ * Cost of reading fragments from a full term and of scanning a term for availability to send.
+ */
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class TermReaderBenchmark
+{
+    private static final int TERM_ID = 7;
+    private static final int MTU_LENGTH = 1408;
+
+    @Param({"32", "224", "1376"})
+    private int messageLength;
+
+    @Param({"1", "10"})
+    private int fragmentLimit;
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(TERM_MIN_LENGTH, BitUtil.CACHE_LINE_LENGTH));
+    private final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(LOG_META_DATA_LENGTH, BitUtil.CACHE_LINE_LENGTH));
+    private final Header header = new Header(TERM_ID, positionBitsToShift(TERM_MIN_LENGTH));
+
+    private Blackhole blackhole;
+    private FragmentHandler fragmentHandler;
+    private int readOffset;
+    private int scanOffset;
+
+    @Setup
+    public void setup(final Blackhole blackhole)
+    {
+        this.blackhole = blackhole;
+        fragmentHandler = this::onFragment;
+
+        final HeaderWriter headerWriter = HeaderWriter.newInstance(
+            DataHeaderFlyweight.createDefaultHeader(1, 1001, TERM_ID));
+        final ExclusiveTermAppender appender = new ExclusiveTermAppender(termBuffer, metaDataBuffer, 0);
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[messageLength]);
+
+        int termOffset = 0;
+        while (termOffset >= 0)
+        {
+            termOffset = appender.appendUnfragmentedMessage(
+                TERM_ID, termOffset, headerWriter, srcBuffer, 0, messageLength, null);
+        }
+
+        readOffset = 0;
+        scanOffset = 0;
+    }
+
+    @Benchmark
+    public int read()
+    {
+        final long outcome = TermReader.read(
+            termBuffer, readOffset, fragmentHandler, fragmentLimit, header, Throwable::printStackTrace);
+
+        final int offset = TermReader.offset(outcome);
+        readOffset = offset >= termBuffer.capacity() ? 0 : offset;
+
+        return TermReader.fragmentsRead(outcome);
+    }
+
+    @Benchmark
+    public long scanForAvailability()
+    {
+        final long outcome = TermScanner.scanForAvailability(termBuffer, scanOffset, MTU_LENGTH);
+
+        final int offset = scanOffset + TermScanner.available(outcome) + TermScanner.padding(outcome);
+        scanOffset = offset >= termBuffer.capacity() ? 0 : offset;
+
+        return outcome;
+    }
+
+    private void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        blackhole.consume(buffer.getByte(offset));
+    }
+}
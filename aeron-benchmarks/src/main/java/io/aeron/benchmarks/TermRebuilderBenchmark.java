@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.benchmarks;
+
+import io.aeron.logbuffer.TermRebuilder;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+
+/**
+ * Cost of inserting received packets into a term as done by the receiver when rebuilding an image.
+ * <p>
+ * The term is zeroed each time it is filled so the cost of clearing is amortised over the inserts.
+ */
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class TermRebuilderBenchmark
+{
+    @Param({"64", "1408"})
+    private int packetLength;
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(
+        BufferUtil.allocateDirectAligned(TERM_MIN_LENGTH, BitUtil.CACHE_LINE_LENGTH));
+
+    private UnsafeBuffer packet;
+    private int termOffset;
+
+    @Setup
+    public void setup()
+    {
+        final int alignedLength = BitUtil.align(packetLength, FRAME_ALIGNMENT);
+        packet = new UnsafeBuffer(BufferUtil.allocateDirectAligned(alignedLength, BitUtil.CACHE_LINE_LENGTH));
+        packet.putBytes(0, DataHeaderFlyweight.createDefaultHeader(1, 1001, 7), 0, DataHeaderFlyweight.HEADER_LENGTH);
+        packet.putInt(0, alignedLength);
+
+        termBuffer.setMemory(0, termBuffer.capacity(), (byte)0);
+        termOffset = 0;
+    }
+
+    @Benchmark
+    public int insert()
+    {
+        final int length = packet.capacity();
+        if (termOffset + length > termBuffer.capacity())
+        {
+            termBuffer.setMemory(0, termBuffer.capacity(), (byte)0);
+            termOffset = 0;
+        }
+
+        TermRebuilder.insert(termBuffer, termOffset, packet, length);
+        termOffset += length;
+
+        return termOffset;
+    }
+}
@@ -90,6 +90,20 @@ public class Aeron implements AutoCloseable
      */
     public static final long KEEPALIVE_INTERVAL_NS = TimeUnit.MILLISECONDS.toNanos(500);
 
+    /**
+     * Property name for boolean value of if the pages of log buffers should be pre-touched when mapped by the client.
+     */
+    public static final String PRE_TOUCH_MAPPED_MEMORY_PROP_NAME = "aeron.pre.touch.mapped.memory";
+
+    /**
+     * Should the pages of log buffers be pre-touched when mapped by the client. Defaults to false.
+     * <p>
+     * Pre-touching faults the pages into the page tables of the client process when a publication or image is added
+     * so the first pass through each term does not take page faults on the hot path of publishing or polling.
+     */
+    public static final boolean PRE_TOUCH_MAPPED_MEMORY =
+        "true".equalsIgnoreCase(System.getProperty(PRE_TOUCH_MAPPED_MEMORY_PROP_NAME, "false"));
+
     @SuppressWarnings("unused") private volatile int isClosed;
     private final long clientId;
     private final ClientConductor conductor;
@@ -386,6 +400,7 @@ public class Aeron implements AutoCloseable
     {
         private long clientId;
         private boolean useConductorAgentInvoker = false;
+        private boolean preTouchMappedMemory = PRE_TOUCH_MAPPED_MEMORY;
         private AgentInvoker driverAgentInvoker;
         private Lock clientLock;
         private EpochClock epochClock;
@@ -469,7 +484,7 @@ public class Aeron implements AutoCloseable
 
             if (null == logBuffersFactory)
             {
-                logBuffersFactory = new MappedLogBuffersFactory();
+                logBuffersFactory = new MappedLogBuffersFactory(preTouchMappedMemory);
             }
 
             if (null == errorHandler)
@@ -520,6 +535,32 @@ public class Aeron implements AutoCloseable
             return useConductorAgentInvoker;
         }
 
+        /**
+         * Should the pages of log buffers be pre-touched when mapped by the client so the first pass through each
+         * term does not take page faults.
+         *
+         * @param preTouchMappedMemory true if the pages of log buffers should be pre-touched when mapped.
+         * @return this for a fluent API.
+         * @see Aeron#PRE_TOUCH_MAPPED_MEMORY_PROP_NAME
+         */
+        public Context preTouchMappedMemory(final boolean preTouchMappedMemory)
+        {
+            this.preTouchMappedMemory = preTouchMappedMemory;
+            return this;
+        }
+
+        /**
+         * Should the pages of log buffers be pre-touched when mapped by the client so the first pass through each
+         * term does not take page faults.
+         *
+         * @return true if the pages of log buffers should be pre-touched when mapped.
+         * @see Aeron#PRE_TOUCH_MAPPED_MEMORY_PROP_NAME
+         */
+        public boolean preTouchMappedMemory()
+        {
+            return preTouchMappedMemory;
+        }
+
         /**
          * Set the {@link AgentInvoker} for the Media Driver to be used while awaiting a synchronous response.
          * <p>
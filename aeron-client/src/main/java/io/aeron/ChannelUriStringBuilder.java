@@ -48,6 +48,9 @@ public class ChannelUriStringBuilder
     private Integer termOffset;
     private Integer sessionId;
     private Integer linger;
+    private Integer maxRetransmits;
+    private Integer fec;
+    private Long pacingRate;
 
     /**
      * Clear out all the values thus setting back to the initial state.
@@ -70,6 +73,10 @@ public class ChannelUriStringBuilder
         termId = null;
         termOffset = null;
         sessionId = null;
+        linger = null;
+        maxRetransmits = null;
+        fec = null;
+        pacingRate = null;
 
         return this;
     }
@@ -540,6 +547,96 @@ public class ChannelUriStringBuilder
         return linger;
     }
 
+    /**
+     * Set the max number of retransmits a network publication can have active at the same time. NAKs received for
+     * loss beyond this are ignored until a retransmit completes.
+     *
+     * @param maxRetransmits which can be active at the same time for a publication.
+     * @return this for a fluent API.
+     * @see CommonContext#MAX_RETRANSMITS_PARAM_NAME
+     */
+    public ChannelUriStringBuilder maxRetransmits(final Integer maxRetransmits)
+    {
+        if (null != maxRetransmits && maxRetransmits < 1)
+        {
+            throw new IllegalArgumentException("Max retransmits must be at least 1: " + maxRetransmits);
+        }
+
+        this.maxRetransmits = maxRetransmits;
+        return this;
+    }
+
+    /**
+     * Get the max number of retransmits a network publication can have active at the same time.
+     *
+     * @return the max number of retransmits which can be active at the same time for a publication.
+     * @see CommonContext#MAX_RETRANSMITS_PARAM_NAME
+     */
+    public Integer maxRetransmits()
+    {
+        return maxRetransmits;
+    }
+
+    /**
+     * Set the number of data datagrams protected by each forward error correction parity frame sent for a UDP
+     * publication so a receiver can rebuild a single lost datagram in the group without a NAK.
+     *
+     * @param fec number of datagrams in each group protected by a parity frame.
+     * @return this for a fluent API.
+     * @see CommonContext#FEC_PARAM_NAME
+     */
+    public ChannelUriStringBuilder fec(final Integer fec)
+    {
+        if (null != fec && fec < 2)
+        {
+            throw new IllegalArgumentException("FEC group must be at least 2 datagrams: " + fec);
+        }
+
+        this.fec = fec;
+        return this;
+    }
+
+    /**
+     * Get the number of data datagrams protected by each forward error correction parity frame.
+     *
+     * @return the number of datagrams in each group protected by a parity frame.
+     * @see CommonContext#FEC_PARAM_NAME
+     */
+    public Integer fec()
+    {
+        return fec;
+    }
+
+    /**
+     * Set the rate in bytes per second at which a UDP publication is paced onto the network so large bursts are
+     * spread out rather than sent at line rate. A rate of 0 disables pacing.
+     *
+     * @param pacingRate in bytes per second for the publication.
+     * @return this for a fluent API.
+     * @see CommonContext#PACING_RATE_PARAM_NAME
+     */
+    public ChannelUriStringBuilder pacingRate(final Long pacingRate)
+    {
+        if (null != pacingRate && pacingRate < 0)
+        {
+            throw new IllegalArgumentException("pacing rate must not be negative: " + pacingRate);
+        }
+
+        this.pacingRate = pacingRate;
+        return this;
+    }
+
+    /**
+     * Get the rate in bytes per second at which a UDP publication is paced onto the network.
+     *
+     * @return the rate in bytes per second at which a UDP publication is paced onto the network.
+     * @see CommonContext#PACING_RATE_PARAM_NAME
+     */
+    public Long pacingRate()
+    {
+        return pacingRate;
+    }
+
     /**
      * Build a channel URI String for the given parameters.
      *
@@ -621,6 +718,21 @@ public class ChannelUriStringBuilder
             sb.append(LINGER_PARAM_NAME).append('=').append(linger.intValue()).append('|');
         }
 
+        if (null != maxRetransmits)
+        {
+            sb.append(MAX_RETRANSMITS_PARAM_NAME).append('=').append(maxRetransmits.intValue()).append('|');
+        }
+
+        if (null != fec)
+        {
+            sb.append(FEC_PARAM_NAME).append('=').append(fec.intValue()).append('|');
+        }
+
+        if (null != pacingRate)
+        {
+            sb.append(PACING_RATE_PARAM_NAME).append('=').append(pacingRate.longValue()).append('|');
+        }
+
         final char lastChar = sb.charAt(sb.length() - 1);
         if (lastChar == '|' || lastChar == '?')
         {
@@ -148,6 +148,23 @@ public class CommonContext implements AutoCloseable
      */
     public static final String LINGER_PARAM_NAME = "linger";
 
+    /**
+     * Key for the max number of retransmits a network publication can have active at the same time.
+     */
+    public static final String MAX_RETRANSMITS_PARAM_NAME = "max-retransmits";
+
+    /**
+     * Key for the number of data datagrams protected by each forward error correction parity frame sent for a UDP
+     * publication. FEC is disabled when not set.
+     */
+    public static final String FEC_PARAM_NAME = "fec";
+
+    /**
+     * Key for the rate in bytes per second at which a UDP publication is paced onto the network to smooth out bursts.
+     * Pacing is disabled when set to 0.
+     */
+    public static final String PACING_RATE_PARAM_NAME = "pacing-rate";
+
     /**
      * Valid value for {@link #MDC_CONTROL_MODE_PARAM_NAME} when manual control is desired.
      */
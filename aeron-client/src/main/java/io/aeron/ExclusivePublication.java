@@ -23,7 +23,11 @@ import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
 
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.TERM_ID_FIELD_OFFSET;
+import static io.aeron.protocol.DataHeaderFlyweight.TERM_OFFSET_FIELD_OFFSET;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
 
 /**
  * Aeron publisher API for sending messages to subscribers of a given channel and streamId pair. ExclusivePublications
@@ -293,6 +297,72 @@ public class ExclusivePublication extends Publication
         return newPosition;
     }
 
+    /**
+     * Offer a block of existing frames, such as a range of a recording, which is copied into the log with a single
+     * bulk copy rather than fragment by fragment. The session id and stream id of each frame are set to those of this
+     * publication while the flags and reserved value are retained.
+     * <p>
+     * The block must consist of whole frames which begin at the current position of the publication, i.e. the term
+     * id and term offset of the first frame must match, and must not span a term boundary.
+     *
+     * @param buffer containing the block of frames.
+     * @param offset in the buffer at which the first frame begins.
+     * @param length of the block in bytes which must be a multiple of {@link FrameDescriptor#FRAME_ALIGNMENT}.
+     * @return The new stream position, otherwise a negative error value of {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED}, or {@link #MAX_POSITION_EXCEEDED}.
+     * @throws IllegalArgumentException if the block is not aligned with the current position or spans a term.
+     */
+    public long offerBlock(final DirectBuffer buffer, final int offset, final int length)
+    {
+        long newPosition = CLOSED;
+
+        if (!isClosed)
+        {
+            if (termOffset >= termBufferLength)
+            {
+                newPosition = newPosition(ExclusiveTermAppender.FAILED);
+            }
+            else
+            {
+                final long limit = positionLimit.getVolatile();
+                final long position = termBeginPosition + termOffset;
+
+                if (position < limit)
+                {
+                    checkBlock(buffer, offset, length);
+                    final int result = termAppenders[activePartitionIndex].appendBlock(
+                        termId, termOffset, sessionId, streamId, buffer, offset, length);
+
+                    newPosition = newPosition(result);
+                }
+                else
+                {
+                    newPosition = backPressureStatus(position, length);
+                }
+            }
+        }
+
+        return newPosition;
+    }
+
+    private void checkBlock(final DirectBuffer buffer, final int offset, final int length)
+    {
+        if (length <= 0 || (length & (FRAME_ALIGNMENT - 1)) != 0 || length > (termBufferLength - termOffset))
+        {
+            throw new IllegalArgumentException(
+                "Invalid block length=" + length + " for termOffset=" + termOffset + " termLength=" + termBufferLength);
+        }
+
+        final int blockTermOffset = buffer.getInt(offset + TERM_OFFSET_FIELD_OFFSET, LITTLE_ENDIAN);
+        final int blockTermId = buffer.getInt(offset + TERM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+        if (blockTermOffset != termOffset || blockTermId != termId)
+        {
+            throw new IllegalArgumentException(
+                "Block not at publication position: expected termId=" + termId + " termOffset=" + termOffset +
+                " received termId=" + blockTermId + " termOffset=" + blockTermOffset);
+        }
+    }
+
     private long newPosition(final int resultingOffset)
     {
         if (resultingOffset > 0)
@@ -152,6 +152,27 @@ public class LogBuffers implements AutoCloseable, ManagedResource
         return buffers;
     }
 
+    /**
+     * Pre-touch the pages of the term buffers so they are faulted into the page tables of this process before use.
+     * <p>
+     * Each page is touched with an atomic compare and set of 0 to 0 so any data already appended to the log by
+     * another process is left unchanged.
+     */
+    public void preTouch()
+    {
+        final int pageSize = LogBufferDescriptor.pageSize(logMetaDataBuffer);
+
+        for (final ByteBuffer termBuffer : termBuffers)
+        {
+            final UnsafeBuffer buffer = new UnsafeBuffer(termBuffer);
+
+            for (int i = 0; i < termLength; i += pageSize)
+            {
+                buffer.compareAndSetInt(i, 0, 0);
+            }
+        }
+    }
+
     /**
      * Get the buffer which holds the log metadata.
      *
@@ -20,8 +20,21 @@ package io.aeron;
  */
 class MappedLogBuffersFactory implements LogBuffersFactory
 {
+    private final boolean preTouchMappedMemory;
+
+    MappedLogBuffersFactory(final boolean preTouchMappedMemory)
+    {
+        this.preTouchMappedMemory = preTouchMappedMemory;
+    }
+
     public LogBuffers map(final String logFileName)
     {
-        return new LogBuffers(logFileName);
+        final LogBuffers logBuffers = new LogBuffers(logFileName);
+        if (preTouchMappedMemory)
+        {
+            logBuffers.preTouch();
+        }
+
+        return logBuffers;
     }
 }
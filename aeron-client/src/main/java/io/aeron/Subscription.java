@@ -401,6 +401,41 @@ public class Subscription extends SubscriptionFields implements AutoCloseable
         return isClosed;
     }
 
+    /**
+     * Add a destination manually to a multi-destination Subscription.
+     * <p>
+     * The Subscription must have been created with a channel using control-mode=manual, e.g.
+     * "aeron:udp?control-mode=manual". All destinations for a session feed the same {@link Image} so the
+     * stream can be received redundantly over multiple network paths with the first arriving copy of each
+     * frame being used.
+     *
+     * @param endpointChannel for the destination to add.
+     */
+    public void addDestination(final String endpointChannel)
+    {
+        if (isClosed)
+        {
+            throw new IllegalStateException("Subscription is closed");
+        }
+
+        conductor.addRcvDestination(registrationId, endpointChannel);
+    }
+
+    /**
+     * Remove a previously added destination from a multi-destination Subscription.
+     *
+     * @param endpointChannel for the destination to remove.
+     */
+    public void removeDestination(final String endpointChannel)
+    {
+        if (isClosed)
+        {
+            throw new IllegalStateException("Subscription is closed");
+        }
+
+        conductor.removeRcvDestination(registrationId, endpointChannel);
+    }
+
     /**
      * Get the status of the media channel for this Subscription.
      * <p>
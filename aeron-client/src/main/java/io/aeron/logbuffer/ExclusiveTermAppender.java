@@ -24,9 +24,9 @@ import org.agrona.concurrent.UnsafeBuffer;
 import static io.aeron.logbuffer.FrameDescriptor.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.TERM_TAIL_COUNTERS_OFFSET;
 import static io.aeron.logbuffer.LogBufferDescriptor.packTail;
-import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
-import static io.aeron.protocol.DataHeaderFlyweight.RESERVED_VALUE_OFFSET;
+import static io.aeron.protocol.DataHeaderFlyweight.*;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.SIZE_OF_INT;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.agrona.BitUtil.align;
 
@@ -147,6 +147,58 @@ public class ExclusiveTermAppender
         return resultingOffset;
     }
 
+    /**
+     * Append a block of existing frames, such as those from a recording, to the term buffer with a single bulk copy.
+     * The session id, stream id, and term id of each frame are set for this log while the other header fields are
+     * retained. The first frame is published last so the block becomes visible atomically.
+     * <p>
+     * The block must consist of whole frames and fit within the remaining space in the term.
+     *
+     * @param termId     for the current term.
+     * @param termOffset in the term at which to append.
+     * @param sessionId  to be set in the header of each frame.
+     * @param streamId   to be set in the header of each frame.
+     * @param srcBuffer  containing the block of frames.
+     * @param srcOffset  at which the first frame begins.
+     * @param length     of the block in bytes.
+     * @return the resulting offset of the term after the append.
+     */
+    public int appendBlock(
+        final int termId,
+        final int termOffset,
+        final int sessionId,
+        final int streamId,
+        final DirectBuffer srcBuffer,
+        final int srcOffset,
+        final int length)
+    {
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int resultingOffset = termOffset + length;
+        final int firstFrameLength = srcBuffer.getInt(srcOffset, LITTLE_ENDIAN);
+
+        putRawTailOrdered(termId, resultingOffset);
+        termBuffer.putBytes(termOffset + SIZE_OF_INT, srcBuffer, srcOffset + SIZE_OF_INT, length - SIZE_OF_INT);
+
+        int frameLength = firstFrameLength;
+        int frameOffset = termOffset;
+        while (frameOffset < resultingOffset)
+        {
+            termBuffer.putInt(frameOffset + SESSION_ID_FIELD_OFFSET, sessionId, LITTLE_ENDIAN);
+            termBuffer.putInt(frameOffset + STREAM_ID_FIELD_OFFSET, streamId, LITTLE_ENDIAN);
+            termBuffer.putInt(frameOffset + TERM_ID_FIELD_OFFSET, termId, LITTLE_ENDIAN);
+
+            frameOffset += align(frameLength, FRAME_ALIGNMENT);
+            if (frameOffset < resultingOffset)
+            {
+                frameLength = frameLength(termBuffer, frameOffset);
+            }
+        }
+
+        frameLengthOrdered(termBuffer, termOffset, firstFrameLength);
+
+        return resultingOffset;
+    }
+
     /**
      * Append an unfragmented message to the the term buffer.
      *
@@ -100,4 +100,75 @@ public class TermGapScanner
 
         return gapBeginOffset;
     }
+
+    /**
+     * Scan for up to a maximum number of gaps from the scanOffset up to a limit offset. Each gap will be reported to
+     * the {@link GapHandler} in order of term offset so a selective NAK can request all of them at once.
+     *
+     * @param termBuffer  to be scanned for gaps.
+     * @param termId      of the current term buffer.
+     * @param termOffset  at which to start scanning.
+     * @param limitOffset at which to stop scanning.
+     * @param maxGaps     to be reported before the scan stops.
+     * @param handler     to call for each gap found.
+     * @return offset of last contiguous frame
+     */
+    public static int scanForGaps(
+        final UnsafeBuffer termBuffer,
+        final int termId,
+        final int termOffset,
+        final int limitOffset,
+        final int maxGaps,
+        final GapHandler handler)
+    {
+        int rebuildOffset = -1;
+        int gapCount = 0;
+        int offset = termOffset;
+
+        while (offset < limitOffset)
+        {
+            do
+            {
+                final int frameLength = frameLengthVolatile(termBuffer, offset);
+                if (frameLength <= 0)
+                {
+                    break;
+                }
+
+                offset += align(frameLength, FRAME_ALIGNMENT);
+            }
+            while (offset < limitOffset);
+
+            if (-1 == rebuildOffset)
+            {
+                rebuildOffset = offset;
+            }
+
+            if (offset >= limitOffset || gapCount >= maxGaps)
+            {
+                break;
+            }
+
+            final int gapBeginOffset = offset;
+            final int limit = limitOffset - ALIGNED_HEADER_LENGTH;
+            while (offset < limit)
+            {
+                offset += FRAME_ALIGNMENT;
+
+                if (0 != termBuffer.getIntVolatile(offset))
+                {
+                    offset -= ALIGNED_HEADER_LENGTH;
+                    break;
+                }
+            }
+
+            final int gapLength = (offset - gapBeginOffset) + ALIGNED_HEADER_LENGTH;
+            handler.onGap(termId, gapBeginOffset, gapLength);
+            gapCount++;
+
+            offset = gapBeginOffset + gapLength;
+        }
+
+        return -1 == rebuildOffset ? offset : rebuildOffset;
+    }
 }
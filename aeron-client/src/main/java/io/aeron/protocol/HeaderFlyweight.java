@@ -71,6 +71,11 @@ public class HeaderFlyweight extends UnsafeBuffer
      */
     public static final int HDR_TYPE_RTTM = 0x06;
 
+    /**
+     * header type FEC
+     */
+    public static final int HDR_TYPE_FEC = 0x07;
+
     /**
      * header type EXT
      */
@@ -24,6 +24,10 @@ import static java.nio.ByteOrder.LITTLE_ENDIAN;
 /**
  * Flyweight for a Nak Packet
  * <p>
+ * A selective NAK reports further gaps in the same term by appending ranges of term offset and length after the
+ * header, with the frame length covering the ranges. The first range is always held in the header fields so receivers
+ * which only understand a single range will still repair the first gap.
+ * <p>
  * <a href="https://github.com/real-logic/Aeron/wiki/Protocol-Specification#data-recovery-via-retransmit-request">
  * Data Recovery</a>
  */
@@ -31,11 +35,18 @@ public class NakFlyweight extends HeaderFlyweight
 {
     public static final int HEADER_LENGTH = 28;
 
+    /**
+     * Length of each additional range of term offset and length appended after the header in a selective NAK.
+     */
+    public static final int RANGE_LENGTH = 8;
+
     private static final int SESSION_ID_FIELD_OFFSET = 8;
     private static final int STREAM_ID_FIELD_OFFSET = 12;
     private static final int TERM_ID_FIELD_OFFSET = 16;
     private static final int TERM_OFFSET_FIELD_OFFSET = 20;
     private static final int LENGTH_FIELD_OFFSET = 24;
+    private static final int RANGE_TERM_OFFSET_FIELD_OFFSET = 0;
+    private static final int RANGE_LENGTH_FIELD_OFFSET = 4;
 
     public NakFlyweight()
     {
@@ -166,6 +177,75 @@ public class NakFlyweight extends HeaderFlyweight
         return this;
     }
 
+    /**
+     * Number of ranges in the NAK including the range held in the header fields.
+     *
+     * @return number of ranges in the NAK.
+     */
+    public int rangeCount()
+    {
+        return 1 + Math.max(0, (frameLength() - HEADER_LENGTH) / RANGE_LENGTH);
+    }
+
+    /**
+     * The term offset of a range in the NAK where range 0 is held in the {@link #termOffset()} field.
+     *
+     * @param index of the range.
+     * @return term offset of the range.
+     */
+    public int rangeTermOffset(final int index)
+    {
+        return 0 == index ? termOffset() : getInt(rangeOffset(index) + RANGE_TERM_OFFSET_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * The length of a range in the NAK where range 0 is held in the {@link #length()} field.
+     *
+     * @param index of the range.
+     * @return length of the range.
+     */
+    public int rangeLength(final int index)
+    {
+        return 0 == index ? length() : getInt(rangeOffset(index) + RANGE_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set a range in the NAK where range 0 is held in the {@link #termOffset()} and {@link #length()} fields.
+     * The frame length must be set separately to cover the ranges, see {@link #frameLengthForRanges(int)}.
+     *
+     * @param index      of the range.
+     * @param termOffset of the range.
+     * @param length     of the range.
+     * @return flyweight
+     */
+    public NakFlyweight range(final int index, final int termOffset, final int length)
+    {
+        if (0 == index)
+        {
+            termOffset(termOffset);
+            length(length);
+        }
+        else
+        {
+            final int offset = rangeOffset(index);
+            putInt(offset + RANGE_TERM_OFFSET_FIELD_OFFSET, termOffset, LITTLE_ENDIAN);
+            putInt(offset + RANGE_LENGTH_FIELD_OFFSET, length, LITTLE_ENDIAN);
+        }
+
+        return this;
+    }
+
+    /**
+     * The frame length of a NAK carrying a given number of ranges.
+     *
+     * @param rangeCount in the NAK including the range held in the header fields.
+     * @return the frame length of the NAK.
+     */
+    public static int frameLengthForRanges(final int rangeCount)
+    {
+        return HEADER_LENGTH + ((rangeCount - 1) * RANGE_LENGTH);
+    }
+
     public String toString()
     {
         final StringBuilder sb = new StringBuilder();
@@ -181,8 +261,14 @@ public class NakFlyweight extends HeaderFlyweight
             .append(" stream_id=").append(streamId())
             .append(" term_id=").append(termId())
             .append(" length=").append(length())
+            .append(" range_count=").append(rangeCount())
             .append("}");
 
         return sb.toString();
     }
+
+    private static int rangeOffset(final int index)
+    {
+        return HEADER_LENGTH + ((index - 1) * RANGE_LENGTH);
+    }
 }
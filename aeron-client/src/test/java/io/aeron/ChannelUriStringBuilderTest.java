@@ -104,4 +104,43 @@ public class ChannelUriStringBuilderTest
             builder.build(),
             is("aeron:udp?endpoint=address:9999|term-length=131072|init-term-id=777|term-id=999|term-offset=64"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGenerateUdpChannelWithMaxRetransmits()
+    {
+        final ChannelUriStringBuilder builder = new ChannelUriStringBuilder()
+            .media("udp")
+            .endpoint("224.10.9.7:7777")
+            .maxRetransmits(64);
+
+        assertThat(builder.build(), is("aeron:udp?endpoint=224.10.9.7:7777|max-retransmits=64"));
+    }
+
+    @Test
+    public void shouldGenerateUdpChannelWithFec()
+    {
+        final ChannelUriStringBuilder builder = new ChannelUriStringBuilder()
+            .media("udp")
+            .endpoint("localhost:40124")
+            .fec(8);
+
+        assertThat(builder.build(), is("aeron:udp?endpoint=localhost:40124|fec=8"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectFecGroupOfLessThanTwo()
+    {
+        new ChannelUriStringBuilder().fec(1);
+    }
+
+    @Test
+    public void shouldGenerateUdpChannelWithPacingRate()
+    {
+        final ChannelUriStringBuilder builder = new ChannelUriStringBuilder()
+            .media("udp")
+            .endpoint("localhost:40124")
+            .pacingRate(125_000_000L);
+
+        assertThat(builder.build(), is("aeron:udp?endpoint=localhost:40124|pacing-rate=125000000"));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LogBuffersTest
+{
+    private static final File LOG_DIR = new File(IoUtil.tmpDirName(), "aeron-log-buffers-test");
+    private static final int TERM_LENGTH = TERM_MIN_LENGTH;
+    private static final int PAGE_SIZE = PAGE_MIN_SIZE;
+    private static final int VALUE = 0xC0FFEE;
+
+    private final File logFile = new File(LOG_DIR, "test.logbuffer");
+    private LogBuffers logBuffers;
+
+    @Before
+    public void createLogFile()
+    {
+        IoUtil.ensureDirectoryExists(LOG_DIR, "log");
+
+        final long logLength = computeLogLength(TERM_LENGTH, PAGE_SIZE);
+        final MappedByteBuffer mappedBuffer = IoUtil.mapNewFile(logFile, logLength);
+        try
+        {
+            final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
+                mappedBuffer, (int)(logLength - LOG_META_DATA_LENGTH), LOG_META_DATA_LENGTH);
+            termLength(metaDataBuffer, TERM_LENGTH);
+            pageSize(metaDataBuffer, PAGE_SIZE);
+
+            new UnsafeBuffer(mappedBuffer).putInt(PAGE_SIZE, VALUE);
+        }
+        finally
+        {
+            IoUtil.unmap(mappedBuffer);
+        }
+    }
+
+    @After
+    public void cleanupFiles()
+    {
+        if (null != logBuffers)
+        {
+            logBuffers.close();
+        }
+
+        IoUtil.delete(LOG_DIR, false);
+    }
+
+    @Test
+    public void shouldMapUsableLogWhenPreTouchingMappedMemory()
+    {
+        final Aeron.Context ctx = new Aeron.Context().preTouchMappedMemory(true);
+        final LogBuffersFactory logBuffersFactory = new MappedLogBuffersFactory(ctx.preTouchMappedMemory());
+
+        logBuffers = logBuffersFactory.map(logFile.getAbsolutePath());
+
+        final UnsafeBuffer[] termBuffers = logBuffers.duplicateTermBuffers();
+        assertThat(termBuffers.length, is(PARTITION_COUNT));
+        assertThat(termBuffers[0].capacity(), is(TERM_LENGTH));
+        assertThat(termBuffers[0].getInt(PAGE_SIZE), is(VALUE));
+
+        for (final UnsafeBuffer termBuffer : termBuffers)
+        {
+            termBuffer.putIntOrdered(TERM_LENGTH - PAGE_SIZE, VALUE);
+            assertThat(termBuffer.getIntVolatile(TERM_LENGTH - PAGE_SIZE), is(VALUE));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.RESERVED_VALUE_OFFSET;
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ExclusiveTermAppenderTest
+{
+    private static final int TERM_BUFFER_LENGTH = TERM_MIN_LENGTH;
+    private static final int PARTITION_INDEX = 0;
+    private static final int TERM_ID = 7;
+    private static final int SESSION_ID = 1001;
+    private static final int STREAM_ID = 10;
+    private static final int SRC_SESSION_ID = 2002;
+    private static final int SRC_STREAM_ID = 20;
+    private static final int FRAME_LENGTH = 100;
+    private static final int ALIGNED_FRAME_LENGTH = 128;
+
+    private final UnsafeBuffer termBuffer = spy(new UnsafeBuffer(allocateDirect(TERM_BUFFER_LENGTH)));
+    private final UnsafeBuffer logMetaDataBuffer = new UnsafeBuffer(allocateDirect(LOG_META_DATA_LENGTH));
+    private final DataHeaderFlyweight headerFlyweight = new DataHeaderFlyweight();
+
+    private final ExclusiveTermAppender termAppender =
+        new ExclusiveTermAppender(termBuffer, logMetaDataBuffer, PARTITION_INDEX);
+
+    @Test
+    public void shouldAppendBlockOfFramesAndRewriteHeaders()
+    {
+        final int termOffset = 3 * ALIGNED_FRAME_LENGTH;
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(allocateDirect(4 * ALIGNED_FRAME_LENGTH));
+        final int blockLength = 3 * ALIGNED_FRAME_LENGTH;
+
+        for (int i = 0; i < 3; i++)
+        {
+            writeSourceFrame(srcBuffer, i * ALIGNED_FRAME_LENGTH, termOffset + (i * ALIGNED_FRAME_LENGTH), i);
+        }
+
+        final int resultingOffset = termAppender.appendBlock(
+            TERM_ID, termOffset, SESSION_ID, STREAM_ID, srcBuffer, 0, blockLength);
+
+        assertThat(resultingOffset, is(termOffset + blockLength));
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX), is(packTail(TERM_ID, resultingOffset)));
+
+        for (int i = 0; i < 3; i++)
+        {
+            final int frameOffset = termOffset + (i * ALIGNED_FRAME_LENGTH);
+
+            assertThat(frameLengthVolatile(termBuffer, frameOffset), is(FRAME_LENGTH));
+            assertThat(DataHeaderFlyweight.termOffset(termBuffer, frameOffset), is(frameOffset));
+            assertThat(DataHeaderFlyweight.sessionId(termBuffer, frameOffset), is(SESSION_ID));
+            assertThat(DataHeaderFlyweight.streamId(termBuffer, frameOffset), is(STREAM_ID));
+            assertThat(DataHeaderFlyweight.termId(termBuffer, frameOffset), is(TERM_ID));
+            assertThat(termBuffer.getLong(frameOffset + RESERVED_VALUE_OFFSET, LITTLE_ENDIAN), is((long)i));
+            assertThat(termBuffer.getByte(frameOffset + HEADER_LENGTH), is((byte)i));
+        }
+    }
+
+    @Test
+    public void shouldPublishFirstFrameLengthAfterCopyingBlock()
+    {
+        final int termOffset = 0;
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(allocateDirect(2 * ALIGNED_FRAME_LENGTH));
+        final int blockLength = 2 * ALIGNED_FRAME_LENGTH;
+
+        writeSourceFrame(srcBuffer, 0, termOffset, 0);
+        writeSourceFrame(srcBuffer, ALIGNED_FRAME_LENGTH, termOffset + ALIGNED_FRAME_LENGTH, 1);
+
+        termAppender.appendBlock(TERM_ID, termOffset, SESSION_ID, STREAM_ID, srcBuffer, 0, blockLength);
+
+        final InOrder inOrder = inOrder(termBuffer);
+        inOrder.verify(termBuffer)
+            .putBytes(termOffset + SIZE_OF_INT, srcBuffer, SIZE_OF_INT, blockLength - SIZE_OF_INT);
+        inOrder.verify(termBuffer).putIntOrdered(termOffset, FRAME_LENGTH);
+    }
+
+    private void writeSourceFrame(
+        final UnsafeBuffer srcBuffer, final int offset, final int termOffset, final int message)
+    {
+        headerFlyweight.wrap(srcBuffer, offset, HEADER_LENGTH);
+        headerFlyweight
+            .termOffset(termOffset)
+            .sessionId(SRC_SESSION_ID)
+            .streamId(SRC_STREAM_ID)
+            .termId(TERM_ID)
+            .reservedValue(message)
+            .frameLength(FRAME_LENGTH)
+            .headerType(DataHeaderFlyweight.HDR_TYPE_DATA)
+            .flags(UNFRAGMENTED)
+            .version(DataHeaderFlyweight.CURRENT_VERSION);
+
+        srcBuffer.putByte(offset + HEADER_LENGTH, (byte)message);
+    }
+}
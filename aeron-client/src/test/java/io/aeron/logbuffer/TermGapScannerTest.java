@@ -17,6 +17,7 @@ package io.aeron.logbuffer;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -101,4 +102,40 @@ public class TermGapScannerTest
 
         verifyZeroInteractions(gapHandler);
     }
+
+    @Test
+    public void shouldReportMultipleGapsInOrder()
+    {
+        final int alignedFrameLength = align(HEADER_LENGTH, FRAME_ALIGNMENT);
+        final int highWaterMark = alignedFrameLength * 6;
+
+        when(termBuffer.getIntVolatile(0)).thenReturn(HEADER_LENGTH);
+        when(termBuffer.getIntVolatile(alignedFrameLength * 2)).thenReturn(HEADER_LENGTH);
+        when(termBuffer.getIntVolatile(alignedFrameLength * 5)).thenReturn(HEADER_LENGTH);
+
+        assertThat(TermGapScanner.scanForGaps(termBuffer, TERM_ID, 0, highWaterMark, 16, gapHandler),
+            is(alignedFrameLength));
+
+        final InOrder inOrder = inOrder(gapHandler);
+        inOrder.verify(gapHandler).onGap(TERM_ID, alignedFrameLength, alignedFrameLength);
+        inOrder.verify(gapHandler).onGap(TERM_ID, alignedFrameLength * 3, alignedFrameLength * 2);
+        verifyNoMoreInteractions(gapHandler);
+    }
+
+    @Test
+    public void shouldReportNoMoreThanMaxGaps()
+    {
+        final int alignedFrameLength = align(HEADER_LENGTH, FRAME_ALIGNMENT);
+        final int highWaterMark = alignedFrameLength * 6;
+
+        when(termBuffer.getIntVolatile(0)).thenReturn(HEADER_LENGTH);
+        when(termBuffer.getIntVolatile(alignedFrameLength * 2)).thenReturn(HEADER_LENGTH);
+        when(termBuffer.getIntVolatile(alignedFrameLength * 5)).thenReturn(HEADER_LENGTH);
+
+        assertThat(TermGapScanner.scanForGaps(termBuffer, TERM_ID, 0, highWaterMark, 1, gapHandler),
+            is(alignedFrameLength));
+
+        verify(gapHandler).onGap(TERM_ID, alignedFrameLength, alignedFrameLength);
+        verifyNoMoreInteractions(gapHandler);
+    }
 }
@@ -15,6 +15,8 @@
  */
 package io.aeron.cluster;
 
+import io.aeron.Publication;
+
 /**
  * Represents a member of the cluster that participates in replication.
  */
@@ -26,6 +28,7 @@ public final class ClusterMember
     private final String clientFacingEndpoint;
     private final String memberFacingEndpoint;
     private final String logEndpoint;
+    private Publication publication;
 
     /**
      * Construct a new member of the cluster.
@@ -97,6 +100,26 @@ public final class ClusterMember
         return termPosition;
     }
 
+    /**
+     * The {@link Publication} used for sending member status messages to this member.
+     *
+     * @param publication used for sending member status messages to this member.
+     */
+    public void publication(final Publication publication)
+    {
+        this.publication = publication;
+    }
+
+    /**
+     * The {@link Publication} used for sending member status messages to this member.
+     *
+     * @return the {@link Publication} used for sending member status messages to this member or null if not connected.
+     */
+    public Publication publication()
+    {
+        return publication;
+    }
+
     /**
      * The address:port endpoint for this cluster member that clients will connect to.
      *
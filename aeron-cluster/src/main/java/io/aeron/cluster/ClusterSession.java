@@ -15,9 +15,8 @@
  */
 package io.aeron.cluster;
 
-import io.aeron.Aeron;
 import io.aeron.Publication;
-import org.agrona.CloseHelper;
+import io.aeron.cluster.service.ResponsePublicationCache;
 import org.agrona.collections.ArrayUtil;
 
 import java.util.Arrays;
@@ -39,9 +38,14 @@ class ClusterSession implements AutoCloseable
     private final int responseStreamId;
     private final String responseChannel;
     private Publication responsePublication;
+    private ResponsePublicationCache responsePublicationCache;
     private State state = State.INIT;
     private byte[] principalData = NULL_PRINCIPAL_DATA;
 
+    SessionActivityList activityList;
+    ClusterSession older;
+    ClusterSession newer;
+
     ClusterSession(final long sessionId, final int responseStreamId, final String responseChannel)
     {
         this.id = sessionId;
@@ -51,7 +55,7 @@ class ClusterSession implements AutoCloseable
 
     public void close()
     {
-        CloseHelper.close(responsePublication);
+        disconnect();
         state = State.CLOSED;
     }
 
@@ -70,20 +74,24 @@ class ClusterSession implements AutoCloseable
         return responseChannel;
     }
 
-    void connect(final Aeron aeron)
+    void connect(final ResponsePublicationCache responsePublicationCache)
     {
         if (null != responsePublication)
         {
             throw new IllegalStateException("Response publication already present");
         }
 
-        responsePublication = aeron.addExclusivePublication(responseChannel, responseStreamId);
+        this.responsePublicationCache = responsePublicationCache;
+        responsePublication = responsePublicationCache.acquire(responseChannel, responseStreamId);
     }
 
     void disconnect()
     {
-        CloseHelper.close(responsePublication);
-        responsePublication = null;
+        if (null != responsePublication)
+        {
+            responsePublicationCache.release(responseChannel, responseStreamId);
+            responsePublication = null;
+        }
     }
 
     Publication responsePublication()
@@ -127,6 +135,11 @@ class ClusterSession implements AutoCloseable
     {
         timeOfLastActivityMs = timeMs;
         lastCorrelationId = correlationId;
+
+        if (null != activityList)
+        {
+            activityList.onActivity(this);
+        }
     }
 
     long timeOfLastActivityMs()
@@ -137,6 +150,11 @@ class ClusterSession implements AutoCloseable
     void timeOfLastActivityMs(final long timeMs)
     {
         timeOfLastActivityMs = timeMs;
+
+        if (null != activityList)
+        {
+            activityList.onActivity(this);
+        }
     }
 
     long lastCorrelationId()
@@ -34,6 +34,7 @@ import static io.aeron.cluster.service.ClusteredServiceContainer.Configuration.S
 import static io.aeron.cluster.service.ClusteredServiceContainer.Configuration.SNAPSHOT_STREAM_ID_PROP_NAME;
 import static io.aeron.driver.status.SystemCounterDescriptor.SYSTEM_COUNTER_TYPE_ID;
 import static org.agrona.SystemUtil.getDurationInNanos;
+import static org.agrona.SystemUtil.getSizeAsInt;
 import static org.agrona.concurrent.status.CountersReader.METADATA_LENGTH;
 
 public class ConsensusModule implements AutoCloseable
@@ -154,7 +155,8 @@ public class ConsensusModule implements AutoCloseable
         this.ctx = ctx;
         ctx.conclude();
 
-        final SequencerAgent conductor = new SequencerAgent(ctx, new EgressPublisher(), new LogAppender());
+        final SequencerAgent conductor = new SequencerAgent(
+            ctx, new EgressPublisher(), new LogAppender(ctx.ingressBatchLength()));
 
         conductorRunner = new AgentRunner(ctx.idleStrategy(), ctx.errorHandler(), ctx.errorCounter(), conductor);
     }
@@ -220,8 +222,8 @@ public class ConsensusModule implements AutoCloseable
         public static final int CLUSTER_MEMBER_ID_DEFAULT = 0;
 
         /**
-         * Property name for the identity of the appointed leader. This is when automated leader elections are
-         * not employed.
+         * Property name for the identity of the appointed leader. The appointed leader nominates itself without
+         * delay in an election so it is favoured as leader when its log is as up to date as the other members.
          */
         public static final String APPOINTED_LEADER_ID_PROP_NAME = "aeron.cluster.appointed.leader.id";
 
@@ -266,6 +268,11 @@ public class ConsensusModule implements AutoCloseable
          */
         public static final String SESSION_REJECTED_MSG = "Session failed authentication";
 
+        /**
+         * Message detail to be sent when a batched ingress message could not be appended before the log closed.
+         */
+        public static final String SESSION_MESSAGE_LOST_MSG = "Ingress message not appended to log";
+
         /**
          * Channel to be used communicating cluster member status to each other. This can be used for default
          * configuration with the endpoints replaced with those provided by {@link #CLUSTER_MEMBERS_PROP_NAME}.
@@ -348,6 +355,17 @@ public class ConsensusModule implements AutoCloseable
          */
         public static final int MAX_CONCURRENT_SESSIONS_DEFAULT = 10;
 
+        /**
+         * Length in bytes of the batch into which ingress messages polled in a duty cycle are gathered before being
+         * appended to the log as a single block. A value of 0 appends each message individually.
+         */
+        public static final String INGRESS_BATCH_LENGTH_PROP_NAME = "aeron.cluster.ingress.batch.length";
+
+        /**
+         * Length in bytes of the ingress batch. Default to 0 so each message is appended individually.
+         */
+        public static final int INGRESS_BATCH_LENGTH_DEFAULT = 0;
+
         /**
          * Timeout for a session if no activity is observed.
          */
@@ -379,6 +397,18 @@ public class ConsensusModule implements AutoCloseable
          */
         public static final long HEARTBEAT_INTERVAL_DEFAULT_NS = TimeUnit.MILLISECONDS.toNanos(500);
 
+        /**
+         * Timeout for a ballot during an election after which a new nomination will take place. Candidates nominate
+         * themselves after a randomised delay of between half and the full timeout to reduce split votes.
+         */
+        public static final String ELECTION_TIMEOUT_PROP_NAME = "aeron.cluster.election.timeout";
+
+        /**
+         * Timeout for a ballot during an election after which a new nomination will take place.
+         * Default to 1 second in nanoseconds.
+         */
+        public static final long ELECTION_TIMEOUT_DEFAULT_NS = TimeUnit.SECONDS.toNanos(1);
+
         /**
          * Name of class to use as a supplier of {@link Authenticator} for the cluster.
          */
@@ -484,6 +514,18 @@ public class ConsensusModule implements AutoCloseable
             return Integer.getInteger(MAX_CONCURRENT_SESSIONS_PROP_NAME, MAX_CONCURRENT_SESSIONS_DEFAULT);
         }
 
+        /**
+         * The value {@link #INGRESS_BATCH_LENGTH_DEFAULT} or system property
+         * {@link #INGRESS_BATCH_LENGTH_PROP_NAME} if set.
+         *
+         * @return {@link #INGRESS_BATCH_LENGTH_DEFAULT} or system property
+         * {@link #INGRESS_BATCH_LENGTH_PROP_NAME} if set.
+         */
+        public static int ingressBatchLength()
+        {
+            return getSizeAsInt(INGRESS_BATCH_LENGTH_PROP_NAME, INGRESS_BATCH_LENGTH_DEFAULT);
+        }
+
         /**
          * Timeout for a session if no activity is observed.
          *
@@ -517,6 +559,17 @@ public class ConsensusModule implements AutoCloseable
             return getDurationInNanos(HEARTBEAT_INTERVAL_PROP_NAME, HEARTBEAT_INTERVAL_DEFAULT_NS);
         }
 
+        /**
+         * Timeout for a ballot during an election after which a new nomination will take place.
+         *
+         * @return timeout in nanoseconds for a ballot during an election.
+         * @see #ELECTION_TIMEOUT_PROP_NAME
+         */
+        public static long electionTimeoutNs()
+        {
+            return getDurationInNanos(ELECTION_TIMEOUT_PROP_NAME, ELECTION_TIMEOUT_DEFAULT_NS);
+        }
+
         /**
          * The value {@link #AUTHENTICATOR_SUPPLIER_DEFAULT} or system property
          * {@link #AUTHENTICATOR_SUPPLIER_PROP_NAME} if set.
@@ -585,6 +638,7 @@ public class ConsensusModule implements AutoCloseable
         private int logStreamId = ClusteredServiceContainer.Configuration.logStreamId();
         private String replayChannel = ClusteredServiceContainer.Configuration.replayChannel();
         private int replayStreamId = ClusteredServiceContainer.Configuration.replayStreamId();
+        private int replayFragmentLimit = ClusteredServiceContainer.Configuration.replayFragmentLimit();
         private String consensusModuleChannel = ClusteredServiceContainer.Configuration.consensusModuleChannel();
         private int consensusModuleStreamId = ClusteredServiceContainer.Configuration.consensusModuleStreamId();
         private String snapshotChannel = Configuration.snapshotChannel();
@@ -594,9 +648,11 @@ public class ConsensusModule implements AutoCloseable
 
         private int serviceCount = Configuration.serviceCount();
         private int maxConcurrentSessions = Configuration.maxConcurrentSessions();
+        private int ingressBatchLength = Configuration.ingressBatchLength();
         private long sessionTimeoutNs = Configuration.sessionTimeoutNs();
         private long heartbeatTimeoutNs = Configuration.leaderHeartbeatTimeoutNs();
         private long heartbeatIntervalNs = Configuration.leaderHeartbeatIntervalNs();
+        private long electionTimeoutNs = Configuration.electionTimeoutNs();
 
         private ThreadFactory threadFactory;
         private Supplier<IdleStrategy> idleStrategySupplier;
@@ -1055,6 +1111,30 @@ public class ConsensusModule implements AutoCloseable
             return replayStreamId;
         }
 
+        /**
+         * Set the fragment limit for each poll of the log when it is replayed during recovery.
+         *
+         * @param fragmentLimit for each poll of the log when it is replayed during recovery.
+         * @return this for a fluent API
+         * @see ClusteredServiceContainer.Configuration#REPLAY_FRAGMENT_LIMIT_PROP_NAME
+         */
+        public Context replayFragmentLimit(final int fragmentLimit)
+        {
+            replayFragmentLimit = fragmentLimit;
+            return this;
+        }
+
+        /**
+         * Get the fragment limit for each poll of the log when it is replayed during recovery.
+         *
+         * @return the fragment limit for each poll of the log when it is replayed during recovery.
+         * @see ClusteredServiceContainer.Configuration#REPLAY_FRAGMENT_LIMIT_PROP_NAME
+         */
+        public int replayFragmentLimit()
+        {
+            return replayFragmentLimit;
+        }
+
         /**
          * Set the channel parameter for sending messages to the Consensus Module.
          *
@@ -1247,6 +1327,32 @@ public class ConsensusModule implements AutoCloseable
             return maxConcurrentSessions;
         }
 
+        /**
+         * Set the length in bytes of the batch into which ingress messages polled in a duty cycle are gathered before
+         * being appended to the log as a single block.
+         *
+         * @param ingressBatchLength in bytes or 0 to append each message individually.
+         * @return this for a fluent API
+         * @see Configuration#INGRESS_BATCH_LENGTH_PROP_NAME
+         */
+        public Context ingressBatchLength(final int ingressBatchLength)
+        {
+            this.ingressBatchLength = ingressBatchLength;
+            return this;
+        }
+
+        /**
+         * Get the length in bytes of the batch into which ingress messages polled in a duty cycle are gathered before
+         * being appended to the log as a single block.
+         *
+         * @return the length in bytes of the ingress batch or 0 if each message is appended individually.
+         * @see Configuration#INGRESS_BATCH_LENGTH_PROP_NAME
+         */
+        public int ingressBatchLength()
+        {
+            return ingressBatchLength;
+        }
+
         /**
          * Timeout for a session if no activity is observed.
          *
@@ -1319,6 +1425,30 @@ public class ConsensusModule implements AutoCloseable
             return heartbeatIntervalNs;
         }
 
+        /**
+         * Timeout for a ballot during an election after which a new nomination will take place.
+         *
+         * @param electionTimeoutNs for a ballot during an election.
+         * @return this for a fluent API.
+         * @see Configuration#ELECTION_TIMEOUT_PROP_NAME
+         */
+        public Context electionTimeoutNs(final long electionTimeoutNs)
+        {
+            this.electionTimeoutNs = electionTimeoutNs;
+            return this;
+        }
+
+        /**
+         * Timeout for a ballot during an election after which a new nomination will take place.
+         *
+         * @return the timeout for a ballot during an election.
+         * @see Configuration#ELECTION_TIMEOUT_PROP_NAME
+         */
+        public long electionTimeoutNs()
+        {
+            return electionTimeoutNs;
+        }
+
         /**
          * Get the thread factory used for creating threads.
          *
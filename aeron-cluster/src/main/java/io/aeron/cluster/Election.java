@@ -0,0 +1,350 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.cluster;
+
+import io.aeron.cluster.service.Cluster;
+
+import java.util.Random;
+
+/**
+ * Election of a leader for a new leadership term which is driven by the {@link SequencerAgent} when a member has no
+ * leader, i.e. on startup or when heartbeats from the leader time out.
+ * <p>
+ * A member nominates itself as candidate after a randomised delay and requests votes from the other members with the
+ * leadership term and position of its last appended log entry. Members grant a single vote per leadership term, and
+ * only to a candidate with a log at least as up to date as their own, i.e. a later leadership term or the same term
+ * with a position at least as far on, so the elected leader holds all entries a quorum has appended. A
+ * candidate gaining votes from a quorum becomes leader and announces the term with a NewLeadershipTerm message. A
+ * ballot which does not complete within the election timeout results in a new nomination for a higher term.
+ * <p>
+ * Until followers can catch up or truncate their logs, a member only follows a new leader which announces the same
+ * log position as its own. A member which is behind or ahead rejects the term and remains a candidate.
+ */
+class Election
+{
+    enum State
+    {
+        NOMINATE, CANDIDATE_BALLOT, FOLLOWER_BALLOT, LEADER_READY, LEADER, FOLLOWER
+    }
+
+    private final int thisMemberId;
+    private final int appointedLeaderId;
+    private final long electionTimeoutMs;
+    private final long lastLogTermId;
+    private final long lastLogPosition;
+    private final ClusterMember[] clusterMembers;
+    private final boolean[] votes;
+    private final boolean[] announced;
+    private final MemberStatusPublisher memberStatusPublisher;
+    private final Random random;
+
+    private State state = State.NOMINATE;
+    private long leadershipTermId;
+    private long candidateTermId;
+    private long votedForTermId;
+    private long deadlineMs;
+    private long logPosition;
+    private int leaderMemberId = -1;
+
+    Election(
+        final int thisMemberId,
+        final int appointedLeaderId,
+        final long leadershipTermId,
+        final long lastLogTermId,
+        final long lastLogPosition,
+        final long electionTimeoutMs,
+        final ClusterMember[] clusterMembers,
+        final MemberStatusPublisher memberStatusPublisher,
+        final Random random,
+        final long nowMs)
+    {
+        this.thisMemberId = thisMemberId;
+        this.appointedLeaderId = appointedLeaderId;
+        this.leadershipTermId = leadershipTermId;
+        this.candidateTermId = leadershipTermId;
+        this.votedForTermId = leadershipTermId;
+        this.lastLogTermId = lastLogTermId;
+        this.lastLogPosition = lastLogPosition;
+        this.logPosition = lastLogPosition;
+        this.electionTimeoutMs = electionTimeoutMs;
+        this.clusterMembers = clusterMembers;
+        this.memberStatusPublisher = memberStatusPublisher;
+        this.random = random;
+        this.votes = new boolean[clusterMembers.length];
+        this.announced = new boolean[clusterMembers.length];
+
+        deadlineMs = nominationDeadline(nowMs);
+    }
+
+    int doWork(final long nowMs)
+    {
+        int workCount = 0;
+
+        switch (state)
+        {
+            case NOMINATE:
+                if (nowMs >= deadlineMs)
+                {
+                    workCount += nominate(nowMs);
+                }
+                break;
+
+            case CANDIDATE_BALLOT:
+                workCount += requestVotes();
+                if (nowMs >= deadlineMs)
+                {
+                    state = State.NOMINATE;
+                    deadlineMs = nominationDeadline(nowMs);
+                }
+                break;
+
+            case FOLLOWER_BALLOT:
+                if (nowMs >= deadlineMs)
+                {
+                    state = State.NOMINATE;
+                    deadlineMs = nominationDeadline(nowMs);
+                }
+                break;
+
+            case LEADER_READY:
+                workCount += announceLeadership(nowMs);
+                break;
+        }
+
+        return workCount;
+    }
+
+    void onRequestVote(
+        final long candidateTermId,
+        final long lastLogTermId,
+        final long lastLogPosition,
+        final int candidateMemberId,
+        final long nowMs)
+    {
+        final boolean isVoteGranted = isActive() &&
+            candidateTermId > votedForTermId &&
+            isLogUpToDate(lastLogTermId, lastLogPosition);
+
+        if (isVoteGranted)
+        {
+            votedForTermId = candidateTermId;
+            state = State.FOLLOWER_BALLOT;
+            deadlineMs = nowMs + electionTimeoutMs;
+        }
+
+        memberStatusPublisher.vote(
+            clusterMembers[candidateMemberId].publication(),
+            candidateTermId,
+            candidateMemberId,
+            thisMemberId,
+            isVoteGranted);
+    }
+
+    void onVote(
+        final long candidateTermId, final int candidateMemberId, final int followerMemberId, final boolean vote)
+    {
+        if (State.CANDIDATE_BALLOT == state &&
+            candidateTermId == this.candidateTermId &&
+            candidateMemberId == thisMemberId &&
+            vote)
+        {
+            votes[followerMemberId] = true;
+
+            if (voteCount() >= ClusterMember.quorumThreshold(clusterMembers.length))
+            {
+                becomeLeader();
+            }
+        }
+    }
+
+    void onNewLeadershipTerm(final long leadershipTermId, final long logPosition, final int leaderMemberId)
+    {
+        if (isActive() &&
+            leaderMemberId != thisMemberId &&
+            leadershipTermId >= this.leadershipTermId &&
+            logPosition == lastLogPosition)
+        {
+            this.leadershipTermId = leadershipTermId;
+            this.logPosition = logPosition;
+            this.leaderMemberId = leaderMemberId;
+            votedForTermId = Math.max(votedForTermId, leadershipTermId);
+            state = State.FOLLOWER;
+        }
+    }
+
+    boolean isDone()
+    {
+        return State.LEADER == state || State.FOLLOWER == state;
+    }
+
+    State state()
+    {
+        return state;
+    }
+
+    Cluster.Role role()
+    {
+        switch (state)
+        {
+            case LEADER:
+                return Cluster.Role.LEADER;
+
+            case FOLLOWER:
+                return Cluster.Role.FOLLOWER;
+
+            default:
+                return Cluster.Role.CANDIDATE;
+        }
+    }
+
+    long leadershipTermId()
+    {
+        return leadershipTermId;
+    }
+
+    int leaderMemberId()
+    {
+        return leaderMemberId;
+    }
+
+    long logPosition()
+    {
+        return logPosition;
+    }
+
+    private boolean isActive()
+    {
+        return State.LEADER != state && State.LEADER_READY != state;
+    }
+
+    private int nominate(final long nowMs)
+    {
+        candidateTermId = Math.max(candidateTermId, votedForTermId) + 1;
+        votedForTermId = candidateTermId;
+
+        for (int i = 0; i < votes.length; i++)
+        {
+            votes[i] = false;
+            announced[i] = false;
+        }
+        votes[thisMemberId] = true;
+        announced[thisMemberId] = true;
+
+        if (voteCount() >= ClusterMember.quorumThreshold(clusterMembers.length))
+        {
+            becomeLeader();
+            return 1;
+        }
+
+        state = State.CANDIDATE_BALLOT;
+        deadlineMs = nowMs + electionTimeoutMs;
+
+        return requestVotes() + 1;
+    }
+
+    private int requestVotes()
+    {
+        int workCount = 0;
+
+        for (final ClusterMember member : clusterMembers)
+        {
+            final int memberId = member.id();
+            if (!announced[memberId] && memberStatusPublisher.requestVote(
+                member.publication(), candidateTermId, lastLogTermId, lastLogPosition, thisMemberId))
+            {
+                announced[memberId] = true;
+                workCount++;
+            }
+        }
+
+        return workCount;
+    }
+
+    private void becomeLeader()
+    {
+        leadershipTermId = candidateTermId;
+        leaderMemberId = thisMemberId;
+        state = State.LEADER_READY;
+
+        for (int i = 0; i < announced.length; i++)
+        {
+            announced[i] = i == thisMemberId;
+        }
+    }
+
+    private int announceLeadership(final long nowMs)
+    {
+        int workCount = 0;
+        boolean isAnnouncedToVoters = true;
+
+        for (final ClusterMember member : clusterMembers)
+        {
+            final int memberId = member.id();
+            if (!announced[memberId])
+            {
+                if (memberStatusPublisher.newLeadershipTerm(
+                    member.publication(), leadershipTermId, lastLogPosition, thisMemberId))
+                {
+                    announced[memberId] = true;
+                    workCount++;
+                }
+                else if (votes[memberId])
+                {
+                    isAnnouncedToVoters = false;
+                }
+            }
+        }
+
+        if (isAnnouncedToVoters || nowMs >= deadlineMs)
+        {
+            state = State.LEADER;
+        }
+
+        return workCount;
+    }
+
+    private boolean isLogUpToDate(final long candidateLogTermId, final long candidateLogPosition)
+    {
+        return candidateLogTermId > lastLogTermId ||
+            (candidateLogTermId == lastLogTermId && candidateLogPosition >= lastLogPosition);
+    }
+
+    private int voteCount()
+    {
+        int count = 0;
+        for (final boolean vote : votes)
+        {
+            if (vote)
+            {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private long nominationDeadline(final long nowMs)
+    {
+        if (thisMemberId == appointedLeaderId)
+        {
+            return nowMs;
+        }
+
+        final long halfTimeoutMs = electionTimeoutMs / 2;
+
+        return nowMs + halfTimeoutMs + (long)(random.nextDouble() * halfTimeoutMs);
+    }
+}
@@ -34,6 +34,7 @@ final class LogAdapter implements ControlledFragmentHandler
 
     private final ImageControlledFragmentAssembler fragmentAssembler = new ImageControlledFragmentAssembler(this);
     private final Image image;
+    private final int fragmentLimit;
     private final SequencerAgent sequencerAgent;
     private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
     private final SessionOpenEventDecoder openEventDecoder = new SessionOpenEventDecoder();
@@ -43,8 +44,14 @@ final class LogAdapter implements ControlledFragmentHandler
     private final ClusterActionRequestDecoder actionRequestDecoder = new ClusterActionRequestDecoder();
 
     LogAdapter(final Image image, final SequencerAgent sequencerAgent)
+    {
+        this(image, FRAGMENT_LIMIT, sequencerAgent);
+    }
+
+    LogAdapter(final Image image, final int fragmentLimit, final SequencerAgent sequencerAgent)
     {
         this.image = image;
+        this.fragmentLimit = fragmentLimit;
         this.sequencerAgent = sequencerAgent;
     }
 
@@ -55,7 +62,7 @@ final class LogAdapter implements ControlledFragmentHandler
 
     int poll(final long boundPosition)
     {
-        return image.boundedControlledPoll(fragmentAssembler, boundPosition, FRAGMENT_LIMIT);
+        return image.boundedControlledPoll(fragmentAssembler, boundPosition, fragmentLimit);
     }
 
     public Action onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
@@ -17,15 +17,38 @@ package io.aeron.cluster;
 
 import io.aeron.Aeron;
 import io.aeron.ChannelUri;
+import io.aeron.ExclusivePublication;
 import io.aeron.Publication;
 import io.aeron.archive.client.AeronArchive;
 import io.aeron.archive.codecs.SourceLocation;
 import io.aeron.cluster.codecs.*;
 import io.aeron.logbuffer.BufferClaim;
+import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
-
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.util.function.LongConsumer;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.FrameDescriptor.UNFRAGMENTED;
+import static io.aeron.logbuffer.FrameDescriptor.lengthOffset;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Appends events and ingress messages to the log of the cluster.
+ * <p>
+ * When an ingress batch length is configured then session messages are gathered into a batch of whole data frames,
+ * each with its own {@link SessionHeaderEncoder}, and appended to the log as a single block with
+ * {@link ExclusivePublication#offerBlock(DirectBuffer, int, int)} when {@link #flush()} is called at the end of a duty
+ * cycle. Any pending batch is flushed before other events are appended so the order of the log is retained, and
+ * before the publication is closed on {@link #disconnect(LongConsumer)}.
+ */
 class LogAppender
 {
     private static final int SEND_ATTEMPTS = 3;
@@ -37,9 +60,26 @@ class LogAppender
     private final ClusterActionRequestEncoder actionRequestEncoder = new ClusterActionRequestEncoder();
     private final ExpandableArrayBuffer expandableArrayBuffer = new ExpandableArrayBuffer();
     private final BufferClaim bufferClaim = new BufferClaim();
-    private Publication publication;
+    private final DataHeaderFlyweight dataHeader = new DataHeaderFlyweight();
+    private final SessionHeaderDecoder sessionHeaderDecoder = new SessionHeaderDecoder();
+    private final UnsafeBuffer batchBuffer;
+    private int batchOffset = 0;
+    private int batchLimit = 0;
+    private ExclusivePublication publication;
     private String recordingChannel;
 
+    LogAppender()
+    {
+        this(0);
+    }
+
+    LogAppender(final int ingressBatchLength)
+    {
+        final int batchLength = BitUtil.align(ingressBatchLength, FRAME_ALIGNMENT);
+        batchBuffer = batchLength > 0 ?
+            new UnsafeBuffer(BufferUtil.allocateDirectAligned(batchLength, FRAME_ALIGNMENT)) : null;
+    }
+
     public int connect(final Aeron aeron, final AeronArchive aeronArchive, final String channel, final int streamId)
     {
         if (null != publication)
@@ -55,13 +95,36 @@ class LogAppender
         return sessionId;
     }
 
-    public void disconnect()
+    /**
+     * Flush any pending batch of session messages and close the publication. The cluster session id of each
+     * batched message which could not be appended is passed to the handler so the session can be failed.
+     *
+     * @param lostMessageHandler to be notified of the cluster session id for each message not appended.
+     */
+    public void disconnect(final LongConsumer lostMessageHandler)
     {
         if (null != publication)
         {
+            boolean isFlushed = false;
+            try
+            {
+                isFlushed = flush();
+            }
+            catch (final IllegalStateException ignore)
+            {
+            }
+
+            if (!isFlushed)
+            {
+                forEachPendingSessionId(lostMessageHandler);
+            }
+
             publication.close();
             publication = null;
         }
+
+        batchOffset = 0;
+        batchLimit = 0;
     }
 
     public int sessionId()
@@ -86,6 +149,18 @@ class LogAppender
 
     public boolean appendMessage(final DirectBuffer buffer, final int offset, final int length, final long nowMs)
     {
+        if (null != batchBuffer &&
+            length <= publication.maxPayloadLength() &&
+            BitUtil.align(HEADER_LENGTH + length, FRAME_ALIGNMENT) <= batchBuffer.capacity())
+        {
+            return batchMessage(buffer, offset, length, nowMs);
+        }
+
+        if (!flush())
+        {
+            return false;
+        }
+
         final int timestampOffset =
             offset + MessageHeaderEncoder.ENCODED_LENGTH + SessionHeaderEncoder.timestampEncodingOffset();
 
@@ -124,6 +199,11 @@ class LogAppender
 
         final int length = connectEventEncoder.encodedLength() + MessageHeaderEncoder.ENCODED_LENGTH;
 
+        if (!flush())
+        {
+            return Publication.BACK_PRESSURED;
+        }
+
         int attempts = SEND_ATTEMPTS;
         do
         {
@@ -144,6 +224,11 @@ class LogAppender
     {
         final int length = MessageHeaderEncoder.ENCODED_LENGTH + SessionCloseEventEncoder.BLOCK_LENGTH;
 
+        if (!flush())
+        {
+            return false;
+        }
+
         int attempts = SEND_ATTEMPTS;
         do
         {
@@ -172,6 +257,11 @@ class LogAppender
     {
         final int length = MessageHeaderEncoder.ENCODED_LENGTH + TimerEventEncoder.BLOCK_LENGTH;
 
+        if (!flush())
+        {
+            return false;
+        }
+
         int attempts = SEND_ATTEMPTS;
         do
         {
@@ -200,6 +290,11 @@ class LogAppender
     {
         final int length = MessageHeaderEncoder.ENCODED_LENGTH + ClusterActionRequestEncoder.BLOCK_LENGTH;
 
+        if (!flush())
+        {
+            return false;
+        }
+
         int attempts = SEND_ATTEMPTS;
         do
         {
@@ -225,6 +320,118 @@ class LogAppender
         return false;
     }
 
+    /**
+     * Append any pending batch of session messages to the log.
+     *
+     * @return true if there is no batch pending after the attempt, otherwise false if back pressured.
+     */
+    public boolean flush()
+    {
+        int attempts = SEND_ATTEMPTS;
+        while (batchOffset < batchLimit)
+        {
+            final long position = publication.position();
+            final int termBufferLength = publication.termBufferLength();
+            final int termOffset = (int)(position & (termBufferLength - 1));
+            final int blockLength = batchLimit - batchOffset;
+            final long result;
+
+            if (blockLength <= (termBufferLength - termOffset))
+            {
+                final int positionBitsToShift = LogBufferDescriptor.positionBitsToShift(termBufferLength);
+                final int termId = LogBufferDescriptor.computeTermIdFromPosition(
+                    position, positionBitsToShift, publication.initialTermId());
+
+                int frameOffset = batchOffset;
+                while (frameOffset < batchLimit)
+                {
+                    dataHeader.wrap(batchBuffer, frameOffset, HEADER_LENGTH);
+                    dataHeader.termOffset(termOffset + (frameOffset - batchOffset)).termId(termId);
+                    frameOffset += BitUtil.align(dataHeader.frameLength(), FRAME_ALIGNMENT);
+                }
+
+                result = publication.offerBlock(batchBuffer, batchOffset, blockLength);
+                if (result > 0)
+                {
+                    batchOffset = batchLimit;
+                    break;
+                }
+            }
+            else
+            {
+                final int frameLength = batchBuffer.getInt(lengthOffset(batchOffset), LITTLE_ENDIAN);
+                result = publication.offer(batchBuffer, batchOffset + HEADER_LENGTH, frameLength - HEADER_LENGTH);
+                if (result > 0)
+                {
+                    batchOffset += BitUtil.align(frameLength, FRAME_ALIGNMENT);
+                    attempts = SEND_ATTEMPTS;
+                    continue;
+                }
+            }
+
+            checkResult(result);
+            if (--attempts <= 0)
+            {
+                return false;
+            }
+        }
+
+        batchOffset = 0;
+        batchLimit = 0;
+
+        return true;
+    }
+
+    private boolean batchMessage(final DirectBuffer buffer, final int offset, final int length, final long nowMs)
+    {
+        final int frameLength = HEADER_LENGTH + length;
+        final int alignedFrameLength = BitUtil.align(frameLength, FRAME_ALIGNMENT);
+
+        if (batchLimit + alignedFrameLength > batchBuffer.capacity() && !flush())
+        {
+            return false;
+        }
+
+        final int frameOffset = batchLimit;
+        dataHeader.wrap(batchBuffer, frameOffset, HEADER_LENGTH);
+        dataHeader
+            .sessionId(0)
+            .streamId(0)
+            .reservedValue(0)
+            .frameLength(frameLength)
+            .headerType(DataHeaderFlyweight.HDR_TYPE_DATA)
+            .flags(UNFRAGMENTED)
+            .version(DataHeaderFlyweight.CURRENT_VERSION);
+
+        final int messageOffset = frameOffset + HEADER_LENGTH;
+        batchBuffer.putBytes(messageOffset, buffer, offset, length);
+        batchBuffer.putLong(
+            messageOffset + MessageHeaderEncoder.ENCODED_LENGTH + SessionHeaderEncoder.timestampEncodingOffset(),
+            nowMs,
+            SessionHeaderEncoder.BYTE_ORDER);
+
+        batchLimit += alignedFrameLength;
+
+        return true;
+    }
+
+    private void forEachPendingSessionId(final LongConsumer consumer)
+    {
+        int frameOffset = batchOffset;
+        while (frameOffset < batchLimit)
+        {
+            final int frameLength = batchBuffer.getInt(lengthOffset(frameOffset), LITTLE_ENDIAN);
+            sessionHeaderDecoder.wrap(
+                batchBuffer,
+                frameOffset + HEADER_LENGTH + MessageHeaderDecoder.ENCODED_LENGTH,
+                SessionHeaderDecoder.BLOCK_LENGTH,
+                SessionHeaderDecoder.SCHEMA_VERSION);
+
+            consumer.accept(sessionHeaderDecoder.clusterSessionId());
+            frameOffset += BitUtil.align(frameLength, FRAME_ALIGNMENT);
+        }
+    }
+
     private static void checkResult(final long result)
     {
         if (result == Publication.NOT_CONNECTED ||
@@ -31,6 +31,9 @@ class MemberStatusAdapter implements FragmentHandler, AutoCloseable
     private final AppliedPositionDecoder appliedPositionDecoder = new AppliedPositionDecoder();
     private final AppendedPositionDecoder appendedPositionDecoder = new AppendedPositionDecoder();
     private final CommitPositionDecoder commitPositionDecoder = new CommitPositionDecoder();
+    private final RequestVoteDecoder requestVoteDecoder = new RequestVoteDecoder();
+    private final VoteDecoder voteDecoder = new VoteDecoder();
+    private final NewLeadershipTermDecoder newLeadershipTermDecoder = new NewLeadershipTermDecoder();
 
     private final FragmentAssembler fragmentAssembler = new FragmentAssembler(this);
     private final Subscription subscription;
@@ -99,6 +102,47 @@ class MemberStatusAdapter implements FragmentHandler, AutoCloseable
                     commitPositionDecoder.logSessionId());
                 break;
 
+            case RequestVoteDecoder.TEMPLATE_ID:
+                requestVoteDecoder.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    messageHeaderDecoder.blockLength(),
+                    messageHeaderDecoder.version());
+
+                sequencerAgent.onRequestVote(
+                    requestVoteDecoder.candidateTermId(),
+                    requestVoteDecoder.lastLogTermId(),
+                    requestVoteDecoder.lastLogPosition(),
+                    requestVoteDecoder.candidateMemberId());
+                break;
+
+            case VoteDecoder.TEMPLATE_ID:
+                voteDecoder.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    messageHeaderDecoder.blockLength(),
+                    messageHeaderDecoder.version());
+
+                sequencerAgent.onVote(
+                    voteDecoder.candidateTermId(),
+                    voteDecoder.candidateMemberId(),
+                    voteDecoder.followerMemberId(),
+                    voteDecoder.vote() == BooleanType.TRUE);
+                break;
+
+            case NewLeadershipTermDecoder.TEMPLATE_ID:
+                newLeadershipTermDecoder.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    messageHeaderDecoder.blockLength(),
+                    messageHeaderDecoder.version());
+
+                sequencerAgent.onNewLeadershipTerm(
+                    newLeadershipTermDecoder.leadershipTermId(),
+                    newLeadershipTermDecoder.logPosition(),
+                    newLeadershipTermDecoder.leaderMemberId());
+                break;
+
             default:
                 throw new IllegalStateException("Unknown template id: " + templateId);
         }
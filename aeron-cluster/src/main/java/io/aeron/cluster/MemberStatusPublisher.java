@@ -28,21 +28,18 @@ class MemberStatusPublisher
     private final AppliedPositionEncoder appliedPositionEncoder = new AppliedPositionEncoder();
     private final AppendedPositionEncoder appendedPositionEncoder = new AppendedPositionEncoder();
     private final CommitPositionEncoder commitPositionEncoder = new CommitPositionEncoder();
+    private final RequestVoteEncoder requestVoteEncoder = new RequestVoteEncoder();
+    private final VoteEncoder voteEncoder = new VoteEncoder();
+    private final NewLeadershipTermEncoder newLeadershipTermEncoder = new NewLeadershipTermEncoder();
 
-    private Publication publication;
-
-    public Publication publication()
-    {
-        return publication;
-    }
-
-    public void publication(final Publication publication)
+    public boolean appliedPosition(
+        final Publication publication, final long termPosition, final long leadershipTermId, final int memberId)
     {
-        this.publication = publication;
-    }
+        if (null == publication)
+        {
+            return true;
+        }
 
-    public boolean appliedPosition(final long termPosition, final long leadershipTermId, final int memberId)
-    {
         final int length = MessageHeaderEncoder.ENCODED_LENGTH + AppliedPositionEncoder.BLOCK_LENGTH;
 
         int attempts = SEND_ATTEMPTS;
@@ -69,8 +66,14 @@ class MemberStatusPublisher
         return false;
     }
 
-    public boolean appendedPosition(final long termPosition, final long leadershipTermId, final int memberId)
+    public boolean appendedPosition(
+        final Publication publication, final long termPosition, final long leadershipTermId, final int memberId)
     {
+        if (null == publication)
+        {
+            return true;
+        }
+
         final int length = MessageHeaderEncoder.ENCODED_LENGTH + AppendedPositionEncoder.BLOCK_LENGTH;
 
         int attempts = SEND_ATTEMPTS;
@@ -98,7 +101,11 @@ class MemberStatusPublisher
     }
 
     public boolean commitPosition(
-        final long termPosition, final long leadershipTermId, final int leaderMemberId, final int logSessionId)
+        final Publication publication,
+        final long termPosition,
+        final long leadershipTermId,
+        final int leaderMemberId,
+        final int logSessionId)
     {
         if (null == publication)
         {
@@ -132,6 +139,121 @@ class MemberStatusPublisher
         return false;
     }
 
+    public boolean requestVote(
+        final Publication publication,
+        final long candidateTermId,
+        final long lastLogTermId,
+        final long lastLogPosition,
+        final int candidateMemberId)
+    {
+        if (null == publication)
+        {
+            return true;
+        }
+
+        final int length = MessageHeaderEncoder.ENCODED_LENGTH + RequestVoteEncoder.BLOCK_LENGTH;
+
+        int attempts = SEND_ATTEMPTS;
+        do
+        {
+            final long result = publication.tryClaim(length, bufferClaim);
+            if (result > 0)
+            {
+                requestVoteEncoder
+                    .wrapAndApplyHeader(bufferClaim.buffer(), bufferClaim.offset(), messageHeaderEncoder)
+                    .candidateTermId(candidateTermId)
+                    .lastLogTermId(lastLogTermId)
+                    .lastLogPosition(lastLogPosition)
+                    .candidateMemberId(candidateMemberId);
+
+                bufferClaim.commit();
+
+                return true;
+            }
+
+            checkResult(result);
+        }
+        while (--attempts > 0);
+
+        return false;
+    }
+
+    public boolean vote(
+        final Publication publication,
+        final long candidateTermId,
+        final int candidateMemberId,
+        final int followerMemberId,
+        final boolean vote)
+    {
+        if (null == publication)
+        {
+            return true;
+        }
+
+        final int length = MessageHeaderEncoder.ENCODED_LENGTH + VoteEncoder.BLOCK_LENGTH;
+
+        int attempts = SEND_ATTEMPTS;
+        do
+        {
+            final long result = publication.tryClaim(length, bufferClaim);
+            if (result > 0)
+            {
+                voteEncoder
+                    .wrapAndApplyHeader(bufferClaim.buffer(), bufferClaim.offset(), messageHeaderEncoder)
+                    .candidateTermId(candidateTermId)
+                    .candidateMemberId(candidateMemberId)
+                    .followerMemberId(followerMemberId)
+                    .vote(vote ? BooleanType.TRUE : BooleanType.FALSE);
+
+                bufferClaim.commit();
+
+                return true;
+            }
+
+            checkResult(result);
+        }
+        while (--attempts > 0);
+
+        return false;
+    }
+
+    public boolean newLeadershipTerm(
+        final Publication publication,
+        final long leadershipTermId,
+        final long logPosition,
+        final int leaderMemberId)
+    {
+        if (null == publication)
+        {
+            return true;
+        }
+
+        final int length = MessageHeaderEncoder.ENCODED_LENGTH + NewLeadershipTermEncoder.BLOCK_LENGTH;
+
+        int attempts = SEND_ATTEMPTS;
+        do
+        {
+            final long result = publication.tryClaim(length, bufferClaim);
+            if (result > 0)
+            {
+                newLeadershipTermEncoder
+                    .wrapAndApplyHeader(bufferClaim.buffer(), bufferClaim.offset(), messageHeaderEncoder)
+                    .leadershipTermId(leadershipTermId)
+                    .logPosition(logPosition)
+                    .leaderMemberId(leaderMemberId);
+
+                bufferClaim.commit();
+
+                return true;
+            }
+
+            checkResult(result);
+        }
+        while (--attempts > 0);
+
+        return false;
+    }
+
     private static void checkResult(final long result)
     {
         if (result == Publication.CLOSED || result == Publication.MAX_POSITION_EXCEEDED)
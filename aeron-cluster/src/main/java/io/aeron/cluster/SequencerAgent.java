@@ -32,13 +32,14 @@ import org.agrona.concurrent.*;
 import org.agrona.concurrent.status.CountersReader;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import static io.aeron.CommonContext.ENDPOINT_PARAM_NAME;
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
 import static io.aeron.cluster.ClusterSession.State.*;
+import static io.aeron.cluster.ConsensusModule.Configuration.SESSION_MESSAGE_LOST_MSG;
 import static io.aeron.cluster.ConsensusModule.Configuration.SESSION_TIMEOUT_MSG;
 import static io.aeron.cluster.ConsensusModule.SNAPSHOT_TYPE_ID;
 
@@ -52,6 +53,7 @@ class SequencerAgent implements Agent
     private final long sessionTimeoutMs;
     private final long heartbeatIntervalMs;
     private final long heartbeatTimeoutMs;
+    private final long electionTimeoutMs;
     private long nextSessionId = 1;
     private long baseLogPosition = 0;
     private long leadershipTermId = -1;
@@ -60,6 +62,7 @@ class SequencerAgent implements Agent
     private long followerCommitPosition = 0;
     private ReadableCounter logRecordingPosition;
     private Counter commitPosition;
+    private Counter recoveryStateCounter;
     private ConsensusModule.State state = ConsensusModule.State.INIT;
     private Cluster.Role role;
     private ClusterMember[] clusterMembers;
@@ -78,9 +81,15 @@ class SequencerAgent implements Agent
     private LogAdapter logAdapter;
     private final MemberStatusAdapter memberStatusAdapter;
     private final MemberStatusPublisher memberStatusPublisher = new MemberStatusPublisher();
+    private final Random random = new Random();
+    private Election election;
+    private AeronArchive archive;
     private final Long2ObjectHashMap<ClusterSession> sessionByIdMap = new Long2ObjectHashMap<>();
     private final ArrayList<ClusterSession> pendingSessions = new ArrayList<>();
     private final ArrayList<ClusterSession> rejectedSessions = new ArrayList<>();
+    private final ArrayList<ClusterSession> openingSessions = new ArrayList<>();
+    private final SessionActivityList sessionActivityList = new SessionActivityList();
+    private final ResponsePublicationCache responsePublicationCache;
     private final Authenticator authenticator;
     private final SessionProxy sessionProxy;
     private final Aeron aeron;
@@ -96,11 +105,13 @@ class SequencerAgent implements Agent
     {
         this.ctx = ctx;
         this.aeron = ctx.aeron();
+        this.responsePublicationCache = new ResponsePublicationCache(aeron);
         this.epochClock = ctx.epochClock();
         this.cachedEpochClock = ctx.cachedEpochClock();
         this.sessionTimeoutMs = TimeUnit.NANOSECONDS.toMillis(ctx.sessionTimeoutNs());
         this.heartbeatIntervalMs = TimeUnit.NANOSECONDS.toMillis(ctx.heartbeatIntervalNs());
         this.heartbeatTimeoutMs = TimeUnit.NANOSECONDS.toMillis(ctx.heartbeatTimeoutNs());
+        this.electionTimeoutMs = TimeUnit.NANOSECONDS.toMillis(ctx.electionTimeoutNs());
         this.egressPublisher = egressPublisher;
         this.moduleState = ctx.moduleStateCounter();
         this.controlToggle = ctx.controlToggleCounter();
@@ -140,15 +151,21 @@ class SequencerAgent implements Agent
 
     public void onClose()
     {
+        CloseHelper.close(archive);
+
         if (!ctx.ownsAeronClient())
         {
+            logAppender.disconnect(this::onLostSessionMessage);
             for (final ClusterSession session : sessionByIdMap.values())
             {
                 session.close();
             }
 
-            logAppender.disconnect();
-            CloseHelper.close(memberStatusPublisher.publication());
+            CloseHelper.close(responsePublicationCache);
+            for (final ClusterMember member : clusterMembers)
+            {
+                CloseHelper.close(member.publication());
+            }
             CloseHelper.close(memberStatusAdapter);
 
             CloseHelper.close(ingressAdapter);
@@ -158,59 +175,43 @@ class SequencerAgent implements Agent
 
     public void onStart()
     {
-        try (AeronArchive archive = AeronArchive.connect(ctx.archiveContext()))
+        archive = AeronArchive.connect(ctx.archiveContext());
+        removeIncompleteSnapshot(ctx.recordingLog());
+        final RecordingLog.RecoveryPlan recoveryPlan = ctx.recordingLog().createRecoveryPlan(archive);
+
+        serviceAckCount = 0;
+        try (Counter recoveryState = addRecoveryStateCounter(recoveryPlan))
         {
-            final RecordingLog.RecoveryPlan recoveryPlan = ctx.recordingLog().createRecoveryPlan(archive);
+            isRecovering = true;
+            recoveryStateCounter = recoveryState;
 
-            serviceAckCount = 0;
-            try (Counter ignore = addRecoveryStateCounter(recoveryPlan))
+            if (null != recoveryPlan.snapshotStep)
             {
-                isRecovering = true;
-
-                if (null != recoveryPlan.snapshotStep)
-                {
-                    recoverFromSnapshot(recoveryPlan.snapshotStep, archive);
-                }
-
-                waitForServiceAcks();
-
-                if (recoveryPlan.termSteps.size() > 0)
-                {
-                    recoverFromLog(recoveryPlan.termSteps, archive);
-                }
-
-                isRecovering = false;
+                recoverFromSnapshot(recoveryPlan.snapshotStep, archive);
             }
 
-            // TODO: handle suspended case
-            state(ConsensusModule.State.ACTIVE);
+            recoveryState.setOrdered(baseLogPosition);
 
-            final long nowMs = epochClock.time();
-            cachedEpochClock.update(nowMs);
-            timeOfLastLogUpdateMs = nowMs;
+            waitForServiceAcks();
 
-            if (clusterMemberId == ctx.appointedLeaderId() || clusterMembers.length == 1)
-            {
-                leadershipTermId++;
-                logSessionId = logAppender.connect(aeron, archive, ctx.logChannel(), ctx.logStreamId());
-                becomeLeader(nowMs);
-            }
-            else
+            if (recoveryPlan.termSteps.size() > 0)
             {
-                // TODO: record remote log
-                logSessionId = connectLogAdapter(aeron, ctx.logChannel(), ctx.logStreamId());
-                becomeFollower(nowMs, leaderMemberId);
+                recoverFromLog(recoveryPlan.termSteps, archive);
             }
 
-            final CountersReader counters = aeron.countersReader();
-            logRecordingPosition = findLogRecording(logSessionId, counters);
-            final long recordingId = RecordingPos.getRecordingId(counters, logRecordingPosition.counterId());
+            isRecovering = false;
+        }
+        finally
+        {
+            recoveryStateCounter = null;
+        }
 
-            commitPosition = CommitPos.allocate(
-                aeron, tempBuffer, recordingId, baseLogPosition, leadershipTermId, logSessionId, -1);
+        // TODO: handle suspended case
+        state(ConsensusModule.State.ACTIVE);
 
-            ctx.recordingLog().appendTerm(recordingId, leadershipTermId, baseLogPosition, nowMs, leaderMemberId);
-        }
+        connectMemberStatusPublications();
+        awaitElection(baseLogPosition);
+        startLeadershipTerm(cachedEpochClock.time());
     }
 
     public int doWork()
@@ -225,12 +226,22 @@ class SequencerAgent implements Agent
             cachedEpochClock.update(nowMs);
         }
 
+        if (null != election)
+        {
+            workCount += election.doWork(nowMs);
+            if (election.isDone())
+            {
+                startLeadershipTerm(nowMs);
+            }
+        }
+
         switch (role)
         {
             case LEADER:
                 if (ConsensusModule.State.ACTIVE == state)
                 {
                     workCount += ingressAdapter.poll();
+                    logAppender.flush();
                 }
                 break;
 
@@ -310,7 +321,7 @@ class SequencerAgent implements Agent
         final long nowMs = cachedEpochClock.time();
         final long sessionId = nextSessionId++;
         final ClusterSession session = new ClusterSession(sessionId, responseStreamId, responseChannel);
-        session.connect(aeron);
+        session.connect(responsePublicationCache);
         session.lastActivity(nowMs, correlationId);
 
         if (pendingSessions.size() + sessionByIdMap.size() < ctx.maxConcurrentSessions())
@@ -332,7 +343,7 @@ class SequencerAgent implements Agent
             session.close();
             if (appendClosedSession(session, CloseReason.USER_ACTION, cachedEpochClock.time()))
             {
-                sessionByIdMap.remove(clusterSessionId);
+                removeSession(clusterSessionId);
             }
         }
     }
@@ -472,7 +483,7 @@ class SequencerAgent implements Agent
         session.open(openedTermPosition);
         session.lastActivity(timestamp, correlationId);
 
-        sessionByIdMap.put(clusterSessionId, session);
+        addSession(session);
     }
 
     @SuppressWarnings("unused")
@@ -483,7 +494,7 @@ class SequencerAgent implements Agent
         final CloseReason closeReason)
     {
         cachedEpochClock.update(timestamp);
-        sessionByIdMap.remove(clusterSessionId).close();
+        removeSession(clusterSessionId).close();
     }
 
     @SuppressWarnings("unused")
@@ -533,6 +544,11 @@ class SequencerAgent implements Agent
 
     void onAppendedPosition(final long termPosition, final long leadershipTermId, final int memberId)
     {
+        if (leadershipTermId < this.leadershipTermId || null != election)
+        {
+            return;
+        }
+
         validateLeadershipTerm(leadershipTermId, "Append position not for current leadership term: expected=");
 
         clusterMembers[memberId].termPosition(termPosition);
@@ -541,7 +557,21 @@ class SequencerAgent implements Agent
     void onCommitPosition(
         final long termPosition, final long leadershipTermId, final int leaderMemberId, final int logSessionId)
     {
-        validateLeadershipTerm(leadershipTermId, "Quorum position not for current leadership term: expected=");
+        if (leadershipTermId < this.leadershipTermId)
+        {
+            return;
+        }
+
+        if (leadershipTermId > this.leadershipTermId && null == election)
+        {
+            startElection(cachedEpochClock.time());
+        }
+
+        if (null != election)
+        {
+            election.onNewLeadershipTerm(leadershipTermId, election.logPosition(), leaderMemberId);
+            return;
+        }
 
         if (leaderMemberId != this.leaderMemberId)
         {
@@ -557,6 +587,49 @@ class SequencerAgent implements Agent
     {
     }
 
+    void onRequestVote(
+        final long candidateTermId, final long lastLogTermId, final long lastLogPosition, final int candidateMemberId)
+    {
+        if (null != election)
+        {
+            election.onRequestVote(
+                candidateTermId, lastLogTermId, lastLogPosition, candidateMemberId, cachedEpochClock.time());
+        }
+        else
+        {
+            final Publication publication = clusterMembers[candidateMemberId].publication();
+            memberStatusPublisher.vote(publication, candidateTermId, candidateMemberId, clusterMemberId, false);
+
+            if (Cluster.Role.LEADER == role)
+            {
+                memberStatusPublisher.newLeadershipTerm(
+                    publication, leadershipTermId, baseLogPosition, clusterMemberId);
+            }
+        }
+    }
+
+    void onVote(
+        final long candidateTermId, final int candidateMemberId, final int followerMemberId, final boolean vote)
+    {
+        if (null != election)
+        {
+            election.onVote(candidateTermId, candidateMemberId, followerMemberId, vote);
+        }
+    }
+
+    void onNewLeadershipTerm(final long leadershipTermId, final long logPosition, final int leaderMemberId)
+    {
+        if (leadershipTermId > this.leadershipTermId && null == election)
+        {
+            startElection(cachedEpochClock.time());
+        }
+
+        if (null != election)
+        {
+            election.onNewLeadershipTerm(leadershipTermId, logPosition, leaderMemberId);
+        }
+    }
+
     private int slowTickCycle(final long nowMs)
     {
         int workCount = 0;
@@ -571,7 +644,7 @@ class SequencerAgent implements Agent
             if (ConsensusModule.State.ACTIVE == state)
             {
                 workCount += processPendingSessions(pendingSessions, nowMs);
-                workCount += checkSessions(sessionByIdMap, nowMs);
+                workCount += checkSessions(nowMs);
                 workCount += processRejectedSessions(rejectedSessions, nowMs);
                 workCount += timerService.poll(nowMs);
             }
@@ -640,6 +713,11 @@ class SequencerAgent implements Agent
 
     private boolean appendAction(final ClusterAction action, final long nowMs)
     {
+        if (!logAppender.flush())
+        {
+            return false;
+        }
+
         final long position = baseLogPosition +
             logAppender.position() +
             MessageHeaderEncoder.ENCODED_LENGTH +
@@ -679,9 +757,12 @@ class SequencerAgent implements Agent
                 lastIndex--;
 
                 session.timeOfLastActivityMs(nowMs);
-                sessionByIdMap.put(session.id(), session);
+                addSession(session);
 
-                appendConnectedSession(session, nowMs);
+                if (!appendConnectedSession(session, nowMs))
+                {
+                    openingSessions.add(session);
+                }
 
                 workCount += 1;
             }
@@ -734,60 +815,91 @@ class SequencerAgent implements Agent
         return workCount;
     }
 
-    private int checkSessions(final Long2ObjectHashMap<ClusterSession> sessionByIdMap, final long nowMs)
+    private int checkSessions(final long nowMs)
     {
         int workCount = 0;
 
-        final Iterator<ClusterSession> iter = sessionByIdMap.values().iterator();
-        while (iter.hasNext())
+        ClusterSession session = sessionActivityList.oldest();
+        while (null != session && nowMs > (session.timeOfLastActivityMs() + sessionTimeoutMs))
         {
-            final ClusterSession session = iter.next();
-
+            final ClusterSession next = session.newer;
             final ClusterSession.State state = session.state();
-            if (nowMs > (session.timeOfLastActivityMs() + sessionTimeoutMs))
+
+            switch (state)
             {
-                switch (state)
-                {
-                    case OPEN:
-                        egressPublisher.sendEvent(session, EventCode.ERROR, SESSION_TIMEOUT_MSG);
-                        if (appendClosedSession(session, CloseReason.TIMEOUT, nowMs))
-                        {
-                            iter.remove();
-                            workCount += 1;
-                        }
-                        else
-                        {
-                            session.state(TIMED_OUT);
-                        }
-                        break;
+                case OPEN:
+                    egressPublisher.sendEvent(session, EventCode.ERROR, SESSION_TIMEOUT_MSG);
+                    if (appendClosedSession(session, CloseReason.TIMEOUT, nowMs))
+                    {
+                        removeSession(session.id());
+                        workCount += 1;
+                    }
+                    else
+                    {
+                        session.state(TIMED_OUT);
+                    }
+                    break;
 
-                    case TIMED_OUT:
-                    case CLOSED:
-                        final CloseReason reason = state == TIMED_OUT ? CloseReason.TIMEOUT : CloseReason.USER_ACTION;
-                        if (appendClosedSession(session, reason, nowMs))
-                        {
-                            iter.remove();
-                            workCount += 1;
-                        }
-                        break;
+                case TIMED_OUT:
+                case CLOSED:
+                    final CloseReason reason = state == TIMED_OUT ? CloseReason.TIMEOUT : CloseReason.USER_ACTION;
+                    if (appendClosedSession(session, reason, nowMs))
+                    {
+                        removeSession(session.id());
+                        workCount += 1;
+                    }
+                    break;
 
-                    default:
-                        session.close();
-                        iter.remove();
-                }
+                default:
+                    session.close();
+                    removeSession(session.id());
             }
-            else if (state == CONNECTED)
+
+            session = next;
+        }
+
+        for (int lastIndex = openingSessions.size() - 1, i = lastIndex; i >= 0; i--)
+        {
+            session = openingSessions.get(i);
+            final ClusterSession.State state = session.state();
+
+            if ((state != AUTHENTICATED && state != CONNECTED) || appendConnectedSession(session, nowMs))
             {
-                if (appendConnectedSession(session, nowMs))
-                {
-                    workCount += 1;
-                }
+                ArrayListUtil.fastUnorderedRemove(openingSessions, i, lastIndex);
+                lastIndex--;
+                workCount += 1;
             }
         }
 
         return workCount;
     }
 
+    private void onLostSessionMessage(final long clusterSessionId)
+    {
+        final ClusterSession session = sessionByIdMap.get(clusterSessionId);
+        if (null != session && null != session.responsePublication())
+        {
+            egressPublisher.sendEvent(session, EventCode.ERROR, SESSION_MESSAGE_LOST_MSG);
+        }
+    }
+
+    private void addSession(final ClusterSession session)
+    {
+        sessionByIdMap.put(session.id(), session);
+        sessionActivityList.add(session);
+    }
+
+    private ClusterSession removeSession(final long clusterSessionId)
+    {
+        final ClusterSession session = sessionByIdMap.remove(clusterSessionId);
+        if (null != session)
+        {
+            sessionActivityList.remove(session);
+        }
+
+        return session;
+    }
+
     private boolean appendConnectedSession(final ClusterSession session, final long nowMs)
     {
         final long resultingPosition = logAppender.appendConnectedSession(session, nowMs);
@@ -830,7 +942,7 @@ class SequencerAgent implements Agent
 
         for (final ClusterSession session : sessionByIdMap.values())
         {
-            session.connect(aeron);
+            session.connect(responsePublicationCache);
             session.timeOfLastActivityMs(nowMs);
         }
     }
@@ -853,6 +965,38 @@ class SequencerAgent implements Agent
         updateClusterMemberDetails(clusterMembers);
     }
 
+    private void removeIncompleteSnapshot(final RecordingLog recordingLog)
+    {
+        final RecordingLog.Entry latestSnapshot = recordingLog.getLatestSnapshot();
+        if (null == latestSnapshot)
+        {
+            return;
+        }
+
+        final ArrayList<RecordingLog.Entry> snapshotEntries = new ArrayList<>();
+        for (final RecordingLog.Entry entry : recordingLog.entries())
+        {
+            if (RecordingLog.ENTRY_TYPE_SNAPSHOT == entry.type &&
+                latestSnapshot.leadershipTermId == entry.leadershipTermId &&
+                latestSnapshot.termPosition == entry.termPosition)
+            {
+                snapshotEntries.add(entry);
+            }
+        }
+
+        // A snapshot is only usable once the consensus module and every service have recorded it. A service taking
+        // a background snapshot may have stopped before recording its part so fall back to replaying the log.
+        if (snapshotEntries.size() < ctx.serviceCount() + 1)
+        {
+            for (final RecordingLog.Entry entry : snapshotEntries)
+            {
+                recordingLog.tombstoneEntry(entry.leadershipTermId, entry.entryIndex);
+            }
+
+            recordingLog.reload();
+        }
+    }
+
     private void recoverFromSnapshot(final RecordingLog.ReplayStep snapshotStep, final AeronArchive archive)
     {
         final RecordingLog.Entry snapshot = snapshotStep.entry;
@@ -912,14 +1056,14 @@ class SequencerAgent implements Agent
 
         try (Subscription subscription = aeron.addSubscription(channel, streamId))
         {
+            int sessionId = startReplay(steps.get(0), archive, channel, streamId);
+
             for (int i = 0, size = steps.size(); i < size; i++)
             {
-                final RecordingLog.ReplayStep step = steps.get(0);
+                final RecordingLog.ReplayStep step = steps.get(i);
                 final RecordingLog.Entry entry = step.entry;
                 final long recordingId = entry.recordingId;
-                final long startPosition = step.recordingStartPosition;
                 final long stopPosition = step.recordingStopPosition;
-                final long length = NULL_POSITION == stopPosition ? Long.MAX_VALUE : stopPosition - startPosition;
                 final long logPosition = entry.logPosition;
 
                 if (logPosition != baseLogPosition)
@@ -929,8 +1073,6 @@ class SequencerAgent implements Agent
                 }
                 leadershipTermId = entry.leadershipTermId;
 
-                final int sessionId = (int)archive.startReplay(recordingId, startPosition, length, channel, streamId);
-
                 idleStrategy.reset();
                 Image image;
                 while ((image = subscription.imageBySessionId(sessionId)) == null)
@@ -938,15 +1080,21 @@ class SequencerAgent implements Agent
                     idle();
                 }
 
+                if (i + 1 < size)
+                {
+                    sessionId = startReplay(steps.get(i + 1), archive, channel, streamId);
+                }
+
                 serviceAckCount = 0;
                 try (Counter counter = CommitPos.allocate(
-                    aeron, tempBuffer, recordingId, logPosition, leadershipTermId, sessionId, i))
+                    aeron, tempBuffer, recordingId, logPosition, leadershipTermId, image.sessionId(), i))
                 {
                     counter.setOrdered(stopPosition);
                     replayTerm(image, stopPosition);
                     waitForServiceAcks();
 
                     baseLogPosition += image.position();
+                    recoveryStateCounter.setOrdered(baseLogPosition);
 
                     failedTimerCancellations.forEachOrderedLong(timerService::cancelTimer);
                     failedTimerCancellations.clear();
@@ -957,6 +1105,16 @@ class SequencerAgent implements Agent
         }
     }
 
+    private static int startReplay(
+        final RecordingLog.ReplayStep step, final AeronArchive archive, final String channel, final int streamId)
+    {
+        final long startPosition = step.recordingStartPosition;
+        final long stopPosition = step.recordingStopPosition;
+        final long length = NULL_POSITION == stopPosition ? Long.MAX_VALUE : stopPosition - startPosition;
+
+        return (int)archive.startReplay(step.entry.recordingId, startPosition, length, channel, streamId);
+    }
+
     private Counter addRecoveryStateCounter(final RecordingLog.RecoveryPlan plan)
     {
         final int termCount = plan.termSteps.size();
@@ -1057,7 +1215,7 @@ class SequencerAgent implements Agent
                 final long position = ClusterMember.quorumPosition(clusterMembers, rankedPositions);
                 if (position > commitPosition.getWeak() || nowMs >= (timeOfLastLogUpdateMs + heartbeatIntervalMs))
                 {
-                    if (memberStatusPublisher.commitPosition(position, leadershipTermId, clusterMemberId, logSessionId))
+                    if (sendCommitPosition(position))
                     {
                         commitPosition.setOrdered(position);
                         timeOfLastLogUpdateMs = nowMs;
@@ -1073,7 +1231,11 @@ class SequencerAgent implements Agent
                 final long recordingPosition = logRecordingPosition.get();
                 if (recordingPosition != lastRecordingPosition)
                 {
-                    if (memberStatusPublisher.appendedPosition(recordingPosition, leadershipTermId, clusterMemberId))
+                    if (memberStatusPublisher.appendedPosition(
+                        clusterMembers[leaderMemberId].publication(),
+                        recordingPosition,
+                        leadershipTermId,
+                        clusterMemberId))
                     {
                         lastRecordingPosition = recordingPosition;
                     }
@@ -1085,7 +1247,8 @@ class SequencerAgent implements Agent
 
                 if (nowMs >= (timeOfLastLogUpdateMs + heartbeatTimeoutMs))
                 {
-                    throw new AgentTerminationException("No heartbeat detected from cluster leader");
+                    startElection(nowMs);
+                    workCount = 1;
                 }
                 break;
             }
@@ -1094,6 +1257,150 @@ class SequencerAgent implements Agent
         return workCount;
     }
 
+    private boolean sendCommitPosition(final long position)
+    {
+        boolean isSent = true;
+        for (final ClusterMember member : clusterMembers)
+        {
+            if (member.id() != clusterMemberId)
+            {
+                isSent &= memberStatusPublisher.commitPosition(
+                    member.publication(), position, leadershipTermId, clusterMemberId, logSessionId);
+            }
+        }
+
+        return isSent;
+    }
+
+    private void connectMemberStatusPublications()
+    {
+        final ChannelUri memberStatusUri = ChannelUri.parse(ctx.memberStatusChannel());
+
+        for (final ClusterMember member : clusterMembers)
+        {
+            if (member.id() != clusterMemberId)
+            {
+                memberStatusUri.put(ENDPOINT_PARAM_NAME, member.memberFacingEndpoint());
+                member.publication(
+                    aeron.addExclusivePublication(memberStatusUri.toString(), ctx.memberStatusStreamId()));
+            }
+        }
+    }
+
+    private Election newElection(final long lastLogPosition, final long nowMs)
+    {
+        role(Cluster.Role.CANDIDATE);
+
+        final List<RecordingLog.Entry> entries = ctx.recordingLog().entries();
+        final long lastLogTermId = entries.isEmpty() ?
+            leadershipTermId : entries.get(entries.size() - 1).leadershipTermId;
+
+        return new Election(
+            clusterMemberId,
+            ctx.appointedLeaderId(),
+            leadershipTermId,
+            lastLogTermId,
+            lastLogPosition,
+            electionTimeoutMs,
+            clusterMembers,
+            memberStatusPublisher,
+            random,
+            nowMs);
+    }
+
+    private void awaitElection(final long lastLogPosition)
+    {
+        final long startMs = epochClock.time();
+        cachedEpochClock.update(startMs);
+        election = newElection(lastLogPosition, startMs);
+
+        idleStrategy.reset();
+        while (!election.isDone())
+        {
+            final long nowMs = epochClock.time();
+            cachedEpochClock.update(nowMs);
+
+            idle(memberStatusAdapter.poll() + election.doWork(nowMs));
+        }
+    }
+
+    private void startElection(final long nowMs)
+    {
+        final long lastLogPosition = baseLogPosition + logRecordingPosition.get();
+
+        if (Cluster.Role.LEADER == role)
+        {
+            stepDown();
+        }
+
+        election = newElection(lastLogPosition, nowMs);
+    }
+
+    private void stepDown()
+    {
+        logAppender.disconnect(this::onLostSessionMessage);
+
+        // Sessions not yet appended to the log are unknown to the services and other members so can be dropped.
+        for (final ClusterSession session : openingSessions)
+        {
+            removeSession(session.id());
+            session.close();
+        }
+        openingSessions.clear();
+
+        for (final ClusterSession session : pendingSessions)
+        {
+            session.close();
+        }
+        pendingSessions.clear();
+
+        for (final ClusterSession session : rejectedSessions)
+        {
+            session.close();
+        }
+        rejectedSessions.clear();
+
+        // Sessions in the log are kept, as the services and followers hold them, for the next leader to time out.
+        for (final ClusterSession session : sessionByIdMap.values())
+        {
+            session.disconnect();
+        }
+    }
+
+    private void startLeadershipTerm(final long nowMs)
+    {
+        final Cluster.Role electedRole = election.role();
+        leadershipTermId = election.leadershipTermId();
+        baseLogPosition = election.logPosition();
+        timeOfLastLogUpdateMs = nowMs;
+        lastRecordingPosition = 0;
+        followerCommitPosition = 0;
+        logAppender.disconnect(this::onLostSessionMessage);
+
+        if (Cluster.Role.LEADER == electedRole)
+        {
+            logSessionId = logAppender.connect(aeron, archive, ctx.logChannel(), ctx.logStreamId());
+            becomeLeader(nowMs);
+        }
+        else
+        {
+            // TODO: record remote log
+            logSessionId = connectLogAdapter(aeron, ctx.logChannel(), ctx.logStreamId());
+            becomeFollower(nowMs, election.leaderMemberId());
+        }
+        election = null;
+
+        final CountersReader counters = aeron.countersReader();
+        logRecordingPosition = findLogRecording(logSessionId, counters);
+        final long recordingId = RecordingPos.getRecordingId(counters, logRecordingPosition.counterId());
+
+        CloseHelper.close(commitPosition);
+        commitPosition = CommitPos.allocate(
+            aeron, tempBuffer, recordingId, baseLogPosition, leadershipTermId, logSessionId, -1);
+
+        ctx.recordingLog().appendTerm(recordingId, leadershipTermId, baseLogPosition, nowMs, leaderMemberId);
+    }
+
     private void idle()
     {
         checkInterruptedStatus();
@@ -1135,8 +1442,7 @@ class SequencerAgent implements Agent
         final String channel = ctx.snapshotChannel();
         final int streamId = ctx.snapshotStreamId();
 
-        try (AeronArchive archive = AeronArchive.connect(ctx.archiveContext());
-            Publication publication = aeron.addExclusivePublication(channel, streamId))
+        try (Publication publication = aeron.addExclusivePublication(channel, streamId))
         {
             final String recordingChannel = ChannelUri.addSessionId(channel, publication.sessionId());
             archive.startRecording(recordingChannel, streamId, SourceLocation.LOCAL);
@@ -1199,12 +1505,16 @@ class SequencerAgent implements Agent
 
     private void replayTerm(final Image image, final long termLimit)
     {
-        final LogAdapter logAdapter = new LogAdapter(image, this);
+        final LogAdapter logAdapter = new LogAdapter(image, ctx.replayFragmentLimit(), this);
 
         while (true)
         {
             final int fragments = logAdapter.poll(termLimit);
-            if (fragments == 0)
+            if (fragments > 0)
+            {
+                recoveryStateCounter.setOrdered(baseLogPosition + image.position());
+            }
+            else
             {
                 if (image.isClosed())
                 {
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.cluster;
+
+/**
+ * Intrusive list of {@link ClusterSession}s ordered by time of last activity so sessions which may have timed out
+ * are found at the head without scanning all sessions.
+ * <p>
+ * Activity is timestamped from a clock which does not go backwards so a session is moved to the tail each time its
+ * activity is updated, which is O(1).
+ */
+final class SessionActivityList
+{
+    private ClusterSession oldest;
+    private ClusterSession newest;
+
+    /**
+     * The session with the oldest activity.
+     *
+     * @return the session with the oldest activity or null if the list is empty.
+     */
+    ClusterSession oldest()
+    {
+        return oldest;
+    }
+
+    /**
+     * Add a session to the list as the one with the newest activity.
+     *
+     * @param session to be added.
+     */
+    void add(final ClusterSession session)
+    {
+        if (null != session.activityList)
+        {
+            session.activityList.remove(session);
+        }
+
+        session.activityList = this;
+        linkAsNewest(session);
+    }
+
+    /**
+     * Remove a session from the list if present.
+     *
+     * @param session to be removed.
+     */
+    void remove(final ClusterSession session)
+    {
+        if (this == session.activityList)
+        {
+            unlink(session);
+            session.activityList = null;
+        }
+    }
+
+    /**
+     * Move a session to be the one with the newest activity.
+     *
+     * @param session which has had activity.
+     */
+    void onActivity(final ClusterSession session)
+    {
+        if (session != newest)
+        {
+            unlink(session);
+            linkAsNewest(session);
+        }
+    }
+
+    private void linkAsNewest(final ClusterSession session)
+    {
+        session.older = newest;
+        session.newer = null;
+
+        if (null == newest)
+        {
+            oldest = session;
+        }
+        else
+        {
+            newest.newer = session;
+        }
+
+        newest = session;
+    }
+
+    private void unlink(final ClusterSession session)
+    {
+        if (null == session.older)
+        {
+            oldest = session.newer;
+        }
+        else
+        {
+            session.older.newer = session.newer;
+        }
+
+        if (null == session.newer)
+        {
+            newest = session.older;
+        }
+        else
+        {
+            session.newer.older = session.older;
+        }
+
+        session.older = null;
+        session.newer = null;
+    }
+}
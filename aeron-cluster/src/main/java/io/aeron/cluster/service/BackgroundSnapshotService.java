@@ -0,0 +1,60 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.cluster.service;
+
+import io.aeron.Publication;
+
+/**
+ * A {@link ClusteredService} may also implement this interface so snapshots of its state are written in the background
+ * while it continues to process the log, rather than by {@link ClusteredService#onTakeSnapshot(Publication)} on the
+ * service thread.
+ * <p>
+ * When a snapshot is requested the service is asked to freeze a view of its state on the service thread, which should
+ * be cheap such as retaining the root of a persistent or copy-on-write data structure. The view is then written to the
+ * snapshot by a separate thread. The action is acknowledged to the consensus module as soon as the view is frozen so
+ * the cluster continues to sequence messages while the snapshot is written. The snapshot is appended to the
+ * {@link RecordingLog} only once it has been recorded, and a snapshot which is never recorded is discarded on restart.
+ * A view must not be affected by any log entries the service processes after it has been frozen.
+ * <p>
+ * Snapshots taken for a shutdown are still written before the service terminates.
+ */
+public interface BackgroundSnapshotService
+{
+    /**
+     * Freeze a view of the service state as of the current log position. This is called on the service thread.
+     *
+     * @return the frozen view of the service state to be written to the snapshot.
+     */
+    SnapshotView freezeSnapshot();
+
+    /**
+     * A frozen view of the service state which can be written to a snapshot off the service thread.
+     */
+    interface SnapshotView
+    {
+        /**
+         * Write the frozen state to the provided archive {@link Publication}. This is called on a thread other than
+         * the service thread, and may be called again with a new publication should a previous write fail.
+         * <p>
+         * <b>Note:</b> As this is a potentially long running operation the implementation should occasional call
+         * {@link Thread#isInterrupted()} and if true then throw an {@link InterruptedException} or
+         * {@link org.agrona.concurrent.AgentTerminationException}.
+         *
+         * @param snapshotPublication to which the state should be recorded.
+         */
+        void writeTo(Publication snapshotPublication);
+    }
+}
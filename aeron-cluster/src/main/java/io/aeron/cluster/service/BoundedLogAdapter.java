@@ -42,12 +42,20 @@ final class BoundedLogAdapter implements ControlledFragmentHandler
 
     private final Image image;
     private final ReadableCounter limit;
+    private final int fragmentLimit;
     private final ClusteredServiceAgent agent;
 
     BoundedLogAdapter(final Image image, final ReadableCounter limit, final ClusteredServiceAgent agent)
+    {
+        this(image, limit, FRAGMENT_LIMIT, agent);
+    }
+
+    BoundedLogAdapter(
+        final Image image, final ReadableCounter limit, final int fragmentLimit, final ClusteredServiceAgent agent)
     {
         this.image = image;
         this.limit = limit;
+        this.fragmentLimit = fragmentLimit;
         this.agent = agent;
     }
 
@@ -58,7 +66,7 @@ final class BoundedLogAdapter implements ControlledFragmentHandler
 
     public int poll()
     {
-        return image.boundedControlledPoll(fragmentAssembler, limit.get(), FRAGMENT_LIMIT);
+        return image.boundedControlledPoll(fragmentAssembler, limit.get(), fragmentLimit);
     }
 
     public Action onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
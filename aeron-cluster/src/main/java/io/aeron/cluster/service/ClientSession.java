@@ -15,12 +15,10 @@
  */
 package io.aeron.cluster.service;
 
-import io.aeron.Aeron;
 import io.aeron.DirectBufferVector;
 import io.aeron.Publication;
 import io.aeron.cluster.codecs.MessageHeaderEncoder;
 import io.aeron.cluster.codecs.SessionHeaderEncoder;
-import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -39,6 +37,7 @@ public class ClientSession
     private final int responseStreamId;
     private final String responseChannel;
     private Publication responsePublication;
+    private ResponsePublicationCache responsePublicationCache;
     private final byte[] principalData;
     private final DirectBufferVector[] vectors = new DirectBufferVector[2];
     private final DirectBufferVector messageBuffer = new DirectBufferVector();
@@ -136,19 +135,23 @@ public class ClientSession
         return responsePublication.offer(vectors, null);
     }
 
-    void connect(final Aeron aeron)
+    void connect(final ResponsePublicationCache responsePublicationCache)
     {
         if (null != responsePublication)
         {
             throw new IllegalStateException("Response publication already present");
         }
 
-        responsePublication = aeron.addExclusivePublication(responseChannel, responseStreamId);
+        this.responsePublicationCache = responsePublicationCache;
+        responsePublication = responsePublicationCache.acquire(responseChannel, responseStreamId);
     }
 
     void disconnect()
     {
-        CloseHelper.close(responsePublication);
-        responsePublication = null;
+        if (null != responsePublication)
+        {
+            responsePublicationCache.release(responseChannel, responseStreamId);
+            responsePublication = null;
+        }
     }
 }
@@ -28,18 +28,25 @@ import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.status.CountersReader;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
 import static io.aeron.CommonContext.IPC_CHANNEL;
 import static io.aeron.CommonContext.SPY_PREFIX;
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
 
 final class ClusteredServiceAgent implements Agent, Cluster
 {
+    private static final int MAX_BACKGROUND_SNAPSHOT_ATTEMPTS = 3;
+
     private boolean isRecovering = true;
     private final boolean shouldCloseResources;
     private final AeronArchive.Context archiveCtx;
     private final ClusteredServiceContainer.Context ctx;
     private final Aeron aeron;
     private final Subscription logSubscription;
+    private final ResponsePublicationCache responsePublicationCache;
     private final Long2ObjectHashMap<ClientSession> sessionByIdMap = new Long2ObjectHashMap<>();
     private final ClusteredService service;
     private final ConsensusModuleProxy consensusModule;
@@ -54,6 +61,8 @@ final class ClusteredServiceAgent implements Agent, Cluster
     private ReadableCounter commitPosition;
     private ReadableCounter roleCounter;
     private Role role = Role.FOLLOWER;
+    private BackgroundSnapshot backgroundSnapshot;
+    private Thread backgroundSnapshotThread;
 
     ClusteredServiceAgent(final ClusteredServiceContainer.Context ctx)
     {
@@ -70,6 +79,7 @@ final class ClusteredServiceAgent implements Agent, Cluster
         logChannel = logChannel.contains(IPC_CHANNEL) ? logChannel : SPY_PREFIX + logChannel;
 
         logSubscription = aeron.addSubscription(logChannel, ctx.logStreamId());
+        responsePublicationCache = new ResponsePublicationCache(aeron);
 
         consensusModule = new ConsensusModuleProxy(
             ctx.serviceId(),
@@ -102,13 +112,25 @@ final class ClusteredServiceAgent implements Agent, Cluster
         {
             for (final ClientSession session : sessionByIdMap.values())
             {
-                session.connect(aeron);
+                session.connect(responsePublicationCache);
             }
         }
     }
 
     public void onClose()
     {
+        if (null != backgroundSnapshotThread)
+        {
+            try
+            {
+                awaitBackgroundSnapshot();
+            }
+            catch (final AgentTerminationException ex)
+            {
+                ctx.errorHandler().onError(ex);
+            }
+        }
+
         if (shouldCloseResources)
         {
             CloseHelper.close(logSubscription);
@@ -118,12 +140,16 @@ final class ClusteredServiceAgent implements Agent, Cluster
             {
                 session.disconnect();
             }
+
+            CloseHelper.close(responsePublicationCache);
         }
     }
 
     public int doWork()
     {
-        final int workCount = logAdapter.poll();
+        int workCount = checkBackgroundSnapshot();
+
+        workCount += logAdapter.poll();
         if (0 == workCount)
         {
             if (logAdapter.image().isClosed())
@@ -221,7 +247,7 @@ final class ClusteredServiceAgent implements Agent, Cluster
 
         if (Role.LEADER == role)
         {
-            session.connect(aeron);
+            session.connect(responsePublicationCache);
         }
 
         sessionByIdMap.put(clusterSessionId, session);
@@ -309,7 +335,7 @@ final class ClusteredServiceAgent implements Agent, Cluster
                 }
 
                 final ReadableCounter limit = new ReadableCounter(counters, counterId);
-                final BoundedLogAdapter adapter = new BoundedLogAdapter(image, limit, this);
+                final BoundedLogAdapter adapter = new BoundedLogAdapter(image, limit, ctx.replayFragmentLimit(), this);
 
                 while (true)
                 {
@@ -466,6 +492,104 @@ final class ClusteredServiceAgent implements Agent, Cluster
     }
 
     private void onTakeSnapshot(final long termPosition)
+    {
+        awaitBackgroundSnapshot();
+
+        final Consumer<Publication> stateWriter = service instanceof BackgroundSnapshotService ?
+            ((BackgroundSnapshotService)service).freezeSnapshot()::writeTo : service::onTakeSnapshot;
+
+        final long recordingId = recordSnapshot(
+            baseLogPosition + termPosition,
+            leadershipTermId,
+            new ArrayList<>(sessionByIdMap.values()),
+            idleStrategy,
+            stateWriter);
+
+        recordingLog.appendSnapshot(recordingId, leadershipTermId, baseLogPosition, termPosition, timestampMs);
+    }
+
+    private void onTakeBackgroundSnapshot(final long termPosition)
+    {
+        awaitBackgroundSnapshot();
+
+        startBackgroundSnapshot(new BackgroundSnapshot(
+            ((BackgroundSnapshotService)service).freezeSnapshot(),
+            new ArrayList<>(sessionByIdMap.values()),
+            leadershipTermId,
+            baseLogPosition,
+            termPosition,
+            timestampMs,
+            1));
+    }
+
+    private void startBackgroundSnapshot(final BackgroundSnapshot snapshot)
+    {
+        backgroundSnapshot = snapshot;
+        backgroundSnapshotThread = ctx.threadFactory().newThread(snapshot);
+        backgroundSnapshotThread.setName("clustered-service-snapshot");
+        backgroundSnapshotThread.start();
+    }
+
+    private int checkBackgroundSnapshot()
+    {
+        final BackgroundSnapshot snapshot = backgroundSnapshot;
+        if (null == snapshot || !snapshot.isDone)
+        {
+            return 0;
+        }
+
+        backgroundSnapshot = null;
+        backgroundSnapshotThread = null;
+
+        if (null == snapshot.error)
+        {
+            recordingLog.appendSnapshot(
+                snapshot.recordingId,
+                snapshot.leadershipTermId,
+                snapshot.baseLogPosition,
+                snapshot.termPosition,
+                snapshot.timestampMs);
+        }
+        else
+        {
+            ctx.errorHandler().onError(snapshot.error);
+
+            // The frozen view is unaffected by a failed write so it can be recorded again. Should the snapshot never
+            // be recorded then it is removed as incomplete by the consensus module on restart.
+            if (snapshot.attempt < MAX_BACKGROUND_SNAPSHOT_ATTEMPTS && !isTermination(snapshot.error))
+            {
+                startBackgroundSnapshot(snapshot.nextAttempt());
+            }
+        }
+
+        return 1;
+    }
+
+    private void awaitBackgroundSnapshot()
+    {
+        while (null != backgroundSnapshotThread)
+        {
+            try
+            {
+                backgroundSnapshotThread.join();
+            }
+            catch (final InterruptedException ex)
+            {
+                backgroundSnapshotThread.interrupt();
+                Thread.currentThread().interrupt();
+                throw new AgentTerminationException("Unexpected interrupt during operation");
+            }
+
+            checkBackgroundSnapshot();
+        }
+    }
+
+    private long recordSnapshot(
+        final long logPosition,
+        final long leadershipTermId,
+        final List<ClientSession> sessions,
+        final IdleStrategy idleStrategy,
+        final Consumer<Publication> stateWriter)
     {
         final long recordingId;
         final String channel = ctx.snapshotChannel();
@@ -491,8 +615,8 @@ final class ClusteredServiceAgent implements Agent, Cluster
                 }
 
                 recordingId = RecordingPos.getRecordingId(counters, counterId);
-                snapshotState(publication, baseLogPosition + termPosition);
-                service.onTakeSnapshot(publication);
+                snapshotState(publication, logPosition, leadershipTermId, sessions, idleStrategy);
+                stateWriter.accept(publication);
 
                 do
                 {
@@ -512,16 +636,21 @@ final class ClusteredServiceAgent implements Agent, Cluster
             }
         }
 
-        recordingLog.appendSnapshot(recordingId, leadershipTermId, baseLogPosition, termPosition, timestampMs);
+        return recordingId;
     }
 
-    private void snapshotState(final Publication publication, final long logPosition)
+    private static void snapshotState(
+        final Publication publication,
+        final long logPosition,
+        final long leadershipTermId,
+        final List<ClientSession> sessions,
+        final IdleStrategy idleStrategy)
     {
         final ServiceSnapshotTaker snapshotTaker = new ServiceSnapshotTaker(publication, idleStrategy, null);
 
         snapshotTaker.markBegin(ClusteredServiceContainer.SNAPSHOT_TYPE_ID, logPosition, leadershipTermId, 0);
 
-        for (final ClientSession clientSession : sessionByIdMap.values())
+        for (final ClientSession clientSession : sessions)
         {
             snapshotTaker.snapshotSession(clientSession);
         }
@@ -541,7 +670,15 @@ final class ClusteredServiceAgent implements Agent, Cluster
         switch (action)
         {
             case SNAPSHOT:
-                onTakeSnapshot(termPosition);
+                if (service instanceof BackgroundSnapshotService)
+                {
+                    onTakeBackgroundSnapshot(termPosition);
+                }
+                else
+                {
+                    onTakeSnapshot(termPosition);
+                }
+
                 consensusModule.sendAcknowledgment(action, logPosition, leadershipTermId, timestampMs);
                 break;
 
@@ -560,6 +697,11 @@ final class ClusteredServiceAgent implements Agent, Cluster
         }
     }
 
+    private static boolean isTermination(final Throwable error)
+    {
+        return error instanceof AgentTerminationException || error instanceof InterruptedException;
+    }
+
     private static void checkInterruptedStatus()
     {
         if (Thread.currentThread().isInterrupted())
@@ -567,4 +709,63 @@ final class ClusteredServiceAgent implements Agent, Cluster
             throw new AgentTerminationException("Unexpected interrupt during operation");
         }
     }
+
+    private final class BackgroundSnapshot implements Runnable
+    {
+        private final BackgroundSnapshotService.SnapshotView view;
+        private final List<ClientSession> sessions;
+        private final long leadershipTermId;
+        private final long baseLogPosition;
+        private final long termPosition;
+        private final long timestampMs;
+        private final int attempt;
+        private long recordingId;
+        private Throwable error;
+        private volatile boolean isDone = false;
+
+        BackgroundSnapshot(
+            final BackgroundSnapshotService.SnapshotView view,
+            final List<ClientSession> sessions,
+            final long leadershipTermId,
+            final long baseLogPosition,
+            final long termPosition,
+            final long timestampMs,
+            final int attempt)
+        {
+            this.view = view;
+            this.sessions = sessions;
+            this.leadershipTermId = leadershipTermId;
+            this.baseLogPosition = baseLogPosition;
+            this.termPosition = termPosition;
+            this.timestampMs = timestampMs;
+            this.attempt = attempt;
+        }
+
+        BackgroundSnapshot nextAttempt()
+        {
+            return new BackgroundSnapshot(
+                view, sessions, leadershipTermId, baseLogPosition, termPosition, timestampMs, attempt + 1);
+        }
+
+        public void run()
+        {
+            try
+            {
+                recordingId = recordSnapshot(
+                    baseLogPosition + termPosition,
+                    leadershipTermId,
+                    sessions,
+                    new BackoffIdleStrategy(1, 10, 1000, 1_000_000),
+                    view::writeTo);
+            }
+            catch (final Throwable ex)
+            {
+                error = ex;
+            }
+            finally
+            {
+                isDone = true;
+            }
+        }
+    }
 }
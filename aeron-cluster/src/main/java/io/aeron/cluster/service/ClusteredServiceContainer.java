@@ -166,6 +166,17 @@ public final class ClusteredServiceContainer implements AutoCloseable
          */
         public static final int REPLAY_STREAM_ID_DEFAULT = 4;
 
+        /**
+         * Fragment limit for each poll of the log when it is replayed during recovery.
+         */
+        public static final String REPLAY_FRAGMENT_LIMIT_PROP_NAME = "aeron.cluster.replay.fragment.limit";
+
+        /**
+         * Fragment limit for each poll of the log when it is replayed during recovery. Default to 1000 so the log is
+         * consumed at the rate it can be replayed rather than the limit for normal operation.
+         */
+        public static final int REPLAY_FRAGMENT_LIMIT_DEFAULT = 1000;
+
         /**
          * Channel for sending messages to the Consensus Module.
          */
@@ -268,6 +279,18 @@ public final class ClusteredServiceContainer implements AutoCloseable
             return Integer.getInteger(REPLAY_STREAM_ID_PROP_NAME, REPLAY_STREAM_ID_DEFAULT);
         }
 
+        /**
+         * The value {@link #REPLAY_FRAGMENT_LIMIT_DEFAULT} or system property
+         * {@link #REPLAY_FRAGMENT_LIMIT_PROP_NAME} if set.
+         *
+         * @return {@link #REPLAY_FRAGMENT_LIMIT_DEFAULT} or system property
+         * {@link #REPLAY_FRAGMENT_LIMIT_PROP_NAME} if set.
+         */
+        public static int replayFragmentLimit()
+        {
+            return Integer.getInteger(REPLAY_FRAGMENT_LIMIT_PROP_NAME, REPLAY_FRAGMENT_LIMIT_DEFAULT);
+        }
+
         /**
          * The value {@link #CONSENSUS_MODULE_CHANNEL_DEFAULT} or system property
          * {@link #CONSENSUS_MODULE_CHANNEL_PROP_NAME} if set.
@@ -349,6 +372,7 @@ public final class ClusteredServiceContainer implements AutoCloseable
         private int logStreamId = Configuration.logStreamId();
         private String replayChannel = Configuration.replayChannel();
         private int replayStreamId = Configuration.replayStreamId();
+        private int replayFragmentLimit = Configuration.replayFragmentLimit();
         private String consensusModuleChannel = Configuration.consensusModuleChannel();
         private int consensusModuleStreamId = Configuration.consensusModuleStreamId();
         private String snapshotChannel = Configuration.snapshotChannel();
@@ -593,6 +617,30 @@ public final class ClusteredServiceContainer implements AutoCloseable
             return replayStreamId;
         }
 
+        /**
+         * Set the fragment limit for each poll of the log when it is replayed during recovery.
+         *
+         * @param fragmentLimit for each poll of the log when it is replayed during recovery.
+         * @return this for a fluent API
+         * @see ClusteredServiceContainer.Configuration#REPLAY_FRAGMENT_LIMIT_PROP_NAME
+         */
+        public Context replayFragmentLimit(final int fragmentLimit)
+        {
+            replayFragmentLimit = fragmentLimit;
+            return this;
+        }
+
+        /**
+         * Get the fragment limit for each poll of the log when it is replayed during recovery.
+         *
+         * @return the fragment limit for each poll of the log when it is replayed during recovery.
+         * @see ClusteredServiceContainer.Configuration#REPLAY_FRAGMENT_LIMIT_PROP_NAME
+         */
+        public int replayFragmentLimit()
+        {
+            return replayFragmentLimit;
+        }
+
         /**
          * Set the channel parameter for sending messages to the Consensus Module.
          *
@@ -28,6 +28,9 @@ import static org.agrona.concurrent.status.CountersReader.*;
 /**
  * Counter representing the Recovery state for the cluster.
  * <p>
+ * The value of the counter is the log position to which the consensus module has recovered. It is set once the
+ * snapshot is loaded and then advances as terms of the log are replayed so the progress of recovery can be observed.
+ * <p>
  * Key layout as follows:
  * <pre>
  *   0                   1                   2                   3
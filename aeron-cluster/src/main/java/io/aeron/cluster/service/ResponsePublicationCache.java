@@ -0,0 +1,133 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.cluster.service;
+
+import io.aeron.Aeron;
+import io.aeron.Publication;
+import org.agrona.CloseHelper;
+import org.agrona.collections.Int2ObjectHashMap;
+
+import java.util.HashMap;
+
+/**
+ * Reference counted cache of response publications so cluster sessions which share a response channel and stream id
+ * share a single publication to egress rather than each session adding its own.
+ * <p>
+ * Messages to egress carry the cluster session id so clients sharing a response channel can identify their own.
+ * This class is not threadsafe and is intended to be used from the agent which owns the sessions.
+ */
+public final class ResponsePublicationCache implements AutoCloseable
+{
+    private final Aeron aeron;
+    private final HashMap<String, Int2ObjectHashMap<Entry>> entriesByChannelMap = new HashMap<>();
+    private int size = 0;
+
+    public ResponsePublicationCache(final Aeron aeron)
+    {
+        this.aeron = aeron;
+    }
+
+    /**
+     * Acquire a reference to the publication for a response channel and stream id, adding it if not already present.
+     *
+     * @param channel  for the response publication.
+     * @param streamId for the response publication.
+     * @return the shared response publication.
+     */
+    public Publication acquire(final String channel, final int streamId)
+    {
+        Int2ObjectHashMap<Entry> entryByStreamIdMap = entriesByChannelMap.get(channel);
+        if (null == entryByStreamIdMap)
+        {
+            entryByStreamIdMap = new Int2ObjectHashMap<>();
+            entriesByChannelMap.put(channel, entryByStreamIdMap);
+        }
+
+        Entry entry = entryByStreamIdMap.get(streamId);
+        if (null == entry)
+        {
+            entry = new Entry(aeron.addExclusivePublication(channel, streamId));
+            entryByStreamIdMap.put(streamId, entry);
+            size++;
+        }
+
+        entry.refCount++;
+
+        return entry.publication;
+    }
+
+    /**
+     * Release a reference to the publication for a response channel and stream id which is closed when the last
+     * reference is released.
+     *
+     * @param channel  for the response publication.
+     * @param streamId for the response publication.
+     */
+    public void release(final String channel, final int streamId)
+    {
+        final Int2ObjectHashMap<Entry> entryByStreamIdMap = entriesByChannelMap.get(channel);
+        if (null != entryByStreamIdMap)
+        {
+            final Entry entry = entryByStreamIdMap.get(streamId);
+            if (null != entry && --entry.refCount <= 0)
+            {
+                entryByStreamIdMap.remove(streamId);
+                if (entryByStreamIdMap.isEmpty())
+                {
+                    entriesByChannelMap.remove(channel);
+                }
+
+                size--;
+                CloseHelper.close(entry.publication);
+            }
+        }
+    }
+
+    /**
+     * The number of distinct response publications held.
+     *
+     * @return the number of distinct response publications held.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    public void close()
+    {
+        for (final Int2ObjectHashMap<Entry> entryByStreamIdMap : entriesByChannelMap.values())
+        {
+            for (final Entry entry : entryByStreamIdMap.values())
+            {
+                CloseHelper.close(entry.publication);
+            }
+        }
+
+        entriesByChannelMap.clear();
+        size = 0;
+    }
+
+    static final class Entry
+    {
+        final Publication publication;
+        int refCount;
+
+        Entry(final Publication publication)
+        {
+            this.publication = publication;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import io.aeron.archive.Archive;
 import io.aeron.archive.ArchiveThreadingMode;
 import io.aeron.cluster.client.AeronCluster;
 import io.aeron.cluster.client.SessionDecorator;
+import io.aeron.cluster.service.BackgroundSnapshotService;
 import io.aeron.cluster.service.ClusteredService;
 import io.aeron.cluster.service.ClusteredServiceContainer;
 import io.aeron.driver.MediaDriver;
@@ -36,6 +37,7 @@ import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.status.CountersReader;
 import org.junit.*;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -44,6 +46,7 @@ import static junit.framework.TestCase.assertTrue;
 import static org.agrona.BitUtil.SIZE_OF_INT;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -59,6 +62,7 @@ public class ClusterNodeRestartTest
     private Publication publication;
     private final AtomicReference<String> serviceState = new AtomicReference<>();
     private final AtomicBoolean isTerminated = new AtomicBoolean();
+    private final AtomicBoolean isSnapshotWriteStarted = new AtomicBoolean();
     private final AtomicLong snapshotCount = new AtomicLong();
     private final Counter mockSnapshotCounter = mock(Counter.class);
 
@@ -199,6 +203,158 @@ public class ClusterNodeRestartTest
         assertThat(serviceState.get(), is("3"));
     }
 
+    @Test(timeout = 10_000)
+    public void shouldRestartServiceFromBackgroundSnapshot() throws Exception
+    {
+        final AtomicLong serviceMsgCounter = new AtomicLong(0);
+
+        container = launchBackgroundSnapshotService(true, serviceMsgCounter, null);
+
+        connectClient();
+
+        sendCountedMessageIntoCluster(0);
+        sendCountedMessageIntoCluster(1);
+        sendCountedMessageIntoCluster(2);
+
+        while (serviceMsgCounter.get() < 3)
+        {
+            Thread.yield();
+        }
+
+        final CountersReader counters = aeronCluster.context().aeron().countersReader();
+        final AtomicCounter controlToggle = ClusterControl.findControlToggle(counters);
+        assertNotNull(controlToggle);
+
+        assertTrue(ClusterControl.ToggleState.SNAPSHOT.toggle(controlToggle));
+
+        while (snapshotCount.get() == 0)
+        {
+            Thread.sleep(1);
+        }
+
+        sendCountedMessageIntoCluster(3);
+        sendCountedMessageIntoCluster(4);
+
+        while (serviceMsgCounter.get() < 5)
+        {
+            Thread.yield();
+        }
+
+        aeronCluster.close();
+        container.close();
+        clusteredMediaDriver.close();
+
+        serviceState.set(null);
+        launchClusteredMediaDriver(false);
+        container = launchBackgroundSnapshotService(false, serviceMsgCounter, null);
+
+        while (null == serviceState.get())
+        {
+            Thread.yield();
+        }
+
+        assertThat(serviceState.get(), is("3"));
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldRestartWithReplayWhenServiceStopsDuringBackgroundSnapshot() throws Exception
+    {
+        final AtomicLong serviceMsgCounter = new AtomicLong(0);
+        final AtomicLong restartServiceMsgCounter = new AtomicLong(0);
+        final CountDownLatch snapshotWriteLatch = new CountDownLatch(1);
+
+        container = launchBackgroundSnapshotService(true, serviceMsgCounter, snapshotWriteLatch);
+
+        connectClient();
+
+        sendCountedMessageIntoCluster(0);
+        sendCountedMessageIntoCluster(1);
+        sendCountedMessageIntoCluster(2);
+
+        while (serviceMsgCounter.get() < 3)
+        {
+            Thread.yield();
+        }
+
+        final CountersReader counters = aeronCluster.context().aeron().countersReader();
+        final AtomicCounter controlToggle = ClusterControl.findControlToggle(counters);
+        assertNotNull(controlToggle);
+
+        assertTrue(ClusterControl.ToggleState.SNAPSHOT.toggle(controlToggle));
+
+        while (!isSnapshotWriteStarted.get() || snapshotCount.get() == 0)
+        {
+            Thread.sleep(1);
+        }
+
+        aeronCluster.close();
+        snapshotWriteLatch.countDown();
+        container.close();
+        clusteredMediaDriver.close();
+
+        serviceState.set(null);
+        launchClusteredMediaDriver(false);
+        container = launchService(false, restartServiceMsgCounter);
+
+        while (restartServiceMsgCounter.get() < 3)
+        {
+            Thread.yield();
+        }
+
+        assertNull(serviceState.get());
+
+        connectClient();
+
+        sendCountedMessageIntoCluster(3);
+
+        while (restartServiceMsgCounter.get() < 4)
+        {
+            Thread.yield();
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldProcessIngressWhileBackgroundSnapshotIsWritten() throws Exception
+    {
+        final AtomicLong serviceMsgCounter = new AtomicLong(0);
+        final CountDownLatch snapshotWriteLatch = new CountDownLatch(1);
+
+        container = launchBackgroundSnapshotService(true, serviceMsgCounter, snapshotWriteLatch);
+
+        connectClient();
+
+        sendCountedMessageIntoCluster(0);
+        sendCountedMessageIntoCluster(1);
+        sendCountedMessageIntoCluster(2);
+
+        while (serviceMsgCounter.get() < 3)
+        {
+            Thread.yield();
+        }
+
+        final CountersReader counters = aeronCluster.context().aeron().countersReader();
+        final AtomicCounter controlToggle = ClusterControl.findControlToggle(counters);
+        assertNotNull(controlToggle);
+
+        assertTrue(ClusterControl.ToggleState.SNAPSHOT.toggle(controlToggle));
+
+        while (!isSnapshotWriteStarted.get() || snapshotCount.get() == 0)
+        {
+            Thread.sleep(1);
+        }
+
+        sendCountedMessageIntoCluster(3);
+        sendCountedMessageIntoCluster(4);
+
+        while (serviceMsgCounter.get() < 5)
+        {
+            Thread.yield();
+        }
+
+        assertThat(snapshotWriteLatch.getCount(), is(1L));
+        snapshotWriteLatch.countDown();
+    }
+
     private void sendCountedMessageIntoCluster(final int value)
     {
         final long msgCorrelationId = aeronCluster.context().aeron().nextCorrelationId();
@@ -291,6 +447,19 @@ public class ClusterNodeRestartTest
                 .deleteDirOnStart(initialLaunch));
     }
 
+    private ClusteredServiceContainer launchBackgroundSnapshotService(
+        final boolean initialLaunch, final AtomicLong msgCounter, final CountDownLatch snapshotWriteLatch)
+    {
+        final ClusteredService service = new BackgroundSnapshotCountingService(msgCounter, snapshotWriteLatch);
+
+        return ClusteredServiceContainer.launch(
+            new ClusteredServiceContainer.Context()
+                .clusteredService(service)
+                .terminationHook(() -> {})
+                .errorHandler(Throwable::printStackTrace)
+                .deleteDirOnStart(initialLaunch));
+    }
+
     private AeronCluster connectToCluster()
     {
         return AeronCluster.connect(
@@ -332,4 +501,99 @@ public class ClusterNodeRestartTest
             throw new IllegalStateException("Unexpected publication state: " + result);
         }
     }
+
+    class BackgroundSnapshotCountingService extends StubClusteredService implements BackgroundSnapshotService
+    {
+        private final AtomicLong msgCounter;
+        private final CountDownLatch snapshotWriteLatch;
+        private int counterValue = 0;
+
+        BackgroundSnapshotCountingService(final AtomicLong msgCounter, final CountDownLatch snapshotWriteLatch)
+        {
+            this.msgCounter = msgCounter;
+            this.snapshotWriteLatch = snapshotWriteLatch;
+        }
+
+        public void onSessionMessage(
+            final long clusterSessionId,
+            final long correlationId,
+            final long timestampMs,
+            final DirectBuffer buffer,
+            final int offset,
+            final int length,
+            final Header header)
+        {
+            final int sentValue = buffer.getInt(offset);
+            assertThat(sentValue, is(counterValue));
+
+            counterValue++;
+            msgCounter.getAndIncrement();
+        }
+
+        public SnapshotView freezeSnapshot()
+        {
+            final int frozenCounterValue = counterValue;
+
+            return (snapshotPublication) ->
+            {
+                if (null != snapshotWriteLatch)
+                {
+                    isSnapshotWriteStarted.set(true);
+                    awaitSnapshotWriteLatch();
+
+                    throw new AgentTerminationException("Service stopped before snapshot was recorded");
+                }
+
+                final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+
+                int length = 0;
+                buffer.putInt(length, frozenCounterValue);
+                length += SIZE_OF_INT;
+
+                length += buffer.putIntAscii(length, frozenCounterValue);
+
+                snapshotPublication.offer(buffer, 0, length);
+            };
+        }
+
+        public void onLoadSnapshot(final Image snapshotImage)
+        {
+            while (true)
+            {
+                final int fragments = snapshotImage.poll(
+                    (buffer, offset, length, header) ->
+                    {
+                        counterValue = buffer.getInt(offset);
+                        serviceState.set(
+                            buffer.getStringWithoutLengthAscii(offset + SIZE_OF_INT, length - SIZE_OF_INT));
+                    },
+                    1);
+
+                if (fragments == 1)
+                {
+                    break;
+                }
+
+                if (Thread.currentThread().isInterrupted())
+                {
+                    throw new AgentTerminationException("Unexpected interrupt during operation");
+                }
+
+                Thread.yield();
+            }
+        }
+
+        private void awaitSnapshotWriteLatch()
+        {
+            try
+            {
+                snapshotWriteLatch.await();
+            }
+            catch (final InterruptedException ex)
+            {
+                Thread.currentThread().interrupt();
+                throw new AgentTerminationException("Unexpected interrupt during operation");
+            }
+        }
+    }
 }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.cluster;
+
+import io.aeron.Publication;
+import io.aeron.cluster.service.Cluster;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ElectionTest
+{
+    private static final long ELECTION_TIMEOUT_MS = 1000;
+    private static final long LEADERSHIP_TERM_ID = 7;
+    private static final long LOG_POSITION = 1024;
+
+    private final ClusterMember[] members = new ClusterMember[]
+    {
+        new ClusterMember(0, "clientEndpoint", "memberEndpoint", "logEndpoint"),
+        new ClusterMember(1, "clientEndpoint", "memberEndpoint", "logEndpoint"),
+        new ClusterMember(2, "clientEndpoint", "memberEndpoint", "logEndpoint"),
+    };
+
+    private final MemberStatusPublisher memberStatusPublisher = mock(MemberStatusPublisher.class);
+    private final Random random = new Random(0);
+
+    @Before
+    public void before()
+    {
+        for (final ClusterMember member : members)
+        {
+            member.publication(mock(Publication.class));
+        }
+
+        when(memberStatusPublisher.requestVote(any(), anyLong(), anyLong(), anyLong(), anyInt())).thenReturn(true);
+        when(memberStatusPublisher.newLeadershipTerm(any(), anyLong(), anyLong(), anyInt())).thenReturn(true);
+    }
+
+    @Test
+    public void shouldElectAppointedLeaderOnQuorumOfVotes()
+    {
+        final Election election = newElection(0, LOG_POSITION, 0);
+
+        election.doWork(0);
+        assertThat(election.state(), is(Election.State.CANDIDATE_BALLOT));
+
+        final long candidateTermId = LEADERSHIP_TERM_ID + 1;
+        verify(memberStatusPublisher).requestVote(
+            members[1].publication(), candidateTermId, LEADERSHIP_TERM_ID, LOG_POSITION, 0);
+        verify(memberStatusPublisher).requestVote(
+            members[2].publication(), candidateTermId, LEADERSHIP_TERM_ID, LOG_POSITION, 0);
+
+        election.onVote(candidateTermId, 0, 1, true);
+        election.doWork(1);
+
+        assertThat(election.isDone(), is(true));
+        assertThat(election.role(), is(Cluster.Role.LEADER));
+        assertThat(election.leaderMemberId(), is(0));
+        assertThat(election.leadershipTermId(), is(candidateTermId));
+        verify(memberStatusPublisher).newLeadershipTerm(members[1].publication(), candidateTermId, LOG_POSITION, 0);
+        verify(memberStatusPublisher).newLeadershipTerm(members[2].publication(), candidateTermId, LOG_POSITION, 0);
+    }
+
+    @Test
+    public void shouldNotBecomeLeaderWithoutQuorum()
+    {
+        final Election election = newElection(0, LOG_POSITION, 0);
+
+        election.doWork(0);
+        election.onVote(LEADERSHIP_TERM_ID + 1, 0, 1, false);
+        election.doWork(1);
+
+        assertThat(election.state(), is(Election.State.CANDIDATE_BALLOT));
+        assertThat(election.isDone(), is(false));
+    }
+
+    @Test
+    public void shouldRejectCandidateWithLessUpToDateLog()
+    {
+        final Election election = newElection(1, LOG_POSITION, 0);
+        final long candidateTermId = LEADERSHIP_TERM_ID + 1;
+
+        election.onRequestVote(candidateTermId, LEADERSHIP_TERM_ID, LOG_POSITION - 1, 0, 0);
+
+        verify(memberStatusPublisher).vote(members[0].publication(), candidateTermId, 0, 1, false);
+        assertThat(election.state(), is(Election.State.NOMINATE));
+    }
+
+    @Test
+    public void shouldRejectCandidateWithLongerLogFromEarlierTerm()
+    {
+        final Election election = newElection(1, LOG_POSITION, 0);
+        final long candidateTermId = LEADERSHIP_TERM_ID + 1;
+
+        election.onRequestVote(candidateTermId, LEADERSHIP_TERM_ID - 1, LOG_POSITION + 1, 0, 0);
+
+        verify(memberStatusPublisher).vote(members[0].publication(), candidateTermId, 0, 1, false);
+        assertThat(election.state(), is(Election.State.NOMINATE));
+    }
+
+    @Test
+    public void shouldGrantVoteToCandidateWithShorterLogFromLaterTerm()
+    {
+        final Election election = newElection(1, LOG_POSITION, 0);
+        final long candidateTermId = LEADERSHIP_TERM_ID + 2;
+
+        election.onRequestVote(candidateTermId, LEADERSHIP_TERM_ID + 1, LOG_POSITION - 1, 0, 0);
+
+        verify(memberStatusPublisher).vote(members[0].publication(), candidateTermId, 0, 1, true);
+        assertThat(election.state(), is(Election.State.FOLLOWER_BALLOT));
+    }
+
+    @Test
+    public void shouldVoteOnlyOncePerTerm()
+    {
+        final Election election = newElection(1, LOG_POSITION, 0);
+        final long candidateTermId = LEADERSHIP_TERM_ID + 1;
+
+        election.onRequestVote(candidateTermId, LEADERSHIP_TERM_ID, LOG_POSITION, 0, 0);
+        election.onRequestVote(candidateTermId, LEADERSHIP_TERM_ID, LOG_POSITION, 2, 0);
+
+        verify(memberStatusPublisher).vote(members[0].publication(), candidateTermId, 0, 1, true);
+        verify(memberStatusPublisher).vote(members[2].publication(), candidateTermId, 2, 1, false);
+        assertThat(election.state(), is(Election.State.FOLLOWER_BALLOT));
+    }
+
+    @Test
+    public void shouldNominateAgainWhenBallotTimesOut()
+    {
+        final Election election = newElection(1, LOG_POSITION, 0);
+        final long candidateTermId = LEADERSHIP_TERM_ID + 1;
+
+        election.onRequestVote(candidateTermId, LEADERSHIP_TERM_ID, LOG_POSITION, 0, 0);
+        election.doWork(ELECTION_TIMEOUT_MS);
+        assertThat(election.state(), is(Election.State.NOMINATE));
+
+        election.doWork(ELECTION_TIMEOUT_MS * 2);
+        assertThat(election.state(), is(Election.State.CANDIDATE_BALLOT));
+        verify(memberStatusPublisher).requestVote(
+            members[0].publication(), candidateTermId + 1, LEADERSHIP_TERM_ID, LOG_POSITION, 1);
+    }
+
+    @Test
+    public void shouldFollowOnNewLeadershipTerm()
+    {
+        final Election election = newElection(1, LOG_POSITION, 0);
+        final long leadershipTermId = LEADERSHIP_TERM_ID + 1;
+
+        election.onRequestVote(leadershipTermId, LEADERSHIP_TERM_ID, LOG_POSITION, 2, 0);
+        election.onNewLeadershipTerm(leadershipTermId, LOG_POSITION, 2);
+
+        assertThat(election.isDone(), is(true));
+        assertThat(election.role(), is(Cluster.Role.FOLLOWER));
+        assertThat(election.leaderMemberId(), is(2));
+        assertThat(election.leadershipTermId(), is(leadershipTermId));
+    }
+
+    @Test
+    public void shouldNotFollowNewLeadershipTermWhenLogIsBehind()
+    {
+        final Election election = newElection(1, LOG_POSITION - 1, 0);
+        final long leadershipTermId = LEADERSHIP_TERM_ID + 1;
+
+        election.onRequestVote(leadershipTermId, LEADERSHIP_TERM_ID, LOG_POSITION, 2, 0);
+        election.onNewLeadershipTerm(leadershipTermId, LOG_POSITION, 2);
+
+        assertThat(election.isDone(), is(false));
+        assertThat(election.role(), is(Cluster.Role.CANDIDATE));
+        assertThat(election.logPosition(), is(LOG_POSITION - 1));
+    }
+
+    @Test
+    public void shouldNotFollowNewLeadershipTermWhenLogIsAhead()
+    {
+        final Election election = newElection(1, LOG_POSITION + 1, 0);
+        final long leadershipTermId = LEADERSHIP_TERM_ID + 1;
+
+        election.onNewLeadershipTerm(leadershipTermId, LOG_POSITION, 2);
+
+        assertThat(election.isDone(), is(false));
+        assertThat(election.role(), is(Cluster.Role.CANDIDATE));
+    }
+
+    @Test
+    public void shouldRequestVotesWithTermOfLastLogEntry()
+    {
+        final long lastLogTermId = LEADERSHIP_TERM_ID - 2;
+        final Election election = new Election(
+            0, 0, LEADERSHIP_TERM_ID, lastLogTermId, LOG_POSITION, ELECTION_TIMEOUT_MS,
+            members, memberStatusPublisher, random, 0);
+
+        election.doWork(0);
+
+        verify(memberStatusPublisher).requestVote(
+            members[1].publication(), LEADERSHIP_TERM_ID + 1, lastLogTermId, LOG_POSITION, 0);
+    }
+
+    @Test
+    public void shouldBecomeLeaderImmediatelyWhenSingleMember()
+    {
+        final ClusterMember[] singleMember = new ClusterMember[]{ members[0] };
+        final Election election = new Election(
+            0, -1, LEADERSHIP_TERM_ID, LEADERSHIP_TERM_ID, LOG_POSITION, ELECTION_TIMEOUT_MS,
+            singleMember, memberStatusPublisher, random, 0);
+
+        election.doWork(ELECTION_TIMEOUT_MS);
+        election.doWork(ELECTION_TIMEOUT_MS);
+
+        assertThat(election.role(), is(Cluster.Role.LEADER));
+        assertThat(election.leadershipTermId(), is(LEADERSHIP_TERM_ID + 1));
+    }
+
+    private Election newElection(final int thisMemberId, final long lastLogPosition, final long nowMs)
+    {
+        return new Election(
+            thisMemberId,
+            0,
+            LEADERSHIP_TERM_ID,
+            LEADERSHIP_TERM_ID,
+            lastLogPosition,
+            ELECTION_TIMEOUT_MS,
+            members,
+            memberStatusPublisher,
+            random,
+            nowMs);
+    }
+}
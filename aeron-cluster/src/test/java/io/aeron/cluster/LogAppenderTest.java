@@ -0,0 +1,216 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.cluster;
+
+import io.aeron.Aeron;
+import io.aeron.Subscription;
+import io.aeron.archive.client.AeronArchive;
+import io.aeron.cluster.codecs.MessageHeaderDecoder;
+import io.aeron.cluster.codecs.MessageHeaderEncoder;
+import io.aeron.cluster.codecs.SessionHeaderDecoder;
+import io.aeron.cluster.codecs.SessionHeaderEncoder;
+import io.aeron.cluster.codecs.TimerEventDecoder;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import org.agrona.CloseHelper;
+import org.agrona.collections.LongArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class LogAppenderTest
+{
+    private static final String LOG_CHANNEL = "aeron:ipc?term-length=64k";
+    private static final int LOG_STREAM_ID = 100;
+    private static final int INGRESS_BATCH_LENGTH = 4096;
+    private static final int PAYLOAD_LENGTH = 100;
+    private static final long NOW_MS = 7;
+
+    private final MessageHeaderEncoder messageHeaderEncoder = new MessageHeaderEncoder();
+    private final SessionHeaderEncoder sessionHeaderEncoder = new SessionHeaderEncoder();
+    private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
+    private final SessionHeaderDecoder sessionHeaderDecoder = new SessionHeaderDecoder();
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[1024]);
+    private final LongArrayList receivedCorrelationIds = new LongArrayList();
+    private final LogAppender logAppender = new LogAppender(INGRESS_BATCH_LENGTH);
+
+    private MediaDriver driver;
+    private Aeron aeron;
+    private Subscription subscription;
+
+    @Before
+    public void before()
+    {
+        driver = MediaDriver.launch(
+            new MediaDriver.Context()
+                .threadingMode(ThreadingMode.SHARED)
+                .errorHandler(Throwable::printStackTrace)
+                .dirDeleteOnStart(true));
+
+        aeron = Aeron.connect();
+        subscription = aeron.addSubscription(LOG_CHANNEL, LOG_STREAM_ID);
+        logAppender.connect(aeron, mock(AeronArchive.class), LOG_CHANNEL, LOG_STREAM_ID);
+    }
+
+    @After
+    public void after()
+    {
+        logAppender.disconnect((clusterSessionId) -> {});
+        CloseHelper.close(aeron);
+        CloseHelper.close(driver);
+
+        driver.context().deleteAeronDirectory();
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldAppendBatchOfMessagesAsSeparateFragmentsWhenFlushed()
+    {
+        final int messageCount = 10;
+        for (int i = 0; i < messageCount; i++)
+        {
+            assertTrue(logAppender.appendMessage(buffer, 0, encodeSessionMessage(i), NOW_MS));
+        }
+
+        assertThat(logAppender.position(), is(0L));
+        assertTrue(logAppender.flush());
+
+        pollUntil(messageCount);
+        for (int i = 0; i < messageCount; i++)
+        {
+            assertThat(receivedCorrelationIds.getLong(i), is((long)i));
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldFlushBatchBeforeAppendingOtherEvents()
+    {
+        assertTrue(logAppender.appendMessage(buffer, 0, encodeSessionMessage(1), NOW_MS));
+        assertTrue(logAppender.appendMessage(buffer, 0, encodeSessionMessage(2), NOW_MS));
+        assertTrue(logAppender.appendTimerEvent(-1, NOW_MS));
+
+        pollUntil(3);
+        assertThat(receivedCorrelationIds.getLong(0), is(1L));
+        assertThat(receivedCorrelationIds.getLong(1), is(2L));
+        assertThat(receivedCorrelationIds.getLong(2), is(-1L));
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldAppendBatchesAcrossTermBoundaries()
+    {
+        final int messageCount = 2000;
+        int received = 0;
+        for (int i = 0; i < messageCount; i++)
+        {
+            while (!logAppender.appendMessage(buffer, 0, encodeSessionMessage(i), NOW_MS))
+            {
+                received += poll();
+            }
+
+            if (0 == (i % 7))
+            {
+                while (!logAppender.flush())
+                {
+                    received += poll();
+                }
+            }
+        }
+
+        while (!logAppender.flush())
+        {
+            received += poll();
+        }
+
+        pollUntil(messageCount - received);
+        for (int i = 0; i < messageCount; i++)
+        {
+            assertThat(receivedCorrelationIds.getLong(i), is((long)i));
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldFlushPendingBatchOnDisconnect()
+    {
+        final LongArrayList lostClusterSessionIds = new LongArrayList();
+        assertTrue(logAppender.appendMessage(buffer, 0, encodeSessionMessage(1), NOW_MS));
+        assertTrue(logAppender.appendMessage(buffer, 0, encodeSessionMessage(2), NOW_MS));
+
+        logAppender.disconnect(lostClusterSessionIds::addLong);
+
+        pollUntil(2);
+        assertThat(receivedCorrelationIds.getLong(0), is(1L));
+        assertThat(receivedCorrelationIds.getLong(1), is(2L));
+        assertTrue(lostClusterSessionIds.isEmpty());
+    }
+
+    private int encodeSessionMessage(final long correlationId)
+    {
+        sessionHeaderEncoder
+            .wrapAndApplyHeader(buffer, 0, messageHeaderEncoder)
+            .clusterSessionId(1)
+            .correlationId(correlationId)
+            .timestamp(0);
+
+        return MessageHeaderEncoder.ENCODED_LENGTH + SessionHeaderEncoder.BLOCK_LENGTH + PAYLOAD_LENGTH;
+    }
+
+    private void pollUntil(final int count)
+    {
+        int received = 0;
+        while (received < count)
+        {
+            final int fragments = poll();
+            if (0 == fragments)
+            {
+                Thread.yield();
+            }
+
+            received += fragments;
+        }
+    }
+
+    private int poll()
+    {
+        return subscription.poll(
+            (buffer, offset, length, header) ->
+            {
+                messageHeaderDecoder.wrap(buffer, offset);
+                if (SessionHeaderDecoder.TEMPLATE_ID == messageHeaderDecoder.templateId())
+                {
+                    sessionHeaderDecoder.wrap(
+                        buffer,
+                        offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                        messageHeaderDecoder.blockLength(),
+                        messageHeaderDecoder.version());
+
+                    assertThat(length, is(
+                        MessageHeaderDecoder.ENCODED_LENGTH + SessionHeaderDecoder.BLOCK_LENGTH + PAYLOAD_LENGTH));
+                    assertThat(sessionHeaderDecoder.timestamp(), is(NOW_MS));
+                    receivedCorrelationIds.addLong(sessionHeaderDecoder.correlationId());
+                }
+                else if (TimerEventDecoder.TEMPLATE_ID == messageHeaderDecoder.templateId())
+                {
+                    receivedCorrelationIds.addLong(-1);
+                }
+            },
+            10);
+    }
+}
@@ -23,6 +23,7 @@ import io.aeron.cluster.codecs.CloseReason;
 import io.aeron.cluster.codecs.ClusterAction;
 import io.aeron.cluster.codecs.EventCode;
 import io.aeron.cluster.service.Cluster;
+import io.aeron.cluster.service.RecordingLog;
 import io.aeron.status.ReadableCounter;
 import org.agrona.collections.MutableLong;
 import org.agrona.concurrent.*;
@@ -68,6 +69,7 @@ public class SequencerAgentTest
         .aeron(mockAeron)
         .clusterMembers(MEMBERS)
         .clusterMemberId(0)
+        .recordingLog(mock(RecordingLog.class))
         .epochClock(new SystemEpochClock())
         .cachedEpochClock(new CachedEpochClock())
         .authenticatorSupplier(new DefaultAuthenticatorSupplier());
@@ -78,6 +80,7 @@ public class SequencerAgentTest
         when(mockEgressPublisher.sendEvent(any(), any(), any())).thenReturn(TRUE);
         when(mockLogAppender.appendConnectedSession(any(), anyLong())).thenReturn(128L);
         when(mockLogAppender.appendClusterAction(any(), anyLong(), anyLong(), anyLong())).thenReturn(TRUE);
+        when(mockLogAppender.flush()).thenReturn(TRUE);
         when(mockAeron.addExclusivePublication(anyString(), anyInt())).thenReturn(mockResponsePublication);
         when(mockAeron.addSubscription(anyString(), anyInt())).thenReturn(mockConsensusModuleSubscription);
         when(mockResponsePublication.isConnected()).thenReturn(TRUE);
@@ -148,6 +151,60 @@ public class SequencerAgentTest
             any(ClusterSession.class), eq(EventCode.ERROR), eq(ConsensusModule.Configuration.SESSION_TIMEOUT_MSG));
     }
 
+    @Test
+    public void shouldShareResponsePublicationBetweenSessionsWithSameResponseChannel()
+    {
+        final CachedEpochClock clock = new CachedEpochClock();
+        ctx.epochClock(clock);
+
+        final SequencerAgent agent = newSequencerAgent();
+
+        agent.state(ConsensusModule.State.ACTIVE);
+        agent.role(Cluster.Role.LEADER);
+        agent.commitPositionCounter(mock(Counter.class));
+        agent.logRecordingPositionCounter(mock(ReadableCounter.class));
+        agent.onSessionConnect(1L, 2, RESPONSE_CHANNEL_ONE, new byte[0]);
+        agent.onSessionConnect(2L, 2, RESPONSE_CHANNEL_ONE, new byte[0]);
+
+        clock.update(1);
+        agent.doWork();
+
+        verify(mockLogAppender, times(2)).appendConnectedSession(any(ClusterSession.class), anyLong());
+        verify(mockAeron, times(1)).addExclusivePublication(RESPONSE_CHANNEL_ONE, 2);
+
+        agent.onSessionClose(1L);
+        verify(mockResponsePublication, never()).close();
+    }
+
+    @Test
+    public void shouldKeepLogSessionsForNewLeaderToCloseWhenLeaderStepsDown()
+    {
+        final CachedEpochClock clock = new CachedEpochClock();
+        ctx.epochClock(clock);
+
+        final SequencerAgent agent = newSequencerAgent();
+
+        agent.state(ConsensusModule.State.ACTIVE);
+        agent.role(Cluster.Role.LEADER);
+        agent.commitPositionCounter(mock(Counter.class));
+        agent.logRecordingPositionCounter(mock(ReadableCounter.class));
+        agent.onSessionConnect(1L, 2, RESPONSE_CHANNEL_ONE, new byte[0]);
+
+        clock.update(1);
+        agent.doWork();
+
+        verify(mockLogAppender).appendConnectedSession(any(ClusterSession.class), anyLong());
+
+        agent.onNewLeadershipTerm(1L, 0L, 1);
+        verify(mockLogAppender).disconnect(any());
+        verify(mockResponsePublication).close();
+        verify(mockLogAppender, never()).appendClosedSession(any(ClusterSession.class), any(), anyLong());
+
+        final long clusterSessionId = 1L;
+        agent.onReplaySessionClose(2L, clusterSessionId, 2L, CloseReason.TIMEOUT);
+        verify(mockLogAppender, never()).appendClosedSession(any(ClusterSession.class), any(), anyLong());
+    }
+
     @Test
     public void shouldSuspendThenResume()
     {
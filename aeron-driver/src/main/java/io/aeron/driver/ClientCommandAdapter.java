@@ -161,6 +161,30 @@ class ClientCommandAdapter implements MessageHandler
                     break;
                 }
 
+                case ADD_RCV_DESTINATION:
+                {
+                    destinationMsgFlyweight.wrap(buffer, index);
+
+                    correlationId = destinationMsgFlyweight.correlationId();
+                    final long channelRegistrationId = destinationMsgFlyweight.registrationCorrelationId();
+                    final String channel = destinationMsgFlyweight.channel();
+
+                    conductor.onAddRcvDestination(channelRegistrationId, channel, correlationId);
+                    break;
+                }
+
+                case REMOVE_RCV_DESTINATION:
+                {
+                    destinationMsgFlyweight.wrap(buffer, index);
+
+                    correlationId = destinationMsgFlyweight.correlationId();
+                    final long channelRegistrationId = destinationMsgFlyweight.registrationCorrelationId();
+                    final String channel = destinationMsgFlyweight.channel();
+
+                    conductor.onRemoveRcvDestination(channelRegistrationId, channel, correlationId);
+                    break;
+                }
+
                 case CLIENT_KEEPALIVE:
                 {
                     correlatedMsgFlyweight.wrap(buffer, index);
@@ -24,6 +24,7 @@ import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import org.agrona.BitUtil;
 import org.agrona.LangUtil;
 import org.agrona.concurrent.BackoffIdleStrategy;
@@ -116,6 +117,16 @@ public class Configuration
      */
     public static final int FILE_PAGE_SIZE = getSizeAsInt(FILE_PAGE_SIZE_PROP_NAME, FILE_PAGE_SIZE_DEFAULT);
 
+    /**
+     * Property name for the directory in which the log buffers for publications and images are created.
+     */
+    public static final String LOG_BUFFER_DIR_PROP_NAME = "aeron.log.buffer.dir";
+
+    /**
+     * Property name for the page size of the file system on which log buffers are created.
+     */
+    public static final String LOG_BUFFER_PAGE_SIZE_PROP_NAME = "aeron.log.buffer.page.size";
+
     /**
      * Property name for boolean value for if storage checks should be performed when allocating files.
      */
@@ -290,6 +301,64 @@ public class Configuration
      */
     public static final int SEND_TO_STATUS_POLL_RATIO_DEFAULT = 4;
 
+    /**
+     * Property name for the maximum number of datagrams a {@link NetworkPublication} will send in a single
+     * duty cycle of the {@link Sender}.
+     */
+    public static final String NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_PROP_NAME =
+        "aeron.network.publication.max.messages.per.send";
+
+    /**
+     * Default maximum number of datagrams a {@link NetworkPublication} will send in a single duty cycle.
+     */
+    public static final int NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_DEFAULT = 1;
+
+    /**
+     * Property name for the number of {@link Sender} agents, each on its own thread, over which send channel
+     * endpoints and their {@link NetworkPublication}s are sharded when running in {@link ThreadingMode#DEDICATED}.
+     * Other threading modes have a single sender.
+     */
+    public static final String SENDER_COUNT_PROP_NAME = "aeron.sender.count";
+
+    /**
+     * Default number of {@link Sender} agents.
+     */
+    public static final int SENDER_COUNT_DEFAULT = 1;
+
+    /**
+     * Property name for the maximum number of datagrams the {@link Receiver} will read from a transport in a
+     * single poll before dispatching them.
+     */
+    public static final String RECEIVER_MAX_MESSAGES_PER_POLL_PROP_NAME = "aeron.receiver.max.messages.per.poll";
+
+    /**
+     * Default maximum number of datagrams the {@link Receiver} will read from a transport in a single poll.
+     */
+    public static final int RECEIVER_MAX_MESSAGES_PER_POLL_DEFAULT = 1;
+
+    /**
+     * Property name for the maximum number of gaps in a term a receiver will report in a single selective NAK.
+     * A value of 1 sends a NAK per gap as understood by all senders.
+     */
+    public static final String NAK_MAX_RANGES_PROP_NAME = "aeron.rcv.nak.max.ranges";
+
+    /**
+     * Default maximum number of gaps in a term a receiver will report in a single NAK.
+     */
+    public static final int NAK_MAX_RANGES_DEFAULT = 1;
+
+    /**
+     * Property name for the number of {@link Receiver} agents, each on its own thread, over which receive channel
+     * endpoints are sharded when running in {@link ThreadingMode#DEDICATED}. Other threading modes have a single
+     * receiver.
+     */
+    public static final String RECEIVER_COUNT_PROP_NAME = "aeron.receiver.count";
+
+    /**
+     * Default number of {@link Receiver} agents.
+     */
+    public static final int RECEIVER_COUNT_DEFAULT = 1;
+
     /**
      * Property name for SO_RCVBUF setting on UDP sockets which must be sufficient for Bandwidth Delay Produce (BDP).
      */
@@ -766,11 +835,23 @@ public class Configuration
     public static final long RETRANSMIT_UNICAST_DELAY_DEFAULT_NS = TimeUnit.NANOSECONDS.toNanos(0);
 
     /**
-     * Source uses same for unicast and multicast. For ticks.
+     * Unicast retransmits are immediate.
      */
     public static final FeedbackDelayGenerator RETRANSMIT_UNICAST_DELAY_GENERATOR =
         () -> RETRANSMIT_UNICAST_DELAY_DEFAULT_NS;
 
+    /**
+     * Property name for the delay in nanoseconds before retransmission of data for multicast, and
+     * multi-destination-cast, publications. A non-zero delay allows NAKs from several receivers for the same loss
+     * to be merged into a single retransmit at the cost of that delay on recovery.
+     */
+    public static final String RETRANSMIT_MULTICAST_DELAY_PROP_NAME = "aeron.retransmit.multicast.delay";
+
+    /**
+     * Default delay before retransmission of data for multicast in nanoseconds which is immediate like unicast.
+     */
+    public static final long RETRANSMIT_MULTICAST_DELAY_DEFAULT_NS = TimeUnit.NANOSECONDS.toNanos(0);
+
     /**
      * Default delay for linger for unicast in nanoseconds.
      */
@@ -782,11 +863,48 @@ public class Configuration
     public static final FeedbackDelayGenerator RETRANSMIT_UNICAST_LINGER_GENERATOR =
         () -> RETRANSMIT_UNICAST_LINGER_DEFAULT_NS;
 
+    /**
+     * Property name for the max number of active retransmissions per network publication. This can be overridden
+     * for a publication with the {@link io.aeron.CommonContext#MAX_RETRANSMITS_PARAM_NAME} channel URI param.
+     */
+    public static final String MAX_RETRANSMITS_PROP_NAME = "aeron.max.retransmits";
+
     /**
      * Default max number of active retransmissions per connected stream.
      */
     public static final int MAX_RETRANSMITS_DEFAULT = 16;
 
+    /**
+     * Property name for the rate in bytes per second at which a network publication is paced onto the network so a
+     * large offer is spread out rather than sent as a line rate burst. This can be overridden for a publication with
+     * the {@link io.aeron.CommonContext#PACING_RATE_PARAM_NAME} channel URI param.
+     * <p>
+     * A sender idle strategy which does not park is recommended when pacing as the sender is idle while it waits on
+     * the pacing rate.
+     */
+    public static final String SENDER_PACING_RATE_PROP_NAME = "aeron.sender.pacing.rate";
+
+    /**
+     * Default rate in bytes per second at which a network publication is paced which is 0 for no pacing.
+     */
+    public static final long SENDER_PACING_RATE_DEFAULT = 0;
+
+    /**
+     * Property name for the number of bytes a paced network publication can send in a burst after being idle.
+     */
+    public static final String SENDER_PACING_BURST_LENGTH_PROP_NAME = "aeron.sender.pacing.burst.length";
+
+    /**
+     * Default number of bytes a paced network publication can send in a burst after being idle.
+     */
+    public static final int SENDER_PACING_BURST_LENGTH_DEFAULT = 16 * 1024;
+
+    /**
+     * Max number of data datagrams which can be protected by a single FEC frame when FEC is enabled for a publication
+     * with the {@link io.aeron.CommonContext#FEC_PARAM_NAME} channel URI param.
+     */
+    public static final int FEC_MAX_GROUP_LENGTH = 64;
+
     /**
      * How far ahead the publisher can get from the sender position.
      *
@@ -902,6 +1020,32 @@ public class Configuration
         return getSizeAsInt(TERM_BUFFER_LENGTH_PROP_NAME, TERM_BUFFER_LENGTH_DEFAULT);
     }
 
+    /**
+     * Directory in which the log buffers are created. Defaults to null which means the Aeron directory is used.
+     * <p>
+     * Setting this to a directory on a hugetlbfs mount backs the term buffers with huge pages so the data path
+     * takes no page faults and fewer TLB misses. The directory must be unique to each driver.
+     *
+     * @return directory in which the log buffers are created or null if the Aeron directory is to be used.
+     * @see #LOG_BUFFER_DIR_PROP_NAME
+     */
+    public static String logBufferDirectoryName()
+    {
+        return getProperty(LOG_BUFFER_DIR_PROP_NAME);
+    }
+
+    /**
+     * Page size of the file system on which log buffers are created, e.g. 2m for hugetlbfs. Defaults to
+     * {@link #FILE_PAGE_SIZE}.
+     *
+     * @return page size of the file system on which log buffers are created.
+     * @see #LOG_BUFFER_PAGE_SIZE_PROP_NAME
+     */
+    public static int logBufferPageSize()
+    {
+        return getSizeAsInt(LOG_BUFFER_PAGE_SIZE_PROP_NAME, FILE_PAGE_SIZE);
+    }
+
     static int initialWindowLength()
     {
         return getSizeAsInt(INITIAL_WINDOW_LENGTH_PROP_NAME, INITIAL_WINDOW_LENGTH_DEFAULT);
@@ -917,6 +1061,52 @@ public class Configuration
         return getInteger(SEND_TO_STATUS_POLL_RATIO_PROP_NAME, SEND_TO_STATUS_POLL_RATIO_DEFAULT);
     }
 
+    static long senderPacingRate()
+    {
+        return getSizeAsLong(SENDER_PACING_RATE_PROP_NAME, SENDER_PACING_RATE_DEFAULT);
+    }
+
+    static int senderPacingBurstLength()
+    {
+        return getSizeAsInt(SENDER_PACING_BURST_LENGTH_PROP_NAME, SENDER_PACING_BURST_LENGTH_DEFAULT);
+    }
+
+    static int networkPublicationMaxMessagesPerSend()
+    {
+        return getInteger(
+            NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_PROP_NAME, NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_DEFAULT);
+    }
+
+    static long retransmitMulticastDelayNs()
+    {
+        return getDurationInNanos(RETRANSMIT_MULTICAST_DELAY_PROP_NAME, RETRANSMIT_MULTICAST_DELAY_DEFAULT_NS);
+    }
+
+    static int maxRetransmits()
+    {
+        return getInteger(MAX_RETRANSMITS_PROP_NAME, MAX_RETRANSMITS_DEFAULT);
+    }
+
+    static int nakMaxRanges()
+    {
+        return getInteger(NAK_MAX_RANGES_PROP_NAME, NAK_MAX_RANGES_DEFAULT);
+    }
+
+    static int receiverMaxMessagesPerPoll()
+    {
+        return getInteger(RECEIVER_MAX_MESSAGES_PER_POLL_PROP_NAME, RECEIVER_MAX_MESSAGES_PER_POLL_DEFAULT);
+    }
+
+    static int senderCount()
+    {
+        return getInteger(SENDER_COUNT_PROP_NAME, SENDER_COUNT_DEFAULT);
+    }
+
+    static int receiverCount()
+    {
+        return getInteger(RECEIVER_COUNT_PROP_NAME, RECEIVER_COUNT_DEFAULT);
+    }
+
     static long counterFreeToReuseTimeout()
     {
         return getDurationInNanos(COUNTER_FREE_TO_REUSE_TIMEOUT_PROP_NAME, DEFAULT_COUNTER_FREE_TO_REUSE_TIMEOUT_NS);
@@ -1061,6 +1251,150 @@ public class Configuration
         }
     }
 
+    /**
+     * Validate that the number of datagrams to send in a batch is at least one.
+     *
+     * @param maxMessagesPerSend to be validated.
+     * @throws ConfigurationException if the value is not valid.
+     */
+    static void validateMaxMessagesPerSend(final int maxMessagesPerSend)
+    {
+        if (maxMessagesPerSend < 1)
+        {
+            throw new ConfigurationException("maxMessagesPerSend must be at least 1: " + maxMessagesPerSend);
+        }
+    }
+
+    /**
+     * Validate that the number of datagrams to receive in a batch is at least one.
+     *
+     * @param maxMessagesPerPoll to be validated.
+     * @throws ConfigurationException if the value is not valid.
+     */
+    static void validateMaxMessagesPerPoll(final int maxMessagesPerPoll)
+    {
+        if (maxMessagesPerPoll < 1)
+        {
+            throw new ConfigurationException("maxMessagesPerPoll must be at least 1: " + maxMessagesPerPoll);
+        }
+    }
+
+    /**
+     * Validate that the max number of active retransmissions for a publication is at least one.
+     *
+     * @param maxRetransmits to be validated.
+     * @throws ConfigurationException if the value is not valid.
+     */
+    static void validateMaxRetransmits(final int maxRetransmits)
+    {
+        if (maxRetransmits < 1)
+        {
+            throw new ConfigurationException("maxRetransmits must be at least 1: " + maxRetransmits);
+        }
+    }
+
+    /**
+     * Validate that the pacing rate for a network publication is not negative.
+     *
+     * @param pacingRate to be validated.
+     * @throws ConfigurationException if the value is not valid.
+     */
+    static void validateSenderPacingRate(final long pacingRate)
+    {
+        if (pacingRate < 0)
+        {
+            throw new ConfigurationException("pacingRate must not be negative: " + pacingRate);
+        }
+    }
+
+    /**
+     * Validate that the pacing burst length for a network publication is at least 1.
+     *
+     * @param burstLength to be validated.
+     * @throws ConfigurationException if the value is not valid.
+     */
+    static void validateSenderPacingBurstLength(final int burstLength)
+    {
+        if (burstLength < 1)
+        {
+            throw new ConfigurationException("pacing burstLength must be at least 1: " + burstLength);
+        }
+    }
+
+    /**
+     * Validate that the number of datagrams in a FEC group is 0 for no FEC, or at least 2 and no more than
+     * {@link #FEC_MAX_GROUP_LENGTH} with the resulting FEC frame fitting in a UDP datagram.
+     *
+     * @param groupLength to be validated.
+     * @param mtuLength   of the publication which determines the parity length.
+     * @throws ConfigurationException if the value is not valid.
+     */
+    static void validateFecGroupLength(final int groupLength, final int mtuLength)
+    {
+        if (0 == groupLength)
+        {
+            return;
+        }
+
+        if (groupLength < 2 || groupLength > FEC_MAX_GROUP_LENGTH)
+        {
+            throw new ConfigurationException(
+                "FEC group length must be 0 or in the range 2 to " + FEC_MAX_GROUP_LENGTH + ": " + groupLength);
+        }
+
+        final int frameLength = FecFlyweight.computeFrameLength(groupLength, mtuLength);
+        if (frameLength > MAX_UDP_PAYLOAD_LENGTH)
+        {
+            throw new ConfigurationException(
+                "FEC frame length must be <= MAX_UDP_PAYLOAD_LENGTH: groupLength=" + groupLength +
+                " mtuLength=" + mtuLength);
+        }
+    }
+
+    /**
+     * Validate that the number of ranges in a NAK is at least one and no more than the active retransmissions a
+     * sender will schedule for a stream.
+     *
+     * @param nakMaxRanges to be validated.
+     * @throws ConfigurationException if the value is not valid.
+     */
+    static void validateNakMaxRanges(final int nakMaxRanges)
+    {
+        if (nakMaxRanges < 1 || nakMaxRanges > MAX_RETRANSMITS_DEFAULT)
+        {
+            throw new ConfigurationException(
+                "nakMaxRanges must be in the range 1 to " + MAX_RETRANSMITS_DEFAULT + ": " + nakMaxRanges);
+        }
+    }
+
+    /**
+     * Validate that the number of senders is at least 1.
+     *
+     * @param senderCount to be validated.
+     * @throws ConfigurationException if the value is not valid.
+     */
+    static void validateSenderCount(final int senderCount)
+    {
+        if (senderCount < 1)
+        {
+            throw new ConfigurationException("senderCount must be at least 1: " + senderCount);
+        }
+    }
+
+    /**
+     * Validate that the number of receivers is at least 1.
+     *
+     * @param receiverCount to be validated.
+     * @throws ConfigurationException if the value is not valid.
+     */
+    static void validateReceiverCount(final int receiverCount)
+    {
+        if (receiverCount < 1)
+        {
+            throw new ConfigurationException("receiverCount must be at least 1: " + receiverCount);
+        }
+    }
+
     /**
      * Validate the publication linger timeout is an appropriate value.
      *
@@ -18,6 +18,7 @@ package io.aeron.driver;
 import io.aeron.driver.exceptions.UnknownSubscriptionException;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import org.agrona.collections.Int2ObjectHashMap;
@@ -161,7 +162,7 @@ public class DataPacketDispatcher implements DataPacketHandler, SetupMessageHand
         }
 
         final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.remove(sessionId);
-        if (null != sessionInterest.image)
+        if (null != sessionInterest && null != sessionInterest.image)
         {
             sessionInterest.image.ifActiveGoInactive();
         }
@@ -285,6 +286,27 @@ public class DataPacketDispatcher implements DataPacketHandler, SetupMessageHand
         return 0;
     }
 
+    public int onFecMessage(
+        final ReceiveChannelEndpoint channelEndpoint,
+        final FecFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length)
+    {
+        final StreamInterest streamInterest = streamInterestByIdMap.get(header.streamId());
+
+        if (null != streamInterest)
+        {
+            final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(header.sessionId());
+
+            if (null != sessionInterest && null != sessionInterest.image)
+            {
+                return sessionInterest.image.onFecPacket(header, length);
+            }
+        }
+
+        return 0;
+    }
+
     public void onSetupMessage(
         final ReceiveChannelEndpoint channelEndpoint,
         final SetupFlyweight header,
@@ -23,22 +23,28 @@ import io.aeron.driver.buffer.RawLogFactory;
 import io.aeron.driver.cmd.DriverConductorCmd;
 import io.aeron.driver.exceptions.ControlProtocolException;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
+import io.aeron.driver.media.ReceiveDestinationTransport;
 import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.media.UdpChannelTransport;
 import io.aeron.driver.status.*;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.status.ChannelEndpointStatus;
 import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntHashSet;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.ringbuffer.RingBuffer;
 import org.agrona.concurrent.status.*;
 
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -68,8 +74,10 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
 
     private final Context context;
     private final RawLogFactory rawLogFactory;
-    private final ReceiverProxy receiverProxy;
-    private final SenderProxy senderProxy;
+    private final ReceiverProxy[] receiverProxies;
+    private final SenderProxy[] senderProxies;
+    private final int[] sendChannelEndpointCountBySender;
+    private final int[] receiveChannelEndpointCountByReceiver;
     private final ClientProxy clientProxy;
     private final RingBuffer toDriverCommands;
     private final ClientCommandAdapter clientCommandAdapter;
@@ -79,10 +87,20 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
     private final ArrayList<NetworkPublication> networkPublications = new ArrayList<>();
     private final ArrayList<IpcPublication> ipcPublications = new ArrayList<>();
     private final ArrayList<PublicationImage> publicationImages = new ArrayList<>();
-    private final ArrayList<PublicationLink> publicationLinks = new ArrayList<>();
-    private final ArrayList<SubscriptionLink> subscriptionLinks = new ArrayList<>();
-    private final ArrayList<CounterLink> counterLinks = new ArrayList<>();
-    private final ArrayList<AeronClient> clients = new ArrayList<>();
+    private final Long2ObjectHashMap<NetworkPublication> networkPublicationByIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<IpcPublication> ipcPublicationByIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<PublicationLink> publicationLinkByIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<SubscriptionLink> subscriptionLinkByIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<CounterLink> counterLinkByIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<AeronClient> clientByIdMap = new Long2ObjectHashMap<>();
+    private final HashMap<String, Int2ObjectHashMap<ArrayList<NetworkPublication>>>
+        networkPublicationsByChannelAndStreamIdMap = new HashMap<>();
+    private final HashMap<String, Int2ObjectHashMap<ArrayList<IpcPublication>>>
+        ipcPublicationsByChannelAndStreamIdMap = new HashMap<>();
+    private final HashMap<String, Int2ObjectHashMap<ArrayList<PublicationImage>>>
+        publicationImagesByChannelAndStreamIdMap = new HashMap<>();
+    private final HashMap<String, Int2ObjectHashMap<ArrayList<SubscriptionLink>>>
+        subscriptionLinksByChannelAndStreamIdMap = new HashMap<>();
     private final IntHashSet activeSessionIds = new IntHashSet();
     private final EpochClock epochClock;
     private final NanoClock nanoClock;
@@ -92,6 +110,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
     private final AtomicCounter clientKeepAlives;
     private final NetworkPublicationThreadLocals networkPublicationThreadLocals = new NetworkPublicationThreadLocals();
     private final MutableDirectBuffer tempBuffer;
+    private final FeedbackDelayGenerator retransmitMulticastDelayGenerator;
 
     public DriverConductor(final Context ctx)
     {
@@ -102,8 +121,10 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         publicationUnblockTimeoutNs = ctx.publicationUnblockTimeoutNs();
         statusMessageTimeoutNs = ctx.statusMessageTimeoutNs();
         driverCmdQueue = ctx.driverCommandQueue();
-        receiverProxy = ctx.receiverProxy();
-        senderProxy = ctx.senderProxy();
+        receiverProxies = ctx.receiverProxies();
+        senderProxies = ctx.senderProxies();
+        sendChannelEndpointCountBySender = new int[senderProxies.length];
+        receiveChannelEndpointCountByReceiver = new int[receiverProxies.length];
         rawLogFactory = ctx.rawLogBuffersFactory();
         epochClock = ctx.epochClock();
         nanoClock = ctx.nanoClock();
@@ -112,6 +133,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         toDriverCommands = ctx.toDriverCommands();
         clientProxy = ctx.clientProxy();
         tempBuffer = ctx.tempBuffer();
+        retransmitMulticastDelayGenerator = new StaticDelayGenerator(ctx.retransmitMulticastDelayNs(), false);
 
         countersManager = context.countersManager();
         clientKeepAlives = context.systemCounters().get(CLIENT_KEEP_ALIVES);
@@ -241,10 +263,13 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
                 sourceAddress,
                 congestionControl,
                 context.lossReport(),
-                subscriberPositions.get(0).subscription().isReliable());
+                subscriberPositions.get(0).subscription().isReliable(),
+                context.nakMaxRanges());
 
             publicationImages.add(image);
-            receiverProxy.newPublicationImage(channelEndpoint, image);
+            addToChannelAndStreamIdMap(
+                publicationImagesByChannelAndStreamIdMap, canonicalChannel(channelEndpoint), streamId, image);
+            channelEndpoint.receiverProxy().newPublicationImage(channelEndpoint, image);
 
             for (int i = 0, size = subscriberPositions.size(); i < size; i++)
             {
@@ -280,23 +305,15 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         return receiveChannelEndpointByChannelMap.get(channel.canonicalForm());
     }
 
-    IpcPublication getSharedIpcPublication(final long streamId)
+    IpcPublication getSharedIpcPublication(final int streamId)
     {
-        return findSharedIpcPublication(ipcPublications, streamId);
+        return findSharedIpcPublication(
+            channelAndStreamIdEntries(ipcPublicationsByChannelAndStreamIdMap, CommonContext.IPC_CHANNEL, streamId));
     }
 
     IpcPublication getIpcPublication(final long registrationId)
     {
-        for (int i = 0, size = ipcPublications.size(); i < size; i++)
-        {
-            final IpcPublication publication = ipcPublications.get(i);
-            if (publication.registrationId() == registrationId)
-            {
-                return publication;
-            }
-        }
-
-        return null;
+        return ipcPublicationByIdMap.get(registrationId);
     }
 
     void onAddNetworkPublication(
@@ -307,6 +324,11 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         final boolean isExclusive)
     {
         final UdpChannel udpChannel = UdpChannel.parse(channel);
+        if (udpChannel.isManualControlMode())
+        {
+            throw new IllegalArgumentException("Publication with control-mode=manual requires a control address");
+        }
+
         final ChannelUri channelUri = udpChannel.channelUri();
         final PublicationParams params = getPublicationParams(context, channelUri, isExclusive, false);
         validateMtuForMaxMessage(params, isExclusive);
@@ -316,7 +338,11 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         NetworkPublication publication = null;
         if (!isExclusive)
         {
-            publication = findPublication(networkPublications, streamId, channelEndpoint);
+            publication = findPublication(
+                channelAndStreamIdEntries(
+                    networkPublicationsByChannelAndStreamIdMap, canonicalChannel(channelEndpoint), streamId),
+                streamId,
+                channelEndpoint);
         }
         else if (params.hasSessionId)
         {
@@ -333,7 +359,8 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
             confirmMatch(channelUri, params, publication.rawLog(), publication.sessionId());
         }
 
-        publicationLinks.add(new PublicationLink(correlationId, getOrAddClient(clientId), publication));
+        publicationLinkByIdMap.put(
+            correlationId, new PublicationLink(correlationId, getOrAddClient(clientId), publication));
 
         clientProxy.onPublicationReady(
             correlationId,
@@ -348,6 +375,11 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
 
     void cleanupSpies(final NetworkPublication publication)
     {
+        final List<SubscriptionLink> subscriptionLinks = channelAndStreamIdEntries(
+            subscriptionLinksByChannelAndStreamIdMap,
+            canonicalChannel(publication.channelEndpoint()),
+            publication.streamId());
+
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
             final SubscriptionLink link = subscriptionLinks.get(i);
@@ -356,7 +388,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
             {
                 clientProxy.onUnavailableImage(
                     publication.registrationId(), link.registrationId(), publication.streamId(), publication.channel());
-                subscriptionLinks.get(i).unlink(publication);
+                link.unlink(publication);
             }
         }
     }
@@ -364,19 +396,33 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
     void cleanupPublication(final NetworkPublication publication)
     {
         activeSessionIds.remove(publication.sessionId());
-        senderProxy.removeNetworkPublication(publication);
-
+        networkPublicationByIdMap.remove(publication.registrationId());
         final SendChannelEndpoint channelEndpoint = publication.channelEndpoint();
+        removeFromChannelAndStreamIdMap(
+            networkPublicationsByChannelAndStreamIdMap,
+            canonicalChannel(channelEndpoint),
+            publication.streamId(),
+            publication);
+
+        channelEndpoint.senderProxy().removeNetworkPublication(publication);
+
         if (channelEndpoint.shouldBeClosed())
         {
             channelEndpoint.closeStatusIndicator();
             sendChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
-            senderProxy.closeSendChannelEndpoint(channelEndpoint);
+            sendChannelEndpointCountBySender[indexOf(senderProxies, channelEndpoint.senderProxy())]--;
+            channelEndpoint.senderProxy().closeSendChannelEndpoint(channelEndpoint);
         }
     }
 
     void cleanupSubscriptionLink(final SubscriptionLink subscription)
     {
+        removeFromChannelAndStreamIdMap(
+            subscriptionLinksByChannelAndStreamIdMap,
+            subscription.canonicalChannel(),
+            subscription.streamId(),
+            subscription);
+
         final ReceiveChannelEndpoint channelEndpoint = subscription.channelEndpoint();
 
         if (null != channelEndpoint)
@@ -385,28 +431,29 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
             {
                 if (0 == channelEndpoint.decRefToStreamAndSession(subscription.streamId(), subscription.sessionId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    channelEndpoint.receiverProxy().removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
             else
             {
                 if (0 == channelEndpoint.decRefToStream(subscription.streamId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    channelEndpoint.receiverProxy().removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
 
             if (channelEndpoint.shouldBeClosed())
             {
-                channelEndpoint.closeStatusIndicator();
-                receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
-                receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
+                closeReceiveChannelEndpoint(channelEndpoint);
             }
         }
     }
 
     void transitionToLinger(final PublicationImage image)
     {
+        final List<SubscriptionLink> subscriptionLinks = channelAndStreamIdEntries(
+            subscriptionLinksByChannelAndStreamIdMap, canonicalChannel(image.channelEndpoint()), image.streamId());
+
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
             final SubscriptionLink link = subscriptionLinks.get(i);
@@ -418,11 +465,15 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
             }
         }
 
-        receiverProxy.removeCoolDown(image.channelEndpoint(), image.sessionId(), image.streamId());
+        final ReceiveChannelEndpoint channelEndpoint = image.channelEndpoint();
+        channelEndpoint.receiverProxy().removeCoolDown(channelEndpoint, image.sessionId(), image.streamId());
     }
 
     void transitionToLinger(final IpcPublication publication)
     {
+        final List<SubscriptionLink> subscriptionLinks = channelAndStreamIdEntries(
+            subscriptionLinksByChannelAndStreamIdMap, CommonContext.IPC_CHANNEL, publication.streamId());
+
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
             final SubscriptionLink link = subscriptionLinks.get(i);
@@ -440,6 +491,15 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
 
     void cleanupImage(final PublicationImage image)
     {
+        removeFromChannelAndStreamIdMap(
+            publicationImagesByChannelAndStreamIdMap,
+            canonicalChannel(image.channelEndpoint()),
+            image.streamId(),
+            image);
+
+        final List<SubscriptionLink> subscriptionLinks = channelAndStreamIdEntries(
+            subscriptionLinksByChannelAndStreamIdMap, canonicalChannel(image.channelEndpoint()), image.streamId());
+
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
             subscriptionLinks.get(i).unlink(image);
@@ -449,6 +509,12 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
     void cleanupIpcPublication(final IpcPublication publication)
     {
         activeSessionIds.remove(publication.sessionId());
+        ipcPublicationByIdMap.remove(publication.registrationId());
+        removeFromChannelAndStreamIdMap(
+            ipcPublicationsByChannelAndStreamIdMap, CommonContext.IPC_CHANNEL, publication.streamId(), publication);
+
+        final List<SubscriptionLink> subscriptionLinks = channelAndStreamIdEntries(
+            subscriptionLinksByChannelAndStreamIdMap, CommonContext.IPC_CHANNEL, publication.streamId());
 
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
@@ -464,7 +530,8 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         final boolean isExclusive)
     {
         final IpcPublication ipcPublication = getOrAddIpcPublication(correlationId, streamId, channel, isExclusive);
-        publicationLinks.add(new PublicationLink(correlationId, getOrAddClient(clientId), ipcPublication));
+        publicationLinkByIdMap.put(
+            correlationId, new PublicationLink(correlationId, getOrAddClient(clientId), ipcPublication));
 
         final ArrayList<SubscriberPosition> subscriberPositions = linkIpcSubscriptions(ipcPublication);
 
@@ -495,19 +562,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
 
     void onRemovePublication(final long registrationId, final long correlationId)
     {
-        PublicationLink publicationLink = null;
-        final ArrayList<PublicationLink> publicationLinks = this.publicationLinks;
-        for (int i = 0, size = publicationLinks.size(), lastIndex = size - 1; i < size; i++)
-        {
-            final PublicationLink publication = publicationLinks.get(i);
-            if (registrationId == publication.registrationId())
-            {
-                publicationLink = publication;
-                fastUnorderedRemove(publicationLinks, i, lastIndex);
-                break;
-            }
-        }
-
+        final PublicationLink publicationLink = publicationLinkByIdMap.remove(registrationId);
         if (null == publicationLink)
         {
             throw new ControlProtocolException(UNKNOWN_PUBLICATION, "Unknown publication: " + registrationId);
@@ -520,57 +575,58 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
 
     void onAddDestination(final long registrationId, final String destinationChannel, final long correlationId)
     {
-        SendChannelEndpoint sendChannelEndpoint = null;
-
-        for (int i = 0, size = networkPublications.size(); i < size; i++)
-        {
-            final NetworkPublication publication = networkPublications.get(i);
-
-            if (registrationId == publication.registrationId())
-            {
-                sendChannelEndpoint = publication.channelEndpoint();
-                break;
-            }
-        }
-
-        if (null == sendChannelEndpoint)
+        final NetworkPublication publication = networkPublicationByIdMap.get(registrationId);
+        if (null == publication)
         {
             throw new ControlProtocolException(UNKNOWN_PUBLICATION, "Unknown publication: " + registrationId);
         }
 
+        final SendChannelEndpoint sendChannelEndpoint = publication.channelEndpoint();
+
         sendChannelEndpoint.validateAllowsManualControl();
 
         final ChannelUri channelUri = ChannelUri.parse(destinationChannel);
         final InetSocketAddress dstAddress = UdpChannel.destinationAddress(channelUri);
-        senderProxy.addDestination(sendChannelEndpoint, dstAddress);
+        sendChannelEndpoint.senderProxy().addDestination(sendChannelEndpoint, dstAddress);
         clientProxy.operationSucceeded(correlationId);
     }
 
     void onRemoveDestination(final long registrationId, final String destinationChannel, final long correlationId)
     {
-        SendChannelEndpoint sendChannelEndpoint = null;
-
-        for (int i = 0, size = networkPublications.size(); i < size; i++)
-        {
-            final NetworkPublication publication = networkPublications.get(i);
-
-            if (registrationId == publication.registrationId())
-            {
-                sendChannelEndpoint = publication.channelEndpoint();
-                break;
-            }
-        }
-
-        if (null == sendChannelEndpoint)
+        final NetworkPublication publication = networkPublicationByIdMap.get(registrationId);
+        if (null == publication)
         {
             throw new ControlProtocolException(UNKNOWN_PUBLICATION, "Unknown publication: " + registrationId);
         }
 
+        final SendChannelEndpoint sendChannelEndpoint = publication.channelEndpoint();
+
         sendChannelEndpoint.validateAllowsManualControl();
 
         final ChannelUri channelUri = ChannelUri.parse(destinationChannel);
         final InetSocketAddress dstAddress = UdpChannel.destinationAddress(channelUri);
-        senderProxy.removeDestination(sendChannelEndpoint, dstAddress);
+        sendChannelEndpoint.senderProxy().removeDestination(sendChannelEndpoint, dstAddress);
+        clientProxy.operationSucceeded(correlationId);
+    }
+
+    void onAddRcvDestination(final long registrationId, final String destinationChannel, final long correlationId)
+    {
+        final ReceiveChannelEndpoint receiveChannelEndpoint = findDestinationControlledEndpoint(registrationId);
+        final UdpChannel udpChannel = UdpChannel.parse(destinationChannel);
+        final ReceiveDestinationTransport transport = new ReceiveDestinationTransport(
+            udpChannel, receiveChannelEndpoint, context);
+
+        receiveChannelEndpoint.receiverProxy().addDestination(receiveChannelEndpoint, transport);
+        clientProxy.operationSucceeded(correlationId);
+    }
+
+    void onRemoveRcvDestination(
+        final long registrationId, final String destinationChannel, final long correlationId)
+    {
+        final ReceiveChannelEndpoint receiveChannelEndpoint = findDestinationControlledEndpoint(registrationId);
+        final UdpChannel udpChannel = UdpChannel.parse(destinationChannel);
+
+        receiveChannelEndpoint.receiverProxy().removeDestination(receiveChannelEndpoint, udpChannel);
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -588,14 +644,14 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         {
             if (1 == channelEndpoint.incRefToStreamAndSession(streamId, params.sessionId))
             {
-                receiverProxy.addSubscription(channelEndpoint, streamId, params.sessionId);
+                channelEndpoint.receiverProxy().addSubscription(channelEndpoint, streamId, params.sessionId);
             }
         }
         else
         {
             if (1 == channelEndpoint.incRefToStream(streamId))
             {
-                receiverProxy.addSubscription(channelEndpoint, streamId);
+                channelEndpoint.receiverProxy().addSubscription(channelEndpoint, streamId);
             }
         }
 
@@ -603,7 +659,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         final SubscriptionLink subscription = new NetworkSubscriptionLink(
             registrationId, channelEndpoint, streamId, channel, client, clientLivenessTimeoutNs, params);
 
-        subscriptionLinks.add(subscription);
+        addSubscriptionLink(subscription);
         clientProxy.onSubscriptionReady(registrationId, channelEndpoint.statusIndicatorCounterId());
 
         linkMatchingImages(subscription);
@@ -616,8 +672,10 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         final IpcSubscriptionLink subscriptionLink = new IpcSubscriptionLink(
             registrationId, streamId, channel, getOrAddClient(clientId), clientLivenessTimeoutNs, params);
 
-        subscriptionLinks.add(subscriptionLink);
+        addSubscriptionLink(subscriptionLink);
 
+        final List<IpcPublication> ipcPublications = channelAndStreamIdEntries(
+            ipcPublicationsByChannelAndStreamIdMap, CommonContext.IPC_CHANNEL, streamId);
         for (int i = 0, size = ipcPublications.size(); i < size; i++)
         {
             final IpcPublication publication = ipcPublications.get(i);
@@ -655,8 +713,10 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         final SpySubscriptionLink subscriptionLink = new SpySubscriptionLink(
             registrationId, udpChannel, streamId, client, clientLivenessTimeoutNs, params);
 
-        subscriptionLinks.add(subscriptionLink);
+        addSubscriptionLink(subscriptionLink);
 
+        final List<NetworkPublication> networkPublications = channelAndStreamIdEntries(
+            networkPublicationsByChannelAndStreamIdMap, udpChannel.canonicalForm(), streamId);
         for (int i = 0, size = networkPublications.size(); i < size; i++)
         {
             final NetworkPublication publication = networkPublications.get(i);
@@ -688,7 +748,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
 
     void onRemoveSubscription(final long registrationId, final long correlationId)
     {
-        final SubscriptionLink subscription = removeSubscriptionLink(subscriptionLinks, registrationId);
+        final SubscriptionLink subscription = removeSubscriptionLink(registrationId);
         if (null == subscription)
         {
             throw new ControlProtocolException(UNKNOWN_SUBSCRIPTION, "Unknown Subscription: " + registrationId);
@@ -703,7 +763,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
             {
                 if (0 == channelEndpoint.decRefToStreamAndSession(subscription.streamId(), subscription.sessionId()))
                 {
-                    receiverProxy.removeSubscription(
+                    channelEndpoint.receiverProxy().removeSubscription(
                         channelEndpoint, subscription.streamId(), subscription.sessionId());
                 }
             }
@@ -711,15 +771,13 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
             {
                 if (0 == channelEndpoint.decRefToStream(subscription.streamId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    channelEndpoint.receiverProxy().removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
 
             if (channelEndpoint.shouldBeClosed())
             {
-                channelEndpoint.closeStatusIndicator();
-                receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
-                receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
+                closeReceiveChannelEndpoint(channelEndpoint);
             }
         }
 
@@ -730,7 +788,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
     {
         clientKeepAlives.incrementOrdered();
 
-        final AeronClient client = findClient(clients, clientId);
+        final AeronClient client = clientByIdMap.get(clientId);
         if (null != client)
         {
             client.timeOfLastKeepalive(cachedNanoClock.nanoTime());
@@ -752,26 +810,14 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         final AtomicCounter counter = countersManager.newCounter(
             typeId, keyBuffer, keyOffset, keyLength, labelBuffer, labelOffset, labelLength);
 
-        counterLinks.add(new CounterLink(counter, correlationId, client));
+        counterLinkByIdMap.put(correlationId, new CounterLink(counter, correlationId, client));
 
         clientProxy.onCounterReady(correlationId, counter.id());
     }
 
     void onRemoveCounter(final long registrationId, final long correlationId)
     {
-        CounterLink counterLink = null;
-        final ArrayList<CounterLink> counterLinks = this.counterLinks;
-        for (int i = 0, size = counterLinks.size(), lastIndex = size - 1; i < size; i++)
-        {
-            final CounterLink link = counterLinks.get(i);
-            if (registrationId == link.registrationId())
-            {
-                counterLink = link;
-                fastUnorderedRemove(counterLinks, i, lastIndex);
-                break;
-            }
-        }
-
+        final CounterLink counterLink = counterLinkByIdMap.remove(registrationId);
         if (null == counterLink)
         {
             throw new ControlProtocolException(UNKNOWN_COUNTER, "Unknown counter: " + registrationId);
@@ -785,7 +831,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
 
     void onClientClose(final long clientId, final long correlationId)
     {
-        final AeronClient client = findClient(clients, clientId);
+        final AeronClient client = clientByIdMap.get(clientId);
         if (null != client)
         {
             client.timeOfLastKeepalive(0);
@@ -799,13 +845,13 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         final long nowMs = cachedEpochClock.time();
         toDriverCommands.consumerHeartbeatTime(nowMs);
 
-        checkManagedResources(clients, nowNs, nowMs);
-        checkManagedResources(publicationLinks, nowNs, nowMs);
+        checkManagedResources(clientByIdMap, nowNs, nowMs);
+        checkManagedResources(publicationLinkByIdMap, nowNs, nowMs);
         checkManagedResources(networkPublications, nowNs, nowMs);
-        checkManagedResources(subscriptionLinks, nowNs, nowMs);
+        checkManagedResources(subscriptionLinkByIdMap, nowNs, nowMs);
         checkManagedResources(publicationImages, nowNs, nowMs);
         checkManagedResources(ipcPublications, nowNs, nowMs);
-        checkManagedResources(counterLinks, nowNs, nowMs);
+        checkManagedResources(counterLinkByIdMap, nowNs, nowMs);
     }
 
     private void checkForBlockedToDriverCommands(final long nowNs)
@@ -837,6 +883,8 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         final long joinPosition)
     {
         final ArrayList<SubscriberPosition> subscriberPositions = new ArrayList<>();
+        final List<SubscriptionLink> subscriptionLinks = channelAndStreamIdEntries(
+            subscriptionLinksByChannelAndStreamIdMap, canonicalChannel(channelEndpoint), streamId);
 
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
         {
@@ -861,7 +909,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
     }
 
     private static NetworkPublication findPublication(
-        final ArrayList<NetworkPublication> publications,
+        final List<NetworkPublication> publications,
         final int streamId,
         final SendChannelEndpoint channelEndpoint)
     {
@@ -905,13 +953,15 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
             senderPosition.setOrdered(position);
         }
 
+        final boolean isMultiReceiver = udpChannel.isMulticast() || udpChannel.hasExplicitControl();
         final RetransmitHandler retransmitHandler = new RetransmitHandler(
             cachedNanoClock,
             context.systemCounters(),
-            RETRANSMIT_UNICAST_DELAY_GENERATOR,
-            RETRANSMIT_UNICAST_LINGER_GENERATOR);
+            isMultiReceiver ? retransmitMulticastDelayGenerator : RETRANSMIT_UNICAST_DELAY_GENERATOR,
+            RETRANSMIT_UNICAST_LINGER_GENERATOR,
+            params.maxRetransmits);
 
-        final FlowControl flowControl = udpChannel.isMulticast() || udpChannel.hasExplicitControl() ?
+        final FlowControl flowControl = isMultiReceiver ?
             context.multicastFlowControlSupplier().newInstance(udpChannel, streamId, registrationId) :
             context.unicastFlowControlSupplier().newInstance(udpChannel, streamId, registrationId);
 
@@ -927,20 +977,28 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
             streamId,
             initialTermId,
             params.mtuLength,
+            context.networkPublicationMaxMessagesPerSend(),
             context.systemCounters(),
             flowControl,
             retransmitHandler,
-            networkPublicationThreadLocals,
+            senderProxies.length > 1 ? new NetworkPublicationThreadLocals() : networkPublicationThreadLocals,
             publicationUnblockTimeoutNs,
             context.publicationConnectionTimeoutNs(),
             params.lingerTimeoutNs,
             isExclusive,
-            context.spiesSimulateConnection());
+            context.spiesSimulateConnection(),
+            params.fecGroupLength,
+            params.pacingRate,
+            context.senderPacingBurstLength());
 
         channelEndpoint.incRef();
         networkPublications.add(publication);
-        senderProxy.newNetworkPublication(publication);
-        linkSpies(subscriptionLinks, publication);
+        networkPublicationByIdMap.put(registrationId, publication);
+        addToChannelAndStreamIdMap(
+            networkPublicationsByChannelAndStreamIdMap, canonicalChannel(channelEndpoint), streamId, publication);
+        channelEndpoint.senderProxy().newNetworkPublication(publication);
+        linkSpies(channelAndStreamIdEntries(
+            subscriptionLinksByChannelAndStreamIdMap, canonicalChannel(channelEndpoint), streamId), publication);
         activeSessionIds.add(sessionId);
 
         return publication;
@@ -990,7 +1048,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         initialTermId(logMetaData, initialTermId);
         mtuLength(logMetaData, params.mtuLength);
         termLength(logMetaData, rawLog.termLength());
-        pageSize(logMetaData, context.filePageSize());
+        pageSize(logMetaData, context.logBufferPageSize());
         correlationId(logMetaData, registrationId);
         endOfStreamPosition(logMetaData, Long.MAX_VALUE);
 
@@ -1043,7 +1101,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         initialTermId(logMetaData, initialTermId);
         mtuLength(logMetaData, senderMtuLength);
         termLength(logMetaData, termBufferLength);
-        pageSize(logMetaData, context.filePageSize());
+        pageSize(logMetaData, context.logBufferPageSize());
         correlationId(logMetaData, correlationId);
         endOfStreamPosition(logMetaData, Long.MAX_VALUE);
 
@@ -1055,12 +1113,16 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         SendChannelEndpoint channelEndpoint = sendChannelEndpointByChannelMap.get(udpChannel.canonicalForm());
         if (null == channelEndpoint)
         {
+            final int senderIndex = leastLoadedIndex(sendChannelEndpointCountBySender);
+            final SenderProxy senderProxy = senderProxies[senderIndex];
             channelEndpoint = context.sendChannelEndpointSupplier().newInstance(
                 udpChannel,
                 SendChannelStatus.allocate(tempBuffer, countersManager, udpChannel.originalUriString()),
                 context);
+            channelEndpoint.senderProxy(senderProxy);
 
             sendChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
+            sendChannelEndpointCountBySender[senderIndex]++;
             senderProxy.registerSendChannelEndpoint(channelEndpoint);
         }
 
@@ -1074,7 +1136,8 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
             udpChannel.canonicalForm());
         if (null != channelEndpoint)
         {
-            final ArrayList<SubscriptionLink> existingLinks = subscriptionLinks;
+            final List<SubscriptionLink> existingLinks = channelAndStreamIdEntries(
+                subscriptionLinksByChannelAndStreamIdMap, udpChannel.canonicalForm(), streamId);
             for (int i = 0, size = existingLinks.size(); i < size; i++)
             {
                 final SubscriptionLink subscription = existingLinks.get(i);
@@ -1093,6 +1156,8 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         final long registrationId = subscription.registrationId();
         final int streamId = subscription.streamId();
         final String channel = subscription.channel();
+        final List<PublicationImage> publicationImages = channelAndStreamIdEntries(
+            publicationImagesByChannelAndStreamIdMap, subscription.canonicalChannel(), streamId);
 
         for (int i = 0, size = publicationImages.size(); i < size; i++)
         {
@@ -1123,7 +1188,8 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
 
     private ArrayList<SubscriberPosition> linkIpcSubscriptions(final IpcPublication publication)
     {
-        final ArrayList<SubscriptionLink> subscriptionLinks = this.subscriptionLinks;
+        final List<SubscriptionLink> subscriptionLinks = channelAndStreamIdEntries(
+            subscriptionLinksByChannelAndStreamIdMap, CommonContext.IPC_CHANNEL, publication.streamId());
         final ArrayList<SubscriberPosition> subscriberPositions = new ArrayList<>();
 
         for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
@@ -1188,31 +1254,89 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         return position;
     }
 
+    private ReceiveChannelEndpoint findDestinationControlledEndpoint(final long registrationId)
+    {
+        final SubscriptionLink subscription = subscriptionLinkByIdMap.get(registrationId);
+        final ReceiveChannelEndpoint receiveChannelEndpoint = null != subscription ?
+            subscription.channelEndpoint() : null;
+
+        if (null == receiveChannelEndpoint)
+        {
+            throw new ControlProtocolException(UNKNOWN_SUBSCRIPTION, "Unknown subscription: " + registrationId);
+        }
+
+        if (!receiveChannelEndpoint.hasDestinationControl())
+        {
+            throw new IllegalArgumentException("Subscription channel does not allow manual control");
+        }
+
+        return receiveChannelEndpoint;
+    }
+
     private ReceiveChannelEndpoint getOrCreateReceiveChannelEndpoint(final UdpChannel udpChannel)
     {
         ReceiveChannelEndpoint channelEndpoint = receiveChannelEndpointByChannelMap.get(udpChannel.canonicalForm());
         if (null == channelEndpoint)
         {
+            final int receiverIndex = leastLoadedIndex(receiveChannelEndpointCountByReceiver);
+            final ReceiverProxy receiverProxy = receiverProxies[receiverIndex];
             channelEndpoint = context.receiveChannelEndpointSupplier().newInstance(
                 udpChannel,
                 new DataPacketDispatcher(context.driverConductorProxy(), receiverProxy.receiver()),
                 ReceiveChannelStatus.allocate(tempBuffer, countersManager, udpChannel.originalUriString()),
                 context);
+            channelEndpoint.receiverProxy(receiverProxy);
 
             receiveChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
+            receiveChannelEndpointCountByReceiver[receiverIndex]++;
             receiverProxy.registerReceiveChannelEndpoint(channelEndpoint);
         }
 
         return channelEndpoint;
     }
 
+    private void closeReceiveChannelEndpoint(final ReceiveChannelEndpoint channelEndpoint)
+    {
+        channelEndpoint.closeStatusIndicator();
+        receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
+        receiveChannelEndpointCountByReceiver[indexOf(receiverProxies, channelEndpoint.receiverProxy())]--;
+        channelEndpoint.receiverProxy().closeReceiveChannelEndpoint(channelEndpoint);
+    }
+
+    private static int leastLoadedIndex(final int[] endpointCountByAgent)
+    {
+        int leastLoadedIndex = 0;
+        for (int i = 1; i < endpointCountByAgent.length; i++)
+        {
+            if (endpointCountByAgent[i] < endpointCountByAgent[leastLoadedIndex])
+            {
+                leastLoadedIndex = i;
+            }
+        }
+
+        return leastLoadedIndex;
+    }
+
+    private static <T> int indexOf(final T[] proxies, final T proxy)
+    {
+        for (int i = 0; i < proxies.length; i++)
+        {
+            if (proxies[i] == proxy)
+            {
+                return i;
+            }
+        }
+
+        throw new IllegalStateException("Unknown agent proxy: " + proxy);
+    }
+
     private AeronClient getOrAddClient(final long clientId)
     {
-        AeronClient client = findClient(clients, clientId);
+        AeronClient client = clientByIdMap.get(clientId);
         if (null == client)
         {
             client = new AeronClient(clientId, clientLivenessTimeoutNs, cachedNanoClock.nanoTime());
-            clients.add(client);
+            clientByIdMap.put(clientId, client);
         }
 
         return client;
@@ -1227,7 +1351,8 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
 
         if (!isExclusive)
         {
-            publication = findSharedIpcPublication(ipcPublications, streamId);
+            publication = findSharedIpcPublication(
+            channelAndStreamIdEntries(ipcPublicationsByChannelAndStreamIdMap, CommonContext.IPC_CHANNEL, streamId));
         }
         else if (params.hasSessionId)
         {
@@ -1271,58 +1396,47 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
             isExclusive);
 
         ipcPublications.add(publication);
+        ipcPublicationByIdMap.put(registrationId, publication);
+        addToChannelAndStreamIdMap(
+            ipcPublicationsByChannelAndStreamIdMap, CommonContext.IPC_CHANNEL, streamId, publication);
         activeSessionIds.add(sessionId);
 
         return publication;
     }
 
-    private static AeronClient findClient(final ArrayList<AeronClient> clients, final long clientId)
+    private void addSubscriptionLink(final SubscriptionLink subscriptionLink)
     {
-        AeronClient aeronClient = null;
-
-        for (int i = 0, size = clients.size(); i < size; i++)
-        {
-            final AeronClient client = clients.get(i);
-            if (client.clientId() == clientId)
-            {
-                aeronClient = client;
-                break;
-            }
-        }
-
-        return aeronClient;
+        subscriptionLinkByIdMap.put(subscriptionLink.registrationId(), subscriptionLink);
+        addToChannelAndStreamIdMap(
+            subscriptionLinksByChannelAndStreamIdMap,
+            subscriptionLink.canonicalChannel(),
+            subscriptionLink.streamId(),
+            subscriptionLink);
     }
 
-    private static SubscriptionLink removeSubscriptionLink(
-        final ArrayList<SubscriptionLink> subscriptionLinks, final long registrationId)
+    private SubscriptionLink removeSubscriptionLink(final long registrationId)
     {
-        SubscriptionLink subscriptionLink = null;
-
-        for (int i = 0, size = subscriptionLinks.size(), lastIndex = size - 1; i < size; i++)
+        final SubscriptionLink subscriptionLink = subscriptionLinkByIdMap.remove(registrationId);
+        if (null != subscriptionLink)
         {
-            final SubscriptionLink subscription = subscriptionLinks.get(i);
-            if (subscription.registrationId() == registrationId)
-            {
-                subscriptionLink = subscription;
-                fastUnorderedRemove(subscriptionLinks, i, lastIndex);
-                break;
-            }
+            removeFromChannelAndStreamIdMap(
+                subscriptionLinksByChannelAndStreamIdMap,
+                subscriptionLink.canonicalChannel(),
+                subscriptionLink.streamId(),
+                subscriptionLink);
         }
 
         return subscriptionLink;
     }
 
-    private static IpcPublication findSharedIpcPublication(
-        final ArrayList<IpcPublication> ipcPublications, final long streamId)
+    private static IpcPublication findSharedIpcPublication(final List<IpcPublication> ipcPublications)
     {
         IpcPublication ipcPublication = null;
 
         for (int i = 0, size = ipcPublications.size(); i < size; i++)
         {
             final IpcPublication publication = ipcPublications.get(i);
-            if (publication.streamId() == streamId &&
-                !publication.isExclusive() &&
-                IpcPublication.State.ACTIVE == publication.state())
+            if (!publication.isExclusive() && IpcPublication.State.ACTIVE == publication.state())
             {
                 ipcPublication = publication;
                 break;
@@ -1332,6 +1446,78 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         return ipcPublication;
     }
 
+    private static String canonicalChannel(final UdpChannelTransport channelEndpoint)
+    {
+        return channelEndpoint.udpChannel().canonicalForm();
+    }
+
+    private static <T> List<T> channelAndStreamIdEntries(
+        final HashMap<String, Int2ObjectHashMap<ArrayList<T>>> map, final String channel, final int streamId)
+    {
+        final Int2ObjectHashMap<ArrayList<T>> entriesByStreamIdMap = map.get(channel);
+        final ArrayList<T> entries = null == entriesByStreamIdMap ? null : entriesByStreamIdMap.get(streamId);
+
+        return null == entries ? Collections.emptyList() : entries;
+    }
+
+    private static <T> void addToChannelAndStreamIdMap(
+        final HashMap<String, Int2ObjectHashMap<ArrayList<T>>> map,
+        final String channel,
+        final int streamId,
+        final T entry)
+    {
+        Int2ObjectHashMap<ArrayList<T>> entriesByStreamIdMap = map.get(channel);
+        if (null == entriesByStreamIdMap)
+        {
+            entriesByStreamIdMap = new Int2ObjectHashMap<>();
+            map.put(channel, entriesByStreamIdMap);
+        }
+
+        ArrayList<T> entries = entriesByStreamIdMap.get(streamId);
+        if (null == entries)
+        {
+            entries = new ArrayList<>();
+            entriesByStreamIdMap.put(streamId, entries);
+        }
+
+        entries.add(entry);
+    }
+
+    private static <T> void removeFromChannelAndStreamIdMap(
+        final HashMap<String, Int2ObjectHashMap<ArrayList<T>>> map,
+        final String channel,
+        final int streamId,
+        final T entry)
+    {
+        final Int2ObjectHashMap<ArrayList<T>> entriesByStreamIdMap = map.get(channel);
+        if (null == entriesByStreamIdMap)
+        {
+            return;
+        }
+
+        final ArrayList<T> entries = entriesByStreamIdMap.get(streamId);
+        if (null != entries)
+        {
+            for (int i = 0, size = entries.size(), lastIndex = size - 1; i < size; i++)
+            {
+                if (entry == entries.get(i))
+                {
+                    fastUnorderedRemove(entries, i, lastIndex);
+                    break;
+                }
+            }
+
+            if (entries.isEmpty())
+            {
+                entriesByStreamIdMap.remove(streamId);
+                if (entriesByStreamIdMap.isEmpty())
+                {
+                    map.remove(channel);
+                }
+            }
+        }
+    }
+
     private void confirmSessionIdNotInUse(final int sessionId)
     {
         if (activeSessionIds.contains(sessionId))
@@ -1352,6 +1538,24 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         }
     }
 
+    private <T extends DriverManagedResource> void checkManagedResources(
+        final Long2ObjectHashMap<T> map, final long nowNs, final long nowMs)
+    {
+        final Iterator<T> iterator = map.values().iterator();
+        while (iterator.hasNext())
+        {
+            final DriverManagedResource resource = iterator.next();
+
+            resource.onTimeEvent(nowNs, nowMs, this);
+
+            if (resource.hasReachedEndOfLife())
+            {
+                iterator.remove();
+                resource.close();
+            }
+        }
+    }
+
     private <T extends DriverManagedResource> void checkManagedResources(
         final ArrayList<T> list, final long nowNs, final long nowMs)
     {
@@ -1370,7 +1574,7 @@ public class DriverConductor implements Agent, Consumer<DriverConductorCmd>
         }
     }
 
-    private void linkSpies(final ArrayList<SubscriptionLink> links, final NetworkPublication publication)
+    private void linkSpies(final List<SubscriptionLink> links, final NetworkPublication publication)
     {
         for (int i = 0, size = links.size(); i < size; i++)
         {
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.logbuffer.FrameDescriptor.frameLengthVolatile;
+import static org.agrona.BitUtil.align;
+
+/**
+ * Rebuilds a single missing datagram of a group protected by a FEC frame from the parity and the other datagrams of the
+ * group which have been received into the term buffer of a {@link PublicationImage}.
+ * <p>
+ * Recovery is only attempted when exactly one datagram in the group has not been received and all the others are
+ * complete, otherwise the loss is left to be recovered by NAK.
+ */
+final class FecDecoder
+{
+    private final UnsafeBuffer recoveryBuffer;
+    private int recoveredTermOffset;
+    private int recoveredLength;
+
+    FecDecoder(final int maxDatagramLength)
+    {
+        recoveryBuffer = new UnsafeBuffer(new byte[maxDatagramLength]);
+    }
+
+    /**
+     * Try to recover a datagram missing from the group covered by a FEC frame.
+     *
+     * @param termBuffer  into which the datagrams of the group are received.
+     * @param fecHeader   for the FEC frame which has been validated to be contained in the received length.
+     * @return true if a datagram was recovered into {@link #recoveryBuffer()} otherwise false.
+     */
+    boolean recover(final UnsafeBuffer termBuffer, final FecFlyweight fecHeader)
+    {
+        final int termLength = termBuffer.capacity();
+        final int datagramCount = fecHeader.datagramCount();
+        final int parityLength = fecHeader.parityLength();
+        int missingIndex = -1;
+        int missingTermOffset = 0;
+        int termOffset = fecHeader.termOffset();
+
+        for (int i = 0; i < datagramCount; i++)
+        {
+            final int length = fecHeader.datagramLength(i);
+            if (length < DataHeaderFlyweight.HEADER_LENGTH || length > parityLength || termOffset > termLength - length)
+            {
+                return false;
+            }
+
+            if (0 == frameLengthVolatile(termBuffer, termOffset))
+            {
+                if (-1 != missingIndex)
+                {
+                    return false;
+                }
+
+                missingIndex = i;
+                missingTermOffset = termOffset;
+            }
+            else if (!isComplete(termBuffer, termOffset, length))
+            {
+                return false;
+            }
+
+            termOffset += length;
+        }
+
+        if (-1 == missingIndex || fecHeader.datagramLength(missingIndex) > recoveryBuffer.capacity())
+        {
+            return false;
+        }
+
+        final int missingLength = fecHeader.datagramLength(missingIndex);
+        recoveryBuffer.putBytes(0, fecHeader, FecFlyweight.parityOffset(datagramCount), missingLength);
+
+        termOffset = fecHeader.termOffset();
+        for (int i = 0; i < datagramCount; i++)
+        {
+            final int length = fecHeader.datagramLength(i);
+            if (i != missingIndex)
+            {
+                FecEncoder.xor(recoveryBuffer, termBuffer, termOffset, Math.min(length, missingLength));
+            }
+
+            termOffset += length;
+        }
+
+        recoveredTermOffset = missingTermOffset;
+        recoveredLength = missingLength;
+
+        return frameLengthVolatile(recoveryBuffer, 0) > 0 &&
+            recoveryBuffer.getInt(DataHeaderFlyweight.TERM_OFFSET_FIELD_OFFSET) == missingTermOffset &&
+            recoveryBuffer.getInt(DataHeaderFlyweight.TERM_ID_FIELD_OFFSET) == fecHeader.termId();
+    }
+
+    /**
+     * Buffer holding the last recovered datagram.
+     *
+     * @return buffer holding the last recovered datagram.
+     */
+    UnsafeBuffer recoveryBuffer()
+    {
+        return recoveryBuffer;
+    }
+
+    /**
+     * Term offset of the last recovered datagram.
+     *
+     * @return term offset of the last recovered datagram.
+     */
+    int recoveredTermOffset()
+    {
+        return recoveredTermOffset;
+    }
+
+    /**
+     * Length of the last recovered datagram.
+     *
+     * @return length of the last recovered datagram.
+     */
+    int recoveredLength()
+    {
+        return recoveredLength;
+    }
+
+    private static boolean isComplete(final UnsafeBuffer termBuffer, final int termOffset, final int length)
+    {
+        final int endOffset = termOffset + length;
+        int offset = termOffset;
+        while (offset < endOffset)
+        {
+            final int frameLength = frameLengthVolatile(termBuffer, offset);
+            if (frameLength <= 0)
+            {
+                return false;
+            }
+
+            offset += align(frameLength, FRAME_ALIGNMENT);
+        }
+
+        return true;
+    }
+}
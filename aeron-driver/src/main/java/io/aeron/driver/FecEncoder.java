@@ -0,0 +1,175 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.driver.status.SystemCounters;
+import io.aeron.protocol.FecFlyweight;
+import io.aeron.protocol.HeaderFlyweight;
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.nio.ByteBuffer;
+
+import static io.aeron.driver.status.SystemCounterDescriptor.FEC_FRAMES_SENT;
+import static io.aeron.driver.status.SystemCounterDescriptor.SHORT_SENDS;
+
+/**
+ * Accumulates the XOR parity of groups of consecutive data datagrams sent by a {@link NetworkPublication} and sends a
+ * FEC frame for each group so a receiver can rebuild a single lost datagram in the group without a NAK.
+ * <p>
+ * A group ends when it reaches the group length, when the next datagram is not contiguous with the group in the same
+ * term, or when the publication is idle so the tail of a stream is also protected.
+ */
+final class FecEncoder
+{
+    private final int groupLength;
+    private final ByteBuffer fecBuffer;
+    private final FecFlyweight fecHeader;
+    private final UnsafeBuffer parityBuffer;
+    private final AtomicCounter fecFramesSent;
+    private final AtomicCounter shortSends;
+    private int termId;
+    private int nextTermOffset;
+    private int datagramCount;
+    private int parityLength;
+
+    FecEncoder(
+        final int groupLength,
+        final int mtuLength,
+        final int sessionId,
+        final int streamId,
+        final SystemCounters systemCounters)
+    {
+        this.groupLength = groupLength;
+        this.fecFramesSent = systemCounters.get(FEC_FRAMES_SENT);
+        this.shortSends = systemCounters.get(SHORT_SENDS);
+
+        fecBuffer = BufferUtil.allocateDirectAligned(
+            FecFlyweight.computeFrameLength(groupLength, mtuLength), BitUtil.CACHE_LINE_LENGTH);
+        fecHeader = new FecFlyweight(fecBuffer);
+        parityBuffer = new UnsafeBuffer(BufferUtil.allocateDirectAligned(
+            BitUtil.align(mtuLength, BitUtil.SIZE_OF_LONG), BitUtil.CACHE_LINE_LENGTH));
+
+        fecHeader
+            .sessionId(sessionId)
+            .streamId(streamId)
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .headerType(HeaderFlyweight.HDR_TYPE_FEC);
+    }
+
+    /**
+     * Add a datagram which has been sent to the current group, sending the FEC frame for the group when complete.
+     *
+     * @param channelEndpoint to send the FEC frame on.
+     * @param termBuffer      from which the datagram was sent.
+     * @param termId          of the term buffer.
+     * @param termOffset      at which the datagram begins.
+     * @param length          of the datagram.
+     */
+    void onDatagramSent(
+        final SendChannelEndpoint channelEndpoint,
+        final UnsafeBuffer termBuffer,
+        final int termId,
+        final int termOffset,
+        final int length)
+    {
+        if (datagramCount > 0 && (termId != this.termId || termOffset != nextTermOffset))
+        {
+            flush(channelEndpoint);
+        }
+
+        if (0 == datagramCount)
+        {
+            this.termId = termId;
+            fecHeader.termId(termId).termOffset(termOffset);
+        }
+
+        xor(parityBuffer, termBuffer, termOffset, length);
+        fecHeader.datagramLength(datagramCount++, length);
+        parityLength = Math.max(parityLength, length);
+        nextTermOffset = termOffset + length;
+
+        if (datagramCount >= groupLength)
+        {
+            flush(channelEndpoint);
+        }
+    }
+
+    /**
+     * Send the FEC frame for the current group if it has any datagrams and start a new group.
+     *
+     * @param channelEndpoint to send the FEC frame on.
+     * @return true if a FEC frame was sent otherwise false.
+     */
+    boolean flush(final SendChannelEndpoint channelEndpoint)
+    {
+        if (0 == datagramCount)
+        {
+            return false;
+        }
+
+        final int parityOffset = FecFlyweight.parityOffset(datagramCount);
+        final int frameLength = parityOffset + parityLength;
+
+        fecHeader
+            .datagramCount(datagramCount)
+            .parityLength(parityLength)
+            .frameLength(frameLength);
+        fecHeader.putBytes(parityOffset, parityBuffer, 0, parityLength);
+
+        parityBuffer.setMemory(0, parityLength, (byte)0);
+        datagramCount = 0;
+        parityLength = 0;
+
+        fecBuffer.limit(frameLength).position(0);
+        if (frameLength != channelEndpoint.send(fecBuffer))
+        {
+            shortSends.increment();
+        }
+        else
+        {
+            fecFramesSent.incrementOrdered();
+        }
+
+        return true;
+    }
+
+    /**
+     * XOR a range of a source buffer into the beginning of a destination buffer.
+     *
+     * @param dstBuffer into which the source is XORed.
+     * @param srcBuffer to be XORed into the destination.
+     * @param srcOffset at which the range begins in the source.
+     * @param length    of the range.
+     */
+    static void xor(final UnsafeBuffer dstBuffer, final UnsafeBuffer srcBuffer, final int srcOffset, final int length)
+    {
+        final int longLimit = length - BitUtil.SIZE_OF_LONG;
+        int i = 0;
+        for (; i <= longLimit; i += BitUtil.SIZE_OF_LONG)
+        {
+            dstBuffer.putLong(i, dstBuffer.getLong(i) ^ srcBuffer.getLong(srcOffset + i));
+        }
+
+        for (; i < length; i++)
+        {
+            dstBuffer.putByte(i, (byte)(dstBuffer.getByte(i) ^ srcBuffer.getByte(srcOffset + i)));
+        }
+    }
+}
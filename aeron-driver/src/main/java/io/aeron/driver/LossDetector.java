@@ -19,11 +19,14 @@ import io.aeron.logbuffer.TermGapScanner;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import static io.aeron.logbuffer.TermGapScanner.scanForGap;
+import static io.aeron.logbuffer.TermGapScanner.scanForGaps;
 
 /**
  * Detecting and handling of gaps in a message stream.
  * <p>
- * Each detector only notifies a single run of a gap in a message stream.
+ * Each detector only notifies a single run of a gap in a message stream unless it has been created with a max number
+ * of gaps greater than 1, in which case the gaps in the term after the first are notified with it so they can be
+ * NAKed selectively in one go. The timer is driven by the first gap.
  */
 public class LossDetector implements TermGapScanner.GapHandler
 {
@@ -33,6 +36,10 @@ public class LossDetector implements TermGapScanner.GapHandler
     private final LossHandler lossHandler;
     private final Gap scannedGap = new Gap();
     private final Gap activeGap = new Gap();
+    private final int maxGaps;
+    private final int[] scannedTermOffsets;
+    private final int[] scannedLengths;
+    private int scannedGapCount;
 
     private long deadlineNs = TIMER_INACTIVE;
 
@@ -43,9 +50,24 @@ public class LossDetector implements TermGapScanner.GapHandler
      * @param lossHandler    to call when signalling a gap
      */
     public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler)
+    {
+        this(delayGenerator, lossHandler, 1);
+    }
+
+    /**
+     * Create a loss detector for a channel which notifies up to a max number of gaps in a term at a time.
+     *
+     * @param delayGenerator to use for delay determination
+     * @param lossHandler    to call when signalling gaps
+     * @param maxGaps        to notify at a time.
+     */
+    public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler, final int maxGaps)
     {
         this.delayGenerator = delayGenerator;
         this.lossHandler = lossHandler;
+        this.maxGaps = maxGaps;
+        this.scannedTermOffsets = new int[maxGaps];
+        this.scannedLengths = new int[maxGaps];
     }
 
     /**
@@ -83,7 +105,10 @@ public class LossDetector implements TermGapScanner.GapHandler
             final int hwmTermOffset = (int)hwmPosition & termLengthMask;
             final int limitOffset = rebuildTermCount == hwmTermCount ? hwmTermOffset : termBuffer.capacity();
 
-            rebuildOffset = scanForGap(termBuffer, rebuildTermId, rebuildOffset, limitOffset, this);
+            scannedGapCount = 0;
+            rebuildOffset = maxGaps > 1 ?
+                scanForGaps(termBuffer, rebuildTermId, rebuildOffset, limitOffset, maxGaps, this) :
+                scanForGap(termBuffer, rebuildTermId, rebuildOffset, limitOffset, this);
             if (rebuildOffset < limitOffset)
             {
                 if (!scannedGap.matches(activeGap))
@@ -101,7 +126,14 @@ public class LossDetector implements TermGapScanner.GapHandler
 
     public void onGap(final int termId, final int offset, final int length)
     {
-        scannedGap.set(termId, offset, length);
+        if (0 == scannedGapCount)
+        {
+            scannedGap.set(termId, offset, length);
+        }
+
+        scannedTermOffsets[scannedGapCount] = offset;
+        scannedLengths[scannedGapCount] = length;
+        scannedGapCount++;
     }
 
     /**
@@ -156,7 +188,15 @@ public class LossDetector implements TermGapScanner.GapHandler
     {
         if (nowNs >= deadlineNs)
         {
-            lossHandler.onGapDetected(activeGap.termId, activeGap.termOffset, activeGap.length);
+            if (scannedGapCount > 1)
+            {
+                lossHandler.onGapsDetected(activeGap.termId, scannedTermOffsets, scannedLengths, scannedGapCount);
+            }
+            else
+            {
+                lossHandler.onGapDetected(activeGap.termId, activeGap.termOffset, activeGap.length);
+            }
+
             deadlineNs = nowNs + delayGenerator.generateDelay();
         }
     }
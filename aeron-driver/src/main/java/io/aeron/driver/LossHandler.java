@@ -29,4 +29,23 @@ public interface LossHandler
      * @param length     of the gap
      */
     void onGapDetected(int termId, int termOffset, int length);
+
+    /**
+     * Called when multiple gaps in the same term of the message stream have been detected so they can be reported
+     * together in a selective NAK. The arrays are reused by the caller and must be copied if retained.
+     * <p>
+     * By default each gap is passed to {@link #onGapDetected(int, int, int)} in turn.
+     *
+     * @param termId      for the gaps
+     * @param termOffsets for the beginning of each gap
+     * @param lengths     of each gap
+     * @param gapCount    of the gaps in the arrays
+     */
+    default void onGapsDetected(int termId, int[] termOffsets, int[] lengths, int gapCount)
+    {
+        for (int i = 0; i < gapCount; i++)
+        {
+            onGapDetected(termId, termOffsets[i], lengths[i]);
+        }
+    }
 }
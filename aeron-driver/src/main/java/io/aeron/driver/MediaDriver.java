@@ -38,6 +38,7 @@ import java.util.*;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static io.aeron.CncFileDescriptor.*;
 import static io.aeron.driver.Configuration.*;
@@ -67,8 +68,8 @@ public final class MediaDriver implements AutoCloseable
     private final AgentRunner sharedRunner;
     private final AgentRunner sharedNetworkRunner;
     private final AgentRunner conductorRunner;
-    private final AgentRunner receiverRunner;
-    private final AgentRunner senderRunner;
+    private final AgentRunner[] receiverRunners;
+    private final AgentRunner[] senderRunners;
     private final AgentInvoker sharedInvoker;
     private final Context ctx;
 
@@ -105,12 +106,12 @@ public final class MediaDriver implements AutoCloseable
 
         ctx.conclude();
 
+        final Receiver[] receivers = newReceivers(ctx);
+        final Receiver receiver = receivers[0];
+        final Sender[] senders = newSenders(ctx);
+        final Sender sender = senders[0];
         final DriverConductor conductor = new DriverConductor(ctx);
-        final Receiver receiver = new Receiver(ctx);
-        final Sender sender = new Sender(ctx);
 
-        ctx.receiverProxy().receiver(receiver);
-        ctx.senderProxy().sender(sender);
         ctx.driverConductorProxy().driverConductor(conductor);
 
         final AtomicCounter errorCounter = ctx.systemCounters().get(ERRORS);
@@ -124,8 +125,8 @@ public final class MediaDriver implements AutoCloseable
                 sharedRunner = null;
                 sharedNetworkRunner = null;
                 conductorRunner = null;
-                receiverRunner = null;
-                senderRunner = null;
+                receiverRunners = null;
+                senderRunners = null;
                 break;
 
             case SHARED:
@@ -136,8 +137,8 @@ public final class MediaDriver implements AutoCloseable
                     new CompositeAgent(sender, receiver, conductor));
                 sharedNetworkRunner = null;
                 conductorRunner = null;
-                receiverRunner = null;
-                senderRunner = null;
+                receiverRunners = null;
+                senderRunners = null;
                 sharedInvoker = null;
                 break;
 
@@ -146,15 +147,31 @@ public final class MediaDriver implements AutoCloseable
                     ctx.sharedNetworkIdleStrategy(), errorHandler, errorCounter, new CompositeAgent(sender, receiver));
                 conductorRunner = new AgentRunner(ctx.conductorIdleStrategy(), errorHandler, errorCounter, conductor);
                 sharedRunner = null;
-                receiverRunner = null;
-                senderRunner = null;
+                receiverRunners = null;
+                senderRunners = null;
                 sharedInvoker = null;
                 break;
 
             default:
             case DEDICATED:
-                senderRunner = new AgentRunner(ctx.senderIdleStrategy(), errorHandler, errorCounter, sender);
-                receiverRunner = new AgentRunner(ctx.receiverIdleStrategy(), errorHandler, errorCounter, receiver);
+                final StatusIndicator indicator = new UnsafeBufferStatusIndicator(
+                    ctx.countersManager().valuesBuffer(), CONTROLLABLE_IDLE_STRATEGY.id());
+
+                senderRunners = new AgentRunner[senders.length];
+                senderRunners[0] = new AgentRunner(ctx.senderIdleStrategy(), errorHandler, errorCounter, sender);
+                for (int i = 1; i < senders.length; i++)
+                {
+                    senderRunners[i] = new AgentRunner(
+                        ctx.senderIdleStrategySupplier().get(), errorHandler, errorCounter, senders[i]);
+                }
+
+                receiverRunners = new AgentRunner[receivers.length];
+                receiverRunners[0] = new AgentRunner(ctx.receiverIdleStrategy(), errorHandler, errorCounter, receiver);
+                for (int i = 1; i < receivers.length; i++)
+                {
+                    receiverRunners[i] = new AgentRunner(
+                        ctx.receiverIdleStrategySupplier().get(), errorHandler, errorCounter, receivers[i]);
+                }
                 conductorRunner = new AgentRunner(ctx.conductorIdleStrategy(), errorHandler, errorCounter, conductor);
                 sharedNetworkRunner = null;
                 sharedRunner = null;
@@ -246,8 +263,20 @@ public final class MediaDriver implements AutoCloseable
     {
         CloseHelper.quietClose(sharedRunner);
         CloseHelper.quietClose(sharedNetworkRunner);
-        CloseHelper.quietClose(receiverRunner);
-        CloseHelper.quietClose(senderRunner);
+        if (null != receiverRunners)
+        {
+            for (final AgentRunner receiverRunner : receiverRunners)
+            {
+                CloseHelper.quietClose(receiverRunner);
+            }
+        }
+        if (null != senderRunners)
+        {
+            for (final AgentRunner senderRunner : senderRunners)
+            {
+                CloseHelper.quietClose(senderRunner);
+            }
+        }
         CloseHelper.quietClose(conductorRunner);
         CloseHelper.quietClose(sharedInvoker);
 
@@ -289,14 +318,20 @@ public final class MediaDriver implements AutoCloseable
             AgentRunner.startOnThread(conductorRunner, ctx.conductorThreadFactory());
         }
 
-        if (null != senderRunner)
+        if (null != senderRunners)
         {
-            AgentRunner.startOnThread(senderRunner, ctx.senderThreadFactory());
+            for (final AgentRunner senderRunner : senderRunners)
+            {
+                AgentRunner.startOnThread(senderRunner, ctx.senderThreadFactory());
+            }
         }
 
-        if (null != receiverRunner)
+        if (null != receiverRunners)
         {
-            AgentRunner.startOnThread(receiverRunner, ctx.receiverThreadFactory());
+            for (final AgentRunner receiverRunner : receiverRunners)
+            {
+                AgentRunner.startOnThread(receiverRunner, ctx.receiverThreadFactory());
+            }
         }
 
         if (null != sharedNetworkRunner)
@@ -317,6 +352,68 @@ public final class MediaDriver implements AutoCloseable
         return this;
     }
 
+    private static Receiver[] newReceivers(final Context ctx)
+    {
+        final int receiverCount = ctx.receiverCount();
+        final Receiver[] receivers = new Receiver[receiverCount];
+        final ReceiverProxy[] receiverProxies = new ReceiverProxy[receiverCount];
+
+        receivers[0] = new Receiver(ctx);
+        receiverProxies[0] = ctx.receiverProxy();
+
+        for (int i = 1; i < receiverCount; i++)
+        {
+            final OneToOneConcurrentArrayQueue<ReceiverCmd> commandQueue =
+                new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
+
+            receivers[i] = new Receiver(
+                ctx,
+                commandQueue,
+                new DataTransportPoller(ctx.receiverMaxMessagesPerPoll()),
+                "receiver-" + i);
+            receiverProxies[i] = new ReceiverProxy(
+                ctx.threadingMode(), commandQueue, ctx.systemCounters().get(RECEIVER_PROXY_FAILS));
+        }
+
+        for (int i = 0; i < receiverCount; i++)
+        {
+            receiverProxies[i].receiver(receivers[i]);
+        }
+
+        ctx.receiverProxies(receiverProxies);
+
+        return receivers;
+    }
+
+    private static Sender[] newSenders(final Context ctx)
+    {
+        final int senderCount = ctx.senderCount();
+        final Sender[] senders = new Sender[senderCount];
+        final SenderProxy[] senderProxies = new SenderProxy[senderCount];
+
+        senders[0] = new Sender(ctx);
+        senderProxies[0] = ctx.senderProxy();
+
+        for (int i = 1; i < senderCount; i++)
+        {
+            final OneToOneConcurrentArrayQueue<SenderCmd> commandQueue =
+                new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
+
+            senders[i] = new Sender(ctx, commandQueue, new ControlTransportPoller(), "sender-" + i);
+            senderProxies[i] = new SenderProxy(
+                ctx.threadingMode(), commandQueue, ctx.systemCounters().get(SENDER_PROXY_FAILS));
+        }
+
+        for (int i = 0; i < senderCount; i++)
+        {
+            senderProxies[i].sender(senders[i]);
+        }
+
+        ctx.senderProxies(senderProxies);
+
+        return senders;
+    }
+
     private static void ensureDirectoryIsRecreated(final Context ctx)
     {
         if (ctx.aeronDirectory().isDirectory())
@@ -403,7 +500,18 @@ public final class MediaDriver implements AutoCloseable
         private int initialWindowLength = Configuration.initialWindowLength();
         private int mtuLength = Configuration.MTU_LENGTH;
         private int ipcMtuLength = Configuration.IPC_MTU_LENGTH;
+        private int networkPublicationMaxMessagesPerSend = Configuration.networkPublicationMaxMessagesPerSend();
+        private int receiverMaxMessagesPerPoll = Configuration.receiverMaxMessagesPerPoll();
+        private int nakMaxRanges = Configuration.nakMaxRanges();
+        private int maxRetransmits = Configuration.maxRetransmits();
+        private long retransmitMulticastDelayNs = Configuration.retransmitMulticastDelayNs();
+        private long senderPacingRate = Configuration.senderPacingRate();
+        private int senderPacingBurstLength = Configuration.senderPacingBurstLength();
+        private int receiverCount = Configuration.receiverCount();
+        private int senderCount = Configuration.senderCount();
         private int filePageSize = Configuration.FILE_PAGE_SIZE;
+        private int logBufferPageSize = Configuration.logBufferPageSize();
+        private String logBufferDirectoryName = Configuration.logBufferDirectoryName();
 
         private EpochClock epochClock;
         private NanoClock nanoClock;
@@ -417,7 +525,9 @@ public final class MediaDriver implements AutoCloseable
         private ThreadFactory sharedNetworkThreadFactory;
         private IdleStrategy conductorIdleStrategy;
         private IdleStrategy senderIdleStrategy;
+        private Supplier<IdleStrategy> senderIdleStrategySupplier;
         private IdleStrategy receiverIdleStrategy;
+        private Supplier<IdleStrategy> receiverIdleStrategySupplier;
         private IdleStrategy sharedNetworkIdleStrategy;
         private IdleStrategy sharedIdleStrategy;
         private SendChannelEndpointSupplier sendChannelEndpointSupplier;
@@ -443,7 +553,9 @@ public final class MediaDriver implements AutoCloseable
         private OneToOneConcurrentArrayQueue<ReceiverCmd> receiverCommandQueue;
         private OneToOneConcurrentArrayQueue<SenderCmd> senderCommandQueue;
         private ReceiverProxy receiverProxy;
+        private ReceiverProxy[] receiverProxies;
         private SenderProxy senderProxy;
+        private SenderProxy[] senderProxies;
         private DriverConductorProxy driverConductorProxy;
         private ClientProxy clientProxy;
         private RingBuffer toDriverCommands;
@@ -469,11 +581,26 @@ public final class MediaDriver implements AutoCloseable
 
             try
             {
+                validateMaxMessagesPerSend(networkPublicationMaxMessagesPerSend);
+                validateMaxMessagesPerPoll(receiverMaxMessagesPerPoll);
+                validateNakMaxRanges(nakMaxRanges);
+                validateMaxRetransmits(maxRetransmits);
+                validateSenderPacingRate(senderPacingRate);
+                validateSenderPacingBurstLength(senderPacingBurstLength);
+                validateReceiverCount(receiverCount);
+                validateSenderCount(senderCount);
+                if (ThreadingMode.DEDICATED != threadingMode)
+                {
+                    receiverCount = 1;
+                    senderCount = 1;
+                }
+
                 concludeNullProperties();
 
                 validateMtuLength(mtuLength);
                 validateMtuLength(ipcMtuLength);
                 validatePageSize(filePageSize);
+                validatePageSize(logBufferPageSize);
 
                 LogBufferDescriptor.checkTermLength(publicationTermBufferLength);
                 LogBufferDescriptor.checkTermLength(ipcPublicationTermBufferLength);
@@ -688,6 +815,57 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Page size of the file system on which log buffers are created which log files are aligned to and pages
+         * are allocated by when not using sparse files.
+         *
+         * @return page size of the file system on which log buffers are created.
+         * @see Configuration#LOG_BUFFER_PAGE_SIZE_PROP_NAME
+         */
+        public int logBufferPageSize()
+        {
+            return logBufferPageSize;
+        }
+
+        /**
+         * Page size of the file system on which log buffers are created which log files are aligned to and pages
+         * are allocated by when not using sparse files, e.g. 2m when log buffers are on a hugetlbfs mount.
+         *
+         * @param logBufferPageSize of the file system on which log buffers are created.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFER_PAGE_SIZE_PROP_NAME
+         */
+        public Context logBufferPageSize(final int logBufferPageSize)
+        {
+            this.logBufferPageSize = logBufferPageSize;
+            return this;
+        }
+
+        /**
+         * Directory in which the log buffers for publications and images are created.
+         *
+         * @return directory in which the log buffers are created.
+         * @see Configuration#LOG_BUFFER_DIR_PROP_NAME
+         */
+        public String logBufferDirectoryName()
+        {
+            return logBufferDirectoryName;
+        }
+
+        /**
+         * Directory in which the log buffers for publications and images are created, e.g. a directory on a
+         * hugetlbfs mount. The directory must be unique to each driver. If null then the Aeron directory is used.
+         *
+         * @param logBufferDirectoryName in which the log buffers are created.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFER_DIR_PROP_NAME
+         */
+        public Context logBufferDirectoryName(final String logBufferDirectoryName)
+        {
+            this.logBufferDirectoryName = logBufferDirectoryName;
+            return this;
+        }
+
         /**
          * Interval in nanoseconds between checks for timers and timeouts.
          *
@@ -1020,6 +1198,262 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Maximum number of datagrams a network publication will send to the channel endpoint in a
+         * single duty cycle of the {@link Sender}, each one up to the MTU length.
+         * <p>
+         * Batching reduces the per datagram overhead in the sender duty cycle and allows a high rate stream to
+         * drain its term buffer with fewer passes over all the publications.
+         *
+         * @return maximum number of datagrams a network publication will send in a single duty cycle.
+         * @see Configuration#NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_PROP_NAME
+         */
+        public int networkPublicationMaxMessagesPerSend()
+        {
+            return networkPublicationMaxMessagesPerSend;
+        }
+
+        /**
+         * Maximum number of datagrams a network publication will send to the channel endpoint in a
+         * single duty cycle of the {@link Sender}, each one up to the MTU length.
+         * <p>
+         * Batching reduces the per datagram overhead in the sender duty cycle and allows a high rate stream to
+         * drain its term buffer with fewer passes over all the publications.
+         *
+         * @param maxMessagesPerSend maximum number of datagrams a network publication will send in a duty cycle.
+         * @return this for a fluent API.
+         * @see Configuration#NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_PROP_NAME
+         */
+        public Context networkPublicationMaxMessagesPerSend(final int maxMessagesPerSend)
+        {
+            this.networkPublicationMaxMessagesPerSend = maxMessagesPerSend;
+            return this;
+        }
+
+        /**
+         * Number of sender agents, each on its own thread, over which send channel endpoints and their network
+         * publications are sharded when running in {@link ThreadingMode#DEDICATED}.
+         *
+         * @return number of sender agents.
+         * @see Configuration#SENDER_COUNT_PROP_NAME
+         */
+        public int senderCount()
+        {
+            return senderCount;
+        }
+
+        /**
+         * Number of sender agents, each on its own thread, over which send channel endpoints and their network
+         * publications are sharded when running in {@link ThreadingMode#DEDICATED}.
+         * <p>
+         * Each sender sends the publications and polls the control messages for a disjoint set of channel
+         * endpoints. Additional senders use an idle strategy from {@link #senderIdleStrategySupplier()}. Other
+         * threading modes have a single sender.
+         *
+         * @param senderCount number of sender agents.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_COUNT_PROP_NAME
+         */
+        public Context senderCount(final int senderCount)
+        {
+            this.senderCount = senderCount;
+            return this;
+        }
+
+        /**
+         * Maximum number of datagrams the receiver will read from a channel endpoint in a single poll before
+         * dispatching them as a batch.
+         * <p>
+         * Each datagram in a batch requires its own receive buffer of {@link Configuration#MAX_UDP_PAYLOAD_LENGTH}
+         * so larger batches increase the memory footprint of the receiver.
+         *
+         * @return maximum number of datagrams the receiver will read from a channel endpoint in a single poll.
+         * @see Configuration#RECEIVER_MAX_MESSAGES_PER_POLL_PROP_NAME
+         */
+        public int receiverMaxMessagesPerPoll()
+        {
+            return receiverMaxMessagesPerPoll;
+        }
+
+        /**
+         * Maximum number of datagrams the receiver will read from a channel endpoint in a single poll before
+         * dispatching them as a batch.
+         * <p>
+         * Each datagram in a batch requires its own receive buffer of {@link Configuration#MAX_UDP_PAYLOAD_LENGTH}
+         * so larger batches increase the memory footprint of the receiver.
+         *
+         * @param maxMessagesPerPoll maximum number of datagrams the receiver will read in a single poll.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_MAX_MESSAGES_PER_POLL_PROP_NAME
+         */
+        public Context receiverMaxMessagesPerPoll(final int maxMessagesPerPoll)
+        {
+            this.receiverMaxMessagesPerPoll = maxMessagesPerPoll;
+            return this;
+        }
+
+        /**
+         * Maximum number of gaps in a term a receiver will report in a single selective NAK so the sender can
+         * retransmit them all at once. A value of 1 sends a NAK per gap.
+         * <p>
+         * Senders which do not understand selective NAKs will only retransmit the first gap in each NAK.
+         *
+         * @return maximum number of gaps in a term a receiver will report in a single NAK.
+         * @see Configuration#NAK_MAX_RANGES_PROP_NAME
+         */
+        public int nakMaxRanges()
+        {
+            return nakMaxRanges;
+        }
+
+        /**
+         * Maximum number of gaps in a term a receiver will report in a single selective NAK so the sender can
+         * retransmit them all at once. A value of 1 sends a NAK per gap.
+         * <p>
+         * Senders which do not understand selective NAKs will only retransmit the first gap in each NAK.
+         *
+         * @param nakMaxRanges maximum number of gaps in a term a receiver will report in a single NAK.
+         * @return this for a fluent API.
+         * @see Configuration#NAK_MAX_RANGES_PROP_NAME
+         */
+        public Context nakMaxRanges(final int nakMaxRanges)
+        {
+            this.nakMaxRanges = nakMaxRanges;
+            return this;
+        }
+
+        /**
+         * Maximum number of retransmits a network publication can have active at the same time. NAKs received for
+         * further loss are ignored until a retransmit completes.
+         *
+         * @return maximum number of retransmits a network publication can have active at the same time.
+         * @see Configuration#MAX_RETRANSMITS_PROP_NAME
+         * @see io.aeron.CommonContext#MAX_RETRANSMITS_PARAM_NAME
+         */
+        public int maxRetransmits()
+        {
+            return maxRetransmits;
+        }
+
+        /**
+         * Maximum number of retransmits a network publication can have active at the same time. NAKs received for
+         * further loss are ignored until a retransmit completes.
+         *
+         * @param maxRetransmits which a network publication can have active at the same time.
+         * @return this for a fluent API.
+         * @see Configuration#MAX_RETRANSMITS_PROP_NAME
+         * @see io.aeron.CommonContext#MAX_RETRANSMITS_PARAM_NAME
+         */
+        public Context maxRetransmits(final int maxRetransmits)
+        {
+            this.maxRetransmits = maxRetransmits;
+            return this;
+        }
+
+        /**
+         * Delay in nanoseconds before retransmission of data for multicast, and multi-destination-cast, publications.
+         *
+         * @return delay in nanoseconds before retransmission of data for multicast publications.
+         * @see Configuration#RETRANSMIT_MULTICAST_DELAY_PROP_NAME
+         */
+        public long retransmitMulticastDelayNs()
+        {
+            return retransmitMulticastDelayNs;
+        }
+
+        /**
+         * Delay in nanoseconds before retransmission of data for multicast, and multi-destination-cast, publications.
+         *
+         * @param retransmitMulticastDelayNs before retransmission of data for multicast publications.
+         * @return this for a fluent API.
+         * @see Configuration#RETRANSMIT_MULTICAST_DELAY_PROP_NAME
+         */
+        public Context retransmitMulticastDelayNs(final long retransmitMulticastDelayNs)
+        {
+            this.retransmitMulticastDelayNs = retransmitMulticastDelayNs;
+            return this;
+        }
+
+        /**
+         * Rate in bytes per second at which network publications are paced onto the network, or 0 for no pacing.
+         *
+         * @return rate in bytes per second at which network publications are paced onto the network.
+         * @see Configuration#SENDER_PACING_RATE_PROP_NAME
+         * @see io.aeron.CommonContext#PACING_RATE_PARAM_NAME
+         */
+        public long senderPacingRate()
+        {
+            return senderPacingRate;
+        }
+
+        /**
+         * Rate in bytes per second at which network publications are paced onto the network, or 0 for no pacing.
+         *
+         * @param senderPacingRate in bytes per second at which network publications are paced onto the network.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_PACING_RATE_PROP_NAME
+         * @see io.aeron.CommonContext#PACING_RATE_PARAM_NAME
+         */
+        public Context senderPacingRate(final long senderPacingRate)
+        {
+            this.senderPacingRate = senderPacingRate;
+            return this;
+        }
+
+        /**
+         * Number of bytes a paced network publication can send in a burst after being idle.
+         *
+         * @return number of bytes a paced network publication can send in a burst after being idle.
+         * @see Configuration#SENDER_PACING_BURST_LENGTH_PROP_NAME
+         */
+        public int senderPacingBurstLength()
+        {
+            return senderPacingBurstLength;
+        }
+
+        /**
+         * Number of bytes a paced network publication can send in a burst after being idle.
+         *
+         * @param senderPacingBurstLength which a paced network publication can send after being idle.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_PACING_BURST_LENGTH_PROP_NAME
+         */
+        public Context senderPacingBurstLength(final int senderPacingBurstLength)
+        {
+            this.senderPacingBurstLength = senderPacingBurstLength;
+            return this;
+        }
+
+        /**
+         * Number of receiver agents, each on its own thread, over which receive channel endpoints are sharded when
+         * running in {@link ThreadingMode#DEDICATED}.
+         *
+         * @return number of receiver agents.
+         * @see Configuration#RECEIVER_COUNT_PROP_NAME
+         */
+        public int receiverCount()
+        {
+            return receiverCount;
+        }
+
+        /**
+         * Number of receiver agents, each on its own thread, over which receive channel endpoints are sharded when
+         * running in {@link ThreadingMode#DEDICATED}.
+         * <p>
+         * Each receiver polls a disjoint set of channel endpoints and services the images on them. Additional
+         * receivers use an idle strategy from {@link #receiverIdleStrategySupplier()}. Other threading modes have a
+         * single receiver.
+         *
+         * @param receiverCount number of receiver agents.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_COUNT_PROP_NAME
+         */
+        public Context receiverCount(final int receiverCount)
+        {
+            this.receiverCount = receiverCount;
+            return this;
+        }
+
         /**
          * The {@link EpochClock} as a source of time in milliseconds for wall clock time.
          *
@@ -1283,6 +1717,32 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Supplier of an {@link IdleStrategy} for each additional {@link Sender} when in
+         * {@link ThreadingMode#DEDICATED} with a {@link #senderCount()} greater than one. An {@link IdleStrategy}
+         * can hold state so each sender thread needs its own.
+         *
+         * @return supplier of an {@link IdleStrategy} for each additional {@link Sender}.
+         */
+        public Supplier<IdleStrategy> senderIdleStrategySupplier()
+        {
+            return senderIdleStrategySupplier;
+        }
+
+        /**
+         * Supplier of an {@link IdleStrategy} for each additional {@link Sender} when in
+         * {@link ThreadingMode#DEDICATED} with a {@link #senderCount()} greater than one. When
+         * {@link #senderIdleStrategy(IdleStrategy)} is not set the first {@link Sender} also takes one from it.
+         *
+         * @param supplier of an {@link IdleStrategy} for each additional {@link Sender}.
+         * @return this for a fluent API.
+         */
+        public Context senderIdleStrategySupplier(final Supplier<IdleStrategy> supplier)
+        {
+            senderIdleStrategySupplier = supplier;
+            return this;
+        }
+
         /**
          * {@link IdleStrategy} to be used by the {@link Receiver} when in {@link ThreadingMode#DEDICATED}.
          *
@@ -1305,6 +1765,32 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Supplier of an {@link IdleStrategy} for each additional {@link Receiver} when in
+         * {@link ThreadingMode#DEDICATED} with a {@link #receiverCount()} greater than one. An {@link IdleStrategy}
+         * can hold state so each receiver thread needs its own.
+         *
+         * @return supplier of an {@link IdleStrategy} for each additional {@link Receiver}.
+         */
+        public Supplier<IdleStrategy> receiverIdleStrategySupplier()
+        {
+            return receiverIdleStrategySupplier;
+        }
+
+        /**
+         * Supplier of an {@link IdleStrategy} for each additional {@link Receiver} when in
+         * {@link ThreadingMode#DEDICATED} with a {@link #receiverCount()} greater than one. When
+         * {@link #receiverIdleStrategy(IdleStrategy)} is not set the first {@link Receiver} also takes one from it.
+         *
+         * @param supplier of an {@link IdleStrategy} for each additional {@link Receiver}.
+         * @return this for a fluent API.
+         */
+        public Context receiverIdleStrategySupplier(final Supplier<IdleStrategy> supplier)
+        {
+            receiverIdleStrategySupplier = supplier;
+            return this;
+        }
+
         /**
          * {@link IdleStrategy} to be used by the {@link DriverConductor} when in {@link ThreadingMode#DEDICATED}
          * or {@link ThreadingMode#SHARED_NETWORK}.
@@ -1803,6 +2289,17 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        ReceiverProxy[] receiverProxies()
+        {
+            return null != receiverProxies ? receiverProxies : new ReceiverProxy[]{ receiverProxy };
+        }
+
+        Context receiverProxies(final ReceiverProxy[] receiverProxies)
+        {
+            this.receiverProxies = receiverProxies;
+            return this;
+        }
+
         SenderProxy senderProxy()
         {
             return senderProxy;
@@ -1814,6 +2311,17 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        SenderProxy[] senderProxies()
+        {
+            return null != senderProxies ? senderProxies : new SenderProxy[]{ senderProxy };
+        }
+
+        Context senderProxies(final SenderProxy[] senderProxies)
+        {
+            this.senderProxies = senderProxies;
+            return this;
+        }
+
         DriverConductorProxy driverConductorProxy()
         {
             return driverConductorProxy;
@@ -1852,8 +2360,8 @@ public final class MediaDriver implements AutoCloseable
             if (null == rawLogFactory)
             {
                 rawLogFactory = new RawLogFactory(
-                    aeronDirectoryName(),
-                    filePageSize,
+                    logBufferDirectoryName,
+                    logBufferPageSize,
                     termBufferSparseFile,
                     performStorageChecks,
                     errorLog);
@@ -1912,6 +2420,11 @@ public final class MediaDriver implements AutoCloseable
         @SuppressWarnings("MethodLength")
         private void concludeNullProperties()
         {
+            if (null == logBufferDirectoryName)
+            {
+                logBufferDirectoryName = aeronDirectoryName();
+            }
+
             if (null == epochClock)
             {
                 epochClock = new SystemEpochClock();
@@ -1954,7 +2467,7 @@ public final class MediaDriver implements AutoCloseable
 
             if (null == dataTransportPoller)
             {
-                dataTransportPoller = new DataTransportPoller();
+                dataTransportPoller = new DataTransportPoller(receiverMaxMessagesPerPoll);
             }
 
             if (null == controlTransportPoller)
@@ -2033,14 +2546,24 @@ public final class MediaDriver implements AutoCloseable
                         conductorIdleStrategy = Configuration.conductorIdleStrategy(indicator);
                     }
 
+                    if (null == senderIdleStrategySupplier)
+                    {
+                        senderIdleStrategySupplier = () -> Configuration.senderIdleStrategy(indicator);
+                    }
+
                     if (null == senderIdleStrategy)
                     {
-                        senderIdleStrategy = Configuration.senderIdleStrategy(indicator);
+                        senderIdleStrategy = senderIdleStrategySupplier.get();
+                    }
+
+                    if (null == receiverIdleStrategySupplier)
+                    {
+                        receiverIdleStrategySupplier = () -> Configuration.receiverIdleStrategy(indicator);
                     }
 
                     if (null == receiverIdleStrategy)
                     {
-                        receiverIdleStrategy = Configuration.receiverIdleStrategy(indicator);
+                        receiverIdleStrategy = receiverIdleStrategySupplier.get();
                     }
                     break;
 
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.agrona.collections.Long2ObjectHashMap;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+
+/**
+ * Tracking of receivers for multicast flow control strategies which must find the minimum position of a large number
+ * of receivers on each Status Message.
+ * <p>
+ * Receivers are looked up by receiver id in a map, ordered by position plus receiver window in an indexed min-heap so
+ * the minimum is at the root, and kept in a list ordered by time of last Status Message so timed out receivers are
+ * found at the head. Updating a receiver is O(log n) in the number of receivers and timing out receivers is
+ * proportional to the number which have timed out.
+ */
+final class MulticastReceiverTracker
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Long2ObjectHashMap<Receiver> receiverByIdMap = new Long2ObjectHashMap<>();
+    private Receiver[] heap = new Receiver[INITIAL_CAPACITY];
+    private int size = 0;
+    private Receiver oldest;
+    private Receiver newest;
+
+    /**
+     * Number of receivers being tracked.
+     *
+     * @return number of receivers being tracked.
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Update a receiver from a Status Message, or start tracking it if it is not known.
+     *
+     * @param receiverId of the receiver.
+     * @param position of the receiver as reported in the Status Message.
+     * @param positionPlusWindow for the position plus receiver window as reported in the Status Message.
+     * @param timeNs at which the Status Message was received.
+     * @param receiverAddress from which the Status Message was sent.
+     */
+    void onStatusMessage(
+        final long receiverId,
+        final long position,
+        final long positionPlusWindow,
+        final long timeNs,
+        final InetSocketAddress receiverAddress)
+    {
+        Receiver receiver = receiverByIdMap.get(receiverId);
+        if (null == receiver)
+        {
+            receiver = new Receiver(position, positionPlusWindow, timeNs, receiverId, receiverAddress);
+            receiverByIdMap.put(receiverId, receiver);
+            heapAdd(receiver);
+            linkAsNewest(receiver);
+        }
+        else
+        {
+            final long lastPositionPlusWindow = receiver.lastPositionPlusWindow;
+            receiver.lastPosition = Math.max(position, receiver.lastPosition);
+            receiver.lastPositionPlusWindow = positionPlusWindow;
+            receiver.timeOfLastStatusMessageNs = timeNs;
+
+            if (positionPlusWindow < lastPositionPlusWindow)
+            {
+                siftUp(receiver.heapIndex);
+            }
+            else if (positionPlusWindow > lastPositionPlusWindow)
+            {
+                siftDown(receiver.heapIndex);
+            }
+
+            if (receiver != newest)
+            {
+                unlink(receiver);
+                linkAsNewest(receiver);
+            }
+        }
+    }
+
+    /**
+     * Stop tracking receivers which have not sent a Status Message within the timeout.
+     *
+     * @param timeNs current time.
+     * @param timeoutNs after the last Status Message for a receiver to be considered timed out.
+     * @return the number of receivers which timed out.
+     */
+    int removeTimedOut(final long timeNs, final long timeoutNs)
+    {
+        int removed = 0;
+
+        Receiver receiver;
+        while (null != (receiver = oldest) && timeNs > (receiver.timeOfLastStatusMessageNs + timeoutNs))
+        {
+            unlink(receiver);
+            heapRemove(receiver.heapIndex);
+            receiverByIdMap.remove(receiver.receiverId);
+            removed++;
+        }
+
+        return removed;
+    }
+
+    /**
+     * The minimum position plus receiver window of tracked receivers.
+     *
+     * @return minimum position plus receiver window of tracked receivers or {@link Long#MAX_VALUE} if none tracked.
+     */
+    long minPositionPlusWindow()
+    {
+        return size > 0 ? heap[0].lastPositionPlusWindow : Long.MAX_VALUE;
+    }
+
+    /**
+     * The minimum position of tracked receivers. This is a scan of all receivers as it is only required when
+     * determining if the stream has been consumed to the end before lingering finishes.
+     *
+     * @return minimum position of tracked receivers or {@link Long#MAX_VALUE} if none tracked.
+     */
+    long minPosition()
+    {
+        long minPosition = Long.MAX_VALUE;
+
+        for (int i = 0; i < size; i++)
+        {
+            minPosition = Math.min(minPosition, heap[i].lastPosition);
+        }
+
+        return minPosition;
+    }
+
+    private void linkAsNewest(final Receiver receiver)
+    {
+        receiver.older = newest;
+        receiver.newer = null;
+
+        if (null == newest)
+        {
+            oldest = receiver;
+        }
+        else
+        {
+            newest.newer = receiver;
+        }
+
+        newest = receiver;
+    }
+
+    private void unlink(final Receiver receiver)
+    {
+        if (null == receiver.older)
+        {
+            oldest = receiver.newer;
+        }
+        else
+        {
+            receiver.older.newer = receiver.newer;
+        }
+
+        if (null == receiver.newer)
+        {
+            newest = receiver.older;
+        }
+        else
+        {
+            receiver.newer.older = receiver.older;
+        }
+
+        receiver.older = null;
+        receiver.newer = null;
+    }
+
+    private void heapAdd(final Receiver receiver)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+
+        final int index = size++;
+        heap[index] = receiver;
+        receiver.heapIndex = index;
+        siftUp(index);
+    }
+
+    private void heapRemove(final int index)
+    {
+        final int lastIndex = --size;
+        final Receiver last = heap[lastIndex];
+        heap[lastIndex] = null;
+
+        if (index != lastIndex)
+        {
+            heap[index] = last;
+            last.heapIndex = index;
+            siftUp(index);
+            siftDown(last.heapIndex);
+        }
+    }
+
+    private void siftUp(final int startIndex)
+    {
+        final Receiver[] heap = this.heap;
+        final Receiver receiver = heap[startIndex];
+        int index = startIndex;
+
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final Receiver parent = heap[parentIndex];
+            if (parent.lastPositionPlusWindow <= receiver.lastPositionPlusWindow)
+            {
+                break;
+            }
+
+            heap[index] = parent;
+            parent.heapIndex = index;
+            index = parentIndex;
+        }
+
+        heap[index] = receiver;
+        receiver.heapIndex = index;
+    }
+
+    private void siftDown(final int startIndex)
+    {
+        final Receiver[] heap = this.heap;
+        final int size = this.size;
+        final Receiver receiver = heap[startIndex];
+        int index = startIndex;
+
+        while (true)
+        {
+            int childIndex = (index << 1) + 1;
+            if (childIndex >= size)
+            {
+                break;
+            }
+
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && heap[rightIndex].lastPositionPlusWindow < heap[childIndex].lastPositionPlusWindow)
+            {
+                childIndex = rightIndex;
+            }
+
+            final Receiver child = heap[childIndex];
+            if (receiver.lastPositionPlusWindow <= child.lastPositionPlusWindow)
+            {
+                break;
+            }
+
+            heap[index] = child;
+            child.heapIndex = index;
+            index = childIndex;
+        }
+
+        heap[index] = receiver;
+        receiver.heapIndex = index;
+    }
+
+    static final class Receiver
+    {
+        long lastPosition;
+        long lastPositionPlusWindow;
+        long timeOfLastStatusMessageNs;
+        long receiverId;
+        InetSocketAddress address;
+        int heapIndex;
+        Receiver older;
+        Receiver newer;
+
+        Receiver(
+            final long lastPosition,
+            final long lastPositionPlusWindow,
+            final long timeNs,
+            final long receiverId,
+            final InetSocketAddress receiverAddress)
+        {
+            this.lastPosition = lastPosition;
+            this.lastPositionPlusWindow = lastPositionPlusWindow;
+            this.timeOfLastStatusMessageNs = timeNs;
+            this.receiverId = receiverId;
+            this.address = receiverAddress;
+        }
+    }
+}
@@ -69,6 +69,7 @@ class NetworkPublicationSenderFields extends NetworkPublicationPadding2
     protected long timeOfLastSetupNs;
     protected long statusMessageDeadlineNs;
     protected boolean trackSenderLimits = true;
+    protected boolean trackPacingLimits = true;
     protected boolean shouldSendSetupFrame = true;
 }
 
@@ -99,6 +100,7 @@ public class NetworkPublication
     private final int termBufferLength;
     private final int termLengthMask;
     private final int mtuLength;
+    private final int maxMessagesPerSend;
     private final int termWindowLength;
     private final int sessionId;
     private final int streamId;
@@ -126,11 +128,14 @@ public class NetworkPublication
     private final FlowControl flowControl;
     private final NanoClock nanoClock;
     private final RetransmitHandler retransmitHandler;
+    private final FecEncoder fecEncoder;
+    private final SendPacer sendPacer;
     private final UnsafeBuffer metaDataBuffer;
     private final RawLog rawLog;
     private final AtomicCounter heartbeatsSent;
     private final AtomicCounter retransmitsSent;
     private final AtomicCounter senderFlowControlLimits;
+    private final AtomicCounter senderPacingLimits;
     private final AtomicCounter shortSends;
     private final AtomicCounter unblockedPublications;
 
@@ -146,6 +151,7 @@ public class NetworkPublication
         final int streamId,
         final int initialTermId,
         final int mtuLength,
+        final int maxMessagesPerSend,
         final SystemCounters systemCounters,
         final FlowControl flowControl,
         final RetransmitHandler retransmitHandler,
@@ -154,7 +160,10 @@ public class NetworkPublication
         final long connectionTimeoutNs,
         final long lingerTimeoutNs,
         final boolean isExclusive,
-        final boolean spiesSimulateConnection)
+        final boolean spiesSimulateConnection,
+        final int fecGroupLength,
+        final long pacingRate,
+        final int pacingBurstLength)
     {
         this.registrationId = registrationId;
         this.unblockTimeoutNs = unblockTimeoutNs;
@@ -169,6 +178,7 @@ public class NetworkPublication
         this.retransmitHandler = retransmitHandler;
         this.publisherLimit = publisherLimit;
         this.mtuLength = mtuLength;
+        this.maxMessagesPerSend = maxMessagesPerSend;
         this.initialTermId = initialTermId;
         this.sessionId = sessionId;
         this.streamId = streamId;
@@ -187,10 +197,13 @@ public class NetworkPublication
         shortSends = systemCounters.get(SHORT_SENDS);
         retransmitsSent = systemCounters.get(RETRANSMITS_SENT);
         senderFlowControlLimits = systemCounters.get(SENDER_FLOW_CONTROL_LIMITS);
+        senderPacingLimits = systemCounters.get(SENDER_PACING_LIMITS);
         unblockedPublications = systemCounters.get(UNBLOCKED_PUBLICATIONS);
 
         termBuffers = rawLog.termBuffers();
         sendBuffers = rawLog.sliceTerms();
+        fecEncoder = fecGroupLength > 0 ?
+            new FecEncoder(fecGroupLength, mtuLength, sessionId, streamId, systemCounters) : null;
 
         final int termLength = rawLog.termLength();
         termBufferLength = termLength;
@@ -198,6 +211,7 @@ public class NetworkPublication
         flowControl.initialize(initialTermId, termLength);
 
         final long nowNs = nanoClock.nanoTime();
+        sendPacer = pacingRate > 0 ? new SendPacer(pacingRate, pacingBurstLength, nowNs) : null;
         timeOfLastSendOrHeartbeatNs = nowNs - PUBLICATION_HEARTBEAT_TIMEOUT_NS - 1;
         timeOfLastSetupNs = nowNs - PUBLICATION_SETUP_TIMEOUT_NS - 1;
         statusMessageDeadlineNs = spiesSimulateConnection ? nowNs : (nowNs + connectionTimeoutNs);
@@ -249,10 +263,15 @@ public class NetworkPublication
             setupMessageCheck(nowNs, activeTermId, termOffset);
         }
 
-        int bytesSent = sendData(nowNs, senderPosition, termOffset);
+        int bytesSent = sendData(nowNs, senderPosition, activeTermId, termOffset);
 
         if (0 == bytesSent)
         {
+            if (null != fecEncoder && (null == sendPacer || sendPacer.hasTokens(nowNs)))
+            {
+                fecEncoder.flush(channelEndpoint);
+            }
+
             final boolean isEndOfStream = this.isEndOfStream;
             bytesSent = heartbeatMessageCheck(nowNs, activeTermId, termOffset, isEndOfStream);
 
@@ -327,12 +346,17 @@ public class NetworkPublication
                     break;
                 }
 
+                if (null != sendPacer)
+                {
+                    sendPacer.onSent(available);
+                }
+
                 bytesSent = available + padding(scanOutcome);
                 remainingBytes -= bytesSent;
             }
             while (remainingBytes > 0);
 
-            retransmitsSent.incrementOrdered();
+            retransmitsSent.increment();
         }
     }
 
@@ -481,40 +505,77 @@ public class NetworkPublication
         }
     }
 
-    private int sendData(final long nowNs, final long senderPosition, final int termOffset)
+    private int sendData(final long nowNs, final long senderPosition, final int activeTermId, final int termOffset)
     {
         int bytesSent = 0;
         final int availableWindow = (int)(senderLimit.get() - senderPosition);
         if (availableWindow > 0)
         {
-            final int scanLimit = Math.min(availableWindow, mtuLength);
             final int activeIndex = indexByPosition(senderPosition, positionBitsToShift);
+            final UnsafeBuffer termBuffer = termBuffers[activeIndex];
+            final ByteBuffer sendBuffer = sendBuffers[activeIndex];
 
-            final long scanOutcome = scanForAvailability(termBuffers[activeIndex], termOffset, scanLimit);
-            final int available = available(scanOutcome);
-            if (available > 0)
-            {
-                final ByteBuffer sendBuffer = sendBuffers[activeIndex];
-                sendBuffer.limit(termOffset + available).position(termOffset);
+            int remainingWindow = availableWindow;
+            int bytesConsumed = 0;
+            int offset = termOffset;
 
-                if (available == channelEndpoint.send(sendBuffer))
+            for (int i = 0; i < maxMessagesPerSend && remainingWindow > 0 && offset < termBufferLength; i++)
+            {
+                final int scanLimit = Math.min(remainingWindow, mtuLength);
+                final long scanOutcome = scanForAvailability(termBuffer, offset, scanLimit);
+                final int available = available(scanOutcome);
+                if (available <= 0)
                 {
-                    timeOfLastSendOrHeartbeatNs = nowNs;
-                    trackSenderLimits = true;
+                    break;
+                }
 
-                    bytesSent = available;
-                    this.senderPosition.setOrdered(senderPosition + bytesSent + padding(scanOutcome));
+                if (null != sendPacer && !sendPacer.hasTokens(nowNs))
+                {
+                    if (trackPacingLimits)
+                    {
+                        trackPacingLimits = false;
+                        senderPacingLimits.incrementOrdered();
+                    }
+                    break;
                 }
-                else
+
+                sendBuffer.limit(offset + available).position(offset);
+
+                if (available != channelEndpoint.send(sendBuffer))
                 {
                     shortSends.increment();
+                    break;
                 }
+
+                if (null != sendPacer)
+                {
+                    sendPacer.onSent(available);
+                }
+
+                if (null != fecEncoder)
+                {
+                    fecEncoder.onDatagramSent(channelEndpoint, termBuffer, activeTermId, offset, available);
+                }
+
+                final int frameLength = available + padding(scanOutcome);
+                bytesSent += available;
+                bytesConsumed += frameLength;
+                remainingWindow -= frameLength;
+                offset += frameLength;
+            }
+
+            if (bytesSent > 0)
+            {
+                timeOfLastSendOrHeartbeatNs = nowNs;
+                trackSenderLimits = true;
+                trackPacingLimits = true;
+                this.senderPosition.setOrdered(senderPosition + bytesConsumed);
             }
         }
         else if (trackSenderLimits)
         {
             trackSenderLimits = false;
-            senderFlowControlLimits.incrementOrdered();
+            senderFlowControlLimits.increment();
         }
 
         return bytesSent;
@@ -580,7 +641,7 @@ public class NetworkPublication
                 shortSends.increment();
             }
 
-            heartbeatsSent.incrementOrdered();
+            heartbeatsSent.increment();
             timeOfLastSendOrHeartbeatNs = nowNs;
         }
 
@@ -614,7 +675,7 @@ public class NetworkPublication
             {
                 if (LogBufferUnblocker.unblock(termBuffers, metaDataBuffer, senderPosition, termBufferLength))
                 {
-                    unblockedPublications.incrementOrdered();
+                    unblockedPublications.increment();
                 }
             }
         }
@@ -704,7 +765,7 @@ public class NetworkPublication
                 {
                     if (LogBufferUnblocker.unblock(termBuffers, metaDataBuffer, senderPosition, termBufferLength))
                     {
-                        unblockedPublications.incrementOrdered();
+                        unblockedPublications.increment();
                         break;
                     }
 
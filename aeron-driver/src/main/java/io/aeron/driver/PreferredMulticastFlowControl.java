@@ -17,10 +17,8 @@ package io.aeron.driver;
 
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.BitUtil;
-import org.agrona.collections.ArrayListUtil;
 
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
 import java.util.concurrent.TimeUnit;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
@@ -63,7 +61,7 @@ public class PreferredMulticastFlowControl implements FlowControl
     public static final String PREFERRED_ASF = getProperty(PREFERRED_ASF_PROP_NAME, PREFERRED_ASF_DEFAULT);
     public static final byte[] PREFERRED_ASF_BYTES = BitUtil.fromHex(PREFERRED_ASF);
 
-    private final ArrayList<Receiver> receiverList = new ArrayList<>();
+    private final MulticastReceiverTracker receiverTracker = new MulticastReceiverTracker();
     private final byte[] smAsf = new byte[64];
 
     private volatile boolean shouldLinger = true;
@@ -86,35 +84,17 @@ public class PreferredMulticastFlowControl implements FlowControl
             initialTermId);
 
         final long windowLength = flyweight.receiverWindowLength();
-        final long receiverId = flyweight.receiverId();
-        final boolean isFromPreferred = isFromPreferred(flyweight);
         final long lastPositionPlusWindow = position + windowLength;
-        boolean isExisting = false;
-        long minPosition = Long.MAX_VALUE;
+        final MulticastReceiverTracker receiverTracker = this.receiverTracker;
 
-        final ArrayList<Receiver> receiverList = this.receiverList;
-        for (int i = 0, size = receiverList.size(); i < size; i++)
+        if (isFromPreferred(flyweight))
         {
-            final Receiver receiver = receiverList.get(i);
-            if (isFromPreferred && receiverId == receiver.receiverId)
-            {
-                receiver.lastPosition = Math.max(position, receiver.lastPosition);
-                receiver.lastPositionPlusWindow = lastPositionPlusWindow;
-                receiver.timeOfLastStatusMessageNs = timeNs;
-                isExisting = true;
-            }
-
-            minPosition = Math.min(minPosition, receiver.lastPositionPlusWindow);
+            receiverTracker.onStatusMessage(
+                flyweight.receiverId(), position, lastPositionPlusWindow, timeNs, receiverAddress);
         }
 
-        if (isFromPreferred && !isExisting)
-        {
-            receiverList.add(new Receiver(position, lastPositionPlusWindow, timeNs, receiverId, receiverAddress));
-            minPosition = Math.min(minPosition, lastPositionPlusWindow);
-        }
-
-        return receiverList.size() > 0 ?
-            Math.max(senderLimit, minPosition) :
+        return receiverTracker.size() > 0 ?
+            Math.max(senderLimit, receiverTracker.minPositionPlusWindow()) :
             Math.max(senderLimit, lastPositionPlusWindow);
     }
 
@@ -131,34 +111,18 @@ public class PreferredMulticastFlowControl implements FlowControl
     public long onIdle(
         final long timeNs, final long senderLimit, final long senderPosition, final boolean isEndOfStream)
     {
-        long minPosition = Long.MAX_VALUE;
-        long minLimitPosition = Long.MAX_VALUE;
-        final ArrayList<Receiver> receiverList = this.receiverList;
-
-        for (int lastIndex = receiverList.size() - 1, i = lastIndex; i >= 0; i--)
-        {
-            final Receiver receiver = receiverList.get(i);
-            if (timeNs > (receiver.timeOfLastStatusMessageNs + RECEIVER_TIMEOUT))
-            {
-                ArrayListUtil.fastUnorderedRemove(receiverList, i, lastIndex);
-                lastIndex--;
-            }
-            else
-            {
-                minPosition = Math.min(minPosition, receiver.lastPosition);
-                minLimitPosition = Math.min(minLimitPosition, receiver.lastPositionPlusWindow);
-            }
-        }
+        final MulticastReceiverTracker receiverTracker = this.receiverTracker;
+        receiverTracker.removeTimedOut(timeNs, RECEIVER_TIMEOUT);
 
         if (isEndOfStream && shouldLinger)
         {
-            if (0 == receiverList.size() || minPosition >= senderPosition)
+            if (0 == receiverTracker.size() || receiverTracker.minPosition() >= senderPosition)
             {
                 shouldLinger = false;
             }
         }
 
-        return receiverList.size() > 0 ? minLimitPosition : senderLimit;
+        return receiverTracker.size() > 0 ? receiverTracker.minPositionPlusWindow() : senderLimit;
     }
 
     /**
@@ -188,27 +152,4 @@ public class PreferredMulticastFlowControl implements FlowControl
 
         return result;
     }
-
-    static class Receiver
-    {
-        long lastPosition;
-        long lastPositionPlusWindow;
-        long timeOfLastStatusMessageNs;
-        long receiverId;
-        InetSocketAddress address;
-
-        Receiver(
-            final long lastPosition,
-            final long lastPositionPlusWindow,
-            final long timeNs,
-            final long receiverId,
-            final InetSocketAddress receiverAddress)
-        {
-            this.lastPosition = lastPosition;
-            this.lastPositionPlusWindow = lastPositionPlusWindow;
-            this.timeOfLastStatusMessageNs = timeNs;
-            this.receiverId = receiverId;
-            this.address = receiverAddress;
-        }
-    }
-}
\ No newline at end of file
+}
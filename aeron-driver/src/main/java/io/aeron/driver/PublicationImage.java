@@ -22,6 +22,7 @@ import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.TermRebuilder;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.EpochClock;
@@ -92,13 +93,17 @@ public class PublicationImage
     private volatile long beginLossChange = -1;
     private volatile long endLossChange = -1;
     private int lossTermId;
-    private int lossTermOffset;
-    private int lossLength;
+    private int lossRangeCount;
+    private final int[] lossTermOffsets;
+    private final int[] lossLengths;
+    private final int[] pendingLossTermOffsets;
+    private final int[] pendingLossLengths;
 
     private volatile long beginSmChange = -1;
     private volatile long endSmChange = -1;
     private long nextSmPosition;
     private int nextSmReceiverWindowLength;
+    private FecDecoder fecDecoder;
 
     private long timeOfLastStatusMessageNs;
 
@@ -130,6 +135,7 @@ public class PublicationImage
     private final AtomicCounter flowControlUnderRuns;
     private final AtomicCounter flowControlOverRuns;
     private final AtomicCounter lossGapFills;
+    private final AtomicCounter lossFecRecoveries;
     private final EpochClock cachedEpochClock;
     private final RawLog rawLog;
 
@@ -155,7 +161,8 @@ public class PublicationImage
         final InetSocketAddress sourceAddress,
         final CongestionControl congestionControl,
         final LossReport lossReport,
-        final boolean isReliable)
+        final boolean isReliable,
+        final int nakMaxRanges)
     {
         this.correlationId = correlationId;
         this.imageLivenessTimeoutNs = imageLivenessTimeoutNs;
@@ -179,6 +186,7 @@ public class PublicationImage
         flowControlUnderRuns = systemCounters.get(FLOW_CONTROL_UNDER_RUNS);
         flowControlOverRuns = systemCounters.get(FLOW_CONTROL_OVER_RUNS);
         lossGapFills = systemCounters.get(LOSS_GAP_FILLS);
+        lossFecRecoveries = systemCounters.get(LOSS_FEC_RECOVERIES);
 
         this.nanoClock = nanoClock;
         this.cachedNanoClock = cachedNanoClock;
@@ -188,7 +196,11 @@ public class PublicationImage
         lastPacketTimestampNs = nowNs;
 
         termBuffers = rawLog.termBuffers();
-        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this);
+        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this, nakMaxRanges);
+        lossTermOffsets = new int[nakMaxRanges];
+        lossLengths = new int[nakMaxRanges];
+        pendingLossTermOffsets = new int[nakMaxRanges];
+        pendingLossLengths = new int[nakMaxRanges];
 
         final int termLength = rawLog.termLength();
         termLengthMask = termLength - 1;
@@ -288,11 +300,45 @@ public class PublicationImage
         beginLossChange = changeNumber;
 
         lossTermId = termId;
-        lossTermOffset = termOffset;
-        lossLength = length;
+        lossTermOffsets[0] = termOffset;
+        lossLengths[0] = length;
+        lossRangeCount = 1;
 
         endLossChange = changeNumber;
 
+        recordLoss(length);
+    }
+
+    /**
+     * Called from the {@link LossDetector} when multiple gaps in a term are detected by the {@link DriverConductor}
+     * thread so they can be NAKed selectively.
+     *
+     * @see LossHandler
+     */
+    public void onGapsDetected(final int termId, final int[] termOffsets, final int[] lengths, final int gapCount)
+    {
+        final long changeNumber = beginLossChange + 1;
+
+        beginLossChange = changeNumber;
+
+        lossTermId = termId;
+        System.arraycopy(termOffsets, 0, lossTermOffsets, 0, gapCount);
+        System.arraycopy(lengths, 0, lossLengths, 0, gapCount);
+        lossRangeCount = gapCount;
+
+        endLossChange = changeNumber;
+
+        int length = 0;
+        for (int i = 0; i < gapCount; i++)
+        {
+            length += lengths[i];
+        }
+
+        recordLoss(length);
+    }
+
+    private void recordLoss(final int length)
+    {
         if (null != reportEntry)
         {
             reportEntry.recordObservation(length, cachedEpochClock.time());
@@ -473,7 +519,7 @@ public class PublicationImage
                     LogBufferDescriptor.endOfStreamPosition(rawLog.metaData(), packetPosition);
                 }
 
-                heartbeatsReceived.incrementOrdered();
+                heartbeatsReceived.increment();
             }
             else
             {
@@ -488,6 +534,65 @@ public class PublicationImage
         return length;
     }
 
+    /**
+     * Called from the {@link DataPacketDispatcher} to rebuild a single lost datagram of a group from a FEC frame
+     * without waiting on a NAK. Losses which cannot be recovered are left to be recovered by NAK.
+     *
+     * @param fecHeader for the FEC frame.
+     * @param length    of the FEC frame received.
+     * @return number of bytes processed from the FEC frame.
+     */
+    int onFecPacket(final FecFlyweight fecHeader, final int length)
+    {
+        final int datagramCount = fecHeader.datagramCount();
+        final int parityLength = fecHeader.parityLength();
+        if (datagramCount < 1 || datagramCount > Configuration.FEC_MAX_GROUP_LENGTH ||
+            parityLength < DataHeaderFlyweight.HEADER_LENGTH ||
+            FecFlyweight.computeFrameLength(datagramCount, parityLength) > length)
+        {
+            return length;
+        }
+
+        int groupLength = 0;
+        for (int i = 0; i < datagramCount; i++)
+        {
+            final int datagramLength = fecHeader.datagramLength(i);
+            if (datagramLength < DataHeaderFlyweight.HEADER_LENGTH || datagramLength > parityLength)
+            {
+                return length;
+            }
+
+            groupLength += datagramLength;
+        }
+
+        final long groupPosition = computePosition(
+            fecHeader.termId(), fecHeader.termOffset(), positionBitsToShift, initialTermId);
+        final long windowPosition = nextSmPosition;
+
+        if (groupPosition >= windowPosition && groupLength > 0 &&
+            (groupPosition + groupLength) <= (windowPosition + nextSmReceiverWindowLength))
+        {
+            if (null == fecDecoder)
+            {
+                fecDecoder = new FecDecoder(mtuLength(rawLog.metaData()));
+            }
+
+            final UnsafeBuffer termBuffer = termBuffers[indexByPosition(groupPosition, positionBitsToShift)];
+            if (fecDecoder.recover(termBuffer, fecHeader))
+            {
+                insertPacket(
+                    fecHeader.termId(),
+                    fecDecoder.recoveredTermOffset(),
+                    fecDecoder.recoveryBuffer(),
+                    fecDecoder.recoveredLength());
+
+                lossFecRecoveries.incrementOrdered();
+            }
+        }
+
+        return length;
+    }
+
     /**
      * To be called from the {@link Receiver} to see if a image should be retained.
      *
@@ -535,7 +640,7 @@ public class PublicationImage
                     channelEndpoint.sendStatusMessage(
                         controlAddress, sessionId, streamId, termId, termOffset, receiverWindowLength, (byte)0);
 
-                    statusMessagesSent.incrementOrdered();
+                    statusMessagesSent.increment();
 
                     lastSmChangeNumber = changeNumber;
                 }
@@ -560,8 +665,12 @@ public class PublicationImage
         if (changeNumber != lastLossChangeNumber)
         {
             final int termId = lossTermId;
-            final int termOffset = lossTermOffset;
-            final int length = lossLength;
+            final int rangeCount = Math.min(lossRangeCount, pendingLossTermOffsets.length);
+            for (int i = 0; i < rangeCount; i++)
+            {
+                pendingLossTermOffsets[i] = lossTermOffsets[i];
+                pendingLossLengths[i] = lossLengths[i];
+            }
 
             UNSAFE.loadFence(); // LoadLoad required so previous loads don't move past version check below.
 
@@ -569,15 +678,36 @@ public class PublicationImage
             {
                 if (isReliable)
                 {
-                    channelEndpoint.sendNakMessage(controlAddress, sessionId, streamId, termId, termOffset, length);
-                    nakMessagesSent.incrementOrdered();
+                    if (1 == rangeCount)
+                    {
+                        final int termOffset = pendingLossTermOffsets[0];
+                        final int length = pendingLossLengths[0];
+                        channelEndpoint.sendNakMessage(controlAddress, sessionId, streamId, termId, termOffset, length);
+                    }
+                    else
+                    {
+                        channelEndpoint.sendNakMessage(
+                            controlAddress,
+                            sessionId,
+                            streamId,
+                            termId,
+                            pendingLossTermOffsets,
+                            pendingLossLengths,
+                            rangeCount);
+                    }
+
+                    nakMessagesSent.increment();
                 }
                 else
                 {
                     final UnsafeBuffer termBuffer = termBuffers[indexByTerm(initialTermId, termId)];
-                    if (tryFillGap(rawLog.metaData(), termBuffer, termId, termOffset, length))
+                    for (int i = 0; i < rangeCount; i++)
                     {
-                        lossGapFills.incrementOrdered();
+                        if (tryFillGap(
+                            rawLog.metaData(), termBuffer, termId, pendingLossTermOffsets[i], pendingLossLengths[i]))
+                        {
+                            lossGapFills.increment();
+                        }
                     }
                 }
 
@@ -697,7 +827,7 @@ public class PublicationImage
 
         if (isFlowControlUnderRun)
         {
-            flowControlUnderRuns.incrementOrdered();
+            flowControlUnderRuns.increment();
         }
 
         return isFlowControlUnderRun;
@@ -709,7 +839,7 @@ public class PublicationImage
 
         if (isFlowControlOverRun)
         {
-            flowControlOverRuns.incrementOrdered();
+            flowControlOverRuns.increment();
         }
 
         return isFlowControlOverRun;
@@ -29,6 +29,9 @@ class PublicationParams
     long lingerTimeoutNs = 0;
     int termLength = 0;
     int mtuLength = 0;
+    int maxRetransmits = 0;
+    int fecGroupLength = 0;
+    long pacingRate = 0;
     int initialTermId = 0;
     int termId = 0;
     int termOffset = 0;
@@ -62,6 +65,45 @@ class PublicationParams
         return mtuLength;
     }
 
+    static int getMaxRetransmits(final ChannelUri channelUri, final int defaultMaxRetransmits)
+    {
+        int maxRetransmits = defaultMaxRetransmits;
+        final String maxRetransmitsParam = channelUri.get(MAX_RETRANSMITS_PARAM_NAME);
+        if (null != maxRetransmitsParam)
+        {
+            maxRetransmits = Integer.parseInt(maxRetransmitsParam);
+            Configuration.validateMaxRetransmits(maxRetransmits);
+        }
+
+        return maxRetransmits;
+    }
+
+    static int getFecGroupLength(final ChannelUri channelUri, final int mtuLength)
+    {
+        int fecGroupLength = 0;
+        final String fecParam = channelUri.get(FEC_PARAM_NAME);
+        if (null != fecParam)
+        {
+            fecGroupLength = Integer.parseInt(fecParam);
+            Configuration.validateFecGroupLength(fecGroupLength, mtuLength);
+        }
+
+        return fecGroupLength;
+    }
+
+    static long getPacingRate(final ChannelUri channelUri, final long defaultPacingRate)
+    {
+        long pacingRate = defaultPacingRate;
+        final String pacingRateParam = channelUri.get(PACING_RATE_PARAM_NAME);
+        if (null != pacingRateParam)
+        {
+            pacingRate = SystemUtil.parseSize(PACING_RATE_PARAM_NAME, pacingRateParam);
+            Configuration.validateSenderPacingRate(pacingRate);
+        }
+
+        return pacingRate;
+    }
+
     static long getLingerTimeoutNs(final ChannelUri channelUri, final long driverLingerTImeoutNs)
     {
         long lingerTimeoutNs = driverLingerTImeoutNs;
@@ -128,6 +170,12 @@ class PublicationParams
 
         params.lingerTimeoutNs = getLingerTimeoutNs(channelUri, context.publicationLingerTimeoutNs());
 
+        params.maxRetransmits = getMaxRetransmits(channelUri, context.maxRetransmits());
+
+        params.fecGroupLength = isIpc ? 0 : getFecGroupLength(channelUri, params.mtuLength);
+
+        params.pacingRate = isIpc ? 0 : getPacingRate(channelUri, context.senderPacingRate());
+
         final String sessionIdStr = channelUri.get(CommonContext.SESSION_ID_PARAM_NAME);
         if (null != sessionIdStr)
         {
@@ -18,6 +18,8 @@ package io.aeron.driver;
 import io.aeron.driver.cmd.ReceiverCmd;
 import io.aeron.driver.media.DataTransportPoller;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
+import io.aeron.driver.media.ReceiveDestinationTransport;
+import io.aeron.driver.media.UdpChannel;
 import org.agrona.collections.ArrayListUtil;
 import org.agrona.concurrent.Agent;
 import org.agrona.concurrent.status.AtomicCounter;
@@ -43,11 +45,22 @@ public class Receiver implements Agent, Consumer<ReceiverCmd>
     private final ArrayList<PublicationImage> publicationImages = new ArrayList<>();
     private final ArrayList<PendingSetupMessageFromSource> pendingSetupMessages = new ArrayList<>();
     private final DriverConductorProxy conductorProxy;
+    private final String roleName;
 
     public Receiver(final MediaDriver.Context ctx)
     {
-        dataTransportPoller = ctx.dataTransportPoller();
-        commandQueue = ctx.receiverCommandQueue();
+        this(ctx, ctx.receiverCommandQueue(), ctx.dataTransportPoller(), "receiver");
+    }
+
+    Receiver(
+        final MediaDriver.Context ctx,
+        final OneToOneConcurrentArrayQueue<ReceiverCmd> commandQueue,
+        final DataTransportPoller dataTransportPoller,
+        final String roleName)
+    {
+        this.dataTransportPoller = dataTransportPoller;
+        this.commandQueue = commandQueue;
+        this.roleName = roleName;
         totalBytesReceived = ctx.systemCounters().get(BYTES_RECEIVED);
         nanoClock = ctx.cachedNanoClock();
         conductorProxy = ctx.driverConductorProxy();
@@ -60,7 +73,7 @@ public class Receiver implements Agent, Consumer<ReceiverCmd>
 
     public String roleName()
     {
-        return "receiver";
+        return roleName;
     }
 
     public int doWork()
@@ -90,7 +103,7 @@ public class Receiver implements Agent, Consumer<ReceiverCmd>
 
         checkPendingSetupMessages(nowNs);
 
-        totalBytesReceived.getAndAddOrdered(bytesReceived);
+        totalBytesReceived.getAndAdd(bytesReceived);
 
         return workCount + bytesReceived;
     }
@@ -139,8 +152,12 @@ public class Receiver implements Agent, Consumer<ReceiverCmd>
 
     public void onRegisterReceiveChannelEndpoint(final ReceiveChannelEndpoint channelEndpoint)
     {
-        channelEndpoint.openChannel(conductorProxy);
-        channelEndpoint.registerForRead(dataTransportPoller);
+        if (!channelEndpoint.hasDestinationControl())
+        {
+            channelEndpoint.openChannel(conductorProxy);
+            channelEndpoint.registerForRead(dataTransportPoller);
+        }
+
         channelEndpoint.indicateActive();
 
         if (channelEndpoint.hasExplicitControl())
@@ -155,6 +172,23 @@ public class Receiver implements Agent, Consumer<ReceiverCmd>
         channelEndpoint.close();
     }
 
+    public void onAddDestination(
+        final ReceiveChannelEndpoint channelEndpoint, final ReceiveDestinationTransport transport)
+    {
+        transport.openChannel(conductorProxy);
+        transport.registerForRead(dataTransportPoller);
+        channelEndpoint.addDestination(transport);
+    }
+
+    public void onRemoveDestination(final ReceiveChannelEndpoint channelEndpoint, final UdpChannel udpChannel)
+    {
+        final ReceiveDestinationTransport transport = channelEndpoint.removeDestination(udpChannel);
+        if (null != transport)
+        {
+            transport.close();
+        }
+    }
+
     public void onRemoveCoolDown(final ReceiveChannelEndpoint channelEndpoint, final int sessionId, final int streamId)
     {
         channelEndpoint.removeCoolDown(sessionId, streamId);
@@ -27,13 +27,17 @@ import static io.aeron.driver.status.SystemCounterDescriptor.INVALID_PACKETS;
 /**
  * Tracking and handling of retransmit request, NAKs, for senders, and receivers.
  * <p>
- * A max number of retransmits is permitted by {@link Configuration#MAX_RETRANSMITS_DEFAULT}. Additional received NAKs
- * will be ignored if this maximum is reached.
+ * A max number of retransmits is permitted which defaults to {@link Configuration#MAX_RETRANSMITS_DEFAULT}. Additional
+ * received NAKs will be ignored if this maximum is reached.
+ * <p>
+ * A NAK which overlaps a delayed retransmit in the same term is merged into it so a single larger resend is made, and a
+ * NAK for a range already covered by an active retransmit is ignored. This avoids duplicate resends when multiple
+ * receivers NAK the same loss. Merging only happens when the retransmit delay is non-zero.
  */
 public class RetransmitHandler
 {
     private final BiInt2ObjectMap<RetransmitAction> activeRetransmitsMap = new BiInt2ObjectMap<>();
-    private final RetransmitAction[] retransmitActionPool = new RetransmitAction[MAX_RETRANSMITS_DEFAULT];
+    private final RetransmitAction[] retransmitActionPool;
     private final NanoClock nanoClock;
     private final FeedbackDelayGenerator delayGenerator;
     private final FeedbackDelayGenerator lingerTimeoutGenerator;
@@ -52,13 +56,33 @@ public class RetransmitHandler
         final SystemCounters systemCounters,
         final FeedbackDelayGenerator delayGenerator,
         final FeedbackDelayGenerator lingerTimeoutGenerator)
+    {
+        this(nanoClock, systemCounters, delayGenerator, lingerTimeoutGenerator, MAX_RETRANSMITS_DEFAULT);
+    }
+
+    /**
+     * Create a retransmit handler.
+     *
+     * @param nanoClock              used to determine time
+     * @param systemCounters         for recording significant events.
+     * @param delayGenerator         to use for delay determination
+     * @param lingerTimeoutGenerator to use for linger timeout
+     * @param maxRetransmits         which can be active at the same time
+     */
+    public RetransmitHandler(
+        final NanoClock nanoClock,
+        final SystemCounters systemCounters,
+        final FeedbackDelayGenerator delayGenerator,
+        final FeedbackDelayGenerator lingerTimeoutGenerator,
+        final int maxRetransmits)
     {
         this.nanoClock = nanoClock;
         this.invalidPackets = systemCounters.get(INVALID_PACKETS);
         this.delayGenerator = delayGenerator;
         this.lingerTimeoutGenerator = lingerTimeoutGenerator;
+        this.retransmitActionPool = new RetransmitAction[maxRetransmits];
 
-        for (int i = 0; i < MAX_RETRANSMITS_DEFAULT; i++)
+        for (int i = 0; i < maxRetransmits; i++)
         {
             retransmitActionPool[i] = new RetransmitAction();
         }
@@ -82,13 +106,16 @@ public class RetransmitHandler
     {
         if (!isInvalid(termOffset, termLength))
         {
-            if (null == activeRetransmitsMap.get(termId, termOffset) &&
-                activeRetransmitsMap.size() < MAX_RETRANSMITS_DEFAULT)
+            final int endOffset = termOffset + Math.min(length, termLength - termOffset);
+
+            if (!coalesce(termId, termOffset, endOffset) &&
+                null == activeRetransmitsMap.get(termId, termOffset) &&
+                activeRetransmitsMap.size() < retransmitActionPool.length)
             {
                 final RetransmitAction action = assignRetransmitAction();
                 action.termId = termId;
                 action.termOffset = termOffset;
-                action.length = Math.min(length, termLength - termOffset);
+                action.length = endOffset - termOffset;
 
                 final long delay = determineRetransmitDelay();
                 if (0 == delay)
@@ -160,6 +187,76 @@ public class RetransmitHandler
         }
     }
 
+    private boolean coalesce(final int termId, final int termOffset, final int endOffset)
+    {
+        for (final RetransmitAction action : retransmitActionPool)
+        {
+            if (State.INACTIVE != action.state && action.termId == termId)
+            {
+                if (termOffset >= action.termOffset && endOffset <= action.endOffset())
+                {
+                    return true;
+                }
+
+                if (State.DELAYED == action.state &&
+                    action.isOverlappingOrAdjacent(termOffset, endOffset) &&
+                    canMoveTo(action, termOffset))
+                {
+                    extend(action, termOffset, endOffset);
+                    absorbDelayedActions(action);
+
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private void absorbDelayedActions(final RetransmitAction mergedAction)
+    {
+        boolean isAbsorbed;
+        do
+        {
+            isAbsorbed = false;
+            for (final RetransmitAction action : retransmitActionPool)
+            {
+                if (action != mergedAction &&
+                    State.DELAYED == action.state &&
+                    action.termId == mergedAction.termId &&
+                    mergedAction.isOverlappingOrAdjacent(action.termOffset, action.endOffset()))
+                {
+                    // removed first so the merged action can take over its offset should that be lower
+                    activeRetransmitsMap.remove(action.termId, action.termOffset);
+                    action.cancel();
+                    extend(mergedAction, action.termOffset, action.endOffset());
+                    isAbsorbed = true;
+                }
+            }
+        }
+        while (isAbsorbed);
+    }
+
+    private boolean canMoveTo(final RetransmitAction action, final int termOffset)
+    {
+        return termOffset >= action.termOffset || null == activeRetransmitsMap.get(action.termId, termOffset);
+    }
+
+    private void extend(final RetransmitAction action, final int termOffset, final int endOffset)
+    {
+        final int newTermOffset = Math.min(action.termOffset, termOffset);
+        final int newEndOffset = Math.max(action.endOffset(), endOffset);
+
+        if (newTermOffset != action.termOffset)
+        {
+            activeRetransmitsMap.remove(action.termId, action.termOffset);
+            action.termOffset = newTermOffset;
+            activeRetransmitsMap.put(action.termId, newTermOffset, action);
+        }
+
+        action.length = newEndOffset - newTermOffset;
+    }
+
     private boolean isInvalid(final int termOffset, final int termLength)
     {
         final boolean isInvalid = (termOffset > (termLength - DataHeaderFlyweight.HEADER_LENGTH)) || (termOffset < 0);
@@ -226,5 +323,15 @@ public class RetransmitHandler
         {
             state = State.INACTIVE;
         }
+
+        int endOffset()
+        {
+            return termOffset + length;
+        }
+
+        boolean isOverlappingOrAdjacent(final int termOffset, final int endOffset)
+        {
+            return termOffset <= endOffset() && endOffset >= this.termOffset;
+        }
     }
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket which paces the bytes a {@link NetworkPublication} sends to a rate so large bursts are spread out
+ * rather than sent at line rate.
+ * <p>
+ * Tokens accumulate at the rate up to the burst length. A datagram can be sent whenever the bucket has tokens and is
+ * then charged in full, so the bucket can go into deficit and no datagram is blocked when it is longer than the
+ * burst length. Tokens are held scaled by nanoseconds per second so no fraction of a byte is lost on refill.
+ */
+final class SendPacer
+{
+    private static final long SECOND_IN_NS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long rate;
+    private final long maxScaledTokens;
+    private long scaledTokens;
+    private long lastRefillNs;
+
+    /**
+     * Construct a pacer with a full bucket.
+     *
+     * @param rate        in bytes per second.
+     * @param burstLength in bytes which can be sent after being idle.
+     * @param nowNs       current time.
+     */
+    SendPacer(final long rate, final int burstLength, final long nowNs)
+    {
+        this.rate = rate;
+        this.maxScaledTokens = burstLength * SECOND_IN_NS;
+        this.scaledTokens = maxScaledTokens;
+        this.lastRefillNs = nowNs;
+    }
+
+    /**
+     * Refill the bucket for the time elapsed and check if a datagram can be sent.
+     *
+     * @param nowNs current time.
+     * @return true if a datagram can be sent otherwise false.
+     */
+    boolean hasTokens(final long nowNs)
+    {
+        final long elapsedNs = nowNs - lastRefillNs;
+        if (elapsedNs > 0)
+        {
+            final long fillDurationNs = ((maxScaledTokens - scaledTokens) / rate) + 1;
+            scaledTokens = elapsedNs >= fillDurationNs ?
+                maxScaledTokens : Math.min(maxScaledTokens, scaledTokens + (rate * elapsedNs));
+            lastRefillNs = nowNs;
+        }
+
+        return scaledTokens > 0;
+    }
+
+    /**
+     * Charge the bucket for bytes which have been sent.
+     *
+     * @param length in bytes which have been sent.
+     */
+    void onSent(final int length)
+    {
+        scaledTokens -= length * SECOND_IN_NS;
+    }
+}
@@ -62,13 +62,24 @@ public class Sender extends SenderRhsPadding implements Agent, Consumer<SenderCm
     private final AtomicCounter totalBytesSent;
     private final NanoClock nanoClock;
     private final DriverConductorProxy conductorProxy;
+    private final String roleName;
 
     private NetworkPublication[] networkPublications = EMPTY_PUBLICATIONS;
 
     public Sender(final MediaDriver.Context ctx)
     {
-        this.controlTransportPoller = ctx.controlTransportPoller();
-        this.commandQueue = ctx.senderCommandQueue();
+        this(ctx, ctx.senderCommandQueue(), ctx.controlTransportPoller(), "sender");
+    }
+
+    Sender(
+        final MediaDriver.Context ctx,
+        final OneToOneConcurrentArrayQueue<SenderCmd> commandQueue,
+        final ControlTransportPoller controlTransportPoller,
+        final String roleName)
+    {
+        this.controlTransportPoller = controlTransportPoller;
+        this.commandQueue = commandQueue;
+        this.roleName = roleName;
         this.totalBytesSent = ctx.systemCounters().get(BYTES_SENT);
         this.nanoClock = ctx.cachedNanoClock();
         this.statusMessageReadTimeoutNs = ctx.statusMessageTimeoutNs() / 2;
@@ -103,7 +114,7 @@ public class Sender extends SenderRhsPadding implements Agent, Consumer<SenderCm
 
     public String roleName()
     {
-        return "sender";
+        return roleName;
     }
 
     public void onRegisterSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
@@ -168,7 +179,7 @@ public class Sender extends SenderRhsPadding implements Agent, Consumer<SenderCm
             bytesSent += publications[i].send(nowNs);
         }
 
-        totalBytesSent.getAndAddOrdered(bytesSent);
+        totalBytesSent.getAndAdd(bytesSent);
 
         return bytesSent;
     }
@@ -15,6 +15,7 @@
  */
 package io.aeron.driver;
 
+import io.aeron.CommonContext;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.UdpChannel;
 import org.agrona.concurrent.status.ReadablePosition;
@@ -80,6 +81,14 @@ public abstract class SubscriptionLink implements DriverManagedResource
         return null;
     }
 
+    /**
+     * Canonical form of the channel on which the resources this link can match are found, which along with the
+     * stream id is the key under which the {@link DriverConductor} indexes the link.
+     *
+     * @return canonical form of the channel on which the resources this link can match are found.
+     */
+    public abstract String canonicalChannel();
+
     public boolean isReliable()
     {
         return true;
@@ -186,6 +195,11 @@ class NetworkSubscriptionLink extends SubscriptionLink
         return channelEndpoint;
     }
 
+    public String canonicalChannel()
+    {
+        return channelEndpoint.udpChannel().canonicalForm();
+    }
+
     public boolean matches(final PublicationImage image)
     {
         return image.channelEndpoint() == this.channelEndpoint &&
@@ -225,6 +239,11 @@ class IpcSubscriptionLink extends SubscriptionLink
         super(registrationId, streamId, channelUri, aeronClient, clientLivenessTimeoutNs, params);
     }
 
+    public String canonicalChannel()
+    {
+        return CommonContext.IPC_CHANNEL;
+    }
+
     public boolean matches(final IpcPublication publication)
     {
         return publication.streamId() == streamId && isWildcardOrSessionIdMatch(publication.sessionId());
@@ -248,6 +267,11 @@ class SpySubscriptionLink extends SubscriptionLink
         this.udpChannel = spiedChannel;
     }
 
+    public String canonicalChannel()
+    {
+        return udpChannel.canonicalForm();
+    }
+
     public boolean matches(final NetworkPublication publication)
     {
         return streamId == publication.streamId() &&
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.cmd;
+
+import io.aeron.driver.Receiver;
+import io.aeron.driver.media.ReceiveChannelEndpoint;
+import io.aeron.driver.media.UdpChannel;
+
+public class RemoveRcvDestinationCmd implements ReceiverCmd
+{
+    private final ReceiveChannelEndpoint channelEndpoint;
+    private final UdpChannel udpChannel;
+
+    public RemoveRcvDestinationCmd(final ReceiveChannelEndpoint channelEndpoint, final UdpChannel udpChannel)
+    {
+        this.channelEndpoint = channelEndpoint;
+        this.udpChannel = udpChannel;
+    }
+
+    public void execute(final Receiver receiver)
+    {
+        receiver.onRemoveDestination(channelEndpoint, udpChannel);
+    }
+}
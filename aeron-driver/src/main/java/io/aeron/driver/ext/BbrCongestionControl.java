@@ -0,0 +1,328 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.CongestionControl;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.PerImageIndicator;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.driver.CongestionControlUtil.packOutcome;
+
+/**
+ * BBR style model based congestion control manipulation of the receiver window length.
+ * <p>
+ * https://queue.acm.org/detail.cfm?id=3022184
+ * <p>
+ * Rather than reacting to loss the bottleneck bandwidth is estimated as the max delivery rate observed over recent
+ * rounds and the propagation delay as the min RTT observed over
+ * {@link BbrCongestionControlConfiguration#MIN_RTT_WINDOW_NS}. The window is then set to a gain times the bandwidth
+ * delay product so the path is kept full without building a standing queue.
+ * <p>
+ * STARTUP   = grow the window by a gain of 2/ln(2) each round until the bandwidth stops growing by 25% for 3 rounds.
+ * DRAIN     = window of one bandwidth delay product for a round to drain the queue built in STARTUP.
+ * PROBE_BW  = cycle the window gain through 1.25, 0.75, and then 1 for 6 rounds, to probe for more bandwidth.
+ * PROBE_RTT = drop the window to the min for 200ms when the min RTT has not been refreshed to drain any queue.
+ * <p>
+ * A round is at least the min RTT. As the window is applied by the receiver the delivery rate is measured from the
+ * advance of the high water mark of the image. Rounds in which the sender used less than half the window are
+ * application limited and only update the bandwidth estimate if they are higher.
+ */
+public class BbrCongestionControl implements CongestionControl
+{
+    enum State
+    {
+        STARTUP, DRAIN, PROBE_BW, PROBE_RTT
+    }
+
+    private static final long INITIAL_RTT_NS = BbrCongestionControlConfiguration.INITIAL_RTT_NS;
+    private static final long RTT_MEASUREMENT_INTERVAL_NS =
+        BbrCongestionControlConfiguration.RTT_MEASUREMENT_INTERVAL_NS;
+    private static final long MIN_RTT_WINDOW_NS = BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS;
+    private static final long NULL_POSITION = -1;
+
+    private static final long SECOND_IN_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final long RTT_MAX_TIMEOUT_NS = SECOND_IN_NS;
+    private static final long MIN_ROUND_DURATION_NS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long PROBE_RTT_DURATION_NS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final int MAX_OUTSTANDING_RTT_MEASUREMENTS = 1;
+
+    private static final int MIN_WINDOW_MTUS = 4;
+    private static final int INITIAL_WINDOW_MTUS = 10;
+    private static final int BANDWIDTH_FILTER_ROUNDS = 10;
+    private static final int FULL_BANDWIDTH_ROUNDS = 3;
+    private static final double FULL_BANDWIDTH_GROWTH = 1.25;
+    private static final double STARTUP_GAIN = 2.0 / Math.log(2.0);
+    private static final double[] PROBE_BW_GAINS = { 1.25, 0.75, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0 };
+    private static final int PROBE_BW_CRUISE_INDEX = 2;
+
+    private final int minWindow;
+    private final int maxWindow;
+    private final long[] bandwidthByRound = new long[BANDWIDTH_FILTER_ROUNDS];
+
+    private State state = State.STARTUP;
+    private long lastRttTimestampNs = 0;
+    private long minRttNs;
+    private long minRttTimestampNs;
+    private long roundStartNs;
+    private long roundStartPosition = NULL_POSITION;
+    private long bandwidth;
+    private long fullBandwidth;
+    private long probeRttDoneNs;
+    private int bandwidthFilterIndex;
+    private int fullBandwidthCount;
+    private int probeBwCycleIndex;
+    private int window;
+    private boolean isFullBandwidthReached;
+    private boolean isMinRttMeasured;
+
+    private int outstandingRttMeasurements = 0;
+
+    private AtomicCounter rttIndicator;
+    private AtomicCounter windowIndicator;
+
+    BbrCongestionControl(
+        final long registrationId,
+        final UdpChannel udpChannel,
+        final int streamId,
+        final int sessionId,
+        final int termLength,
+        final int senderMtuLength,
+        final NanoClock clock,
+        final MediaDriver.Context context,
+        final CountersManager countersManager)
+    {
+        maxWindow = Math.min(termLength / 2, context.initialWindowLength());
+        minWindow = Math.min(senderMtuLength * MIN_WINDOW_MTUS, maxWindow);
+        window = Math.min(senderMtuLength * INITIAL_WINDOW_MTUS, maxWindow);
+
+        minRttNs = INITIAL_RTT_NS;
+        minRttTimestampNs = clock.nanoTime();
+        roundStartNs = minRttTimestampNs;
+
+        rttIndicator = PerImageIndicator.allocate(
+            context.tempBuffer(),
+            "rcv-cc-bbr-rtt",
+            countersManager,
+            registrationId,
+            sessionId,
+            streamId,
+            udpChannel.originalUriString());
+
+        windowIndicator = PerImageIndicator.allocate(
+            context.tempBuffer(),
+            "rcv-cc-bbr-wnd",
+            countersManager,
+            registrationId,
+            sessionId,
+            streamId,
+            udpChannel.originalUriString());
+
+        rttIndicator.setOrdered(0);
+        windowIndicator.setOrdered(window);
+    }
+
+    public boolean shouldMeasureRtt(final long nowNs)
+    {
+        return outstandingRttMeasurements < MAX_OUTSTANDING_RTT_MEASUREMENTS ?
+            nowNs > (lastRttTimestampNs + RTT_MEASUREMENT_INTERVAL_NS) :
+            nowNs > (lastRttTimestampNs + RTT_MAX_TIMEOUT_NS);
+    }
+
+    public void onRttMeasurementSent(final long nowNs)
+    {
+        lastRttTimestampNs = nowNs;
+        outstandingRttMeasurements = Math.min(outstandingRttMeasurements + 1, MAX_OUTSTANDING_RTT_MEASUREMENTS);
+    }
+
+    public void onRttMeasurement(final long nowNs, final long rttNs, final InetSocketAddress srcAddress)
+    {
+        outstandingRttMeasurements = Math.max(outstandingRttMeasurements - 1, 0);
+        lastRttTimestampNs = nowNs;
+
+        if (rttNs > 0 &&
+            (!isMinRttMeasured || rttNs <= minRttNs || nowNs > (minRttTimestampNs + MIN_RTT_WINDOW_NS)))
+        {
+            minRttNs = rttNs;
+            minRttTimestampNs = nowNs;
+            isMinRttMeasured = true;
+        }
+
+        rttIndicator.setOrdered(rttNs);
+    }
+
+    public long onTrackRebuild(
+        final long nowNs,
+        final long newConsumptionPosition,
+        final long lastSmPosition,
+        final long hwmPosition,
+        final long startingRebuildPosition,
+        final long endingRebuildPosition,
+        final boolean lossOccurred)
+    {
+        boolean forceStatusMessage = false;
+
+        if (NULL_POSITION == roundStartPosition)
+        {
+            roundStartNs = nowNs;
+            roundStartPosition = hwmPosition;
+        }
+        else if (nowNs >= (roundStartNs + Math.max(minRttNs, MIN_ROUND_DURATION_NS)))
+        {
+            onRoundEnd(nowNs, hwmPosition);
+        }
+
+        if (State.PROBE_RTT == state)
+        {
+            if (nowNs > probeRttDoneNs)
+            {
+                minRttTimestampNs = nowNs;
+                state = isFullBandwidthReached ? State.PROBE_BW : State.STARTUP;
+                probeBwCycleIndex = PROBE_BW_CRUISE_INDEX;
+                forceStatusMessage = true;
+            }
+        }
+        else if (nowNs > (minRttTimestampNs + MIN_RTT_WINDOW_NS))
+        {
+            state = State.PROBE_RTT;
+            probeRttDoneNs = nowNs + Math.max(PROBE_RTT_DURATION_NS, minRttNs);
+            forceStatusMessage = true;
+        }
+
+        window = computeWindow();
+        windowIndicator.setOrdered(window);
+
+        return packOutcome(window, forceStatusMessage);
+    }
+
+    public int initialWindowLength()
+    {
+        return window;
+    }
+
+    public void close()
+    {
+        CloseHelper.close(rttIndicator);
+        CloseHelper.close(windowIndicator);
+    }
+
+    State state()
+    {
+        return state;
+    }
+
+    long bandwidth()
+    {
+        return bandwidth;
+    }
+
+    private void onRoundEnd(final long nowNs, final long hwmPosition)
+    {
+        final long elapsedNs = nowNs - roundStartNs;
+        final long deliveredBytes = Math.max(hwmPosition - roundStartPosition, 0);
+        final long deliveryRate = (long)((double)deliveredBytes * SECOND_IN_NS / elapsedNs);
+        final boolean isAppLimited = (double)deliveredBytes * minRttNs < (double)window * elapsedNs / 2.0;
+
+        roundStartNs = nowNs;
+        roundStartPosition = hwmPosition;
+
+        if (State.PROBE_RTT == state || (isAppLimited && deliveryRate <= bandwidth))
+        {
+            return;
+        }
+
+        bandwidthFilterIndex = (bandwidthFilterIndex + 1) % BANDWIDTH_FILTER_ROUNDS;
+        bandwidthByRound[bandwidthFilterIndex] = deliveryRate;
+
+        long maxBandwidth = 0;
+        for (final long roundBandwidth : bandwidthByRound)
+        {
+            maxBandwidth = Math.max(maxBandwidth, roundBandwidth);
+        }
+        bandwidth = maxBandwidth;
+
+        switch (state)
+        {
+            case STARTUP:
+                checkFullBandwidthReached(isAppLimited);
+                if (isFullBandwidthReached)
+                {
+                    state = State.DRAIN;
+                }
+                break;
+
+            case DRAIN:
+                state = State.PROBE_BW;
+                probeBwCycleIndex = PROBE_BW_CRUISE_INDEX;
+                break;
+
+            case PROBE_BW:
+                probeBwCycleIndex = (probeBwCycleIndex + 1) % PROBE_BW_GAINS.length;
+                break;
+        }
+    }
+
+    private void checkFullBandwidthReached(final boolean isAppLimited)
+    {
+        if (bandwidth >= fullBandwidth * FULL_BANDWIDTH_GROWTH)
+        {
+            fullBandwidth = bandwidth;
+            fullBandwidthCount = 0;
+        }
+        else if (!isAppLimited && ++fullBandwidthCount >= FULL_BANDWIDTH_ROUNDS)
+        {
+            isFullBandwidthReached = true;
+        }
+    }
+
+    private int computeWindow()
+    {
+        final double gain;
+        switch (state)
+        {
+            case STARTUP:
+                gain = STARTUP_GAIN;
+                break;
+
+            case PROBE_BW:
+                gain = PROBE_BW_GAINS[probeBwCycleIndex];
+                break;
+
+            case PROBE_RTT:
+                return minWindow;
+
+            default:
+                gain = 1.0;
+                break;
+        }
+
+        if (0 == bandwidth)
+        {
+            return window;
+        }
+
+        final double bandwidthDelayProduct = (double)bandwidth * minRttNs / SECOND_IN_NS;
+
+        return (int)Math.max(minWindow, Math.min(maxWindow, gain * bandwidthDelayProduct));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration options to be applied when {@link BbrCongestionControl}
+ * are loaded.
+ */
+public class BbrCongestionControlConfiguration
+{
+    /**
+     * Property name for initial RTT estimate in nanoseconds which is used until the first RTT measurement.
+     */
+    public static final String INITIAL_RTT_NS_PROP_NAME = "aeron.BbrCongestionControl.initialRtt";
+
+    /**
+     * Default initial RTT estimate in nanoseconds.
+     */
+    public static final long INITIAL_RTT_NS_DEFAULT = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * Property name for the interval between RTT measurements in nanoseconds.
+     */
+    public static final String RTT_MEASUREMENT_INTERVAL_NS_PROP_NAME =
+        "aeron.BbrCongestionControl.rttMeasurementInterval";
+
+    /**
+     * Default interval between RTT measurements in nanoseconds.
+     */
+    public static final long RTT_MEASUREMENT_INTERVAL_NS_DEFAULT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * Property name for the length of time in nanoseconds a min RTT measurement remains valid before the window is
+     * drained to take a fresh measurement.
+     */
+    public static final String MIN_RTT_WINDOW_NS_PROP_NAME = "aeron.BbrCongestionControl.minRttWindow";
+
+    /**
+     * Default length of time in nanoseconds a min RTT measurement remains valid.
+     */
+    public static final long MIN_RTT_WINDOW_NS_DEFAULT = TimeUnit.SECONDS.toNanos(10);
+
+    public static final long INITIAL_RTT_NS = Long.getLong(INITIAL_RTT_NS_PROP_NAME, INITIAL_RTT_NS_DEFAULT);
+    public static final long RTT_MEASUREMENT_INTERVAL_NS =
+        Long.getLong(RTT_MEASUREMENT_INTERVAL_NS_PROP_NAME, RTT_MEASUREMENT_INTERVAL_NS_DEFAULT);
+    public static final long MIN_RTT_WINDOW_NS = Long.getLong(MIN_RTT_WINDOW_NS_PROP_NAME, MIN_RTT_WINDOW_NS_DEFAULT);
+}
@@ -17,6 +17,7 @@ package io.aeron.driver.media;
 
 import io.aeron.driver.Configuration;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import org.agrona.LangUtil;
@@ -38,28 +39,75 @@ import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
  */
 public class DataTransportPoller extends UdpTransportPoller
 {
-    private final ByteBuffer byteBuffer;
-    private final UnsafeBuffer unsafeBuffer;
-    private final DataHeaderFlyweight dataMessage;
-    private final SetupFlyweight setupMessage;
-    private final RttMeasurementFlyweight rttMeasurement;
-    private ReceiveChannelEndpoint[] transports = new ReceiveChannelEndpoint[0];
+    private final int receiveBatchLength;
+    private final ByteBuffer[] byteBuffers;
+    private final UnsafeBuffer[] unsafeBuffers;
+    private final DataHeaderFlyweight[] dataMessages;
+    private final SetupFlyweight[] setupMessages;
+    private final RttMeasurementFlyweight[] rttMeasurements;
+    private final FecFlyweight[] fecMessages;
+    private final InetSocketAddress[] srcAddresses;
+    private final int[] lengths;
+    private ChannelAndTransport[] channelAndTransports = new ChannelAndTransport[0];
 
     public DataTransportPoller()
     {
-        byteBuffer = NetworkUtil.allocateDirectAlignedAndPadded(
-            Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH * 2);
-        unsafeBuffer = new UnsafeBuffer(byteBuffer);
-        dataMessage = new DataHeaderFlyweight(unsafeBuffer);
-        setupMessage = new SetupFlyweight(unsafeBuffer);
-        rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
+        this(1);
+    }
+
+    /**
+     * Construct a poller which will receive up to a batch of datagrams from each transport before dispatching them.
+     *
+     * @param receiveBatchLength maximum number of datagrams to receive from a transport in one poll.
+     */
+    public DataTransportPoller(final int receiveBatchLength)
+    {
+        this.receiveBatchLength = receiveBatchLength;
+
+        byteBuffers = new ByteBuffer[receiveBatchLength];
+        unsafeBuffers = new UnsafeBuffer[receiveBatchLength];
+        dataMessages = new DataHeaderFlyweight[receiveBatchLength];
+        setupMessages = new SetupFlyweight[receiveBatchLength];
+        rttMeasurements = new RttMeasurementFlyweight[receiveBatchLength];
+        fecMessages = new FecFlyweight[receiveBatchLength];
+        srcAddresses = new InetSocketAddress[receiveBatchLength];
+        lengths = new int[receiveBatchLength];
+
+        for (int i = 0; i < receiveBatchLength; i++)
+        {
+            final ByteBuffer byteBuffer = NetworkUtil.allocateDirectAlignedAndPadded(
+                Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH * 2);
+            final UnsafeBuffer unsafeBuffer = new UnsafeBuffer(byteBuffer);
+
+            byteBuffers[i] = byteBuffer;
+            unsafeBuffers[i] = unsafeBuffer;
+            dataMessages[i] = new DataHeaderFlyweight(unsafeBuffer);
+            setupMessages[i] = new SetupFlyweight(unsafeBuffer);
+            rttMeasurements[i] = new RttMeasurementFlyweight(unsafeBuffer);
+            fecMessages[i] = new FecFlyweight(unsafeBuffer);
+        }
+    }
+
+    /**
+     * Maximum number of datagrams received from a transport in one poll.
+     *
+     * @return maximum number of datagrams received from a transport in one poll.
+     */
+    public int receiveBatchLength()
+    {
+        return receiveBatchLength;
     }
 
     public void close()
     {
-        for (final ReceiveChannelEndpoint channelEndpoint : transports)
+        final ChannelAndTransport[] channelAndTransports = this.channelAndTransports;
+        for (int i = 0, length = channelAndTransports.length; i < length; i++)
         {
-            channelEndpoint.close();
+            final ReceiveChannelEndpoint channelEndpoint = channelAndTransports[i].channelEndpoint;
+            if (!isEndpointBefore(channelAndTransports, i, channelEndpoint))
+            {
+                channelEndpoint.close();
+            }
         }
 
         super.close();
@@ -70,11 +118,11 @@ public class DataTransportPoller extends UdpTransportPoller
         int bytesReceived = 0;
         try
         {
-            if (transports.length <= ITERATION_THRESHOLD)
+            if (channelAndTransports.length <= ITERATION_THRESHOLD)
             {
-                for (final ReceiveChannelEndpoint transport : transports)
+                for (final ChannelAndTransport channelAndTransport : channelAndTransports)
                 {
-                    bytesReceived += poll(transport);
+                    bytesReceived += poll(channelAndTransport);
                 }
             }
             else
@@ -84,7 +132,7 @@ public class DataTransportPoller extends UdpTransportPoller
                 final SelectionKey[] keys = selectedKeySet.keys();
                 for (int i = 0, length = selectedKeySet.size(); i < length; i++)
                 {
-                    bytesReceived += poll((ReceiveChannelEndpoint)keys[i].attachment());
+                    bytesReceived += poll((ChannelAndTransport)keys[i].attachment());
                 }
 
                 selectedKeySet.reset();
@@ -104,12 +152,27 @@ public class DataTransportPoller extends UdpTransportPoller
     }
 
     public SelectionKey registerForRead(final ReceiveChannelEndpoint transport)
+    {
+        return registerForRead(transport, transport);
+    }
+
+    /**
+     * Register a transport for read with the frames received being dispatched to a channel endpoint. This allows
+     * multiple destination transports to feed the same {@link ReceiveChannelEndpoint}.
+     *
+     * @param channelEndpoint to which received frames are dispatched.
+     * @param transport       from which frames are received.
+     * @return SelectionKey for registration for cancel.
+     */
+    public SelectionKey registerForRead(
+        final ReceiveChannelEndpoint channelEndpoint, final UdpChannelTransport transport)
     {
         SelectionKey key = null;
         try
         {
-            key = transport.receiveDatagramChannel().register(selector, SelectionKey.OP_READ, transport);
-            transports = ArrayUtil.add(transports, transport);
+            final ChannelAndTransport channelAndTransport = new ChannelAndTransport(channelEndpoint, transport);
+            key = transport.receiveDatagramChannel().register(selector, SelectionKey.OP_READ, channelAndTransport);
+            channelAndTransports = ArrayUtil.add(channelAndTransports, channelAndTransport);
         }
         catch (final ClosedChannelException ex)
         {
@@ -121,43 +184,108 @@ public class DataTransportPoller extends UdpTransportPoller
 
     public void cancelRead(final UdpChannelTransport transport)
     {
-        cancelRead((ReceiveChannelEndpoint)transport);
+        final ChannelAndTransport[] channelAndTransports = this.channelAndTransports;
+        for (int i = 0, length = channelAndTransports.length; i < length; i++)
+        {
+            if (channelAndTransports[i].transport == transport)
+            {
+                this.channelAndTransports = ArrayUtil.remove(channelAndTransports, i);
+                break;
+            }
+        }
     }
 
     public void cancelRead(final ReceiveChannelEndpoint transport)
     {
-        transports = ArrayUtil.remove(transports, transport);
+        cancelRead((UdpChannelTransport)transport);
     }
 
-    private int poll(final ReceiveChannelEndpoint channelEndpoint)
+    private int poll(final ChannelAndTransport channelAndTransport)
     {
-        int bytesReceived = 0;
-        final InetSocketAddress srcAddress = channelEndpoint.receive(byteBuffer);
+        final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+        final UdpChannelTransport transport = channelAndTransport.transport;
 
-        if (null != srcAddress)
+        int messagesReceived = 0;
+        while (messagesReceived < receiveBatchLength)
         {
-            final int length = byteBuffer.position();
+            final ByteBuffer byteBuffer = byteBuffers[messagesReceived];
+            final InetSocketAddress srcAddress = transport.receive(byteBuffer);
+            if (null == srcAddress)
+            {
+                break;
+            }
+
+            srcAddresses[messagesReceived] = srcAddress;
+            lengths[messagesReceived] = byteBuffer.position();
+            messagesReceived++;
+        }
 
-            if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+        int bytesReceived = 0;
+        for (int i = 0; i < messagesReceived; i++)
+        {
+            bytesReceived += dispatch(channelEndpoint, i, srcAddresses[i]);
+            srcAddresses[i] = null;
+        }
+
+        return bytesReceived;
+    }
+
+    private int dispatch(
+        final ReceiveChannelEndpoint channelEndpoint, final int index, final InetSocketAddress srcAddress)
+    {
+        int bytesReceived = 0;
+        final UnsafeBuffer unsafeBuffer = unsafeBuffers[index];
+        final int length = lengths[index];
+
+        if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+        {
+            switch (frameType(unsafeBuffer, 0))
             {
-                switch (frameType(unsafeBuffer, 0))
-                {
-                    case HDR_TYPE_PAD:
-                    case HDR_TYPE_DATA:
-                        bytesReceived = channelEndpoint.onDataPacket(dataMessage, unsafeBuffer, length, srcAddress);
-                        break;
-
-                    case HDR_TYPE_SETUP:
-                        channelEndpoint.onSetupMessage(setupMessage, unsafeBuffer, length, srcAddress);
-                        break;
-
-                    case HDR_TYPE_RTTM:
-                        channelEndpoint.onRttMeasurement(rttMeasurement, unsafeBuffer, length, srcAddress);
-                        break;
-                }
+                case HDR_TYPE_PAD:
+                case HDR_TYPE_DATA:
+                    bytesReceived = channelEndpoint.onDataPacket(dataMessages[index], unsafeBuffer, length, srcAddress);
+                    break;
+
+                case HDR_TYPE_SETUP:
+                    channelEndpoint.onSetupMessage(setupMessages[index], unsafeBuffer, length, srcAddress);
+                    break;
+
+                case HDR_TYPE_RTTM:
+                    channelEndpoint.onRttMeasurement(rttMeasurements[index], unsafeBuffer, length, srcAddress);
+                    break;
+
+                case HDR_TYPE_FEC:
+                    bytesReceived = channelEndpoint.onFecMessage(fecMessages[index], unsafeBuffer, length, srcAddress);
+                    break;
             }
         }
 
         return bytesReceived;
     }
+
+    private static boolean isEndpointBefore(
+        final ChannelAndTransport[] channelAndTransports, final int index, final ReceiveChannelEndpoint channelEndpoint)
+    {
+        for (int i = 0; i < index; i++)
+        {
+            if (channelAndTransports[i].channelEndpoint == channelEndpoint)
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    static final class ChannelAndTransport
+    {
+        final ReceiveChannelEndpoint channelEndpoint;
+        final UdpChannelTransport transport;
+
+        ChannelAndTransport(final ReceiveChannelEndpoint channelEndpoint, final UdpChannelTransport transport)
+        {
+            this.channelEndpoint = channelEndpoint;
+            this.transport = transport;
+        }
+    }
 }
@@ -19,6 +19,7 @@ import io.aeron.driver.*;
 import io.aeron.status.ChannelEndpointStatus;
 import io.aeron.protocol.*;
 import org.agrona.LangUtil;
+import org.agrona.collections.ArrayUtil;
 import org.agrona.collections.Hashing;
 import org.agrona.collections.Int2IntCounterMap;
 import org.agrona.collections.Long2LongCounterMap;
@@ -55,6 +56,8 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
 
     private final long receiverId;
     private boolean isClosed = false;
+    private ReceiverProxy receiverProxy;
+    private ReceiveDestinationTransport[] destinations = new ReceiveDestinationTransport[0];
 
     public ReceiveChannelEndpoint(
         final UdpChannel udpChannel,
@@ -76,7 +79,8 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
         shortSends = context.systemCounters().get(SHORT_SENDS);
         possibleTtlAsymmetry = context.systemCounters().get(POSSIBLE_TTL_ASYMMETRY);
 
-        final ReceiveChannelEndpointThreadLocals threadLocals = context.receiveChannelEndpointThreadLocals();
+        final ReceiveChannelEndpointThreadLocals threadLocals = context.receiverCount() > 1 ?
+            new ReceiveChannelEndpointThreadLocals(context) : context.receiveChannelEndpointThreadLocals();
         smBuffer = threadLocals.smBuffer();
         statusMessageFlyweight = threadLocals.statusMessageFlyweight();
         nakBuffer = threadLocals.nakBuffer();
@@ -87,7 +91,8 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
     }
 
     /**
-     * Send contents of {@link java.nio.ByteBuffer} to remote address
+     * Send contents of {@link java.nio.ByteBuffer} to remote address. For a multi-destination endpoint the
+     * contents are sent from each destination so control messages follow every network path.
      *
      * @param buffer        to send
      * @param remoteAddress to send to
@@ -102,6 +107,15 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
             {
                 bytesSent = sendDatagramChannel.send(buffer, remoteAddress);
             }
+            else if (destinations.length > 0)
+            {
+                final int position = buffer.position();
+                for (final ReceiveDestinationTransport destination : destinations)
+                {
+                    buffer.position(position);
+                    bytesSent = destination.sendTo(buffer, remoteAddress);
+                }
+            }
         }
         catch (final IOException ex)
         {
@@ -111,6 +125,26 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
         return bytesSent;
     }
 
+    /**
+     * The {@link ReceiverProxy} for the receiver to which this endpoint has been assigned by the conductor.
+     *
+     * @return the {@link ReceiverProxy} for the receiver to which this endpoint has been assigned.
+     */
+    public ReceiverProxy receiverProxy()
+    {
+        return receiverProxy;
+    }
+
+    /**
+     * Assign this endpoint to a receiver. Only to be called by the conductor when the endpoint is created.
+     *
+     * @param receiverProxy for the receiver which is to poll this endpoint and service its images.
+     */
+    public void receiverProxy(final ReceiverProxy receiverProxy)
+    {
+        this.receiverProxy = receiverProxy;
+    }
+
     public String originalUriString()
     {
         return udpChannel().originalUriString();
@@ -121,6 +155,11 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
         return statusIndicator.id();
     }
 
+    AtomicCounter statusIndicator()
+    {
+        return statusIndicator;
+    }
+
     public void indicateActive()
     {
         final long currentStatus = statusIndicator.get();
@@ -144,6 +183,11 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
 
     public void close()
     {
+        for (final ReceiveDestinationTransport destination : destinations)
+        {
+            destination.close();
+        }
+
         super.close();
         isClosed = true;
     }
@@ -170,7 +214,7 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
 
     public void possibleTtlAsymmetryEncountered()
     {
-        possibleTtlAsymmetry.incrementOrdered();
+        possibleTtlAsymmetry.increment();
     }
 
     public int incRefToStream(final int streamId)
@@ -224,6 +268,49 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
             !statusIndicator.isClosed();
     }
 
+    /**
+     * Does this endpoint receive from destinations which are added and removed manually rather than having a
+     * transport of its own?
+     *
+     * @return true if destinations are added and removed manually.
+     */
+    public boolean hasDestinationControl()
+    {
+        return udpChannel.isManualControlMode();
+    }
+
+    /**
+     * Add a destination which will feed the same images as the other destinations of this endpoint.
+     *
+     * @param destination to be added.
+     */
+    public void addDestination(final ReceiveDestinationTransport destination)
+    {
+        destinations = ArrayUtil.add(destinations, destination);
+    }
+
+    /**
+     * Remove a destination which matches the {@link UdpChannel} of the destination.
+     *
+     * @param udpChannel of the destination to be removed.
+     * @return the removed destination or null if not found.
+     */
+    public ReceiveDestinationTransport removeDestination(final UdpChannel udpChannel)
+    {
+        final ReceiveDestinationTransport[] destinations = this.destinations;
+        for (int i = 0, length = destinations.length; i < length; i++)
+        {
+            final ReceiveDestinationTransport destination = destinations[i];
+            if (destination.udpChannel().canonicalForm().equals(udpChannel.canonicalForm()))
+            {
+                this.destinations = ArrayUtil.remove(destinations, i);
+                return destination;
+            }
+        }
+
+        return null;
+    }
+
     public boolean hasExplicitControl()
     {
         return udpChannel.hasExplicitControl();
@@ -243,6 +330,20 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
         return dispatcher.onDataPacket(this, header, buffer, length, srcAddress);
     }
 
+    public int onFecMessage(
+        final FecFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress)
+    {
+        if (length < FecFlyweight.HEADER_LENGTH)
+        {
+            return 0;
+        }
+
+        return dispatcher.onFecMessage(this, header, buffer, length);
+    }
+
     public void onSetupMessage(
         final SetupFlyweight header,
         final UnsafeBuffer buffer,
@@ -308,13 +409,14 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
     {
         if (!isClosed)
         {
-            nakBuffer.clear();
+            nakBuffer.clear().limit(NakFlyweight.HEADER_LENGTH);
             nakFlyweight
                 .streamId(streamId)
                 .sessionId(sessionId)
                 .termId(termId)
                 .termOffset(termOffset)
-                .length(length);
+                .length(length)
+                .frameLength(NakFlyweight.HEADER_LENGTH);
 
             final int bytesSent = sendTo(nakBuffer, controlAddress);
             if (NakFlyweight.HEADER_LENGTH != bytesSent)
@@ -324,6 +426,38 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
         }
     }
 
+    public void sendNakMessage(
+        final InetSocketAddress controlAddress,
+        final int sessionId,
+        final int streamId,
+        final int termId,
+        final int[] termOffsets,
+        final int[] lengths,
+        final int rangeCount)
+    {
+        if (!isClosed)
+        {
+            final int frameLength = NakFlyweight.frameLengthForRanges(rangeCount);
+            nakBuffer.clear().limit(frameLength);
+            nakFlyweight
+                .streamId(streamId)
+                .sessionId(sessionId)
+                .termId(termId)
+                .frameLength(frameLength);
+
+            for (int i = 0; i < rangeCount; i++)
+            {
+                nakFlyweight.range(i, termOffsets[i], lengths[i]);
+            }
+
+            final int bytesSent = sendTo(nakBuffer, controlAddress);
+            if (frameLength != bytesSent)
+            {
+                shortSends.increment();
+            }
+        }
+    }
+
     public void sendRttMeasurement(
         final InetSocketAddress controlAddress,
         final int sessionId,
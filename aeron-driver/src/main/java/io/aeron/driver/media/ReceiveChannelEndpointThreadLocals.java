@@ -45,9 +45,10 @@ public class ReceiveChannelEndpointThreadLocals
     {
         final byte[] applicationSpecificFeedback = context.applicationSpecificFeedback();
         final int smLength = StatusMessageFlyweight.HEADER_LENGTH + applicationSpecificFeedback.length;
+        final int nakLength = NakFlyweight.frameLengthForRanges(context.nakMaxRanges());
         final int bufferLength =
             BitUtil.align(smLength, CACHE_LINE_LENGTH) +
-            BitUtil.align(NakFlyweight.HEADER_LENGTH, CACHE_LINE_LENGTH) +
+            BitUtil.align(nakLength, CACHE_LINE_LENGTH) +
             BitUtil.align(RttMeasurementFlyweight.HEADER_LENGTH, CACHE_LINE_LENGTH);
 
         final UUID uuid = UUID.randomUUID();
@@ -60,11 +61,11 @@ public class ReceiveChannelEndpointThreadLocals
         statusMessageFlyweight = new StatusMessageFlyweight(smBuffer);
 
         final int nakMessageOffset = BitUtil.align(smLength, 32);
-        byteBuffer.limit(nakMessageOffset + NakFlyweight.HEADER_LENGTH).position(nakMessageOffset);
+        byteBuffer.limit(nakMessageOffset + nakLength).position(nakMessageOffset);
         nakBuffer = byteBuffer.slice();
         nakFlyweight = new NakFlyweight(nakBuffer);
 
-        final int rttMeasurementOffset = nakMessageOffset + BitUtil.align(NakFlyweight.HEADER_LENGTH, 32);
+        final int rttMeasurementOffset = nakMessageOffset + BitUtil.align(nakLength, 32);
         byteBuffer.limit(rttMeasurementOffset + RttMeasurementFlyweight.HEADER_LENGTH).position(rttMeasurementOffset);
         rttMeasurementBuffer = byteBuffer.slice();
         rttMeasurementFlyweight = new RttMeasurementFlyweight(rttMeasurementBuffer);
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import io.aeron.driver.DriverConductorProxy;
+import io.aeron.driver.MediaDriver;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+
+import static io.aeron.driver.status.SystemCounterDescriptor.INVALID_PACKETS;
+
+/**
+ * Transport for a single destination of a multi-destination {@link ReceiveChannelEndpoint}. Frames received
+ * are dispatched to the owning endpoint so all destinations feed the same images.
+ */
+public class ReceiveDestinationTransport extends UdpChannelTransport
+{
+    private final ReceiveChannelEndpoint channelEndpoint;
+
+    public ReceiveDestinationTransport(
+        final UdpChannel udpChannel, final ReceiveChannelEndpoint channelEndpoint, final MediaDriver.Context context)
+    {
+        super(
+            udpChannel,
+            udpChannel.remoteData(),
+            udpChannel.remoteData(),
+            null,
+            context.errorLog(),
+            context.systemCounters().get(INVALID_PACKETS));
+
+        this.channelEndpoint = channelEndpoint;
+    }
+
+    /**
+     * The {@link ReceiveChannelEndpoint} to which this destination belongs.
+     *
+     * @return {@link ReceiveChannelEndpoint} to which this destination belongs.
+     */
+    public ReceiveChannelEndpoint channelEndpoint()
+    {
+        return channelEndpoint;
+    }
+
+    /**
+     * Open the channel for this destination reporting any errors against the status indicator of its channel endpoint.
+     *
+     * @param conductorProxy to report errors to when not on the conductor thread.
+     */
+    public void openChannel(final DriverConductorProxy conductorProxy)
+    {
+        final AtomicCounter statusIndicator = channelEndpoint.statusIndicator();
+        if (conductorProxy.notConcurrent())
+        {
+            openDatagramChannel(statusIndicator);
+        }
+        else
+        {
+            try
+            {
+                openDatagramChannel(statusIndicator);
+            }
+            catch (final Exception ex)
+            {
+                conductorProxy.channelEndpointError(statusIndicator.id(), ex);
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Register this destination for reading on behalf of its channel endpoint.
+     *
+     * @param transportPoller to register read with.
+     */
+    public void registerForRead(final DataTransportPoller transportPoller)
+    {
+        this.transportPoller = transportPoller;
+        selectionKey = transportPoller.registerForRead(channelEndpoint, this);
+    }
+
+    /**
+     * Send contents of a {@link ByteBuffer} to a remote address from this destination.
+     *
+     * @param buffer        to send.
+     * @param remoteAddress to send to.
+     * @return number of bytes sent.
+     * @throws IOException if an error occurs on the underlying channel.
+     */
+    public int sendTo(final ByteBuffer buffer, final InetSocketAddress remoteAddress) throws IOException
+    {
+        int bytesSent = 0;
+        if (null != sendDatagramChannel)
+        {
+            bytesSent = sendDatagramChannel.send(buffer, remoteAddress);
+        }
+
+        return bytesSent;
+    }
+}
@@ -52,6 +52,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
     private final AtomicCounter statusMessagesReceived;
     private final AtomicCounter nakMessagesReceived;
     private final AtomicCounter statusIndicator;
+    private SenderProxy senderProxy;
 
     public SendChannelEndpoint(
         final UdpChannel udpChannel, final AtomicCounter statusIndicator, final MediaDriver.Context context)
@@ -115,6 +116,27 @@ public class SendChannelEndpoint extends UdpChannelTransport
         }
     }
 
+    /**
+     * The {@link SenderProxy} for the sender to which this endpoint has been assigned by the conductor.
+     *
+     * @return the {@link SenderProxy} for the sender to which this endpoint has been assigned.
+     */
+    public SenderProxy senderProxy()
+    {
+        return senderProxy;
+    }
+
+    /**
+     * Assign this endpoint to a sender. Only to be called by the conductor when the endpoint is created.
+     *
+     * @param senderProxy for the sender which is to send the publications and poll the control messages of this
+     *                    endpoint.
+     */
+    public void senderProxy(final SenderProxy senderProxy)
+    {
+        this.senderProxy = senderProxy;
+    }
+
     public String originalUriString()
     {
         return udpChannel().originalUriString();
@@ -244,7 +266,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
             if (0 == sessionId && 0 == streamId && SEND_SETUP_FLAG == (msg.flags() & SEND_SETUP_FLAG))
             {
                 publicationBySessionAndStreamId.forEach(NetworkPublication::triggerSendSetupFrame);
-                statusMessagesReceived.incrementOrdered();
+                statusMessagesReceived.increment();
             }
         }
 
@@ -259,7 +281,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
                 publication.onStatusMessage(msg, srcAddress);
             }
 
-            statusMessagesReceived.incrementOrdered();
+            statusMessagesReceived.increment();
         }
     }
 
@@ -273,8 +295,14 @@ public class SendChannelEndpoint extends UdpChannelTransport
 
         if (null != publication)
         {
-            publication.onNak(msg.termId(), msg.termOffset(), msg.length());
-            nakMessagesReceived.incrementOrdered();
+            final int termId = msg.termId();
+            final int rangeCount = msg.frameLength() <= length ? msg.rangeCount() : 1;
+            for (int i = 0; i < rangeCount; i++)
+            {
+                publication.onNak(termId, msg.rangeTermOffset(i), msg.rangeLength(i));
+            }
+
+            nakMessagesReceived.increment();
         }
     }
 
@@ -23,6 +23,7 @@ import io.aeron.ChannelUri;
 import org.agrona.BitUtil;
 
 import java.net.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static io.aeron.driver.media.NetworkUtil.filterBySubnet;
 import static io.aeron.driver.media.NetworkUtil.findAddressOnInterface;
@@ -50,7 +51,10 @@ public final class UdpChannel
         '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
     };
 
+    private static final AtomicLong UNIQUE_CANONICAL_FORM_VALUE = new AtomicLong();
+
     private final boolean hasExplicitControl;
+    private final boolean isManualControlMode;
     private final boolean isMulticast;
     private final int multicastTtl;
     private final InetSocketAddress remoteData;
@@ -66,6 +70,7 @@ public final class UdpChannel
     private UdpChannel(final Context context)
     {
         hasExplicitControl = context.hasExplicitControl;
+        isManualControlMode = context.isManualControlMode;
         isMulticast = context.isMulticast;
         multicastTtl = context.multicastTtl;
         remoteData = context.remoteData;
@@ -96,6 +101,13 @@ public final class UdpChannel
             InetSocketAddress endpointAddress = getEndpointAddress(channelUri);
             final InetSocketAddress explicitControlAddress = getExplicitControlAddress(channelUri);
 
+            if (null == endpointAddress && null == explicitControlAddress &&
+                CommonContext.MDC_CONTROL_MODE_MANUAL.equals(channelUri.get(CommonContext.MDC_CONTROL_MODE_PARAM_NAME)))
+            {
+                // no addresses with manual control, a multi-destination Subscription with destinations added later
+                return manualControlModeChannel(channelUriString, channelUri);
+            }
+
             if (null == endpointAddress && null == explicitControlAddress)
             {
                 throw new IllegalArgumentException(
@@ -174,6 +186,24 @@ public final class UdpChannel
         }
     }
 
+    private static UdpChannel manualControlModeChannel(final String channelUriString, final ChannelUri channelUri)
+    {
+        final InetSocketAddress wildcardAddress = new InetSocketAddress("0.0.0.0", 0);
+        final String canonicalForm =
+            canonicalise(wildcardAddress, wildcardAddress) + "-" + UNIQUE_CANONICAL_FORM_VALUE.getAndIncrement();
+
+        return new UdpChannel(new Context()
+            .uriStr(channelUriString)
+            .channelUri(channelUri)
+            .isManualControlMode(true)
+            .remoteControlAddress(wildcardAddress)
+            .remoteDataAddress(wildcardAddress)
+            .localControlAddress(wildcardAddress)
+            .localDataAddress(wildcardAddress)
+            .protocolFamily(getProtocolFamily(wildcardAddress.getAddress()))
+            .canonicalForm(canonicalForm));
+    }
+
     private static InetSocketAddress getMulticastControlAddress(final InetSocketAddress endpointAddress)
         throws UnknownHostException
     {
@@ -368,6 +398,17 @@ public final class UdpChannel
         return hasExplicitControl;
     }
 
+    /**
+     * Is the channel in manual control mode without any addresses so that destinations are added and removed
+     * explicitly, as used with multi-destination Subscriptions.
+     *
+     * @return true if the channel is in manual control mode without addresses of its own.
+     */
+    public boolean isManualControlMode()
+    {
+        return isManualControlMode;
+    }
+
     /**
      * Get the endpoint address from the URI.
      *
@@ -563,6 +604,7 @@ public final class UdpChannel
         ProtocolFamily protocolFamily;
         ChannelUri channelUri;
         boolean hasExplicitControl = false;
+        boolean isManualControlMode = false;
         boolean isMulticast = false;
 
         Context uriStr(final String uri)
@@ -631,6 +673,12 @@ public final class UdpChannel
             return this;
         }
 
+        Context isManualControlMode(final boolean isManualControlMode)
+        {
+            this.isManualControlMode = isManualControlMode;
+            return this;
+        }
+
         Context isMulticast(final boolean isMulticast)
         {
             this.isMulticast = isMulticast;
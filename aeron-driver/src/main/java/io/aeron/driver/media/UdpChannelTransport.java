@@ -68,7 +68,7 @@ public abstract class UdpChannelTransport implements AutoCloseable
     /**
      * Create the underlying channel for reading and writing.
      *
-     * @param statusIndicator to set for status
+     * @param statusIndicator to set for status, may be null if the transport has no status of its own.
      */
     public void openDatagramChannel(final AtomicCounter statusIndicator)
     {
@@ -120,7 +120,10 @@ public abstract class UdpChannelTransport implements AutoCloseable
         }
         catch (final IOException ex)
         {
-            statusIndicator.setOrdered(ChannelEndpointStatus.ERRORED);
+            if (null != statusIndicator)
+            {
+                statusIndicator.setOrdered(ChannelEndpointStatus.ERRORED);
+            }
 
             CloseHelper.quietClose(sendDatagramChannel);
             if (receiveDatagramChannel != sendDatagramChannel)
@@ -46,7 +46,10 @@ public enum SystemCounterDescriptor
     UNBLOCKED_COMMANDS(20, "Unblocked Control Commands"),
     POSSIBLE_TTL_ASYMMETRY(21, "Possible TTL Asymmetry"),
     CONTROLLABLE_IDLE_STRATEGY(22, "ControllableIdleStrategy status"),
-    LOSS_GAP_FILLS(23, "Loss gap fills");
+    LOSS_GAP_FILLS(23, "Loss gap fills"),
+    FEC_FRAMES_SENT(24, "FEC frames sent"),
+    LOSS_FEC_RECOVERIES(25, "Loss recovered by FEC"),
+    SENDER_PACING_LIMITS(26, "Sender pacing limits");
     /**
      * All system counters have the same type id, i.e. system counters are the same type. Other types can exist.
      */
@@ -22,6 +22,7 @@ import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.buffer.RawLogFactory;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveChannelEndpointThreadLocals;
+import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.driver.media.UdpChannel;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.HeaderWriter;
@@ -44,6 +45,7 @@ import org.mockito.stubbing.Answer;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongConsumer;
@@ -104,6 +106,7 @@ public class DriverConductorTest
     private DriverProxy driverProxy;
 
     private DriverConductor driverConductor;
+    private MediaDriver.Context ctx;
 
     private final Answer<Void> closeChannelEndpointAnswer = (invocation) ->
     {
@@ -136,7 +139,7 @@ public class DriverConductorTest
         spyCountersManager = spy(new CountersManager(
             new UnsafeBuffer(ByteBuffer.allocateDirect(BUFFER_LENGTH * 2)), counterBuffer, StandardCharsets.US_ASCII));
 
-        final MediaDriver.Context ctx = new MediaDriver.Context()
+        ctx = new MediaDriver.Context()
             .publicationTermBufferLength(TERM_BUFFER_LENGTH)
             .ipcTermBufferLength(TERM_BUFFER_LENGTH)
             .unicastFlowControlSupplier(Configuration.unicastFlowControlSupplier())
@@ -282,6 +285,65 @@ public class DriverConductorTest
         assertNotNull(driverConductor.receiverChannelEndpoint(UdpChannel.parse(CHANNEL_4000)));
     }
 
+    @Test
+    public void shouldAssignSendChannelEndpointsToLeastLoadedSender()
+    {
+        final SenderProxy secondSenderProxy = mock(SenderProxy.class);
+        driverConductor.onClose();
+        ctx.senderProxies(new SenderProxy[]{ senderProxy, secondSenderProxy });
+        driverConductor = new DriverConductor(ctx);
+
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+        driverProxy.addPublication(CHANNEL_4001, STREAM_ID_1);
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_2);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<NetworkPublication> captor = ArgumentCaptor.forClass(NetworkPublication.class);
+        verify(senderProxy, times(2)).newNetworkPublication(captor.capture());
+        verify(secondSenderProxy, times(1)).newNetworkPublication(captor.capture());
+
+        final List<NetworkPublication> publications = captor.getAllValues();
+        final SendChannelEndpoint endpointOne = publications.get(0).channelEndpoint();
+        final SendChannelEndpoint endpointTwo = publications.get(2).channelEndpoint();
+
+        assertThat(publications.get(1).channelEndpoint(), is(endpointOne));
+        assertThat(endpointOne.senderProxy(), is(senderProxy));
+        assertThat(endpointTwo.senderProxy(), is(secondSenderProxy));
+        verify(senderProxy).registerSendChannelEndpoint(endpointOne);
+        verify(secondSenderProxy).registerSendChannelEndpoint(endpointTwo);
+    }
+
+    @Test
+    public void shouldAssignReceiveChannelEndpointsToLeastLoadedReceiver()
+    {
+        final ReceiverProxy secondReceiverProxy = mock(ReceiverProxy.class);
+        driverConductor.onClose();
+        ctx.receiverProxies(new ReceiverProxy[]{ receiverProxy, secondReceiverProxy });
+        driverConductor = new DriverConductor(ctx);
+
+        driverProxy.addSubscription(CHANNEL_4000, STREAM_ID_1);
+        driverProxy.addSubscription(CHANNEL_4001, STREAM_ID_1);
+        driverProxy.addSubscription(CHANNEL_4000, STREAM_ID_2);
+
+        driverConductor.doWork();
+
+        final ReceiveChannelEndpoint endpointOne = driverConductor.receiverChannelEndpoint(
+            UdpChannel.parse(CHANNEL_4000));
+        final ReceiveChannelEndpoint endpointTwo = driverConductor.receiverChannelEndpoint(
+            UdpChannel.parse(CHANNEL_4001));
+
+        assertThat(endpointOne.receiverProxy(), is(receiverProxy));
+        assertThat(endpointTwo.receiverProxy(), is(secondReceiverProxy));
+
+        verify(receiverProxy).registerReceiveChannelEndpoint(endpointOne);
+        verify(receiverProxy).addSubscription(endpointOne, STREAM_ID_1);
+        verify(receiverProxy).addSubscription(endpointOne, STREAM_ID_2);
+        verify(secondReceiverProxy).registerReceiveChannelEndpoint(endpointTwo);
+        verify(secondReceiverProxy).addSubscription(endpointTwo, STREAM_ID_1);
+        verify(receiverProxy, never()).registerReceiveChannelEndpoint(endpointTwo);
+    }
+
     @Test
     public void shouldBeAbleToAddAndRemoveSingleSubscription()
     {
@@ -833,6 +895,27 @@ public class DriverConductorTest
             anyLong(), anyInt(), eq(ipcPublication.rawLog().fileName()), anyString());
     }
 
+    @Test
+    public void shouldOnlyLinkIpcSubscriptionsOfSameStreamId()
+    {
+        final long idSubOne = driverProxy.addSubscription(CHANNEL_IPC, STREAM_ID_1);
+        final long idSubTwo = driverProxy.addSubscription(CHANNEL_IPC, STREAM_ID_2);
+        driverProxy.addPublication(CHANNEL_IPC, STREAM_ID_2);
+
+        driverConductor.doWork();
+
+        final IpcPublication ipcPublication = driverConductor.getSharedIpcPublication(STREAM_ID_2);
+        assertNotNull(ipcPublication);
+        assertNull(driverConductor.getSharedIpcPublication(STREAM_ID_1));
+        assertThat(driverConductor.getIpcPublication(ipcPublication.registrationId()), is(ipcPublication));
+
+        verify(mockClientProxy).onAvailableImage(
+            eq(ipcPublication.registrationId()), eq(STREAM_ID_2), eq(ipcPublication.sessionId()),
+            eq(idSubTwo), anyInt(), eq(ipcPublication.rawLog().fileName()), anyString());
+        verify(mockClientProxy, never()).onAvailableImage(
+            anyLong(), anyInt(), anyInt(), eq(idSubOne), anyInt(), anyString(), anyString());
+    }
+
     @Test
     public void shouldBeAbleToAddThenRemoveTheAddIpcPublicationWithExistingSubscription()
     {
@@ -1585,6 +1668,29 @@ public class DriverConductorTest
             anyLong(), eq(STREAM_ID_1), anyInt(), anyLong(), anyInt(), anyString(), anyString());
     }
 
+    @Test
+    public void shouldOnlyLinkSpiesOfSameChannelAndStreamId()
+    {
+        final long idSpyOne = driverProxy.addSubscription(spyForChannel(CHANNEL_4000), STREAM_ID_1);
+        final long idSpyTwo = driverProxy.addSubscription(spyForChannel(CHANNEL_4001), STREAM_ID_1);
+        final long idSpyThree = driverProxy.addSubscription(spyForChannel(CHANNEL_4000), STREAM_ID_2);
+        driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<NetworkPublication> captor = ArgumentCaptor.forClass(NetworkPublication.class);
+        verify(senderProxy, times(1)).newNetworkPublication(captor.capture());
+        final NetworkPublication publication = captor.getValue();
+
+        verify(mockClientProxy).onAvailableImage(
+            eq(networkPublicationCorrelationId(publication)), eq(STREAM_ID_1), eq(publication.sessionId()),
+            eq(idSpyOne), anyInt(), eq(publication.rawLog().fileName()), anyString());
+        verify(mockClientProxy, never()).onAvailableImage(
+            anyLong(), anyInt(), anyInt(), eq(idSpyTwo), anyInt(), anyString(), anyString());
+        verify(mockClientProxy, never()).onAvailableImage(
+            anyLong(), anyInt(), anyInt(), eq(idSpyThree), anyInt(), anyString(), anyString());
+    }
+
     @Test
     public void shouldAddSingleSpyThenNetworkPublicationWithSameSessionId()
     {
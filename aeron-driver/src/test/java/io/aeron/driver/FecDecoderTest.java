@@ -0,0 +1,206 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.driver.status.SystemCounters;
+import io.aeron.logbuffer.FrameDescriptor;
+import io.aeron.logbuffer.TermRebuilder;
+import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
+import io.aeron.protocol.HeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static org.agrona.BitUtil.align;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class FecDecoderTest
+{
+    private static final int MTU_LENGTH = 4096;
+    private static final int GROUP_LENGTH = 4;
+    private static final int SESSION_ID = 0x5E55101D;
+    private static final int STREAM_ID = 0xC400E;
+    private static final int TERM_ID = 0xEE81D;
+    private static final int[] MESSAGE_LENGTHS = { 100, 64, 250, 33 };
+
+    private final UnsafeBuffer sendTermBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_MIN_LENGTH));
+    private final UnsafeBuffer rcvTermBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(TERM_MIN_LENGTH));
+    private final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
+    private final SystemCounters mockSystemCounters = mock(SystemCounters.class);
+    private final ArrayList<UnsafeBuffer> sentFrames = new ArrayList<>();
+    private final int[] datagramOffsets = new int[MESSAGE_LENGTHS.length];
+    private final int[] datagramLengths = new int[MESSAGE_LENGTHS.length];
+
+    private FecEncoder fecEncoder;
+    private final FecDecoder fecDecoder = new FecDecoder(MTU_LENGTH);
+
+    @Before
+    public void setUp()
+    {
+        when(mockSystemCounters.get(any())).thenReturn(mock(AtomicCounter.class));
+        when(mockSendChannelEndpoint.send(any())).thenAnswer(
+            (invocation) ->
+            {
+                final ByteBuffer buffer = invocation.getArgument(0);
+                final int length = buffer.remaining();
+                final UnsafeBuffer frame = new UnsafeBuffer(new byte[length]);
+                frame.putBytes(0, buffer, buffer.position(), length);
+                sentFrames.add(frame);
+
+                return length;
+            });
+
+        fecEncoder = new FecEncoder(GROUP_LENGTH, MTU_LENGTH, SESSION_ID, STREAM_ID, mockSystemCounters);
+
+        int termOffset = 0;
+        for (int i = 0; i < MESSAGE_LENGTHS.length; i++)
+        {
+            final int length = DataHeaderFlyweight.HEADER_LENGTH + MESSAGE_LENGTHS[i];
+            writeFrame(termOffset, length, (byte)(i + 1));
+
+            datagramOffsets[i] = termOffset;
+            datagramLengths[i] = length;
+            termOffset += align(length, FrameDescriptor.FRAME_ALIGNMENT);
+        }
+    }
+
+    @Test
+    public void shouldSendFecFrameWhenGroupIsComplete()
+    {
+        sendDatagrams();
+
+        assertThat(sentFrames.size(), is(1));
+
+        final FecFlyweight fecHeader = new FecFlyweight(sentFrames.get(0));
+        assertThat(fecHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_FEC));
+        assertThat(fecHeader.sessionId(), is(SESSION_ID));
+        assertThat(fecHeader.streamId(), is(STREAM_ID));
+        assertThat(fecHeader.termId(), is(TERM_ID));
+        assertThat(fecHeader.termOffset(), is(0));
+        assertThat(fecHeader.datagramCount(), is(GROUP_LENGTH));
+    }
+
+    @Test
+    public void shouldFlushPartialGroup()
+    {
+        fecEncoder.onDatagramSent(mockSendChannelEndpoint, sendTermBuffer, TERM_ID, 0, datagramLengths[0]);
+
+        assertThat(sentFrames.size(), is(0));
+        assertTrue(fecEncoder.flush(mockSendChannelEndpoint));
+        assertFalse(fecEncoder.flush(mockSendChannelEndpoint));
+
+        final FecFlyweight fecHeader = new FecFlyweight(sentFrames.get(0));
+        assertThat(fecHeader.datagramCount(), is(1));
+        assertThat(fecHeader.parityLength(), is(datagramLengths[0]));
+    }
+
+    @Test
+    public void shouldRecoverSingleMissingDatagram()
+    {
+        sendDatagrams();
+
+        for (int missing = 0; missing < datagramOffsets.length; missing++)
+        {
+            receiveAllExcept(missing);
+
+            assertTrue(fecDecoder.recover(rcvTermBuffer, new FecFlyweight(sentFrames.get(0))));
+            assertThat(fecDecoder.recoveredTermOffset(), is(datagramOffsets[missing]));
+            assertThat(fecDecoder.recoveredLength(), is(datagramLengths[missing]));
+
+            for (int i = 0; i < datagramLengths[missing]; i++)
+            {
+                assertThat(
+                    fecDecoder.recoveryBuffer().getByte(i),
+                    is(sendTermBuffer.getByte(datagramOffsets[missing] + i)));
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotRecoverWhenNothingIsMissing()
+    {
+        sendDatagrams();
+        receiveAllExcept(-1);
+
+        assertFalse(fecDecoder.recover(rcvTermBuffer, new FecFlyweight(sentFrames.get(0))));
+    }
+
+    @Test
+    public void shouldNotRecoverWhenMoreThanOneDatagramIsMissing()
+    {
+        sendDatagrams();
+        receiveAllExcept(1);
+        rcvTermBuffer.setMemory(datagramOffsets[3], datagramLengths[3], (byte)0);
+
+        assertFalse(fecDecoder.recover(rcvTermBuffer, new FecFlyweight(sentFrames.get(0))));
+    }
+
+    private void sendDatagrams()
+    {
+        for (int i = 0; i < datagramOffsets.length; i++)
+        {
+            final int termOffset = datagramOffsets[i];
+            final boolean isLast = i == datagramOffsets.length - 1;
+            final int length = isLast ? datagramLengths[i] : datagramOffsets[i + 1] - termOffset;
+            datagramLengths[i] = length;
+            fecEncoder.onDatagramSent(mockSendChannelEndpoint, sendTermBuffer, TERM_ID, termOffset, length);
+        }
+    }
+
+    private void receiveAllExcept(final int missingIndex)
+    {
+        rcvTermBuffer.setMemory(0, rcvTermBuffer.capacity(), (byte)0);
+
+        for (int i = 0; i < datagramOffsets.length; i++)
+        {
+            if (i != missingIndex)
+            {
+                final UnsafeBuffer packet = new UnsafeBuffer(new byte[datagramLengths[i]]);
+                packet.putBytes(0, sendTermBuffer, datagramOffsets[i], datagramLengths[i]);
+                TermRebuilder.insert(rcvTermBuffer, datagramOffsets[i], packet, datagramLengths[i]);
+            }
+        }
+    }
+
+    private void writeFrame(final int termOffset, final int length, final byte value)
+    {
+        final DataHeaderFlyweight dataHeader = new DataHeaderFlyweight();
+        dataHeader.wrap(sendTermBuffer, termOffset, length);
+        dataHeader
+            .termOffset(termOffset)
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .frameLength(length);
+
+        final int payloadOffset = termOffset + DataHeaderFlyweight.HEADER_LENGTH;
+        sendTermBuffer.setMemory(payloadOffset, length - DataHeaderFlyweight.HEADER_LENGTH, value);
+    }
+}
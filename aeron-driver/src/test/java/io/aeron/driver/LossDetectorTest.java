@@ -17,6 +17,7 @@ package io.aeron.driver;
 
 import io.aeron.logbuffer.LogBufferDescriptor;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.logbuffer.TermRebuilder;
@@ -27,6 +28,8 @@ import org.agrona.concurrent.UnsafeBuffer;
 import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
 import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
@@ -292,6 +295,53 @@ public class LossDetectorTest
         verifyNoMoreInteractions(lossHandler);
     }
 
+    @Test
+    public void shouldNakAllGapsInTermSelectively()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler, 16);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 7);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+        insertDataFrame(offsetOfMessage(6));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        final ArgumentCaptor<int[]> termOffsetsCaptor = ArgumentCaptor.forClass(int[].class);
+        final ArgumentCaptor<int[]> lengthsCaptor = ArgumentCaptor.forClass(int[].class);
+        verify(lossHandler).onGapsDetected(
+            eq(TERM_ID), termOffsetsCaptor.capture(), lengthsCaptor.capture(), eq(3));
+        verifyNoMoreInteractions(lossHandler);
+
+        final int[] termOffsets = termOffsetsCaptor.getValue();
+        final int[] lengths = lengthsCaptor.getValue();
+        for (int i = 0; i < 3; i++)
+        {
+            assertThat(termOffsets[i], is(offsetOfMessage((i * 2) + 1)));
+            assertThat(lengths[i], is(gapLength()));
+        }
+    }
+
+    @Test
+    public void shouldNakSingleGapWithoutRangesWhenSelective()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler, 16);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 3);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
     private LossDetector getLossHandlerWithImmediate()
     {
         return new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler);
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class MulticastReceiverTrackerTest
+{
+    private static final long TIMEOUT_NS = 100;
+    private static final long WINDOW_LENGTH = 1024;
+
+    private final MulticastReceiverTracker tracker = new MulticastReceiverTracker();
+
+    @Test
+    public void shouldTrackMinimumPositionPlusWindowAsReceiversMove()
+    {
+        tracker.onStatusMessage(1, 0, WINDOW_LENGTH, 0, null);
+        tracker.onStatusMessage(2, 64, 64 + WINDOW_LENGTH, 0, null);
+        tracker.onStatusMessage(3, 128, 128 + WINDOW_LENGTH, 0, null);
+
+        assertThat(tracker.size(), is(3));
+        assertThat(tracker.minPositionPlusWindow(), is(WINDOW_LENGTH));
+        assertThat(tracker.minPosition(), is(0L));
+
+        tracker.onStatusMessage(1, 256, 256 + WINDOW_LENGTH, 1, null);
+        assertThat(tracker.minPositionPlusWindow(), is(64 + WINDOW_LENGTH));
+
+        tracker.onStatusMessage(3, 128, 32, 2, null);
+        assertThat(tracker.minPositionPlusWindow(), is(32L));
+        assertThat(tracker.size(), is(3));
+    }
+
+    @Test
+    public void shouldRemoveOnlyReceiversWhichHaveTimedOut()
+    {
+        tracker.onStatusMessage(1, 0, WINDOW_LENGTH, 0, null);
+        tracker.onStatusMessage(2, 64, 64 + WINDOW_LENGTH, 10, null);
+        tracker.onStatusMessage(1, 0, WINDOW_LENGTH, 50, null);
+
+        assertThat(tracker.removeTimedOut(TIMEOUT_NS + 20, TIMEOUT_NS), is(1));
+        assertThat(tracker.size(), is(1));
+        assertThat(tracker.minPositionPlusWindow(), is(WINDOW_LENGTH));
+
+        assertThat(tracker.removeTimedOut(TIMEOUT_NS + 51, TIMEOUT_NS), is(1));
+        assertThat(tracker.size(), is(0));
+        assertThat(tracker.minPositionPlusWindow(), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldAgreeWithScanOfAllReceivers()
+    {
+        final Random random = new Random(7);
+        final Map<Long, long[]> receivers = new HashMap<>();
+
+        for (long timeNs = 0; timeNs < 20_000; timeNs++)
+        {
+            final long receiverId = random.nextInt(500);
+            final long position = random.nextInt(1 << 20);
+            final long positionPlusWindow = position + random.nextInt(1 << 16);
+
+            tracker.onStatusMessage(receiverId, position, positionPlusWindow, timeNs, null);
+            receivers.put(receiverId, new long[]{ positionPlusWindow, timeNs });
+
+            if (0 == (timeNs & 63))
+            {
+                final long nowNs = timeNs;
+                tracker.removeTimedOut(nowNs, TIMEOUT_NS);
+                receivers.values().removeIf((receiver) -> nowNs > receiver[1] + TIMEOUT_NS);
+            }
+
+            long minPositionPlusWindow = Long.MAX_VALUE;
+            for (final long[] receiver : receivers.values())
+            {
+                minPositionPlusWindow = Math.min(minPositionPlusWindow, receiver[0]);
+            }
+
+            assertThat(tracker.size(), is(receivers.size()));
+            assertThat(tracker.minPositionPlusWindow(), is(minPositionPlusWindow));
+        }
+    }
+}
@@ -31,6 +31,7 @@ import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
 
+import static io.aeron.driver.Configuration.NAK_MAX_RANGES_DEFAULT;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static junit.framework.TestCase.assertTrue;
 import static org.agrona.BitUtil.align;
@@ -196,7 +197,8 @@ public class ReceiverTest
             SOURCE_ADDRESS,
             congestionControl,
             lossReport,
-            true);
+            true,
+            NAK_MAX_RANGES_DEFAULT);
 
         final int messagesRead = toConductorQueue.drain((e) ->
         {
@@ -275,7 +277,8 @@ public class ReceiverTest
                 SOURCE_ADDRESS,
                 congestionControl,
                 lossReport,
-                true);
+                true,
+                NAK_MAX_RANGES_DEFAULT);
 
             receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
         });
@@ -345,7 +348,8 @@ public class ReceiverTest
                 SOURCE_ADDRESS,
                 congestionControl,
                 lossReport,
-                true);
+                true,
+                NAK_MAX_RANGES_DEFAULT);
 
             receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
         });
@@ -418,7 +422,8 @@ public class ReceiverTest
                 SOURCE_ADDRESS,
                 congestionControl,
                 lossReport,
-                true);
+                true,
+                NAK_MAX_RANGES_DEFAULT);
 
             receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
         });
@@ -495,7 +500,8 @@ public class ReceiverTest
                 SOURCE_ADDRESS,
                 congestionControl,
                 lossReport,
-                true);
+                true,
+                NAK_MAX_RANGES_DEFAULT);
 
             receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
         });
@@ -28,8 +28,11 @@ import org.agrona.BitUtil;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.UnsafeBuffer;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.core.Is.is;
@@ -238,6 +241,61 @@ public class SelectorAndTransportTest
         assertThat(dataHeadersReceived.get(), is(1));
     }
 
+    @Test(timeout = 1000)
+    public void shouldReceiveBatchOfDatagramsUnicastFromSourceToReceiver() throws IOException
+    {
+        final int messageCount = 3;
+        final AtomicInteger dataHeadersReceived = new AtomicInteger(0);
+
+        doAnswer(
+            (invocation) ->
+            {
+                dataHeadersReceived.incrementAndGet();
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+            any(ReceiveChannelEndpoint.class),
+            any(DataHeaderFlyweight.class),
+            any(UnsafeBuffer.class),
+            anyInt(),
+            any(InetSocketAddress.class));
+
+        dataTransportPoller.close();
+        dataTransportPoller = new DataTransportPoller(messageCount + 1);
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, mockSendStatusIndicator, context);
+
+        receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+        receiveChannelEndpoint.registerForRead(dataTransportPoller);
+        sendChannelEndpoint.openDatagramChannel(mockSendStatusIndicator);
+        sendChannelEndpoint.registerForRead(controlTransportPoller);
+
+        encodeDataHeader.wrap(buffer);
+        encodeDataHeader
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(FRAME_LENGTH);
+        encodeDataHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID);
+
+        processLoop(dataTransportPoller, 5);
+        for (int i = 0; i < messageCount; i++)
+        {
+            byteBuffer.position(0).limit(FRAME_LENGTH);
+            sendChannelEndpoint.send(byteBuffer);
+        }
+
+        awaitReadable(receiveChannelEndpoint);
+        dataTransportPoller.pollTransports();
+
+        assertThat(dataHeadersReceived.get(), is(messageCount));
+    }
+
     @Test(timeout = 1000)
     public void shouldHandleSmFrameFromReceiverToSender()
     {
@@ -282,7 +340,19 @@ public class SelectorAndTransportTest
             processLoop(controlTransportPoller, 1);
         }
 
-        verify(mockStatusMessagesReceivedCounter, times(1)).incrementOrdered();
+        verify(mockStatusMessagesReceivedCounter, times(1)).increment();
+    }
+
+    private static void awaitReadable(final UdpChannelTransport transport) throws IOException
+    {
+        try (Selector selector = Selector.open())
+        {
+            transport.receiveDatagramChannel().register(selector, SelectionKey.OP_READ);
+            while (0 == selector.select(1))
+            {
+                Thread.yield();
+            }
+        }
     }
 
     private void processLoop(final UdpTransportPoller transportPoller, final int iterations)
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class SendPacerTest
+{
+    private static final long RATE = 100_000_000;
+    private static final int BURST_LENGTH = 16 * 1024;
+    private static final int DATAGRAM_LENGTH = 1024;
+
+    private long nowNs = TimeUnit.SECONDS.toNanos(7);
+    private final SendPacer sendPacer = new SendPacer(RATE, BURST_LENGTH, nowNs);
+
+    @Test
+    public void shouldAllowBurstWhenIdle()
+    {
+        assertThat(sendUntilPaced(), is(BURST_LENGTH / DATAGRAM_LENGTH));
+    }
+
+    @Test
+    public void shouldAllowDatagramLongerThanBurstAndThenPace()
+    {
+        final SendPacer sendPacer = new SendPacer(RATE, DATAGRAM_LENGTH, nowNs);
+
+        assertTrue(sendPacer.hasTokens(nowNs));
+        sendPacer.onSent(DATAGRAM_LENGTH * 4);
+
+        nowNs += nsToSend(DATAGRAM_LENGTH * 3);
+        assertFalse(sendPacer.hasTokens(nowNs));
+
+        nowNs += nsToSend(DATAGRAM_LENGTH) + 1;
+        assertTrue(sendPacer.hasTokens(nowNs));
+    }
+
+    @Test
+    public void shouldRefillAtRate()
+    {
+        sendUntilPaced();
+
+        int datagramsSent = 0;
+        final long endNs = nowNs + TimeUnit.MILLISECONDS.toNanos(10);
+        while (nowNs < endNs)
+        {
+            nowNs += 100;
+            if (sendPacer.hasTokens(nowNs))
+            {
+                sendPacer.onSent(DATAGRAM_LENGTH);
+                datagramsSent++;
+            }
+        }
+
+        final long expectedDatagrams = (RATE / 100) / DATAGRAM_LENGTH;
+        assertThat((long)datagramsSent, is(expectedDatagrams + 1));
+    }
+
+    @Test
+    public void shouldNotAccumulateMoreThanBurstWhenIdle()
+    {
+        sendUntilPaced();
+
+        nowNs += TimeUnit.SECONDS.toNanos(10);
+
+        assertThat(sendUntilPaced(), is(BURST_LENGTH / DATAGRAM_LENGTH));
+    }
+
+    private int sendUntilPaced()
+    {
+        int datagramsSent = 0;
+        while (sendPacer.hasTokens(nowNs))
+        {
+            sendPacer.onSent(DATAGRAM_LENGTH);
+            datagramsSent++;
+        }
+
+        return datagramsSent;
+    }
+
+    private static long nsToSend(final int length)
+    {
+        return (length * TimeUnit.SECONDS.toNanos(1)) / RATE;
+    }
+}
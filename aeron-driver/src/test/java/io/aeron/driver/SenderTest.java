@@ -69,6 +69,7 @@ public class SenderTest
     private static final int ALIGNED_FRAME_LENGTH = align(FRAME_LENGTH, FRAME_ALIGNMENT);
 
     private final ControlTransportPoller mockTransportPoller = mock(ControlTransportPoller.class);
+    private final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
 
     private final RawLog rawLog = LogBufferHelper.newTestLogBuffers(TERM_BUFFER_LENGTH);
 
@@ -109,7 +110,6 @@ public class SenderTest
     @Before
     public void setUp()
     {
-        final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
         when(mockSendChannelEndpoint.udpChannel()).thenReturn(udpChannel);
         when(mockSendChannelEndpoint.send(any())).thenAnswer(saveByteBufferAnswer);
         when(mockSystemCounters.get(any())).thenReturn(mock(AtomicCounter.class));
@@ -134,27 +134,7 @@ public class SenderTest
             termAppenders[i] = new TermAppender(rawLog.termBuffers()[i], rawLog.metaData(), i);
         }
 
-        publication = new NetworkPublication(
-            1,
-            mockSendChannelEndpoint,
-            () -> currentTimestamp,
-            rawLog,
-            mock(Position.class),
-            new AtomicLongPosition(),
-            new AtomicLongPosition(),
-            SESSION_ID,
-            STREAM_ID,
-            INITIAL_TERM_ID,
-            MAX_FRAME_LENGTH,
-            mockSystemCounters,
-            flowControl,
-            mockRetransmitHandler,
-            new NetworkPublicationThreadLocals(),
-            Configuration.PUBLICATION_UNBLOCK_TIMEOUT_NS,
-            Configuration.PUBLICATION_CONNECTION_TIMEOUT_NS,
-            Configuration.PUBLICATION_LINGER_NS,
-            false,
-            false);
+        publication = newPublication(Configuration.NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_DEFAULT);
 
         senderCommandQueue.offer(new NewPublicationCmd(publication));
     }
@@ -342,6 +322,48 @@ public class SenderTest
         assertThat(dataHeader.version(), is((short)HeaderFlyweight.CURRENT_VERSION));
     }
 
+    @Test
+    public void shouldSendBatchOfDataFramesInOneDutyCycle()
+    {
+        final int messagesPerFrame = MAX_FRAME_LENGTH / ALIGNED_FRAME_LENGTH;
+        final int messageCount = messagesPerFrame + 4;
+
+        senderCommandQueue.clear();
+        publication = newPublication(2);
+        senderCommandQueue.offer(new NewPublicationCmd(publication));
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(messageCount * ALIGNED_FRAME_LENGTH);
+
+        publication.onStatusMessage(msg, rcvAddress);
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        for (int i = 0; i < messageCount; i++)
+        {
+            termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, PAYLOAD.length, null, INITIAL_TERM_ID);
+        }
+
+        sender.doWork();
+
+        assertThat(receivedFrames.size(), is(3));
+        setupHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(setupHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_SETUP));
+
+        final ByteBuffer firstFrame = receivedFrames.remove();
+        assertThat(firstFrame.capacity(), is(messagesPerFrame * ALIGNED_FRAME_LENGTH));
+        dataHeader.wrap(new UnsafeBuffer(firstFrame));
+        assertThat(dataHeader.termOffset(), is(offsetOfMessage(1)));
+
+        final ByteBuffer secondFrame = receivedFrames.remove();
+        assertThat(secondFrame.capacity(), is((messageCount - messagesPerFrame) * ALIGNED_FRAME_LENGTH));
+        dataHeader.wrap(new UnsafeBuffer(secondFrame));
+        assertThat(dataHeader.termOffset(), is(offsetOfMessage(messagesPerFrame + 1)));
+    }
+
     @Test
     public void shouldNotSendUntilStatusMessageReceived()
     {
@@ -500,4 +522,33 @@ public class SenderTest
     {
         return (offset - 1) * align(HEADER.capacity() + PAYLOAD.length, FRAME_ALIGNMENT);
     }
+
+    private NetworkPublication newPublication(final int maxMessagesPerSend)
+    {
+        return new NetworkPublication(
+            1,
+            mockSendChannelEndpoint,
+            () -> currentTimestamp,
+            rawLog,
+            mock(Position.class),
+            new AtomicLongPosition(),
+            new AtomicLongPosition(),
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            MAX_FRAME_LENGTH,
+            maxMessagesPerSend,
+            mockSystemCounters,
+            flowControl,
+            mockRetransmitHandler,
+            new NetworkPublicationThreadLocals(),
+            Configuration.PUBLICATION_UNBLOCK_TIMEOUT_NS,
+            Configuration.PUBLICATION_CONNECTION_TIMEOUT_NS,
+            Configuration.PUBLICATION_LINGER_NS,
+            false,
+            false,
+            0,
+            0,
+            Configuration.SENDER_PACING_BURST_LENGTH_DEFAULT);
+    }
 }
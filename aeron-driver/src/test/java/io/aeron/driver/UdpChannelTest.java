@@ -34,7 +34,10 @@ import java.util.Map;
 
 import static java.lang.String.format;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(Theories.class)
 public class UdpChannelTest
@@ -50,6 +53,17 @@ public class UdpChannelTest
         assertThat(udpChannel.remoteControl(), is(new InetSocketAddress("localhost", 40124)));
     }
 
+    @Test
+    public void shouldParseManualControlModeWithoutAddressesAsUniqueChannels()
+    {
+        final UdpChannel udpChannelA = UdpChannel.parse("aeron:udp?control-mode=manual");
+        final UdpChannel udpChannelB = UdpChannel.parse("aeron:udp?control-mode=manual");
+
+        assertTrue(udpChannelA.isManualControlMode());
+        assertFalse(udpChannelA.hasExplicitControl());
+        assertThat(udpChannelA.canonicalForm(), not(udpChannelB.canonicalForm()));
+    }
+
     @Theory
     public void shouldHandleExplicitLocalAddressAndPortFormatWithAeronUri(
         @Values({"endpoint"}) final String endpointKey,
@@ -120,6 +120,27 @@ public class RawLogFactoryTest
         rawLog.close();
     }
 
+    @Test
+    public void shouldAlignLogLengthToLogBufferPageSize()
+    {
+        final int hugePageSize = 2 * 1024 * 1024;
+        final RawLogFactory hugePageRawLogFactory = new RawLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            hugePageSize,
+            PRE_ZERO_LOG,
+            PERFORM_STORAGE_CHECKS,
+            mock(DistinctErrorLog.class));
+
+        final RawLog rawLog = hugePageRawLogFactory.newIpcPublication(
+            SESSION_ID, STREAM_ID, CREATION_ID, TERM_BUFFER_LENGTH);
+
+        final long expectedLength = LogBufferDescriptor.computeLogLength(TERM_BUFFER_LENGTH, hugePageSize);
+        assertThat(new File(rawLog.fileName()).length(), is(expectedLength));
+        assertThat(expectedLength % hugePageSize, is(0L));
+
+        rawLog.close();
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldExceptionIfRequestedTermBufferLengthGreaterThanMax()
     {
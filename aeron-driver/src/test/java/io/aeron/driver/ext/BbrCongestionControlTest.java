@@ -0,0 +1,149 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.CongestionControlUtil;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class BbrCongestionControlTest
+{
+    private static final int TERM_LENGTH = 1024 * 1024;
+    private static final int MTU_LENGTH = 1408;
+    private static final long BANDWIDTH = 100_000_000;
+    private static final long RTT_NS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long STEP_NS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long SECOND_IN_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final double BANDWIDTH_DELAY_PRODUCT = (double)BANDWIDTH * RTT_NS / SECOND_IN_NS;
+
+    private final MediaDriver.Context context = new MediaDriver.Context();
+    private final CountersManager countersManager = new CountersManager(
+        new UnsafeBuffer(new byte[64 * 1024]), new UnsafeBuffer(new byte[16 * 1024]), StandardCharsets.US_ASCII);
+
+    private BbrCongestionControl congestionControl;
+    private long nowNs = 0;
+    private long hwmPosition = 0;
+    private int window;
+
+    @Before
+    public void setUp()
+    {
+        congestionControl = new BbrCongestionControl(
+            1,
+            UdpChannel.parse("aeron:udp?endpoint=localhost:40123"),
+            1001,
+            0xcafe,
+            TERM_LENGTH,
+            MTU_LENGTH,
+            () -> nowNs,
+            context,
+            countersManager);
+
+        window = congestionControl.initialWindowLength();
+    }
+
+    @After
+    public void tearDown()
+    {
+        congestionControl.close();
+    }
+
+    @Test
+    public void shouldEstimateBandwidthAndKeepWindowNearBandwidthDelayProduct()
+    {
+        simulate(TimeUnit.SECONDS.toNanos(2), true);
+
+        assertThat(congestionControl.state(), is(BbrCongestionControl.State.PROBE_BW));
+        assertThat((double)congestionControl.bandwidth(), closeTo(BANDWIDTH, BANDWIDTH * 0.1));
+        assertThat((double)window, lessThanOrEqualTo(BANDWIDTH_DELAY_PRODUCT * 1.25 + MTU_LENGTH));
+        assertThat((double)window, greaterThanOrEqualTo(BANDWIDTH_DELAY_PRODUCT * 0.75 - MTU_LENGTH));
+    }
+
+    @Test
+    public void shouldDrainWindowToProbeRttWhenMinRttExpires()
+    {
+        simulate(TimeUnit.SECONDS.toNanos(2), true);
+        simulate(TimeUnit.MILLISECONDS.toNanos(10_100), false);
+
+        assertThat(congestionControl.state(), is(BbrCongestionControl.State.PROBE_RTT));
+        assertThat(window, is(MTU_LENGTH * 4));
+
+        simulate(TimeUnit.MILLISECONDS.toNanos(250), false);
+
+        assertThat(congestionControl.state(), is(BbrCongestionControl.State.PROBE_BW));
+        assertThat((double)window, greaterThanOrEqualTo(BANDWIDTH_DELAY_PRODUCT * 0.75 - MTU_LENGTH));
+    }
+
+    @Test
+    public void shouldNotReduceWindowOnLoss()
+    {
+        simulate(TimeUnit.SECONDS.toNanos(2), true);
+
+        final long outcome = congestionControl.onTrackRebuild(
+            nowNs, hwmPosition, hwmPosition, hwmPosition, hwmPosition, hwmPosition, true);
+
+        assertThat(CongestionControlUtil.receiverWindowLength(outcome), is(window));
+    }
+
+    @Test
+    public void shouldForceStatusMessageOnEnteringProbeRtt()
+    {
+        simulate(TimeUnit.SECONDS.toNanos(1), true);
+
+        nowNs += BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS + 1;
+        final long outcome = congestionControl.onTrackRebuild(
+            nowNs, hwmPosition, hwmPosition, hwmPosition, hwmPosition, hwmPosition, false);
+
+        assertTrue(CongestionControlUtil.shouldForceStatusMessage(outcome));
+        assertThat(CongestionControlUtil.receiverWindowLength(outcome), is(MTU_LENGTH * 4));
+    }
+
+    private void simulate(final long durationNs, final boolean measureRtt)
+    {
+        final long endNs = nowNs + durationNs;
+        while (nowNs < endNs)
+        {
+            nowNs += STEP_NS;
+
+            final double queueLength = Math.max(0.0, window - BANDWIDTH_DELAY_PRODUCT);
+            final long rttNs = RTT_NS + (long)(queueLength * SECOND_IN_NS / BANDWIDTH);
+            final double rate = Math.min(BANDWIDTH, (double)window * SECOND_IN_NS / rttNs);
+            hwmPosition += (long)(rate * STEP_NS / SECOND_IN_NS);
+
+            if (measureRtt && congestionControl.shouldMeasureRtt(nowNs))
+            {
+                congestionControl.onRttMeasurementSent(nowNs);
+                congestionControl.onRttMeasurement(nowNs, rttNs, null);
+            }
+
+            final long outcome = congestionControl.onTrackRebuild(
+                nowNs, hwmPosition, hwmPosition, hwmPosition, hwmPosition, hwmPosition, false);
+            window = CongestionControlUtil.receiverWindowLength(outcome);
+        }
+    }
+}
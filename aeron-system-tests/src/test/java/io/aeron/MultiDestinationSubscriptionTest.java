@@ -0,0 +1,240 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.exceptions.RegistrationException;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.Header;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.CloseHelper;
+import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class MultiDestinationSubscriptionTest
+{
+    private static final String UNICAST_ENDPOINT_A = "localhost:54326";
+    private static final String UNICAST_ENDPOINT_B = "localhost:54327";
+
+    private static final String PUB_UNICAST_URI = "aeron:udp?endpoint=" + UNICAST_ENDPOINT_A;
+    private static final String PUB_MDC_MANUAL_URI = "aeron:udp?control=localhost:54325|control-mode=manual";
+    private static final String SUB_URI = "aeron:udp?control-mode=manual";
+    private static final String SUB_DESTINATION_A_URI = "aeron:udp?endpoint=" + UNICAST_ENDPOINT_A;
+    private static final String SUB_DESTINATION_B_URI = "aeron:udp?endpoint=" + UNICAST_ENDPOINT_B;
+
+    private static final int STREAM_ID = 1;
+
+    private static final int TERM_BUFFER_LENGTH = 64 * 1024;
+    private static final int NUM_MESSAGES_PER_TERM = 64;
+    private static final int MESSAGE_LENGTH =
+        (TERM_BUFFER_LENGTH / NUM_MESSAGES_PER_TERM) - DataHeaderFlyweight.HEADER_LENGTH;
+    private static final String ROOT_DIR =
+        IoUtil.tmpDirName() + "aeron-system-tests-" + UUID.randomUUID().toString() + File.separator;
+
+    private Aeron client;
+    private MediaDriver driver;
+    private Publication publication;
+    private Subscription subscription;
+
+    private UnsafeBuffer buffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+    private FragmentHandler fragmentHandler = mock(FragmentHandler.class);
+
+    private void launch()
+    {
+        buffer.putInt(0, 1);
+
+        final MediaDriver.Context driverContext = new MediaDriver.Context()
+            .errorHandler(Throwable::printStackTrace)
+            .publicationTermBufferLength(TERM_BUFFER_LENGTH)
+            .aeronDirectoryName(ROOT_DIR + "A")
+            .threadingMode(ThreadingMode.SHARED);
+
+        driver = MediaDriver.launch(driverContext);
+        client = Aeron.connect(new Aeron.Context().aeronDirectoryName(driverContext.aeronDirectoryName()));
+    }
+
+    @After
+    public void closeEverything()
+    {
+        CloseHelper.close(client);
+        CloseHelper.close(driver);
+
+        IoUtil.delete(new File(ROOT_DIR), true);
+    }
+
+    @Test(timeout = 10000)
+    public void shouldSpinUpAndShutdownWithUnicast()
+    {
+        launch();
+
+        subscription = client.addSubscription(SUB_URI, STREAM_ID);
+        subscription.addDestination(SUB_DESTINATION_A_URI);
+
+        publication = client.addPublication(PUB_UNICAST_URI, STREAM_ID);
+
+        while (subscription.hasNoImages())
+        {
+            Thread.yield();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void shouldSendToSingleDestinationSubscriptionWithUnicast()
+    {
+        final int numMessagesToSend = NUM_MESSAGES_PER_TERM * 3;
+
+        launch();
+
+        subscription = client.addSubscription(SUB_URI, STREAM_ID);
+        subscription.addDestination(SUB_DESTINATION_A_URI);
+
+        publication = client.addPublication(PUB_UNICAST_URI, STREAM_ID);
+
+        while (!subscription.isConnected())
+        {
+            Thread.yield();
+        }
+
+        for (int i = 0; i < numMessagesToSend; i++)
+        {
+            offerMessage();
+            pollForFragment();
+        }
+
+        verifyFragments(numMessagesToSend);
+    }
+
+    @Test(timeout = 10000)
+    public void shouldReceiveOnceWhenSentOverTwoPaths()
+    {
+        final int numMessagesToSend = NUM_MESSAGES_PER_TERM * 3;
+
+        launch();
+
+        subscription = client.addSubscription(SUB_URI, STREAM_ID);
+        subscription.addDestination(SUB_DESTINATION_A_URI);
+        subscription.addDestination(SUB_DESTINATION_B_URI);
+
+        publication = client.addPublication(PUB_MDC_MANUAL_URI, STREAM_ID);
+        publication.addDestination(SUB_DESTINATION_A_URI);
+        publication.addDestination(SUB_DESTINATION_B_URI);
+
+        while (!subscription.isConnected())
+        {
+            Thread.yield();
+        }
+
+        for (int i = 0; i < numMessagesToSend; i++)
+        {
+            offerMessage();
+            pollForFragment();
+        }
+
+        assertEquals(1, subscription.imageCount());
+        verifyFragments(numMessagesToSend);
+    }
+
+    @Test(timeout = 10000)
+    public void shouldContinueReceivingAfterRemovingDestinationDuringActiveStream()
+    {
+        final int numMessagesToSend = NUM_MESSAGES_PER_TERM * 3;
+        final int numMessagesBeforeRemove = 10;
+
+        launch();
+
+        subscription = client.addSubscription(SUB_URI, STREAM_ID);
+        subscription.addDestination(SUB_DESTINATION_A_URI);
+        subscription.addDestination(SUB_DESTINATION_B_URI);
+
+        publication = client.addPublication(PUB_MDC_MANUAL_URI, STREAM_ID);
+        publication.addDestination(SUB_DESTINATION_A_URI);
+        publication.addDestination(SUB_DESTINATION_B_URI);
+
+        while (!subscription.isConnected())
+        {
+            Thread.yield();
+        }
+
+        for (int i = 0; i < numMessagesToSend; i++)
+        {
+            offerMessage();
+            pollForFragment();
+
+            if (i == numMessagesBeforeRemove - 1)
+            {
+                subscription.removeDestination(SUB_DESTINATION_A_URI);
+            }
+        }
+
+        verifyFragments(numMessagesToSend);
+    }
+
+    @Test(timeout = 10000, expected = RegistrationException.class)
+    public void shouldNotAllowDestinationsWithoutManualControl()
+    {
+        launch();
+
+        subscription = client.addSubscription(SUB_DESTINATION_A_URI, STREAM_ID);
+        subscription.addDestination(SUB_DESTINATION_B_URI);
+    }
+
+    private void offerMessage()
+    {
+        while (publication.offer(buffer, 0, buffer.capacity()) < 0L)
+        {
+            Thread.yield();
+        }
+    }
+
+    private void pollForFragment()
+    {
+        final MutableInteger fragmentsRead = new MutableInteger();
+
+        SystemTestHelper.executeUntil(
+            () -> fragmentsRead.get() > 0,
+            (j) ->
+            {
+                fragmentsRead.value += subscription.poll(fragmentHandler, 10);
+                Thread.yield();
+            },
+            Integer.MAX_VALUE,
+            TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    private void verifyFragments(final int numMessagesToSend)
+    {
+        verify(fragmentHandler, times(numMessagesToSend)).onFragment(
+            any(DirectBuffer.class),
+            anyInt(),
+            eq(MESSAGE_LENGTH),
+            any(Header.class));
+    }
+}
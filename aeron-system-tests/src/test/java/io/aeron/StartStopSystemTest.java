@@ -16,8 +16,16 @@
 package io.aeron;
 
 import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.NoOpIdleStrategy;
 import org.junit.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
 public class StartStopSystemTest
 {
     @Test(timeout = 10_000)
@@ -42,4 +50,33 @@ public class StartStopSystemTest
             driverCtx.deleteAeronDirectory();
         }
     }
+
+    @Test(timeout = 10_000)
+    public void shouldTakeIdleStrategyForEachSenderAndReceiverFromSupplier()
+    {
+        final AtomicInteger suppliedCount = new AtomicInteger();
+        final MediaDriver.Context driverCtx = new MediaDriver.Context()
+            .errorHandler(Throwable::printStackTrace)
+            .threadingMode(ThreadingMode.DEDICATED)
+            .senderCount(2)
+            .senderIdleStrategySupplier(() -> newIdleStrategy(suppliedCount))
+            .receiverCount(3)
+            .receiverIdleStrategySupplier(() -> newIdleStrategy(suppliedCount));
+
+        try (MediaDriver ignore = MediaDriver.launchEmbedded(driverCtx))
+        {
+            assertThat(suppliedCount.get(), is(5));
+        }
+        finally
+        {
+            driverCtx.deleteAeronDirectory();
+        }
+    }
+
+    private static IdleStrategy newIdleStrategy(final AtomicInteger suppliedCount)
+    {
+        suppliedCount.incrementAndGet();
+
+        return new NoOpIdleStrategy();
+    }
 }
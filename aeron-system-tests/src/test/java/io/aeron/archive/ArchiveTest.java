@@ -154,6 +154,8 @@ public class ArchiveTest
             .archiveDir(TestUtil.makeTempDir())
             .segmentFileLength(termLength << rnd.nextInt(4))
             .threadingMode(archiveThreadingMode)
+            .recorderCount(2)
+            .replayerCount(2)
             .errorCounter(driverCtx.systemCounters().get(SystemCounterDescriptor.ERRORS))
             .errorHandler(driverCtx.errorHandler());
 
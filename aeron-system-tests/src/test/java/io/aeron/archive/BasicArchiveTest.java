@@ -219,6 +219,8 @@ public class BasicArchiveTest
             consumer);
 
         assertThat(recordingsFound, greaterThan(0));
+        assertEquals(
+            foundRecordingId.get(), aeronArchive.findLastMatchingRecording(0L, expectedChannel, expectedStreamId, ""));
 
         return foundRecordingId.get();
     }
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.*;
+import io.aeron.archive.client.AeronArchive;
+import io.aeron.archive.client.RecordingDescriptorConsumer;
+import io.aeron.archive.status.RecordingPos;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.logbuffer.FragmentHandler;
+import org.agrona.CloseHelper;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.MutableInteger;
+import org.agrona.collections.MutableLong;
+import org.agrona.concurrent.status.CountersReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
+import static io.aeron.archive.codecs.SourceLocation.LOCAL;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class ReplicateRecordingTest
+{
+    private static final int FRAGMENT_LIMIT = 10;
+    private static final int TERM_BUFFER_LENGTH = 64 * 1024;
+
+    private static final int SRC_CONTROL_STREAM_ID = AeronArchive.Configuration.CONTROL_STREAM_ID_DEFAULT;
+    private static final String SRC_CONTROL_CHANNEL = "aeron:udp?endpoint=localhost:8010";
+    private static final String SRC_EVENTS_CHANNEL = "aeron:udp?endpoint=localhost:8011";
+    private static final String DST_CONTROL_CHANNEL = "aeron:udp?endpoint=localhost:8012";
+    private static final String DST_EVENTS_CHANNEL = "aeron:udp?endpoint=localhost:8013";
+    private static final String DST_REPLICATION_CHANNEL = "aeron:udp?endpoint=localhost:8040";
+
+    private static final int RECORDING_STREAM_ID = 33;
+    private static final String RECORDING_CHANNEL = new ChannelUriStringBuilder()
+        .media("udp")
+        .endpoint("localhost:3333")
+        .termLength(TERM_BUFFER_LENGTH)
+        .build();
+
+    private static final int REPLAY_STREAM_ID = 66;
+    private static final String REPLAY_CHANNEL = new ChannelUriStringBuilder()
+        .media("udp")
+        .endpoint("localhost:6666")
+        .build();
+
+    private ArchivingMediaDriver srcArchivingMediaDriver;
+    private ArchivingMediaDriver dstArchivingMediaDriver;
+    private Aeron srcAeron;
+    private Aeron dstAeron;
+    private AeronArchive srcAeronArchive;
+    private AeronArchive dstAeronArchive;
+
+    @Before
+    public void before()
+    {
+        final String srcAeronDirectoryName = CommonContext.generateRandomDirName();
+        final String dstAeronDirectoryName = CommonContext.generateRandomDirName();
+
+        srcArchivingMediaDriver = launchArchivingMediaDriver(
+            srcAeronDirectoryName,
+            new Archive.Context()
+                .controlChannel(SRC_CONTROL_CHANNEL)
+                .recordingEventsChannel(SRC_EVENTS_CHANNEL));
+
+        dstArchivingMediaDriver = launchArchivingMediaDriver(
+            dstAeronDirectoryName,
+            new Archive.Context()
+                .controlChannel(DST_CONTROL_CHANNEL)
+                .recordingEventsChannel(DST_EVENTS_CHANNEL)
+                .replicationChannel(DST_REPLICATION_CHANNEL));
+
+        srcAeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(srcAeronDirectoryName));
+        dstAeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(dstAeronDirectoryName));
+
+        srcAeronArchive = connectLocal(srcAeron);
+        dstAeronArchive = connectLocal(dstAeron);
+    }
+
+    @After
+    public void after()
+    {
+        CloseHelper.close(srcAeronArchive);
+        CloseHelper.close(dstAeronArchive);
+        CloseHelper.close(srcAeron);
+        CloseHelper.close(dstAeron);
+        CloseHelper.close(dstArchivingMediaDriver);
+        CloseHelper.close(srcArchivingMediaDriver);
+
+        dstArchivingMediaDriver.archive().context().deleteArchiveDirectory();
+        dstArchivingMediaDriver.mediaDriver().context().deleteAeronDirectory();
+        srcArchivingMediaDriver.archive().context().deleteArchiveDirectory();
+        srcArchivingMediaDriver.mediaDriver().context().deleteAeronDirectory();
+    }
+
+    @Test(timeout = 20000)
+    public void shouldReplicateStoppedRecording()
+    {
+        final String messagePrefix = "Message-Prefix-";
+        final int messageCount = 10;
+        final long srcRecordingId;
+        final long srcStopPosition;
+
+        try (Publication publication = srcAeron.addPublication(RECORDING_CHANNEL, RECORDING_STREAM_ID);
+            Subscription ignore = srcAeron.addSubscription(RECORDING_CHANNEL, RECORDING_STREAM_ID))
+        {
+            srcAeronArchive.startRecording(RECORDING_CHANNEL, RECORDING_STREAM_ID, LOCAL);
+
+            try
+            {
+                final CountersReader counters = srcAeron.countersReader();
+                final int counterId = awaitRecordingCounterId(counters, publication.sessionId());
+                srcRecordingId = RecordingPos.getRecordingId(counters, counterId);
+
+                offer(publication, 0, messageCount, messagePrefix);
+
+                srcStopPosition = publication.position();
+                awaitPosition(counters, counterId, srcStopPosition);
+            }
+            finally
+            {
+                srcAeronArchive.stopRecording(RECORDING_CHANNEL, RECORDING_STREAM_ID);
+            }
+        }
+
+        awaitStopPosition(srcAeronArchive, srcRecordingId, srcStopPosition);
+
+        final long dstRecordingId = dstAeronArchive.replicate(
+            srcRecordingId, SRC_CONTROL_STREAM_ID, SRC_CONTROL_CHANNEL);
+
+        awaitStopPosition(dstAeronArchive, dstRecordingId, srcStopPosition);
+        assertEquals(RECORDING_STREAM_ID, recordingStreamId(dstAeronArchive, dstRecordingId));
+
+        try (Subscription subscription = dstAeronArchive.replay(
+            dstRecordingId, 0L, srcStopPosition, REPLAY_CHANNEL, REPLAY_STREAM_ID))
+        {
+            consume(subscription, 0, messageCount, messagePrefix);
+            assertEquals(srcStopPosition, subscription.imageAtIndex(0).position());
+        }
+    }
+
+    @Test(timeout = 20000)
+    public void shouldReplicateActiveRecordingAndFollowUntilStopped()
+    {
+        final String messagePrefix = "Message-Prefix-";
+        final int messageCount = 10;
+        final long srcRecordingId;
+        final long dstRecordingId;
+        final long srcStopPosition;
+
+        try (Publication publication = srcAeron.addPublication(RECORDING_CHANNEL, RECORDING_STREAM_ID);
+            Subscription ignore = srcAeron.addSubscription(RECORDING_CHANNEL, RECORDING_STREAM_ID))
+        {
+            srcAeronArchive.startRecording(RECORDING_CHANNEL, RECORDING_STREAM_ID, LOCAL);
+
+            try
+            {
+                final CountersReader srcCounters = srcAeron.countersReader();
+                final int srcCounterId = awaitRecordingCounterId(srcCounters, publication.sessionId());
+                srcRecordingId = RecordingPos.getRecordingId(srcCounters, srcCounterId);
+
+                offer(publication, 0, messageCount, messagePrefix);
+                awaitPosition(srcCounters, srcCounterId, publication.position());
+
+                dstRecordingId = dstAeronArchive.replicate(srcRecordingId, SRC_CONTROL_STREAM_ID, SRC_CONTROL_CHANNEL);
+
+                final CountersReader dstCounters = dstAeron.countersReader();
+                final int dstCounterId = awaitCounterIdByRecording(dstCounters, dstRecordingId);
+
+                offer(publication, messageCount, messageCount, messagePrefix);
+                srcStopPosition = publication.position();
+
+                awaitPosition(srcCounters, srcCounterId, srcStopPosition);
+                awaitPosition(dstCounters, dstCounterId, srcStopPosition);
+            }
+            finally
+            {
+                srcAeronArchive.stopRecording(RECORDING_CHANNEL, RECORDING_STREAM_ID);
+            }
+        }
+
+        awaitStopPosition(srcAeronArchive, srcRecordingId, srcStopPosition);
+        awaitStopPosition(dstAeronArchive, dstRecordingId, srcStopPosition);
+
+        try (Subscription subscription = dstAeronArchive.replay(
+            dstRecordingId, 0L, srcStopPosition, REPLAY_CHANNEL, REPLAY_STREAM_ID))
+        {
+            consume(subscription, 0, messageCount * 2, messagePrefix);
+            assertEquals(srcStopPosition, subscription.imageAtIndex(0).position());
+        }
+    }
+
+    private static ArchivingMediaDriver launchArchivingMediaDriver(
+        final String aeronDirectoryName, final Archive.Context archiveContext)
+    {
+        return ArchivingMediaDriver.launch(
+            new MediaDriver.Context()
+                .aeronDirectoryName(aeronDirectoryName)
+                .termBufferSparseFile(true)
+                .threadingMode(ThreadingMode.SHARED)
+                .errorHandler(Throwable::printStackTrace)
+                .spiesSimulateConnection(false)
+                .dirDeleteOnStart(true),
+            archiveContext
+                .aeronDirectoryName(aeronDirectoryName)
+                .archiveDir(TestUtil.makeTempDir())
+                .fileSyncLevel(0)
+                .threadingMode(ArchiveThreadingMode.SHARED));
+    }
+
+    private static AeronArchive connectLocal(final Aeron aeron)
+    {
+        return AeronArchive.connect(
+            new AeronArchive.Context()
+                .controlRequestChannel(CommonContext.IPC_CHANNEL)
+                .controlRequestStreamId(AeronArchive.Configuration.LOCAL_CONTROL_STREAM_ID_DEFAULT)
+                .controlResponseChannel(CommonContext.IPC_CHANNEL)
+                .aeron(aeron));
+    }
+
+    private static int awaitRecordingCounterId(final CountersReader counters, final int sessionId)
+    {
+        int counterId;
+        while (CountersReader.NULL_COUNTER_ID == (counterId = RecordingPos.findCounterIdBySession(counters, sessionId)))
+        {
+            Thread.yield();
+        }
+
+        return counterId;
+    }
+
+    private static int awaitCounterIdByRecording(final CountersReader counters, final long recordingId)
+    {
+        int counterId;
+        while (CountersReader.NULL_COUNTER_ID ==
+            (counterId = RecordingPos.findCounterIdByRecording(counters, recordingId)))
+        {
+            Thread.yield();
+        }
+
+        return counterId;
+    }
+
+    private static void awaitPosition(final CountersReader counters, final int counterId, final long position)
+    {
+        while (counters.getCounterValue(counterId) < position)
+        {
+            Thread.yield();
+        }
+    }
+
+    private static void awaitStopPosition(
+        final AeronArchive aeronArchive, final long recordingId, final long expectedStopPosition)
+    {
+        final MutableLong stopPosition = new MutableLong(NULL_POSITION);
+        final RecordingDescriptorConsumer consumer =
+            (controlSessionId,
+            correlationId,
+            recordingId1,
+            startTimestamp,
+            stopTimestamp,
+            startPosition,
+            stopPosition1,
+            initialTermId,
+            segmentFileLength,
+            termBufferLength,
+            mtuLength,
+            sessionId,
+            streamId,
+            strippedChannel,
+            originalChannel,
+            sourceIdentity) -> stopPosition.value = stopPosition1;
+
+        while (stopPosition.value != expectedStopPosition)
+        {
+            aeronArchive.listRecording(recordingId, consumer);
+            Thread.yield();
+        }
+    }
+
+    private static int recordingStreamId(final AeronArchive aeronArchive, final long recordingId)
+    {
+        final MutableInteger recordingStreamId = new MutableInteger();
+        aeronArchive.listRecording(
+            recordingId,
+            (controlSessionId,
+            correlationId,
+            recordingId1,
+            startTimestamp,
+            stopTimestamp,
+            startPosition,
+            stopPosition,
+            initialTermId,
+            segmentFileLength,
+            termBufferLength,
+            mtuLength,
+            sessionId,
+            streamId,
+            strippedChannel,
+            originalChannel,
+            sourceIdentity) -> recordingStreamId.value = streamId);
+
+        return recordingStreamId.value;
+    }
+
+    private static void offer(
+        final Publication publication, final int startIndex, final int count, final String prefix)
+    {
+        final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+
+        for (int i = startIndex; i < (startIndex + count); i++)
+        {
+            final int length = buffer.putStringWithoutLengthAscii(0, prefix + i);
+
+            while (publication.offer(buffer, 0, length) <= 0)
+            {
+                Thread.yield();
+            }
+        }
+    }
+
+    private static void consume(
+        final Subscription subscription, final int startIndex, final int count, final String prefix)
+    {
+        final MutableInteger received = new MutableInteger(startIndex);
+
+        final FragmentHandler fragmentHandler = new FragmentAssembler(
+            (buffer, offset, length, header) ->
+            {
+                final String expected = prefix + received.value;
+                final String actual = buffer.getStringWithoutLengthAscii(offset, length);
+
+                assertEquals(expected, actual);
+
+                received.value++;
+            });
+
+        while (received.value < (startIndex + count))
+        {
+            if (0 == subscription.poll(fragmentHandler, FRAGMENT_LIMIT))
+            {
+                Thread.yield();
+            }
+        }
+
+        assertThat(received.get(), is(startIndex + count));
+    }
+}